@@ -10,10 +10,13 @@
 package io.pravega.storage.filesystem;
 
 import io.pravega.common.io.FileHelpers;
+import io.pravega.common.util.BufferView;
 import io.pravega.segmentstore.contracts.BadOffsetException;
 import io.pravega.segmentstore.contracts.StreamSegmentNotExistsException;
 import io.pravega.segmentstore.storage.AsyncStorageWrapper;
+import io.pravega.segmentstore.storage.SegmentRollingPolicy;
 import io.pravega.segmentstore.storage.Storage;
+import io.pravega.segmentstore.storage.rolling.RollingStorage;
 import io.pravega.segmentstore.storage.rolling.RollingStorageTestBase;
 import io.pravega.shared.metrics.MetricsConfig;
 import io.pravega.shared.metrics.MetricsProvider;
@@ -22,6 +25,9 @@ import io.pravega.storage.IdempotentStorageTestBase;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+import lombok.Cleanup;
 import lombok.val;
 import org.junit.After;
 import org.junit.Assert;
@@ -135,6 +141,39 @@ public class FileSystemStorageTest extends IdempotentStorageTestBase {
 
     //endregion
 
+    /**
+     * Tests the read() method that returns a {@link BufferView}, via {@link RollingStorage}, both for reads that fit
+     * within a single chunk (which are delegated to {@link FileSystemStorage}) and for reads that span multiple chunks.
+     *
+     * @throws Exception if an unexpected error occurred.
+     */
+    @Test
+    public void testBufferViewRead() throws Exception {
+        final String segmentName = "foo_buffer_view_read";
+        final int chunkLength = 100;
+        final int readStep = 5;
+        byte[] data = new byte[chunkLength * 5 / 2];
+        new Random(0).nextBytes(data);
+
+        @Cleanup
+        val s = new RollingStorage(new FileSystemStorage(this.adapterConfig), new SegmentRollingPolicy(chunkLength));
+        s.initialize(DEFAULT_EPOCH);
+        val writeHandle = s.create(segmentName);
+        for (int offset = 0; offset < data.length; offset += chunkLength / 2) {
+            s.write(writeHandle, offset, new ByteArrayInputStream(data, offset, chunkLength / 2), chunkLength / 2);
+        }
+
+        val readHandle = s.openRead(segmentName);
+        for (int offset = 0; offset < data.length; offset += readStep) {
+            for (int maxLength : new int[]{readStep, readStep * 2, chunkLength}) {
+                int length = Math.min(maxLength, data.length - offset);
+                BufferView result = s.read(readHandle, offset, length);
+                Assert.assertEquals("Unexpected read length.", length, result.getLength());
+                Assert.assertArrayEquals("Unexpected read contents.", Arrays.copyOfRange(data, offset, offset + length), result.getCopy());
+            }
+        }
+    }
+
     @Override
     protected Storage createStorage() {
         return new AsyncStorageWrapper(new FileSystemStorage(this.adapterConfig), executorService());
@@ -80,6 +80,22 @@ public interface BatchClientFactory extends AutoCloseable {
      */
     <T> SegmentIterator<T> readSegment(SegmentRange segment, Serializer<T> deserializer);
 
+    /**
+     * Provides a SegmentIterator to read the events in the requested segment, which fetches multiple portions of it
+     * concurrently. Events are returned in the same order as {@link #readSegment(SegmentRange, Serializer)}, but reading
+     * large segments is not limited by the throughput of a single read request at a time.
+     *
+     * At most parallelism portions of the segment (each up to a few megabytes in size) are fetched or buffered at any
+     * given time, so a higher value trades memory for throughput.
+     *
+     * @param <T> The type of events written to the segment.
+     * @param segment The segment to read from
+     * @param deserializer A deserializer to be used to parse events
+     * @param parallelism The maximum number of concurrent reads to issue against the segment
+     * @return A SegmentIterator over the requested segment
+     */
+    <T> SegmentIterator<T> readSegment(SegmentRange segment, Serializer<T> deserializer, int parallelism);
+
     /**
      * Closes the client factory. This will close any connections created through it.
      * @see java.lang.AutoCloseable#close()
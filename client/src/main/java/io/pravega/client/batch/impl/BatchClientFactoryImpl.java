@@ -73,6 +73,21 @@ public class BatchClientFactoryImpl implements BatchClientFactory {
                 segment.asImpl().getStartOffset(), segment.asImpl().getEndOffset());
     }
 
+    @Override
+    public <T> SegmentIterator<T> readSegment(final SegmentRange segment, final Serializer<T> deserializer, final int parallelism) {
+        Preconditions.checkArgument(parallelism > 0, "parallelism must be a positive number.");
+        SegmentRangeImpl range = segment.asImpl();
+        if (parallelism == 1 || range.getEndOffset() - range.getStartOffset() <= ParallelSegmentIteratorImpl.DEFAULT_CHUNK_SIZE) {
+            // Nothing to be gained by reading in parallel.
+            return readSegment(segment, deserializer);
+        }
+
+        return new ParallelSegmentIteratorImpl<>(inputStreamFactory, range.getSegment(),
+                DelegationTokenProviderFactory.create(controller, range.getSegment()), deserializer, range.getStartOffset(),
+                range.getEndOffset(), parallelism, ParallelSegmentIteratorImpl.DEFAULT_CHUNK_SIZE,
+                connectionFactory.getInternalExecutor());
+    }
+
     private StreamSegmentsIterator listSegments(final Stream stream, final Optional<StreamCut> startStreamCut,
                                                 final Optional<StreamCut> endStreamCut) {
         val startCut = startStreamCut.filter(sc -> !sc.equals(StreamCut.UNBOUNDED));
@@ -0,0 +1,238 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.batch.impl;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.client.batch.SegmentIterator;
+import io.pravega.client.security.auth.DelegationTokenProvider;
+import io.pravega.client.segment.impl.EndOfSegmentException;
+import io.pravega.client.segment.impl.NoSuchSegmentException;
+import io.pravega.client.segment.impl.Segment;
+import io.pravega.client.segment.impl.SegmentInputStream;
+import io.pravega.client.segment.impl.SegmentInputStreamFactory;
+import io.pravega.client.segment.impl.SegmentTruncatedException;
+import io.pravega.client.stream.Serializer;
+import io.pravega.client.stream.TruncatedDataException;
+import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.ByteBufferUtils;
+import io.pravega.shared.protocol.netty.EventCodec;
+import io.pravega.shared.protocol.netty.InvalidMessageException;
+import io.pravega.shared.protocol.netty.WireCommandType;
+import io.pravega.shared.protocol.netty.WireCommands;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+/**
+ * A {@link SegmentIterator} that fetches multiple sub-ranges of a Segment concurrently.
+ *
+ * Segments do not index the events in them, so event boundaries cannot be known without reading all the data that
+ * precedes them. Instead, the range is divided into fixed-size chunks and up to a fixed number of them are fetched in
+ * parallel, each using its own {@link SegmentInputStream}. Events (which may span chunks) are then parsed from the
+ * fetched chunks in order, as the iterator advances. A new fetch is issued whenever a chunk is consumed, which bounds the
+ * amount of data that is buffered at any time.
+ *
+ * Fetches do not block any thread: each one repeatedly waits for its {@link SegmentInputStream} to have data
+ * ({@link SegmentInputStream#fillBuffer()}) and then copies whatever is buffered, on the given executor.
+ *
+ * @param <T> The type of the events written to this segment.
+ */
+@Beta
+public class ParallelSegmentIteratorImpl<T> implements SegmentIterator<T> {
+
+    @VisibleForTesting
+    static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    private final SegmentInputStreamFactory factory;
+    private final Segment segment;
+    private final DelegationTokenProvider tokenProvider;
+    private final Serializer<T> deserializer;
+    @Getter
+    private final long startingOffset;
+    private final long endingOffset;
+    private final int chunkSize;
+    private final int maxPrefetch;
+    private final Executor executor;
+    private final ArrayDeque<CompletableFuture<ByteBuffer>> prefetched;
+    private final ByteBuffer header;
+    private final AtomicBoolean closed;
+    private ByteBuffer current;
+    private long offset;
+    private long nextFetchOffset;
+
+    /**
+     * Creates a new instance of the ParallelSegmentIteratorImpl class.
+     *
+     * @param factory        The {@link SegmentInputStreamFactory} to use to read from the Segment.
+     * @param segment        The Segment to read from.
+     * @param tokenProvider  The {@link DelegationTokenProvider} to use when reading from the Segment.
+     * @param deserializer   A deserializer to be used to parse events.
+     * @param startingOffset The offset of the first event to read. This must be an event boundary.
+     * @param endingOffset   The offset to read up to. This must be an event boundary.
+     * @param parallelism    The maximum number of chunks that may be fetched or buffered at any given time.
+     * @param chunkSize      The size of each chunk, in bytes.
+     * @param executor       The executor to copy fetched data on. This is not used for any blocking operations.
+     */
+    public ParallelSegmentIteratorImpl(SegmentInputStreamFactory factory, Segment segment, DelegationTokenProvider tokenProvider,
+                                       Serializer<T> deserializer, long startingOffset, long endingOffset, int parallelism,
+                                       int chunkSize, Executor executor) {
+        Preconditions.checkArgument(startingOffset <= endingOffset, "startingOffset must not exceed endingOffset.");
+        Preconditions.checkArgument(parallelism > 0, "parallelism must be a positive number.");
+        Preconditions.checkArgument(chunkSize > 0, "chunkSize must be a positive number.");
+        this.factory = factory;
+        this.segment = segment;
+        this.tokenProvider = tokenProvider;
+        this.deserializer = deserializer;
+        this.startingOffset = startingOffset;
+        this.endingOffset = endingOffset;
+        this.chunkSize = chunkSize;
+        this.maxPrefetch = parallelism;
+        this.executor = Preconditions.checkNotNull(executor, "executor");
+        this.prefetched = new ArrayDeque<>();
+        this.header = ByteBuffer.allocate(WireCommands.TYPE_PLUS_LENGTH_SIZE);
+        this.closed = new AtomicBoolean();
+        this.current = ByteBufferUtils.EMPTY;
+        this.offset = startingOffset;
+        this.nextFetchOffset = startingOffset;
+        fetchChunks();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.offset < this.endingOffset;
+    }
+
+    @Override
+    public T next() {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.header.clear();
+        readFully(this.header);
+        this.header.flip();
+        int type = this.header.getInt();
+        int length = this.header.getInt();
+        if (type != WireCommandType.EVENT.getCode() && type != WireCommandType.COMPRESSED_EVENT.getCode()) {
+            throw new InvalidMessageException("Event was of wrong type: " + type);
+        }
+        if (length < 0 || length > WireCommands.MAX_WIRECOMMAND_SIZE) {
+            throw new InvalidMessageException("Event of invalid length: " + length);
+        }
+        ByteBuffer event = ByteBuffer.allocate(length);
+        readFully(event);
+        event.flip();
+        this.offset += WireCommands.TYPE_PLUS_LENGTH_SIZE + length;
+        if (type == WireCommandType.COMPRESSED_EVENT.getCode()) {
+            event = EventCodec.decompressEvent(event);
+        }
+        return this.deserializer.deserialize(event);
+    }
+
+    @Override
+    public long getOffset() {
+        return this.offset;
+    }
+
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            this.prefetched.forEach(f -> f.cancel(true));
+            this.prefetched.clear();
+        }
+    }
+
+    /**
+     * Gets the number of chunks that are currently being fetched or have been fetched and not yet consumed.
+     *
+     * @return The number of chunks.
+     */
+    @VisibleForTesting
+    int getPrefetchCount() {
+        return this.prefetched.size();
+    }
+
+    private void readFully(ByteBuffer target) {
+        while (target.hasRemaining()) {
+            if (!this.current.hasRemaining()) {
+                this.current = nextChunk();
+            }
+            ByteBufferUtils.copy(this.current, target);
+        }
+    }
+
+    private ByteBuffer nextChunk() {
+        CompletableFuture<ByteBuffer> chunk = this.prefetched.pollFirst();
+        if (chunk == null) {
+            throw new InvalidMessageException("Event at offset " + this.offset + " extends beyond the ending offset " + this.endingOffset);
+        }
+
+        // Keep the pipeline full while we wait for this chunk.
+        fetchChunks();
+        try {
+            return chunk.join();
+        } catch (CompletionException e) {
+            Throwable cause = Exceptions.unwrap(e);
+            if (cause instanceof NoSuchSegmentException || cause instanceof SegmentTruncatedException) {
+                throw new TruncatedDataException("Segment " + this.segment + " has been truncated.");
+            }
+            throw e;
+        }
+    }
+
+    private void fetchChunks() {
+        while (this.prefetched.size() < this.maxPrefetch && this.nextFetchOffset < this.endingOffset) {
+            long chunkOffset = this.nextFetchOffset;
+            int length = (int) Math.min(this.chunkSize, this.endingOffset - chunkOffset);
+            this.prefetched.addLast(fetchChunk(chunkOffset, length));
+            this.nextFetchOffset += length;
+        }
+    }
+
+    private CompletableFuture<ByteBuffer> fetchChunk(long chunkOffset, int length) {
+        ByteBuffer result = ByteBuffer.allocate(length);
+        SegmentInputStream input = this.factory.createInputStreamForSegment(this.segment, this.tokenProvider, chunkOffset,
+                chunkOffset + length);
+        CompletableFuture<Void> fetch = Futures.loop(
+                () -> result.hasRemaining() && !this.closed.get(),
+                () -> input.fillBuffer().thenRunAsync(() -> readBuffered(input, result), this.executor),
+                this.executor);
+        return fetch.handle((r, ex) -> {
+            input.close();
+            if (ex != null) {
+                throw new CompletionException(Exceptions.unwrap(ex));
+            }
+            Exceptions.checkNotClosed(this.closed.get(), this);
+            result.flip();
+            return result;
+        });
+    }
+
+    /**
+     * Copies into the given buffer whatever data the given {@link SegmentInputStream} has already received.
+     */
+    @SneakyThrows({EndOfSegmentException.class, SegmentTruncatedException.class}) //endingOffset should make the former impossible.
+    private void readBuffered(SegmentInputStream input, ByteBuffer result) {
+        while (result.hasRemaining() && input.bytesInBuffer() != 0) {
+            // There is data buffered (or the stream is at its end, in which case this throws), so this will not wait.
+            input.read(result, 0);
+        }
+    }
+
+}
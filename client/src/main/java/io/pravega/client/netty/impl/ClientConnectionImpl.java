@@ -24,6 +24,7 @@ import io.pravega.shared.protocol.netty.Append;
 import io.pravega.shared.protocol.netty.AppendBatchSizeTracker;
 import io.pravega.shared.protocol.netty.ConnectionFailedException;
 import io.pravega.shared.protocol.netty.WireCommand;
+import io.pravega.shared.protocol.netty.WireCommands.ReadSegment;
 import java.util.List;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -121,6 +122,11 @@ public class ClientConnectionImpl implements ClientConnection {
             nettyHandler.setRecentMessage();
 
             channel = nettyHandler.getChannel();
+            if (cmd instanceof ReadSegment && nettyHandler.isReadBatchingSupported()) {
+                log.debug("Queueing read {} on channel {}", cmd, channel);
+                nettyHandler.getReadBatcher().add(channel, (ReadSegment) cmd, callback);
+                return;
+            }
             log.debug("Write and flush message {} on channel {}", cmd, channel);
             channel.writeAndFlush(cmd)
                    .addListener((Future<? super Void> f) -> {
@@ -12,6 +12,7 @@ package io.pravega.client.netty.impl;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 
+import io.pravega.shared.metrics.MetricNotifier;
 import io.pravega.shared.protocol.netty.PravegaNodeUri;
 import io.pravega.shared.protocol.netty.ReplyProcessor;
 
@@ -46,6 +47,14 @@ public interface ConnectionFactory extends AutoCloseable {
      */
     ScheduledExecutorService getInternalExecutor();
 
+    /**
+     * Get the {@link MetricNotifier} which is used to publish client side metrics.
+     * @return A MetricNotifier.
+     */
+    default MetricNotifier getMetricNotifier() {
+        return MetricNotifier.NO_OP_METRIC_NOTIFIER;
+    }
+
     @Override
     void close();
 
@@ -13,6 +13,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import io.pravega.client.ClientConfig;
 import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.shared.metrics.MetricNotifier;
 import io.pravega.shared.protocol.netty.PravegaNodeUri;
 import io.pravega.shared.protocol.netty.ReplyProcessor;
 import java.util.concurrent.CompletableFuture;
@@ -72,6 +73,11 @@ public final class ConnectionFactoryImpl implements ConnectionFactory {
         return executor;
     }
 
+    @Override
+    public MetricNotifier getMetricNotifier() {
+        return connectionPool.getMetricNotifier();
+    }
+
     @Override
     public void close() {
         log.info("Shutting down connection factory");
@@ -9,6 +9,7 @@
  */
 package io.pravega.client.netty.impl;
 
+import io.pravega.shared.metrics.MetricNotifier;
 import io.pravega.shared.protocol.netty.PravegaNodeUri;
 import io.pravega.shared.protocol.netty.ReplyProcessor;
 import java.util.concurrent.CompletableFuture;
@@ -46,6 +47,12 @@ public interface ConnectionPool extends AutoCloseable {
      */
     int getActiveChannelCount();
 
+    /**
+     * Gets the {@link MetricNotifier} used to publish client side metrics for the connections in this pool.
+     * @return The MetricNotifier.
+     */
+    MetricNotifier getMetricNotifier();
+
     @Override
     void close();
 }
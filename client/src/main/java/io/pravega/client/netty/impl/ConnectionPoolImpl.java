@@ -81,6 +81,7 @@ public class ConnectionPoolImpl implements ConnectionPool {
     }; 
     private final ClientConfig clientConfig;
     private final EventLoopGroup group;
+    @Getter
     private final MetricNotifier metricNotifier;
     private final AtomicBoolean closed = new AtomicBoolean(false);
     @VisibleForTesting
@@ -57,6 +57,9 @@ public class FlowHandler extends ChannelInboundHandlerAdapter implements AutoClo
     private final ConcurrentHashMap<Integer, AppendBatchSizeTracker> flowIDBatchSizeTrackerMap = new ConcurrentHashMap<>();
 
     private final AtomicBoolean disableFlow = new AtomicBoolean(false);
+    private final AtomicReference<WireCommands.Hello> serverHello = new AtomicReference<>();
+    @Getter(AccessLevel.PACKAGE)
+    private final SegmentReadBatcher readBatcher = new SegmentReadBatcher();
 
     public FlowHandler(String connectionName) {
         this(connectionName, MetricNotifier.NO_OP_METRIC_NOTIFIER);
@@ -82,9 +85,28 @@ public class FlowHandler extends ChannelInboundHandlerAdapter implements AutoClo
             throw new IllegalArgumentException("Multiple flows cannot be created with the same Flow id " + flowID);
         }
         createAppendBatchSizeTrackerIfNeeded(flowID);
+        deliverServerHello(rp);
         return new ClientConnectionImpl(connectionName, flowID, this);
     }
 
+    /**
+     * Flows created after the server's {@link WireCommands.Hello} has been received would otherwise never see it. Pass it
+     * on to them (on the event loop, like any other reply), so that they too know which version the server speaks.
+     */
+    private void deliverServerHello(final ReplyProcessor rp) {
+        final WireCommands.Hello hello = serverHello.get();
+        final Channel ch = channel.get();
+        if (hello != null && ch != null) {
+            ch.eventLoop().execute(() -> {
+                try {
+                    rp.hello(hello);
+                } catch (Exception e) {
+                    log.warn("Encountered exception invoking ReplyProcessor.hello for endpoint {}", connectionName, e);
+                }
+            });
+        }
+    }
+
     /**
      * Create a {@link ClientConnection} where flows are disabled. This implies that there is only one flow on the underlying
      * network connection.
@@ -154,6 +176,16 @@ public class FlowHandler extends ChannelInboundHandlerAdapter implements AutoClo
         return flowIdReplyProcessorMap.size();
     }
     
+    /**
+     * Whether reads issued by the flows on this connection may be combined into {@link WireCommands.ReadSegments} commands.
+     * This is only the case once the server has announced (via {@link WireCommands.Hello}) that it supports them.
+     * @return True if read batching is supported.
+     */
+    boolean isReadBatchingSupported() {
+        WireCommands.Hello hello = serverHello.get();
+        return hello != null && hello.getHighVersion() >= WireCommands.ReadSegments.MIN_VERSION;
+    }
+
     /**
      * Check the current status of Connection.
      * @return True if the connection is established.
@@ -197,6 +229,7 @@ public class FlowHandler extends ChannelInboundHandlerAdapter implements AutoClo
         super.channelActive(ctx);
         Channel ch = ctx.channel();
         channel.set(ch);
+        serverHello.set(null);
         log.info("Connection established with endpoint {} on channel {}", connectionName, ch);
         ch.writeAndFlush(new WireCommands.Hello(WireCommands.WIRE_VERSION, WireCommands.OLDEST_COMPATIBLE_VERSION), ch.voidPromise());
         registeredFutureLatch.release(null); //release all futures waiting for channel registration to complete.
@@ -240,6 +273,7 @@ public class FlowHandler extends ChannelInboundHandlerAdapter implements AutoClo
         log.debug(connectionName + " processing reply {} with flow {}", cmd, Flow.from(cmd.getRequestId()));
 
         if (cmd instanceof WireCommands.Hello) {
+            serverHello.set((WireCommands.Hello) cmd);
             flowIdReplyProcessorMap.forEach((flowId, rp) -> {
                 try {
                     rp.hello((WireCommands.Hello) cmd);
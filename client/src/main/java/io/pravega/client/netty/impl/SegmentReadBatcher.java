@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.netty.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.netty.channel.Channel;
+import io.netty.util.concurrent.Future;
+import io.pravega.client.netty.impl.ClientConnection.CompletedCallback;
+import io.pravega.shared.protocol.netty.ConnectionFailedException;
+import io.pravega.shared.protocol.netty.WireCommand;
+import io.pravega.shared.protocol.netty.WireCommands.ReadSegment;
+import io.pravega.shared.protocol.netty.WireCommands.ReadSegments;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.concurrent.GuardedBy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Combines {@link ReadSegment} requests issued by different flows over the same network connection into
+ * {@link ReadSegments} commands.
+ *
+ * Reads are queued and a flush is scheduled on the channel's event loop; any reads queued up by the time that flush
+ * executes are sent together. No delay is introduced: a read issued on an idle connection is sent (on its own) as soon
+ * as the event loop gets to it. Each read keeps its own request id, so the server's replies are routed back to the
+ * issuing flows as usual.
+ */
+@Slf4j
+class SegmentReadBatcher {
+    @VisibleForTesting
+    static final int MAX_READS_PER_BATCH = 100;
+
+    private final Object lock = new Object();
+    @GuardedBy("lock")
+    private List<ReadSegment> reads = new ArrayList<>();
+    @GuardedBy("lock")
+    private List<CompletedCallback> callbacks = new ArrayList<>();
+    @GuardedBy("lock")
+    private boolean flushScheduled = false;
+
+    /**
+     * Queues the given read to be sent over the given channel.
+     *
+     * @param channel  The channel to send the read on.
+     * @param read     The read to send.
+     * @param callback A callback to be invoked once the read has either been written to the wire or failed.
+     */
+    void add(Channel channel, ReadSegment read, CompletedCallback callback) {
+        boolean scheduleFlush;
+        synchronized (lock) {
+            reads.add(read);
+            callbacks.add(callback);
+            scheduleFlush = !flushScheduled;
+            flushScheduled = true;
+        }
+
+        if (scheduleFlush) {
+            try {
+                channel.eventLoop().execute(() -> flush(channel));
+            } catch (Exception e) {
+                log.warn("Unable to schedule batched read flush on channel {}.", channel, e);
+                flush(channel);
+            }
+        }
+    }
+
+    private void flush(Channel channel) {
+        List<ReadSegment> toSend;
+        List<CompletedCallback> toComplete;
+        synchronized (lock) {
+            toSend = reads;
+            toComplete = callbacks;
+            reads = new ArrayList<>();
+            callbacks = new ArrayList<>();
+            flushScheduled = false;
+        }
+
+        for (int start = 0; start < toSend.size(); start += MAX_READS_PER_BATCH) {
+            int end = Math.min(toSend.size(), start + MAX_READS_PER_BATCH);
+            List<ReadSegment> batch = toSend.subList(start, end);
+            List<CompletedCallback> batchCallbacks = toComplete.subList(start, end);
+            WireCommand cmd = batch.size() == 1 ? batch.get(0) : new ReadSegments(batch.get(0).getRequestId(), new ArrayList<>(batch));
+            log.trace("Sending {} batched reads on channel {}.", batch.size(), channel);
+            try {
+                channel.write(cmd).addListener((Future<? super Void> f) -> {
+                    ConnectionFailedException ex = f.isSuccess() ? null : new ConnectionFailedException(f.cause());
+                    batchCallbacks.forEach(c -> c.complete(ex));
+                });
+            } catch (Exception e) {
+                log.warn("Exception while attempting to write batched reads on netty channel {}", channel, e);
+                ConnectionFailedException ex = new ConnectionFailedException(e);
+                batchCallbacks.forEach(c -> c.complete(ex));
+            }
+        }
+        channel.flush();
+    }
+}
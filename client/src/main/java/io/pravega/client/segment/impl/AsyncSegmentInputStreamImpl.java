@@ -27,6 +27,7 @@ import io.pravega.shared.protocol.netty.ConnectionFailedException;
 import io.pravega.shared.protocol.netty.FailingReplyProcessor;
 import io.pravega.shared.protocol.netty.PravegaNodeUri;
 import io.pravega.shared.protocol.netty.Reply;
+import io.pravega.shared.protocol.netty.WireCommand;
 import io.pravega.shared.protocol.netty.WireCommands;
 import io.pravega.shared.protocol.netty.WireCommands.SegmentIsTruncated;
 import io.pravega.shared.protocol.netty.WireCommands.SegmentRead;
@@ -34,6 +35,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -43,6 +45,11 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 class AsyncSegmentInputStreamImpl extends AsyncSegmentInputStream {
+    /**
+     * The maximum number of bytes the server may push ahead of what has been read when subscribed to the Segment.
+     */
+    @VisibleForTesting
+    static final int SUBSCRIPTION_WINDOW_SIZE = 1024 * 1024;
 
     private final RetryWithBackoff backoffSchedule = Retry.withExpBackoff(1, 10, 9, 30000);
     private final ConnectionFactory connectionFactory;
@@ -52,6 +59,18 @@ class AsyncSegmentInputStreamImpl extends AsyncSegmentInputStream {
     private CompletableFuture<ClientConnection> connection = null;
     @GuardedBy("lock")
     private final Map<Long, CompletableFuture<WireCommands.SegmentRead>> outstandingRequests = new HashMap<>();
+    @GuardedBy("lock")
+    private int serverVersion = 0;
+    @GuardedBy("lock")
+    private boolean lastReadAtTail = false;
+    @GuardedBy("lock")
+    private boolean subscribed = false;
+    @GuardedBy("lock")
+    private long subscriptionOffset;
+    @GuardedBy("lock")
+    private long acknowledgedOffset;
+    @GuardedBy("lock")
+    private final TreeMap<Long, WireCommands.SegmentRead> pushedReads = new TreeMap<>();
 
     private final ResponseProcessor responseProcessor = new ResponseProcessor();
     private final AtomicBoolean closed = new AtomicBoolean(false);
@@ -64,6 +83,14 @@ class AsyncSegmentInputStreamImpl extends AsyncSegmentInputStream {
 
     private final class ResponseProcessor extends FailingReplyProcessor {
 
+        @Override
+        public void hello(WireCommands.Hello hello) {
+            super.hello(hello);
+            synchronized (lock) {
+                serverVersion = hello.getHighVersion();
+            }
+        }
+
         @Override
         public void process(Reply reply) {
             super.process(reply);
@@ -118,7 +145,24 @@ class AsyncSegmentInputStreamImpl extends AsyncSegmentInputStream {
         @Override
         public void segmentRead(WireCommands.SegmentRead segmentRead) {
             log.trace("Received read result {}", segmentRead);
-            CompletableFuture<SegmentRead> future = grabFuture(segmentRead.getSegment(), segmentRead.getOffset());
+            checkSegment(segmentRead.getSegment());
+            CompletableFuture<SegmentRead> future;
+            synchronized (lock) {
+                future = outstandingRequests.remove(segmentRead.getOffset());
+                lastReadAtTail = segmentRead.isAtTail();
+                if (subscribed && segmentRead.getOffset() == subscriptionOffset) {
+                    // Pushed by the server as part of our subscription. Hold on to it until it is asked for.
+                    int length = segmentRead.getData().remaining();
+                    subscriptionOffset += length;
+                    if (length == 0 || segmentRead.isEndOfSegment()) {
+                        // The server has ended the subscription.
+                        subscribed = false;
+                    }
+                    if (future == null) {
+                        pushedReads.put(segmentRead.getOffset(), segmentRead);
+                    }
+                }
+            }
             if (future != null) {
                 future.complete(segmentRead);
             }
@@ -127,6 +171,8 @@ class AsyncSegmentInputStreamImpl extends AsyncSegmentInputStream {
         private CompletableFuture<SegmentRead> grabFuture(String segment, long offset) {
             checkSegment(segment);
             synchronized (lock) {
+                // Errors end the subscription (if any) on the server side.
+                subscribed = false;
                 return outstandingRequests.remove(offset);
             }
         }
@@ -188,18 +234,17 @@ class AsyncSegmentInputStreamImpl extends AsyncSegmentInputStream {
             }
             return ex instanceof Exception && !(ex instanceof ConnectionClosedException) && !(ex instanceof SegmentTruncatedException);
         }).runAsync(() -> this.tokenProvider.retrieveToken().thenComposeAsync(token -> {
-            final WireCommands.ReadSegment request = new WireCommands.ReadSegment(segmentId.getScopedName(), offset, length,
-                    token, requestId);
             return getConnection()
                     .whenComplete((connection1, ex) -> {
                         if (ex != null) {
                             log.warn("Exception while establishing connection with Pravega node {}: ", connection1,  ex);
                             closeConnection(new ConnectionFailedException(ex));
                         }
-                    }).thenCompose(c -> sendRequestOverConnection(request, c)
+                    }).thenCompose(c -> sendRequestOverConnection(offset, length, token, c)
                             .whenComplete((reply, ex) -> {
                                 if (ex instanceof ConnectionFailedException) {
-                                    log.debug("ConnectionFailedException observed when sending request {}", request, ex);
+                                    log.debug("ConnectionFailedException observed when reading from segment {} at offset {}",
+                                              segmentId, offset, ex);
                                     closeConnection((ConnectionFailedException) ex);
                                 }
                             })
@@ -207,28 +252,88 @@ class AsyncSegmentInputStreamImpl extends AsyncSegmentInputStream {
         }, connectionFactory.getInternalExecutor()), connectionFactory.getInternalExecutor());
     }
         
-    private CompletableFuture<SegmentRead> sendRequestOverConnection(WireCommands.ReadSegment request, ClientConnection c) {
+    /**
+     * Requests the data at the given offset. Unless the reader is subscribed to the Segment (in which case the data is
+     * pushed by the server without having to be asked for), this sends a {@link WireCommands.ReadSegment}. Once a read
+     * indicates that the reader has caught up with the tail of the Segment, a {@link WireCommands.SubscribeSegment} is
+     * sent instead (if the server supports it), which saves a round-trip for every subsequent read.
+     */
+    private CompletableFuture<SegmentRead> sendRequestOverConnection(long offset, int length, String token, ClientConnection c) {
         CompletableFuture<WireCommands.SegmentRead> result = new CompletableFuture<>();            
         if (closed.get()) {
             result.completeExceptionally(new ConnectionClosedException());
             return result;
         }
+        final String segment = segmentId.getScopedName();
+        final List<WireCommand> requests = new ArrayList<>(2);
+        final SegmentRead pushed;
         synchronized (lock) {
-            outstandingRequests.put(request.getOffset(), result);
-        }
-        log.trace("Sending read request {}", request);
-        c.sendAsync(request, cfe -> {
-            if (cfe != null) {
-                log.error("Error while sending request {} to Pravega node {} :", request, c, cfe);
-                synchronized (lock) {
-                    outstandingRequests.remove(request.getOffset());
+            // Any pushed data before this offset has been skipped over, so it is no longer needed.
+            releaseAndClear(pushedReads.headMap(offset));
+            pushed = pushedReads.remove(offset);
+            if (subscribed && pushed == null && offset != subscriptionOffset) {
+                // The reader has been repositioned; the data being pushed is of no use to it anymore.
+                requests.add(new WireCommands.UnsubscribeSegment(requestId, segment));
+                resetSubscription();
+            }
+
+            if (subscribed) {
+                if (offset - acknowledgedOffset >= SUBSCRIPTION_WINDOW_SIZE / 2) {
+                    // Everything before this offset has been consumed. Let the server push more.
+                    requests.add(new WireCommands.UpdateSegmentSubscription(requestId, segment, offset));
+                    acknowledgedOffset = offset;
+                }
+            } else if (pushed == null) {
+                if (lastReadAtTail && serverVersion >= WireCommands.SubscribeSegment.MIN_VERSION) {
+                    requests.add(new WireCommands.SubscribeSegment(requestId, segment, offset, SUBSCRIPTION_WINDOW_SIZE, token));
+                    subscribed = true;
+                    subscriptionOffset = offset;
+                    acknowledgedOffset = offset;
+                } else {
+                    requests.add(new WireCommands.ReadSegment(segment, offset, length, token, requestId));
                 }
-                result.completeExceptionally(cfe);                
             }
-        });
+
+            if (pushed == null) {
+                outstandingRequests.put(offset, result);
+            }
+        }
+
+        if (pushed != null) {
+            log.trace("Serving read at offset {} from pushed data {}", offset, pushed);
+            result.complete(pushed);
+        }
+        for (WireCommand request : requests) {
+            log.trace("Sending read request {}", request);
+            c.sendAsync(request, cfe -> {
+                if (cfe != null) {
+                    log.error("Error while sending request {} to Pravega node {} :", request, c, cfe);
+                    synchronized (lock) {
+                        outstandingRequests.remove(offset, result);
+                    }
+                    result.completeExceptionally(cfe);
+                }
+            });
+        }
         return result;
     }
 
+    @GuardedBy("lock")
+    private void resetSubscription() {
+        subscribed = false;
+        releaseAndClear(pushedReads);
+    }
+
+    /**
+     * Releases every {@link SegmentRead} in the given map (they may be backed by reference-counted buffers) and removes
+     * them from it.
+     */
+    @GuardedBy("lock")
+    private void releaseAndClear(Map<Long, SegmentRead> reads) {
+        reads.values().forEach(SegmentRead::release);
+        reads.clear();
+    }
+
     private void closeConnection(Exception exceptionToInflightRequests) {
         if (closed.get()) {
             log.info("Closing connection to segment: {}", segmentId);
@@ -236,12 +341,25 @@ class AsyncSegmentInputStreamImpl extends AsyncSegmentInputStream {
             log.warn("Closing connection to segment {} with exception: {}", segmentId, exceptionToInflightRequests.toString());
         }
         CompletableFuture<ClientConnection> c;
+        boolean unsubscribe;
         synchronized (lock) {
             c = connection;
             connection = null;
+            unsubscribe = subscribed;
+            resetSubscription();
+            lastReadAtTail = false;
+            serverVersion = 0;
         }
         if (c != null && Futures.isSuccessful(c)) {
             try {
+                if (unsubscribe) {
+                    // The underlying network connection may be shared with other flows and outlive this one.
+                    c.getNow(null).sendAsync(new WireCommands.UnsubscribeSegment(requestId, segmentId.getScopedName()), cfe -> {
+                        if (cfe != null) {
+                            log.debug("Unable to unsubscribe from segment {}", segmentId, cfe);
+                        }
+                    });
+                }
                 c.getNow(null).close();
             } catch (Exception e) {
                 log.warn("Exception tearing down connection: ", e);
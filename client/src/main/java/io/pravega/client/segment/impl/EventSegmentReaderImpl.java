@@ -11,6 +11,7 @@ package io.pravega.client.segment.impl;
 
 import com.google.common.base.Preconditions;
 import io.pravega.common.LoggerHelpers;
+import io.pravega.shared.protocol.netty.EventCodec;
 import io.pravega.shared.protocol.netty.InvalidMessageException;
 import io.pravega.shared.protocol.netty.WireCommandType;
 import io.pravega.shared.protocol.netty.WireCommands;
@@ -98,7 +99,7 @@ class EventSegmentReaderImpl implements EventSegmentReader {
         headerReadingBuffer.flip();
         int type = headerReadingBuffer.getInt();
         int length = headerReadingBuffer.getInt();
-        if (type != WireCommandType.EVENT.getCode()) {
+        if (type != WireCommandType.EVENT.getCode() && type != WireCommandType.COMPRESSED_EVENT.getCode()) {
             throw new InvalidMessageException("Event was of wrong type: " + type);
         }
         if (length < 0 || length > WireCommands.MAX_WIRECOMMAND_SIZE) {
@@ -111,7 +112,7 @@ class EventSegmentReaderImpl implements EventSegmentReader {
             readEventDataFromSegmentInputStream(result);
         }
         result.flip();
-        return result;
+        return type == WireCommandType.COMPRESSED_EVENT.getCode() ? EventCodec.decompressEvent(result) : result;
     }
 
     private void readEventDataFromSegmentInputStream(ByteBuffer result) throws EndOfSegmentException, SegmentTruncatedException, TimeoutException {
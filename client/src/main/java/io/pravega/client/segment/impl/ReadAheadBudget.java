@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.segment.impl;
+
+import com.google.common.base.Preconditions;
+import io.pravega.shared.metrics.MetricNotifier;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+import static io.pravega.shared.metrics.ClientMetricKeys.CLIENT_READ_AHEAD_HIT_COUNT;
+import static io.pravega.shared.metrics.ClientMetricKeys.CLIENT_READ_AHEAD_MISS_COUNT;
+import static io.pravega.shared.metrics.ClientMetricKeys.CLIENT_READ_BUFFER_MEMORY;
+
+/**
+ * Bounds the amount of memory that the read buffers of a group of {@link SegmentInputStreamImpl}s (typically all those
+ * created by the same {@link SegmentInputStreamFactoryImpl}) may use to read ahead.
+ *
+ * Every stream is always allowed its initial buffer, so that it can make progress. Growing a buffer beyond that requires
+ * the additional memory to be reserved from this budget, which fails once the budget is exhausted.
+ */
+class ReadAheadBudget {
+    @Getter
+    private final long maxBytes;
+    private final MetricNotifier metricNotifier;
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Creates a new instance of the ReadAheadBudget class.
+     *
+     * @param maxBytes       The maximum number of bytes that buffers may grow to, in aggregate.
+     * @param metricNotifier The {@link MetricNotifier} to publish buffer occupancy and read-ahead hits to.
+     */
+    ReadAheadBudget(long maxBytes, MetricNotifier metricNotifier) {
+        Preconditions.checkArgument(maxBytes > 0, "maxBytes must be a positive number.");
+        this.maxBytes = maxBytes;
+        this.metricNotifier = Preconditions.checkNotNull(metricNotifier, "metricNotifier");
+    }
+
+    /**
+     * Reserves the given number of bytes, regardless of whether this exceeds the budget.
+     *
+     * @param bytes The number of bytes to reserve.
+     */
+    void reserve(int bytes) {
+        reportMemory(this.usedBytes.addAndGet(bytes));
+    }
+
+    /**
+     * Reserves the given number of bytes, only if this does not exceed the budget.
+     *
+     * @param bytes The number of bytes to reserve.
+     * @return True if the bytes were reserved, false otherwise.
+     */
+    boolean tryReserve(int bytes) {
+        long used;
+        do {
+            used = this.usedBytes.get();
+            if (used + bytes > this.maxBytes) {
+                return false;
+            }
+        } while (!this.usedBytes.compareAndSet(used, used + bytes));
+        reportMemory(used + bytes);
+        return true;
+    }
+
+    /**
+     * Releases bytes that were previously reserved.
+     *
+     * @param bytes The number of bytes to release.
+     */
+    void release(int bytes) {
+        reportMemory(this.usedBytes.addAndGet(-bytes));
+    }
+
+    /**
+     * Records the outcome of a read.
+     *
+     * @param hit True if the read was served from data that had already been read ahead, false if it had to wait.
+     */
+    void recordRead(boolean hit) {
+        long count = hit ? this.hitCount.incrementAndGet() : this.missCount.incrementAndGet();
+        // Only publish client side metrics when there is some metrics notifier configured for efficiency.
+        if (!this.metricNotifier.equals(MetricNotifier.NO_OP_METRIC_NOTIFIER)) {
+            this.metricNotifier.updateSuccessMetric(hit ? CLIENT_READ_AHEAD_HIT_COUNT : CLIENT_READ_AHEAD_MISS_COUNT, null, count);
+        }
+    }
+
+    long getUsedBytes() {
+        return this.usedBytes.get();
+    }
+
+    long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    long getMissCount() {
+        return this.missCount.get();
+    }
+
+    private void reportMemory(long used) {
+        if (!this.metricNotifier.equals(MetricNotifier.NO_OP_METRIC_NOTIFIER)) {
+            this.metricNotifier.updateSuccessMetric(CLIENT_READ_BUFFER_MEMORY, null, used);
+        }
+    }
+}
@@ -31,6 +31,19 @@ public interface SegmentInputStreamFactory {
      * @return New instance of SegmentInputStream for reading.
      */
     SegmentInputStream createInputStreamForSegment(Segment segment, DelegationTokenProvider tokenProvider);
+
+    /**
+     * Opens an existing segment for reading bytes between the provided offsets. This operation will fail if the
+     * segment does not exist. No data beyond the end offset is requested from the server.
+     *
+     * @param segment The segment to create an input for.
+     * @param tokenProvider The {@link DelegationTokenProvider} instance to be used for obtaining a delegation token.
+     * @param startOffset The offset to begin reading from.
+     * @param endOffset The offset up to which the segment can be read.
+     * @return New instance of SegmentInputStream for reading.
+     */
+    SegmentInputStream createInputStreamForSegment(Segment segment, DelegationTokenProvider tokenProvider, long startOffset,
+                                                   long endOffset);
     
     /**
      * Opens an existing segment for reading events. This operation will fail if the
@@ -16,15 +16,31 @@ import io.pravega.client.security.auth.DelegationTokenProviderFactory;
 import io.pravega.client.stream.impl.Controller;
 import io.pravega.common.MathHelpers;
 import io.pravega.common.concurrent.Futures;
+import io.pravega.shared.metrics.MetricNotifier;
 import java.util.concurrent.Semaphore;
-import lombok.RequiredArgsConstructor;
 
 @VisibleForTesting
-@RequiredArgsConstructor
 public class SegmentInputStreamFactoryImpl implements SegmentInputStreamFactory {
 
+    /**
+     * The default amount of memory that the read buffers of all the event readers created by a factory may use.
+     */
+    private static final long DEFAULT_READ_AHEAD_BUDGET = 256 * 1024 * 1024L;
+
     private final Controller controller;
     private final ConnectionFactory cf;
+    private final ReadAheadBudget readAheadBudget;
+
+    public SegmentInputStreamFactoryImpl(Controller controller, ConnectionFactory cf) {
+        this(controller, cf, new ReadAheadBudget(getReadAheadBudgetSize(), getMetricNotifier(cf)));
+    }
+
+    @VisibleForTesting
+    SegmentInputStreamFactoryImpl(Controller controller, ConnectionFactory cf, ReadAheadBudget readAheadBudget) {
+        this.controller = controller;
+        this.cf = cf;
+        this.readAheadBudget = readAheadBudget;
+    }
 
     @Override
     public EventSegmentReader createEventReaderForSegment(Segment segment) {
@@ -33,15 +49,18 @@ public class SegmentInputStreamFactoryImpl implements SegmentInputStreamFactory
 
     @Override
     public EventSegmentReader createEventReaderForSegment(Segment segment, Semaphore hasData, long endOffset) {
-        return getEventSegmentReader(segment, hasData, endOffset, SegmentInputStreamImpl.DEFAULT_BUFFER_SIZE);
+        // Readers of a Stream may hold many segments at once, so their read-ahead adapts to how fast each segment is
+        // being consumed, within the budget shared by all the readers created by this factory.
+        return getEventSegmentReader(segment, hasData, endOffset, SegmentInputStreamImpl.MAX_BUFFER_SIZE, readAheadBudget);
     }
 
     @Override
     public EventSegmentReader createEventReaderForSegment(Segment segment, int bufferSize) {
-        return getEventSegmentReader(segment, null, Long.MAX_VALUE, bufferSize);
+        return getEventSegmentReader(segment, null, Long.MAX_VALUE, bufferSize, null);
     }
 
-    private EventSegmentReader getEventSegmentReader(Segment segment, Semaphore hasData, long endOffset, int bufferSize) {
+    private EventSegmentReader getEventSegmentReader(Segment segment, Semaphore hasData, long endOffset, int bufferSize,
+                                                     ReadAheadBudget budget) {
         String delegationToken = Futures.getAndHandleExceptions(controller.getOrRefreshDelegationTokenFor(segment.getScope(),
                                                                                                           segment.getStream()
                                                                                                                  .getStreamName()),
@@ -50,7 +69,7 @@ public class SegmentInputStreamFactoryImpl implements SegmentInputStreamFactory
                 DelegationTokenProviderFactory.create(delegationToken, controller, segment), hasData);
         async.getConnection();                      //Sanity enforcement
         bufferSize = MathHelpers.minMax(bufferSize, SegmentInputStreamImpl.MIN_BUFFER_SIZE, SegmentInputStreamImpl.MAX_BUFFER_SIZE);
-        return getEventSegmentReader(async, 0, endOffset, bufferSize);
+        return new EventSegmentReaderImpl(new SegmentInputStreamImpl(async, 0, endOffset, bufferSize, budget));
     }
 
     @VisibleForTesting
@@ -70,4 +89,25 @@ public class SegmentInputStreamFactoryImpl implements SegmentInputStreamFactory
         async.getConnection();
         return new SegmentInputStreamImpl(async, 0);
     }
+
+    @Override
+    public SegmentInputStream createInputStreamForSegment(Segment segment, DelegationTokenProvider tokenProvider, long startOffset,
+                                                          long endOffset) {
+        AsyncSegmentInputStreamImpl async = new AsyncSegmentInputStreamImpl(controller, cf, segment, tokenProvider, null);
+        async.getConnection();
+        return new SegmentInputStreamImpl(async, startOffset, endOffset, SegmentInputStreamImpl.DEFAULT_BUFFER_SIZE);
+    }
+
+    private static long getReadAheadBudgetSize() {
+        String configuredBudget = System.getProperty("pravega.client.reader.readahead.budget", null);
+        if (configuredBudget != null) {
+            return Long.parseLong(configuredBudget);
+        }
+        return DEFAULT_READ_AHEAD_BUDGET;
+    }
+
+    private static MetricNotifier getMetricNotifier(ConnectionFactory cf) {
+        MetricNotifier notifier = cf.getMetricNotifier();
+        return notifier == null ? MetricNotifier.NO_OP_METRIC_NOTIFIER : notifier;
+    }
 }
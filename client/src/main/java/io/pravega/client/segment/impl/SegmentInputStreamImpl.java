@@ -36,13 +36,21 @@ class SegmentInputStreamImpl implements SegmentInputStream {
     static final int MIN_BUFFER_SIZE = 1024;
     static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
     static final int MAX_BUFFER_SIZE = 10 * 1024 * 1024;
+    static final int MIN_READ_AHEAD_SIZE = 64 * 1024;
     private static final int DEFAULT_READ_LENGTH = 256 * 1024;
     private static final long UNBOUNDED_END_OFFSET = Long.MAX_VALUE;
 
     private final AsyncSegmentInputStream asyncInput;
     private final int minReadLength;
+    private final int minBufferSize;
+    private final int maxBufferSize;
+    private final ReadAheadBudget readAheadBudget;
     @GuardedBy("$lock")
-    private final CircularBuffer buffer;
+    private CircularBuffer buffer;
+    @GuardedBy("$lock")
+    private long bytesReadSinceMiss = 0;
+    @GuardedBy("$lock")
+    private boolean closed = false;
     @GuardedBy("$lock")
     private long offset;
     @GuardedBy("$lock")
@@ -59,6 +67,22 @@ class SegmentInputStreamImpl implements SegmentInputStream {
     }
 
     SegmentInputStreamImpl(AsyncSegmentInputStream asyncInput, long startOffset, long endOffset, int bufferSize) {
+        this(asyncInput, startOffset, endOffset, bufferSize, null);
+    }
+
+    /**
+     * Creates a new SegmentInputStreamImpl.
+     *
+     * @param asyncInput      The {@link AsyncSegmentInputStream} to read from.
+     * @param startOffset     The offset to start reading from.
+     * @param endOffset       The offset to read up to.
+     * @param bufferSize      The size of the buffer. If a readAheadBudget is provided, this is the maximum size the buffer
+     *                        may grow to.
+     * @param readAheadBudget If not null, the buffer starts small and is resized depending on how fast data is consumed,
+     *                        using this budget to bound its growth. If null, the buffer has a fixed size.
+     */
+    SegmentInputStreamImpl(AsyncSegmentInputStream asyncInput, long startOffset, long endOffset, int bufferSize,
+                           ReadAheadBudget readAheadBudget) {
         Preconditions.checkArgument(startOffset >= 0);
         Preconditions.checkNotNull(asyncInput);
         Preconditions.checkNotNull(endOffset, "endOffset");
@@ -66,9 +90,15 @@ class SegmentInputStreamImpl implements SegmentInputStream {
         this.asyncInput = asyncInput;
         this.offset = startOffset;
         this.endOffset = endOffset;
+        this.readAheadBudget = readAheadBudget;
+        this.maxBufferSize = bufferSize;
+        this.minBufferSize = readAheadBudget == null ? bufferSize : Math.min(MIN_READ_AHEAD_SIZE, bufferSize);
         // Reads should not be so large they cannot fit into the buffer.
-        this.minReadLength = Math.min(DEFAULT_READ_LENGTH, bufferSize);
-        this.buffer = new CircularBuffer(bufferSize);
+        this.minReadLength = Math.min(DEFAULT_READ_LENGTH, minBufferSize);
+        this.buffer = new CircularBuffer(minBufferSize);
+        if (readAheadBudget != null) {
+            readAheadBudget.reserve(minBufferSize);
+        }
         issueRequestIfNeeded();
     }
 
@@ -117,10 +147,15 @@ class SegmentInputStreamImpl implements SegmentInputStream {
         if (receivedTruncated) {
             throw new SegmentTruncatedException();
         }
+        boolean hit = true;
         while (buffer.dataAvailable() == 0) {
             if (receivedEndOfSegment) {
                 throw new EndOfSegmentException();
             }
+            if (hit && !outstandingRequest.isDone()) {
+                hit = false;
+                handleReadAheadMiss();
+            }
             Futures.await(outstandingRequest, timeout);
             if (!outstandingRequest.isDone()) {
                 return 0;
@@ -130,9 +165,48 @@ class SegmentInputStreamImpl implements SegmentInputStream {
         
         int read = buffer.read(toFill);
         offset += read;
+        if (readAheadBudget != null) {
+            bytesReadSinceMiss += read;
+            if (hit) {
+                readAheadBudget.recordRead(true);
+            }
+        }
         return read;
     }
 
+    /**
+     * Invoked when a read finds the buffer empty and has to wait for data to arrive. This adapts the size of the buffer
+     * (and hence that of the read requests) to how fast data is being consumed from this segment:
+     *  - if at least half a buffer was consumed since the last miss, reading ahead is not keeping up with the reader (the
+     *  rest of the buffer is typically taken up by the outstanding request), so the buffer is doubled, provided that the
+     *  budget allows it.
+     *  - if hardly anything was consumed since the last miss, the reader is keeping up with the writers, so the buffer is
+     *  halved, which frees up memory for readers of other segments.
+     * The buffer is empty at this point, so it can be replaced without copying any data.
+     */
+    private void handleReadAheadMiss() {
+        if (readAheadBudget == null) {
+            return;
+        }
+        readAheadBudget.recordRead(false);
+        int capacity = buffer.getCapacity();
+        int newCapacity = capacity;
+        if (bytesReadSinceMiss >= capacity / 2 && capacity < maxBufferSize) {
+            int growth = Math.min(capacity, maxBufferSize - capacity);
+            if (readAheadBudget.tryReserve(growth)) {
+                newCapacity = capacity + growth;
+            }
+        } else if (bytesReadSinceMiss < capacity / 4 && capacity > minBufferSize) {
+            newCapacity = Math.max(capacity / 2, minBufferSize);
+            readAheadBudget.release(capacity - newCapacity);
+        }
+        bytesReadSinceMiss = 0;
+        if (newCapacity != capacity) {
+            log.debug("Resizing read buffer for segment {} from {} to {} bytes", getSegmentId(), capacity, newCapacity);
+            buffer = new CircularBuffer(newCapacity);
+        }
+    }
+
     private boolean dataWaitingToGoInBuffer() {
         return outstandingRequest != null && Futures.isSuccessful(outstandingRequest) && buffer.capacityAvailable() > 0;
     }
@@ -206,6 +280,10 @@ class SegmentInputStreamImpl implements SegmentInputStream {
             outstandingRequest.cancel(true);
             log.debug("Completed cancelling outstanding read request for segment {}", asyncInput.getSegmentId());
         }
+        if (readAheadBudget != null && !closed) {
+            readAheadBudget.release(buffer.getCapacity());
+        }
+        closed = true;
         asyncInput.close();
     }
 
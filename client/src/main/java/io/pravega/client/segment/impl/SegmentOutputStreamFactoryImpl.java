@@ -38,7 +38,7 @@ public class SegmentOutputStreamFactoryImpl implements SegmentOutputStreamFactor
                                                                 DelegationTokenProvider tokenProvider) {
         return new SegmentOutputStreamImpl(NameUtils.getTransactionNameFromId(segment.getScopedName(), txId),
                                            config.isEnableConnectionPooling(), controller, cf, UUID.randomUUID(), nopSegmentSealedCallback,
-                                           getRetryFromConfig(config), tokenProvider);
+                                           getRetryFromConfig(config), tokenProvider, config.getCompressionCodec());
     }
 
     @Override
@@ -46,7 +46,7 @@ public class SegmentOutputStreamFactoryImpl implements SegmentOutputStreamFactor
                                                             EventWriterConfig config, DelegationTokenProvider tokenProvider) {
         SegmentOutputStreamImpl result =
                 new SegmentOutputStreamImpl(segment.getScopedName(), config.isEnableConnectionPooling(), controller, cf, UUID.randomUUID(), segmentSealedCallback,
-                                            getRetryFromConfig(config), tokenProvider);
+                                            getRetryFromConfig(config), tokenProvider, config.getCompressionCodec());
         try {
             result.getConnection();
         } catch (RetriesExhaustedException | SegmentSealedException | NoSuchSegmentException e) {
@@ -58,6 +58,7 @@ public class SegmentOutputStreamFactoryImpl implements SegmentOutputStreamFactor
     @Override
     public SegmentOutputStream createOutputStreamForSegment(Segment segment, EventWriterConfig config,
                                                             DelegationTokenProvider tokenProvider) {
+        // Data written this way is not made up of Events, so it cannot be compressed.
         return new SegmentOutputStreamImpl(segment.getScopedName(), config.isEnableConnectionPooling(), controller, cf, UUID.randomUUID(),
                                            Callbacks::doNothing, getRetryFromConfig(config), tokenProvider);
     }
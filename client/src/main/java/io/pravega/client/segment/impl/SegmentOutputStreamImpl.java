@@ -28,6 +28,7 @@ import io.pravega.common.util.ReusableLatch;
 import io.pravega.shared.NameUtils;
 import io.pravega.shared.protocol.netty.Append;
 import io.pravega.shared.protocol.netty.ConnectionFailedException;
+import io.pravega.shared.protocol.netty.EventCodec;
 import io.pravega.shared.protocol.netty.FailingReplyProcessor;
 import io.pravega.shared.protocol.netty.PravegaNodeUri;
 import io.pravega.shared.protocol.netty.WireCommand;
@@ -84,10 +85,18 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
     private final RetryWithBackoff retrySchedule;
     private final Object writeOrderLock = new Object();
     private final DelegationTokenProvider tokenProvider;
+    private final EventCodec requestedCodec;
     @VisibleForTesting
     @Getter
     private final long requestId = Flow.create().asLong();
 
+    SegmentOutputStreamImpl(String segmentName, boolean useConnectionPooling, Controller controller, ConnectionFactory connectionFactory,
+                            UUID writerId, Consumer<Segment> resendToSuccessorsCallback, RetryWithBackoff retrySchedule,
+                            DelegationTokenProvider tokenProvider) {
+        this(segmentName, useConnectionPooling, controller, connectionFactory, writerId, resendToSuccessorsCallback, retrySchedule,
+                tokenProvider, EventCodec.NONE);
+    }
+
     /**
      * Internal object that tracks the state of the connection.
      * All mutations of data occur inside of this class. All operations are protected by the lock object.
@@ -113,6 +122,8 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
         private long eventNumber = 0;
         @GuardedBy("lock")
         private long segmentLength = -1;
+        @GuardedBy("lock")
+        private EventCodec codec = EventCodec.NONE;
         private final ReusableFutureLatch<ClientConnection> setupConnection = new ReusableFutureLatch<>();
         private final ReusableLatch waitingInflight = new ReusableLatch(true);
         private final AtomicBoolean needSuccessors = new AtomicBoolean();
@@ -148,6 +159,21 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
             }
         }
 
+        /**
+         * @return The codec negotiated for the current connection.
+         */
+        private EventCodec getCodec() {
+            synchronized (lock) {
+                return codec;
+            }
+        }
+
+        private void setCodec(EventCodec newCodec) {
+            synchronized (lock) {
+                codec = newCodec;
+            }
+        }
+
         private void connectionSetupComplete(ClientConnection connection) {
             CompletableFuture<Void> toComplete;
             synchronized (lock) {
@@ -178,6 +204,7 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
                 connectionSetupCompleted = result;
                 connection = newConnection;
                 exception = null;
+                codec = EventCodec.NONE;
             }
             return result;
         }
@@ -365,14 +392,11 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
             log.info("Received appendSetup {}", appendSetup);
             long ackLevel = appendSetup.getLastEventNumber();
             ackUpTo(ackLevel);
+            EventCodec codec = appendSetup.getCodec();
+            state.setCodec(codec);
             List<Append> toRetransmit = state.getAllInflight()
                                              .stream()
-                                             .map(entry -> new Append(segmentName, writerId, entry.getKey(),
-                                                                      1,
-                                                                      entry.getValue().getData(),
-                                                                      null,
-                                                                      requestId
-                                                                      ))
+                                             .map(entry -> createAppend(entry.getKey(), entry.getValue(), codec))
                                              .collect(Collectors.toList());
             ClientConnection connection = state.getConnection();
             if (connection == null) {
@@ -469,7 +493,7 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
             }
             long eventNumber = state.addToInflight(event);
             try {
-                Append append = new Append(segmentName, writerId, eventNumber, 1, event.getData(), null, requestId);
+                Append append = createAppend(eventNumber, event, state.getCodec());
                 log.trace("Sending append request: {}", append);
                 connection.send(append);
             } catch (ConnectionFailedException e) {
@@ -479,6 +503,17 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
         }
     }
 
+    /**
+     * Creates an Append for the given event, with its data in the form required by the given codec. Events keep their
+     * uncompressed data while inflight, as they may need to be retransmitted over a connection that negotiated a
+     * different codec. Writers compress events before they get here (see {@link PendingEvent#compress}), so this does
+     * not compress anything unless the codec changed.
+     */
+    private Append createAppend(long eventNumber, PendingEvent event, EventCodec codec) {
+        return new Append(segmentName, writerId, eventNumber, event.getEventCount(), event.getData(codec),
+                null, requestId);
+    }
+
     /**
      * Establish a connection and wait for it to be setup. (Retries built in)
      */
@@ -590,7 +625,7 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
                              String token = pair.getValue();
 
                              CompletableFuture<Void> connectionSetupFuture = state.newConnection(connection);
-                             SetupAppend cmd = new SetupAppend(requestId, writerId, segmentName, token);
+                             SetupAppend cmd = new SetupAppend(requestId, writerId, segmentName, token, requestedCodec);
                              try {
                                  connection.send(cmd);
                              } catch (ConnectionFailedException e1) {
@@ -10,6 +10,7 @@
 package io.pravega.client.stream;
 
 import io.pravega.client.segment.impl.NoSuchEventException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A reader for a stream.
@@ -54,6 +55,24 @@ public interface EventStreamReader<T> extends AutoCloseable {
      */
     EventRead<T> readNextEvent(long timeoutMillis) throws ReinitializationRequiredException, TruncatedDataException;
 
+    /**
+     * Asynchronously gets the next event in the stream. This behaves like {@link #readNextEvent(long)}, except that no
+     * thread is blocked while waiting for events to arrive: the returned future is completed as soon as an event (or a
+     * checkpoint) is available, or with an EventRead with null for {@link EventRead#getEvent()} once timeoutMillis has
+     * elapsed. This allows a large number of readers to be served by a small number of threads.
+     *
+     * Each call represents a request for a single event. As the data buffered for each segment is bounded, a reader
+     * which is not asked for events stops fetching data. At most one call may be outstanding at any given time, and
+     * calls should not be interleaved with calls to {@link #readNextEvent(long)}. If the returned future is cancelled
+     * after an event has been read on its behalf, that event is not skipped: it is returned by the next read.
+     *
+     * @param timeoutMillis An upper bound on how long it may take for the returned future to complete.
+     * @return A future that will be completed with the next {@link EventRead}. It will be failed with a
+     *         {@link ReinitializationRequiredException} or a {@link TruncatedDataException} under the same conditions in
+     *         which {@link #readNextEvent(long)} would throw them.
+     */
+    CompletableFuture<EventRead<T>> readNextEventAsync(long timeoutMillis);
+
     /**
      * Gets the configuration that this reader was created with.
      *
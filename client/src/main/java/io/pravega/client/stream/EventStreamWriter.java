@@ -10,6 +10,7 @@
 package io.pravega.client.stream;
 
 import io.pravega.client.stream.EventWriterConfig.EventWriterConfigBuilder;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -60,6 +61,31 @@ public interface EventStreamWriter<Type> extends AutoCloseable {
      *         exponential backoff. So there is no need to attempt to retry in the event of an exception.
      */
     CompletableFuture<Void> writeEvent(String routingKey, Type event);
+
+    /**
+     * Write an ordered list of events to the stream atomically for a given routing key. Events written with the
+     * same routing key will be read by readers in exactly the same order they were written. Either all or none
+     * of the events in the list will be written. Each serialized event is written with an 8 byte header, and the
+     * combined size of the serialized events and their headers may not exceed {@link Serializer#MAX_EVENT_SIZE} + 8
+     * bytes. So a list of n events may contain at most {@link Serializer#MAX_EVENT_SIZE} - 8 * (n - 1) bytes of
+     * serialized events.
+     *
+     * This is more efficient than invoking {@link #writeEvent(String, Object)} for each event individually, as
+     * the whole list is routed and written as a single unit.
+     *
+     * Note that the implementation provides retry logic to handle connection failures and service
+     * host failures. Internal retries will not violate the exactly once semantic so it is better to
+     * rely on this than to wrap this method with custom retry logic.
+     *
+     * @param routingKey A free form string that is used to route messages to readers. Two events written with
+     *        the same routingKey are guaranteed to be read in order. Two events with different routing keys
+     *        may be read in parallel.
+     * @param events The events to be written to the stream (Null or empty lists are disallowed)
+     * @return A completableFuture that will complete when all the events have been durably stored on the
+     *         configured number of replicas, and are available for readers to see. This future may complete
+     *         exceptionally if this cannot happen, however these exceptions are not transient failures.
+     */
+    CompletableFuture<Void> writeEvents(String routingKey, List<Type> events);
     
     /**
      * Notes a time that can be seen by readers which read from this stream by
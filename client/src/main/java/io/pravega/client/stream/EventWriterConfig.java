@@ -10,6 +10,7 @@
 package io.pravega.client.stream;
 
 import com.google.common.base.Preconditions;
+import io.pravega.shared.protocol.netty.EventCodec;
 import java.io.Serializable;
 
 import lombok.Builder;
@@ -54,6 +55,12 @@ public class EventWriterConfig implements Serializable {
      */
     private final boolean automaticallyNoteTime;
 
+    /**
+     * The codec to compress events with, if the Segment Store supports it. Compressed events are stored as such, and
+     * can only be read by clients that support the codec. Defaults to {@link EventCodec#NONE}.
+     */
+    private final EventCodec compressionCodec;
+
     public static final class EventWriterConfigBuilder {
         private static final long MIN_TRANSACTION_TIMEOUT_TIME_MILLIS = 10000;
         private int initalBackoffMillis = 1;
@@ -64,6 +71,7 @@ public class EventWriterConfig implements Serializable {
         private boolean automaticallyNoteTime = false; 
         // connection pooling for event writers is disabled by default.
         private boolean enableConnectionPooling = false;
+        private EventCodec compressionCodec = EventCodec.NONE;
         
         public EventWriterConfig build() {
             Preconditions.checkArgument(transactionTimeoutTime >= MIN_TRANSACTION_TIMEOUT_TIME_MILLIS, "Transaction time must be at least 10 seconds.");
@@ -71,10 +79,12 @@ public class EventWriterConfig implements Serializable {
             Preconditions.checkArgument(backoffMultiple >= 0, "Backoff multiple must be positive numbers");
             Preconditions.checkArgument(maxBackoffMillis >= 0, "Backoff times must be positive numbers");
             Preconditions.checkArgument(retryAttempts >= 0, "Retry attempts must be a positive number");
+            Preconditions.checkNotNull(compressionCodec, "compressionCodec");
             return new EventWriterConfig(initalBackoffMillis, maxBackoffMillis, retryAttempts, backoffMultiple,
                                          enableConnectionPooling,
                                          transactionTimeoutTime,
-                                         automaticallyNoteTime);
+                                         automaticallyNoteTime,
+                                         compressionCodec);
         }
     }
 }
@@ -51,6 +51,7 @@ import io.pravega.client.stream.Serializer;
 import io.pravega.client.stream.Stream;
 import io.pravega.client.stream.TransactionalEventStreamWriter;
 import io.pravega.client.watermark.WatermarkSerializer;
+import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.ExecutorServiceHelpers;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.shared.NameUtils;
@@ -58,6 +59,7 @@ import java.util.UUID;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Supplier;
+import javax.annotation.concurrent.GuardedBy;
 import lombok.val;
 import lombok.extern.slf4j.Slf4j;
 
@@ -74,6 +76,16 @@ public class ClientFactoryImpl implements EventStreamClientFactory, Synchronizer
     private final SegmentMetadataClientFactory metaFactory;
     private final ConnectionFactory connectionFactory;
     private final ScheduledExecutorService watermarkReaderThreads = newScheduledThreadPool(getThreadPoolSize(), "WatermarkReader");
+    /**
+     * Serves {@link EventStreamReader#readNextEventAsync}. Reads make blocking calls to update the reader group state, so
+     * they must not run on the connection factory's internal executor, which is used to complete segment reads. This is
+     * only created once the first asynchronous read is made.
+     */
+    @GuardedBy("asyncReaderThreadsLock")
+    private ScheduledExecutorService asyncReaderThreads;
+    @GuardedBy("asyncReaderThreadsLock")
+    private boolean closed;
+    private final Object asyncReaderThreadsLock = new Object();
 
     /**
      * Creates a new instance of ClientFactory class.
@@ -191,7 +203,7 @@ public class ClientFactoryImpl implements EventStreamClientFactory, Synchronizer
             }
         }
         return new EventStreamReaderImpl<T>(inFactory, metaFactory, s, stateManager, new Orderer(),
-                milliTime, config, watermarkReaders.build(), controller);
+                milliTime, config, watermarkReaders.build(), controller, this::getAsyncReaderThreads);
     }
     
     @Override
@@ -239,6 +251,22 @@ public class ClientFactoryImpl implements EventStreamClientFactory, Synchronizer
     public void close() {
         controller.close();
         connectionFactory.close();
+        synchronized (asyncReaderThreadsLock) {
+            closed = true;
+            if (asyncReaderThreads != null) {
+                ExecutorServiceHelpers.shutdown(asyncReaderThreads);
+            }
+        }
+    }
+
+    private ScheduledExecutorService getAsyncReaderThreads() {
+        synchronized (asyncReaderThreadsLock) {
+            Exceptions.checkNotClosed(closed, this);
+            if (asyncReaderThreads == null) {
+                asyncReaderThreads = newScheduledThreadPool(getThreadPoolSize(), "AsyncReader");
+            }
+            return asyncReaderThreads;
+        }
     }
 
     private int getThreadPoolSize() {
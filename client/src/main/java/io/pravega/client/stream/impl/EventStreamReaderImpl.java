@@ -37,8 +37,9 @@ import io.pravega.client.stream.TruncatedDataException;
 import io.pravega.client.stream.impl.SegmentWithRange.Range;
 import io.pravega.common.Exceptions;
 import io.pravega.common.Timer;
-import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.common.concurrent.Futures;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -46,8 +47,11 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.concurrent.GuardedBy;
@@ -83,15 +87,37 @@ public class EventStreamReaderImpl<Type> implements EventStreamReader<Type> {
     private Sequence lastRead;
     @GuardedBy("readers")
     private String atCheckpoint;
+    /**
+     * An event (or checkpoint) that was read on behalf of {@link #readNextEventAsync(long)}, but whose future had been
+     * cancelled by then. It is returned by the next read, so that it is not skipped.
+     */
+    @GuardedBy("readers")
+    private EventRead<Type> unclaimedRead;
     private final ReaderGroupStateManager groupState;
     private final Supplier<Long> clock;
     private final Controller controller;
-    private final Semaphore segmentsWithData;
+    private final SegmentsWithData segmentsWithData;
+    private final Supplier<ScheduledExecutorService> asyncReadExecutor;
 
+    @VisibleForTesting
     EventStreamReaderImpl(SegmentInputStreamFactory inputStreamFactory,
             SegmentMetadataClientFactory metadataClientFactory, Serializer<Type> deserializer,
             ReaderGroupStateManager groupState, Orderer orderer, Supplier<Long> clock, ReaderConfig config, 
             ImmutableMap<Stream, WatermarkReaderImpl> waterMarkReaders, Controller controller) {
+        this(inputStreamFactory, metadataClientFactory, deserializer, groupState, orderer, clock, config, waterMarkReaders,
+                controller, null);
+    }
+
+    /**
+     * Creates a new instance of the EventStreamReaderImpl class. The executor provided by asyncReadExecutor is used to
+     * serve {@link #readNextEventAsync(long)}, and it is only requested once the first such read is made; if
+     * asyncReadExecutor is null, asynchronous reads are not supported.
+     */
+    EventStreamReaderImpl(SegmentInputStreamFactory inputStreamFactory,
+            SegmentMetadataClientFactory metadataClientFactory, Serializer<Type> deserializer,
+            ReaderGroupStateManager groupState, Orderer orderer, Supplier<Long> clock, ReaderConfig config,
+            ImmutableMap<Stream, WatermarkReaderImpl> waterMarkReaders, Controller controller,
+            Supplier<ScheduledExecutorService> asyncReadExecutor) {
         this.deserializer = deserializer;
         this.inputStreamFactory = inputStreamFactory;
         this.metadataClientFactory = metadataClientFactory;
@@ -102,7 +128,8 @@ public class EventStreamReaderImpl<Type> implements EventStreamReader<Type> {
         this.waterMarkReaders = waterMarkReaders;
         this.closed = false;
         this.controller = controller;
-        this.segmentsWithData = new Semaphore(0);
+        this.segmentsWithData = new SegmentsWithData();
+        this.asyncReadExecutor = asyncReadExecutor;
     }
 
     @Override
@@ -110,6 +137,11 @@ public class EventStreamReaderImpl<Type> implements EventStreamReader<Type> {
         synchronized (readers) {
             Preconditions.checkState(!closed, "Reader is closed");
             try {
+                if (unclaimedRead != null) {
+                    EventRead<Type> read = unclaimedRead;
+                    unclaimedRead = null;
+                    return read;
+                }
                 return readNextEventInternal(timeoutMillis);
             } catch (ReaderNotInReaderGroupException e) {
                 close();
@@ -118,11 +150,60 @@ public class EventStreamReaderImpl<Type> implements EventStreamReader<Type> {
         }
     }
     
+    @Override
+    public CompletableFuture<EventRead<Type>> readNextEventAsync(long timeoutMillis) {
+        Preconditions.checkState(asyncReadExecutor != null, "Reader does not support asynchronous reads");
+        ScheduledExecutorService executor = asyncReadExecutor.get();
+        CompletableFuture<EventRead<Type>> result = new CompletableFuture<>();
+        Timer timer = new Timer();
+        executor.execute(() -> tryReadNextEvent(timeoutMillis, timer, result, executor));
+        return result;
+    }
+
+    /**
+     * Completes the given future with the next event if one can be read without blocking. Otherwise this is retried,
+     * without holding on to a thread, once a segment has more data or {@link #BASE_READER_WAITING_TIME_MS} has elapsed
+     * (so that segments are acquired and checkpoints handled even if no data arrives).
+     *
+     * If the given future is cancelled after an event has been read, the event is kept for the next read.
+     */
+    private void tryReadNextEvent(long timeoutMillis, Timer timer, CompletableFuture<EventRead<Type>> result,
+                                  ScheduledExecutorService executor) {
+        if (result.isDone()) {
+            // Cancelled by the caller.
+            return;
+        }
+        long remainingMillis = Math.max(0, timeoutMillis - timer.getElapsedMillis());
+        CompletableFuture<Void> wakeUp = Futures.delayedFuture(Duration.ofMillis(Math.min(remainingMillis, BASE_READER_WAITING_TIME_MS)),
+                                                               executor);
+        // Registered before reading, so that data arriving while the read is in progress is not missed.
+        segmentsWithData.wakeUpOnRelease(wakeUp);
+        try {
+            EventRead<Type> read = readNextEvent(0);
+            if (read.getEvent() != null || read.isCheckpoint() || remainingMillis == 0) {
+                wakeUp.complete(null);
+                if (!result.complete(read) && (read.getEvent() != null || read.isCheckpoint())) {
+                    // Cancelled by the caller while reading.
+                    synchronized (readers) {
+                        unclaimedRead = read;
+                    }
+                }
+                return;
+            }
+        } catch (Exception e) {
+            wakeUp.complete(null);
+            result.completeExceptionally(e);
+            return;
+        }
+        wakeUp.thenRunAsync(() -> tryReadNextEvent(timeoutMillis, timer, result, executor), executor);
+    }
+
     private EventRead<Type> readNextEventInternal(long timeoutMillis) throws ReaderNotInReaderGroupException, TruncatedDataException {
         long firstByteTimeoutMillis = Math.min(timeoutMillis, BASE_READER_WAITING_TIME_MS);
         Timer timer = new Timer();
         Segment segment = null;
         long offset = -1;
+        int length = 0;
         ByteBuffer buffer;
         do { 
             String checkpoint = updateGroupStateIfNeeded();
@@ -139,6 +220,8 @@ public class EventStreamReaderImpl<Type> implements EventStreamReader<Type> {
                 offset = segmentReader.getOffset();
                 try {
                     buffer = segmentReader.read(firstByteTimeoutMillis);
+                    // Events may be stored compressed, so their length cannot be inferred from the returned buffer.
+                    length = (int) (segmentReader.getOffset() - offset);
                 } catch (EndOfSegmentException e) {
                     boolean isSegmentSealed = e.getErrorType().equals(END_OF_SEGMENT_REACHED);
                     handleEndOfSegment(segmentReader, isSegmentSealed);
@@ -155,7 +238,6 @@ public class EventStreamReaderImpl<Type> implements EventStreamReader<Type> {
             return createEmptyEvent(null);
         } 
         lastRead = Sequence.create(segment.getSegmentId(), offset);
-        int length = buffer.remaining() + WireCommands.TYPE_PLUS_LENGTH_SIZE;
         return new EventReadImpl<>(deserializer.deserialize(buffer), getPosition(),
                                    new EventPointerImpl(segment, offset, length), null);
     }
@@ -393,5 +475,33 @@ public class EventStreamReaderImpl<Type> implements EventStreamReader<Type> {
             return tracker.getTimeWindow();
         }
     }
-    
+
+    /**
+     * Counts the segments which have data available to be read. In addition, it allows asynchronous reads to be woken up
+     * when more data arrives.
+     */
+    private static final class SegmentsWithData extends Semaphore {
+        private static final long serialVersionUID = 1L;
+        private final transient AtomicReference<CompletableFuture<Void>> wakeUp = new AtomicReference<>();
+
+        SegmentsWithData() {
+            super(0);
+        }
+
+        @Override
+        public void release() {
+            super.release();
+            CompletableFuture<Void> toComplete = wakeUp.getAndSet(null);
+            if (toComplete != null) {
+                toComplete.complete(null);
+            }
+        }
+
+        /**
+         * Completes the given future the next time a permit is released.
+         */
+        void wakeUpOnRelease(CompletableFuture<Void> future) {
+            wakeUp.set(future);
+        }
+    }
 }
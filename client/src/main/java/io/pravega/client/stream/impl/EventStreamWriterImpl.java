@@ -110,23 +110,43 @@ public class EventStreamWriterImpl<Type> implements EventStreamWriter<Type> {
         return writeEventInternal(routingKey, event);
     }
     
+    @Override
+    public CompletableFuture<Void> writeEvents(String routingKey, List<Type> events) {
+        Preconditions.checkNotNull(routingKey);
+        Preconditions.checkNotNull(events);
+        Preconditions.checkArgument(!events.isEmpty(), "Events cannot be empty.");
+        Exceptions.checkNotClosed(closed.get(), this);
+        // Serialize, frame and compress the whole batch before acquiring the locks, so that they are held only for routing.
+        List<ByteBuffer> data = events.stream().map(event -> serializer.serialize(Preconditions.checkNotNull(event)))
+                                      .collect(Collectors.toList());
+        CompletableFuture<Void> ackFuture = new CompletableFuture<Void>();
+        write(PendingEvent.withHeader(routingKey, data, ackFuture).compress(config.getCompressionCodec()));
+        return ackFuture;
+    }
+
     private CompletableFuture<Void> writeEventInternal(String routingKey, Type event) {
         Preconditions.checkNotNull(event);
         Exceptions.checkNotClosed(closed.get(), this);
         ByteBuffer data = serializer.serialize(event);
         CompletableFuture<Void> ackFuture = new CompletableFuture<Void>();
+        // Compress before acquiring the locks.
+        write(PendingEvent.withHeader(routingKey, data, ackFuture).compress(config.getCompressionCodec()));
+        return ackFuture;
+    }
+
+    private void write(PendingEvent event) {
+        String routingKey = event.getRoutingKey();
         synchronized (writeFlushLock) {
-            synchronized (writeSealLock) {                
+            synchronized (writeSealLock) {
                 SegmentOutputStream segmentWriter = selector.getSegmentOutputStreamForKey(routingKey);
                 while (segmentWriter == null) {
                     log.info("Don't have a writer for segment: {}", selector.getSegmentForEvent(routingKey));
                     handleMissingLog();
                     segmentWriter = selector.getSegmentOutputStreamForKey(routingKey);
                 }
-                segmentWriter.write(PendingEvent.withHeader(routingKey, data, ackFuture));
+                segmentWriter.write(event);
             }
         }
-        return ackFuture;
     }
     
     @GuardedBy("writeSealLock")
@@ -13,8 +13,10 @@ import com.google.common.base.Preconditions;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.pravega.client.stream.Serializer;
+import io.pravega.shared.protocol.netty.EventCodec;
 import io.pravega.shared.protocol.netty.WireCommands.Event;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import lombok.Data;
 
@@ -38,26 +40,97 @@ public class PendingEvent {
      * The data to be written. Note this is limited to {@value #MAX_WRITE_SIZE} bytes.
      */
     private final ByteBuf data;
+    /**
+     * The number of events contained in the data.
+     */
+    private final int eventCount;
     /**
      * Callback to be invoked when the data is written.
      */
     private final CompletableFuture<Void> ackFuture;
+    /**
+     * The codec that {@link #compressedData} was compressed with, or {@link EventCodec#NONE} if it was not.
+     */
+    private final EventCodec compressionCodec;
+    /**
+     * The data, compressed with {@link #compressionCodec}, or null if not compressed.
+     */
+    private final ByteBuf compressedData;
        
-    private PendingEvent(String routingKey, ByteBuf data, CompletableFuture<Void> ackFuture) {
+    private PendingEvent(String routingKey, ByteBuf data, int eventCount, CompletableFuture<Void> ackFuture) {
+        this(routingKey, data, eventCount, ackFuture, EventCodec.NONE, null);
+    }
+
+    private PendingEvent(String routingKey, ByteBuf data, int eventCount, CompletableFuture<Void> ackFuture,
+                         EventCodec compressionCodec, ByteBuf compressedData) {
         Preconditions.checkNotNull(data);
         Preconditions.checkArgument(data.readableBytes() <= MAX_WRITE_SIZE, "Write size too large: %s", data.readableBytes());
         this.routingKey = routingKey;
         this.data = data;
+        this.eventCount = eventCount;
         this.ackFuture = ackFuture;
+        this.compressionCodec = compressionCodec;
+        this.compressedData = compressedData;
+    }
+
+    /**
+     * Creates a PendingEvent with the same contents as this one, which also holds the data compressed with the given
+     * codec. This is meant to be invoked before handing the event to a writer, so that the compression does not happen
+     * while holding any of the writer's locks.
+     *
+     * @param codec The codec to compress the data with.
+     * @return A new PendingEvent, or this one if the codec is {@link EventCodec#NONE}.
+     */
+    public PendingEvent compress(EventCodec codec) {
+        if (codec == EventCodec.NONE) {
+            return this;
+        }
+        return new PendingEvent(routingKey, data, eventCount, ackFuture, codec, codec.compressEvents(data));
+    }
+
+    /**
+     * Gets the data to send over a connection which negotiated the given codec. The data is uncompressed if the codec
+     * is {@link EventCodec#NONE}, and compressed otherwise (using the data cached by {@link #compress}, if it matches).
+     *
+     * @param codec The codec negotiated for the connection.
+     * @return The data to send.
+     */
+    public ByteBuf getData(EventCodec codec) {
+        if (codec == EventCodec.NONE) {
+            return data;
+        } else if (codec == compressionCodec) {
+            return compressedData.slice();
+        } else {
+            return codec.compressEvents(data);
+        }
     }
     
     public static PendingEvent withHeader(String routingKey, ByteBuffer data, CompletableFuture<Void> ackFuture) {
         ByteBuf eventBuf = new Event(Unpooled.wrappedBuffer(data)).getAsByteBuf();
-        return new PendingEvent(routingKey, eventBuf, ackFuture);
+        return new PendingEvent(routingKey, eventBuf, 1, ackFuture);
         
     }
+
+    /**
+     * Creates a PendingEvent for a batch of events, which will be written atomically. The events are framed
+     * individually and wrapped (without copying) into a single buffer.
+     *
+     * @param routingKey The routing key for all the events in the batch.
+     * @param batch      The serialized events. The combined size of the framed events is limited to
+     *                   {@value #MAX_WRITE_SIZE} bytes.
+     * @param ackFuture  Callback to be invoked when the whole batch is written.
+     * @return A new PendingEvent.
+     */
+    public static PendingEvent withHeader(String routingKey, List<ByteBuffer> batch, CompletableFuture<Void> ackFuture) {
+        Preconditions.checkArgument(!batch.isEmpty(), "Batch cannot be empty.");
+        ByteBuf[] eventBufs = new ByteBuf[batch.size()];
+        for (int i = 0; i < eventBufs.length; i++) {
+            eventBufs[i] = new Event(Unpooled.wrappedBuffer(batch.get(i))).getAsByteBuf();
+        }
+        return new PendingEvent(routingKey, Unpooled.wrappedBuffer(eventBufs), eventBufs.length, ackFuture);
+    }
     
     public static PendingEvent withoutHeader(String routingKey, ByteBuffer data, CompletableFuture<Void> ackFuture) {
-        return new PendingEvent(routingKey, Unpooled.wrappedBuffer(data), ackFuture);
+        return new PendingEvent(routingKey, Unpooled.wrappedBuffer(data), 1, ackFuture);
     }
 }
@@ -14,6 +14,7 @@ import io.pravega.client.segment.impl.SegmentSealedException;
 import io.pravega.client.stream.Serializer;
 import io.pravega.client.stream.TxnFailedException;
 import io.pravega.common.concurrent.Futures;
+import io.pravega.shared.protocol.netty.EventCodec;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -25,6 +26,7 @@ import lombok.val;
 
 final class SegmentTransactionImpl<Type> implements SegmentTransaction<Type> {
     private final Serializer<Type> serializer;
+    private final EventCodec compressionCodec;
     private final UUID txId;
     private final Object lock = new Object();
     @GuardedBy("lock")
@@ -34,9 +36,14 @@ final class SegmentTransactionImpl<Type> implements SegmentTransaction<Type> {
     private final AtomicReference<Throwable> txnFailedCause = new AtomicReference<>();
 
     SegmentTransactionImpl(UUID txId, SegmentOutputStream out, Serializer<Type> serializer) {
+        this(txId, out, serializer, EventCodec.NONE);
+    }
+
+    SegmentTransactionImpl(UUID txId, SegmentOutputStream out, Serializer<Type> serializer, EventCodec compressionCodec) {
         this.txId = txId;
         this.out = out;
         this.serializer = serializer;
+        this.compressionCodec = compressionCodec;
     }
 
     @Override
@@ -44,7 +51,7 @@ final class SegmentTransactionImpl<Type> implements SegmentTransaction<Type> {
         checkFailed();
         ByteBuffer buffer = serializer.serialize(event);
         CompletableFuture<Void> ack = new CompletableFuture<Void>();
-        PendingEvent pendingEvent = PendingEvent.withHeader(null, buffer, ack);
+        PendingEvent pendingEvent = PendingEvent.withHeader(null, buffer, ack).compress(compressionCodec);
         synchronized (lock) {
             out.write(pendingEvent);
             outstanding.addLast(ack);
@@ -190,7 +190,7 @@ public class TransactionalEventStreamWriterImpl<Type> implements TransactionalEv
             }
             SegmentOutputStream out = outputStreamFactory.createOutputStreamForTransaction(s, txnId,
                     config, tokenProvider);
-            SegmentTransactionImpl<Type> impl = new SegmentTransactionImpl<>(txnId, out, serializer);
+            SegmentTransactionImpl<Type> impl = new SegmentTransactionImpl<>(txnId, out, serializer, config.getCompressionCodec());
             transactions.put(s, impl);
         }
         pinger.startPing(txnId);
@@ -214,7 +214,7 @@ public class TransactionalEventStreamWriterImpl<Type> implements TransactionalEv
             }
             SegmentOutputStream out = outputStreamFactory.createOutputStreamForTransaction(s, txId, config,
                     tokenProvider);
-            SegmentTransactionImpl<Type> impl = new SegmentTransactionImpl<>(txId, out, serializer);
+            SegmentTransactionImpl<Type> impl = new SegmentTransactionImpl<>(txId, out, serializer, config.getCompressionCodec());
             transactions.put(s, impl);
         }
         return new TransactionImpl<Type>(writerId, txId, transactions, segments, controller, stream, pinger);
@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.batch.impl;
+
+import io.pravega.client.security.auth.DelegationTokenProviderFactory;
+import io.pravega.client.segment.impl.EndOfSegmentException;
+import io.pravega.client.segment.impl.Segment;
+import io.pravega.client.segment.impl.SegmentInputStream;
+import io.pravega.client.segment.impl.SegmentInputStreamFactory;
+import io.pravega.client.segment.impl.SegmentTruncatedException;
+import io.pravega.client.stream.TruncatedDataException;
+import io.pravega.client.stream.impl.JavaSerializer;
+import io.pravega.shared.protocol.netty.WireCommandType;
+import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.test.common.ThreadPooledTestSuite;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import lombok.Cleanup;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.junit.Test;
+
+import static io.pravega.test.common.AssertExtensions.assertThrows;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ParallelSegmentIteratorTest extends ThreadPooledTestSuite {
+
+    private static final int CHUNK_SIZE = 16;
+    private static final int PARALLELISM = 3;
+    private final JavaSerializer<String> stringSerializer = new JavaSerializer<>();
+    private final Segment segment = new Segment("Scope", "Stream", 1);
+
+    @Test(timeout = 10000)
+    public void testReadInOrder() {
+        List<String> events = new ArrayList<>();
+        List<Long> offsets = new ArrayList<>();
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        for (int i = 0; i < 100; i++) {
+            // Vary the event lengths so that they begin and end at arbitrary positions within chunks.
+            String event = i + "-" + new String(new char[i % 7]).replace('\0', 'x');
+            events.add(event);
+            writeEvent(event, data);
+            offsets.add((long) data.size());
+        }
+
+        SegmentInputStreamFactory factory = createFactory(data.toByteArray(), false);
+        long firstEventLength = offsets.get(0);
+        @Cleanup
+        ParallelSegmentIteratorImpl<String> iter = new ParallelSegmentIteratorImpl<>(factory, segment,
+                DelegationTokenProviderFactory.createWithEmptyToken(), stringSerializer, firstEventLength, data.size(),
+                PARALLELISM, CHUNK_SIZE, executorService());
+        assertEquals(firstEventLength, iter.getStartingOffset());
+        assertEquals(firstEventLength, iter.getOffset());
+        for (int i = 1; i < events.size(); i++) {
+            assertTrue(iter.hasNext());
+            assertEquals(events.get(i), iter.next());
+            assertEquals((long) offsets.get(i), iter.getOffset());
+            assertTrue("Prefetch not bounded.", iter.getPrefetchCount() <= PARALLELISM);
+        }
+
+        assertFalse(iter.hasNext());
+        assertThrows(NoSuchElementException.class, () -> iter.next());
+        assertEquals(data.size(), iter.getOffset());
+        assertEquals(0, iter.getPrefetchCount());
+    }
+
+    @Test(timeout = 10000)
+    public void testTruncated() {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        for (int i = 0; i < 10; i++) {
+            writeEvent(Integer.toString(i), data);
+        }
+
+        SegmentInputStreamFactory factory = createFactory(data.toByteArray(), true);
+        @Cleanup
+        ParallelSegmentIteratorImpl<String> iter = new ParallelSegmentIteratorImpl<>(factory, segment,
+                DelegationTokenProviderFactory.createWithEmptyToken(), stringSerializer, 0, data.size(),
+                PARALLELISM, CHUNK_SIZE, executorService());
+        assertTrue(iter.hasNext());
+        assertThrows(TruncatedDataException.class, () -> iter.next());
+    }
+
+    @Override
+    protected int getThreadPoolSize() {
+        return 2;
+    }
+
+    private void writeEvent(String event, ByteArrayOutputStream data) {
+        ByteBuffer payload = stringSerializer.serialize(event);
+        ByteBuffer header = ByteBuffer.allocate(WireCommands.TYPE_PLUS_LENGTH_SIZE);
+        header.putInt(WireCommandType.EVENT.getCode());
+        header.putInt(payload.remaining());
+        data.write(header.array(), 0, header.capacity());
+        data.write(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining());
+    }
+
+    private SegmentInputStreamFactory createFactory(byte[] data, boolean truncated) {
+        SegmentInputStreamFactory factory = mock(SegmentInputStreamFactory.class);
+        when(factory.createInputStreamForSegment(eq(segment), any(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            ByteArrayInputStream result = new ByteArrayInputStream(data, invocation.getArgument(3));
+            result.setOffset(invocation.getArgument(2));
+            result.setTruncated(truncated);
+            return result;
+        });
+        return factory;
+    }
+
+    /**
+     * A {@link SegmentInputStream} over a byte array, which returns at most a few bytes per read, so that callers have to
+     * handle partial reads.
+     */
+    @RequiredArgsConstructor
+    private class ByteArrayInputStream implements SegmentInputStream {
+        private static final int MAX_READ_LENGTH = 5;
+        private final byte[] data;
+        private final long endOffset;
+        private long offset;
+        @Setter
+        private boolean truncated;
+
+        @Override
+        public Segment getSegmentId() {
+            return segment;
+        }
+
+        @Override
+        public void setOffset(long offset, boolean resendRequest) {
+            this.offset = offset;
+        }
+
+        @Override
+        public long getOffset() {
+            return this.offset;
+        }
+
+        @Override
+        public int read(ByteBuffer toFill, long timeout) throws EndOfSegmentException, SegmentTruncatedException {
+            if (this.truncated) {
+                throw new SegmentTruncatedException();
+            }
+            if (this.offset >= this.endOffset) {
+                throw new EndOfSegmentException(EndOfSegmentException.ErrorType.END_OFFSET_REACHED);
+            }
+            int length = (int) Math.min(Math.min(MAX_READ_LENGTH, toFill.remaining()), this.endOffset - this.offset);
+            toFill.put(this.data, (int) this.offset, length);
+            this.offset += length;
+            return length;
+        }
+
+        @Override
+        public CompletableFuture<?> fillBuffer() {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public int bytesInBuffer() {
+            return (int) (this.endOffset - this.offset);
+        }
+    }
+}
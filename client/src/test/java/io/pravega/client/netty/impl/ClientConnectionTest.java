@@ -26,8 +26,10 @@ import io.pravega.shared.protocol.netty.FailingReplyProcessor;
 import io.pravega.shared.protocol.netty.WireCommands;
 import io.pravega.shared.protocol.netty.WireCommands.AuthTokenCheckFailed;
 import io.pravega.shared.protocol.netty.WireCommands.Event;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Queue;
 import java.util.UUID;
 import java.util.Vector;
@@ -38,6 +40,7 @@ import org.junit.Test;
 import static io.pravega.shared.protocol.netty.WireCommands.MAX_WIRECOMMAND_SIZE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class ClientConnectionTest {
@@ -131,4 +134,43 @@ public class ClientConnectionTest {
         assertEquals(1, uniqueThreads.size());
     }
 
+    @Test
+    public void testReadBatching() throws Exception {
+        ReplyProcessor processor = new ReplyProcessor();
+        FlowHandler flowHandler = new FlowHandler("testConnection");
+        @Cleanup
+        ClientConnection connection1 = flowHandler.createFlow(new Flow(10, 0), processor);
+        @Cleanup
+        ClientConnection connection2 = flowHandler.createFlow(new Flow(11, 0), processor);
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel(flowHandler);
+        assertTrue(embeddedChannel.readOutbound() instanceof WireCommands.Hello);
+
+        WireCommands.ReadSegment read1 = new WireCommands.ReadSegment("segment1", 0, 10, "", new Flow(10, 1).asLong());
+        WireCommands.ReadSegment read2 = new WireCommands.ReadSegment("segment2", 5, 10, "", new Flow(11, 1).asLong());
+        List<ConnectionFailedException> results = new Vector<>();
+
+        // Until the server announces its version, reads are sent as they are.
+        connection1.sendAsync(read1, results::add);
+        embeddedChannel.runPendingTasks();
+        assertEquals(read1, embeddedChannel.readOutbound());
+
+        // Reads issued concurrently by multiple flows are sent together.
+        embeddedChannel.writeInbound(new WireCommands.Hello(WireCommands.WIRE_VERSION, WireCommands.OLDEST_COMPATIBLE_VERSION));
+        connection1.sendAsync(read1, results::add);
+        connection2.sendAsync(read2, results::add);
+        assertNull(embeddedChannel.readOutbound());
+        embeddedChannel.runPendingTasks();
+        assertEquals(new WireCommands.ReadSegments(read1.getRequestId(), Arrays.asList(read1, read2)), embeddedChannel.readOutbound());
+
+        // A lone read is not wrapped.
+        connection2.sendAsync(read2, results::add);
+        embeddedChannel.runPendingTasks();
+        assertEquals(read2, embeddedChannel.readOutbound());
+        assertNull(embeddedChannel.readOutbound());
+
+        assertEquals(4, results.size());
+        assertTrue(results.stream().allMatch(Objects::isNull));
+        assertFalse(processor.falure.get());
+    }
+
 }
@@ -259,6 +259,16 @@ public class FlowHandlerTest {
         order.verify(processor, times(1)).hello(helloCmd);
     }
 
+    @Test
+    public void testHelloDeliveredToNewFlows() throws Exception {
+        flowHandler.channelActive(ctx);
+        WireCommands.Hello helloCmd = new WireCommands.Hello(8, 4);
+        flowHandler.channelRead(ctx, helloCmd);
+        @Cleanup
+        ClientConnection clientConnection = flowHandler.createFlow(flow, processor);
+        verify(processor).hello(helloCmd);
+    }
+
     @Test
     public void testChannelReadDataAppended() throws Exception {
         @Cleanup
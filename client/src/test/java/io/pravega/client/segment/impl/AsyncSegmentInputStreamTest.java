@@ -347,4 +347,51 @@ public class AsyncSegmentInputStreamTest {
         verifyNoMoreInteractions(c);
     }
 
+    @Test(timeout = 10000)
+    public void testSubscription() throws ConnectionFailedException {
+        Segment segment = new Segment("scope", "testSubscription", 0);
+        String name = segment.getScopedName();
+        PravegaNodeUri endpoint = new PravegaNodeUri("localhost", SERVICE_PORT);
+        MockConnectionFactoryImpl connectionFactory = new MockConnectionFactoryImpl();
+        MockController controller = new MockController(endpoint.getEndpoint(), endpoint.getPort(), connectionFactory, true);
+        Semaphore dataAvailable = new Semaphore(0);
+        @Cleanup
+        AsyncSegmentInputStreamImpl in = new AsyncSegmentInputStreamImpl(controller, connectionFactory, segment,
+                DelegationTokenProviderFactory.createWithEmptyToken(), dataAvailable);
+        ClientConnection c = mock(ClientConnection.class);
+        InOrder inOrder = Mockito.inOrder(c);
+        connectionFactory.provideConnection(endpoint, c);
+        in.getConnection().join();
+        connectionFactory.getProcessor(endpoint).hello(new WireCommands.Hello(WireCommands.WIRE_VERSION, WireCommands.OLDEST_COMPATIBLE_VERSION));
+
+        long requestId = in.getRequestId();
+        SegmentRead tailRead = new SegmentRead(name, 0, true, false, ByteBuffer.wrap(new byte[]{1, 2, 3, 4}), requestId);
+        SegmentRead push1 = new SegmentRead(name, 4, false, false, ByteBuffer.wrap(new byte[]{5, 6}), requestId);
+        SegmentRead push2 = new SegmentRead(name, 6, false, false, ByteBuffer.wrap(new byte[]{7, 8}), requestId);
+        Mockito.doAnswer(invocation -> {
+            connectionFactory.getProcessor(endpoint).process(tailRead);
+            return null;
+        }).when(c).sendAsync(any(ReadSegment.class), any(ClientConnection.CompletedCallback.class));
+        Mockito.doAnswer(invocation -> {
+            connectionFactory.getProcessor(endpoint).process(push1);
+            connectionFactory.getProcessor(endpoint).process(push2);
+            return null;
+        }).when(c).sendAsync(any(WireCommands.SubscribeSegment.class), any(ClientConnection.CompletedCallback.class));
+
+        // Once a read reaches the tail, the next one subscribes to the segment.
+        assertEquals(tailRead, in.read(0, 100).join());
+        assertEquals(push1, in.read(4, 100).join());
+        // Data pushed by the server is served without sending any request.
+        assertEquals(push2, in.read(6, 100).join());
+        inOrder.verify(c).sendAsync(eq(new ReadSegment(name, 0, 100, "", requestId)), any(ClientConnection.CompletedCallback.class));
+        inOrder.verify(c).sendAsync(eq(new WireCommands.SubscribeSegment(requestId, name, 4, AsyncSegmentInputStreamImpl.SUBSCRIPTION_WINDOW_SIZE, "")),
+                                    any(ClientConnection.CompletedCallback.class));
+
+        // Repositioning the reader ends the subscription.
+        assertEquals(tailRead, in.read(0, 100).join());
+        inOrder.verify(c).sendAsync(eq(new WireCommands.UnsubscribeSegment(requestId, name)), any(ClientConnection.CompletedCallback.class));
+        inOrder.verify(c).sendAsync(eq(new ReadSegment(name, 0, 100, "", requestId)), any(ClientConnection.CompletedCallback.class));
+        verifyNoMoreInteractions(c);
+    }
+
 }
@@ -13,12 +13,14 @@ import com.google.common.collect.ImmutableList;
 import io.pravega.client.stream.impl.Orderer;
 import io.pravega.common.ObjectClosedException;
 import io.pravega.common.util.ByteBufferUtils;
+import io.pravega.shared.metrics.MetricNotifier;
 import io.pravega.shared.protocol.netty.ConnectionFailedException;
 import io.pravega.shared.protocol.netty.WireCommandType;
 import io.pravega.shared.protocol.netty.WireCommands;
 import io.pravega.shared.protocol.netty.WireCommands.SegmentRead;
 import io.pravega.test.common.AssertExtensions;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Vector;
 import java.util.concurrent.CompletableFuture;
@@ -34,6 +36,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -527,4 +531,59 @@ public class SegmentInputStreamTest {
         verify(mockAsyncInputStream, times(1)).read(0L, 100);
     }
 
+    @Test
+    public void testAdaptiveReadAhead() throws EndOfSegmentException, SegmentTruncatedException {
+        final int minSize = SegmentInputStreamImpl.MIN_READ_AHEAD_SIZE;
+        ReadAheadBudget budget = new ReadAheadBudget(3 * minSize, MetricNotifier.NO_OP_METRIC_NOTIFIER);
+        List<CompletableFuture<SegmentRead>> requests = new ArrayList<>();
+        AsyncSegmentInputStream mockAsyncInputStream = mock(AsyncSegmentInputStream.class);
+        when(mockAsyncInputStream.read(anyLong(), anyInt())).thenAnswer(invocation -> {
+            CompletableFuture<SegmentRead> request = new CompletableFuture<>();
+            requests.add(request);
+            return request;
+        });
+
+        SegmentInputStreamImpl stream = new SegmentInputStreamImpl(mockAsyncInputStream, 0, Long.MAX_VALUE,
+                SegmentInputStreamImpl.MAX_BUFFER_SIZE, budget);
+        assertEquals(minSize, budget.getUsedBytes());
+        verify(mockAsyncInputStream).read(0L, minSize);
+
+        // The first miss does not follow any reads, so the buffer is not grown.
+        ByteBuffer toFill = ByteBuffer.allocate(2 * minSize);
+        assertEquals(0, stream.read(toFill, 0));
+        requests.get(0).complete(new SegmentRead(segment.getScopedName(), 0, false, false, ByteBuffer.allocate(minSize), requestId));
+        assertEquals(minSize, stream.read(toFill, 0));
+        assertEquals(1, budget.getHitCount());
+        assertEquals(1, budget.getMissCount());
+        verify(mockAsyncInputStream).read(minSize, minSize);
+
+        // The buffer has been consumed faster than it could be refilled, so it is doubled, and so is the next request.
+        toFill.clear();
+        assertEquals(0, stream.read(toFill, 0));
+        assertEquals(2 * minSize, budget.getUsedBytes());
+        requests.get(1).complete(new SegmentRead(segment.getScopedName(), minSize, false, false, ByteBuffer.allocate(minSize / 2), requestId));
+        assertEquals(minSize / 2, stream.read(toFill, 0));
+        verify(mockAsyncInputStream).read(minSize + minSize / 2, 2 * minSize - minSize / 2);
+        toFill.clear();
+        requests.get(2).complete(new SegmentRead(segment.getScopedName(), minSize + minSize / 2, false, false,
+                ByteBuffer.allocate(2 * minSize - minSize / 2), requestId));
+        assertEquals(2 * minSize - minSize / 2, stream.read(toFill, 0));
+        assertEquals(3, budget.getHitCount());
+        assertEquals(2, budget.getMissCount());
+
+        // The buffer would be doubled again, but that would exceed the budget.
+        toFill.clear();
+        assertEquals(0, stream.read(toFill, 0));
+        assertEquals(2 * minSize, budget.getUsedBytes());
+
+        // Nothing has been consumed since the last miss, so the reader is caught up and the buffer is shrunk.
+        assertEquals(0, stream.read(toFill, 0));
+        assertEquals(minSize, budget.getUsedBytes());
+        assertEquals(4, budget.getMissCount());
+
+        stream.close();
+        stream.close();
+        assertEquals(0, budget.getUsedBytes());
+    }
+
 }
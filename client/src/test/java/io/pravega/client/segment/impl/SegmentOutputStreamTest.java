@@ -10,6 +10,7 @@
 package io.pravega.client.segment.impl;
 
 import com.google.common.collect.ImmutableList;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.util.ResourceLeakDetector;
 import io.netty.util.ResourceLeakDetector.Level;
@@ -28,6 +29,7 @@ import io.pravega.common.util.Retry.RetryWithBackoff;
 import io.pravega.common.util.ReusableLatch;
 import io.pravega.shared.protocol.netty.Append;
 import io.pravega.shared.protocol.netty.ConnectionFailedException;
+import io.pravega.shared.protocol.netty.EventCodec;
 import io.pravega.shared.protocol.netty.PravegaNodeUri;
 import io.pravega.shared.protocol.netty.WireCommands;
 import io.pravega.shared.protocol.netty.WireCommands.AppendSetup;
@@ -117,6 +119,43 @@ public class SegmentOutputStreamTest extends ThreadPooledTestSuite {
         verifyNoMoreInteractions(connection);
     }
 
+    @Test(timeout = 10000)
+    public void testCompression() throws SegmentSealedException, ConnectionFailedException {
+        PravegaNodeUri uri = new PravegaNodeUri("endpoint", SERVICE_PORT);
+        MockConnectionFactoryImpl cf = new MockConnectionFactoryImpl();
+        cf.setExecutor(executorService());
+        MockController controller = new MockController(uri.getEndpoint(), uri.getPort(), cf, true);
+        ClientConnection connection = mock(ClientConnection.class);
+        cf.provideConnection(uri, connection);
+        ByteBuffer data = ByteBuffer.wrap(new byte[1000]);
+
+        // The server accepts the codec; events are sent compressed.
+        UUID cid = UUID.randomUUID();
+        SegmentOutputStreamImpl output = new SegmentOutputStreamImpl(SEGMENT, true, controller, cf, cid, segmentSealedCallback,
+                RETRY_SCHEDULE, DelegationTokenProviderFactory.createWithEmptyToken(), EventCodec.DEFLATE);
+        output.reconnect();
+        verify(connection).send(new SetupAppend(output.getRequestId(), cid, SEGMENT, "", EventCodec.DEFLATE));
+        cf.getProcessor(uri).appendSetup(new AppendSetup(output.getRequestId(), SEGMENT, cid, 0, EventCodec.DEFLATE));
+        // Writers compress events before handing them over; the compressed data should be sent as is.
+        PendingEvent event = PendingEvent.withHeader(null, data, new CompletableFuture<>()).compress(EventCodec.DEFLATE);
+        output.write(event);
+        ByteBuf compressed = EventCodec.DEFLATE.compressEvents(event.getData());
+        assertTrue(compressed.readableBytes() < event.getData().readableBytes());
+        verify(connection).send(new Append(SEGMENT, cid, 1, 1, compressed, null, output.getRequestId()));
+
+        // The server does not know about compression; events are sent uncompressed.
+        UUID cid2 = UUID.randomUUID();
+        SegmentOutputStreamImpl output2 = new SegmentOutputStreamImpl(SEGMENT, true, controller, cf, cid2, segmentSealedCallback,
+                RETRY_SCHEDULE, DelegationTokenProviderFactory.createWithEmptyToken(), EventCodec.DEFLATE);
+        output2.reconnect();
+        verify(connection).send(new SetupAppend(output2.getRequestId(), cid2, SEGMENT, "", EventCodec.DEFLATE));
+        cf.getProcessor(uri).appendSetup(new AppendSetup(output2.getRequestId(), SEGMENT, cid2, 0));
+        PendingEvent event2 = PendingEvent.withHeader(null, data, new CompletableFuture<>()).compress(EventCodec.DEFLATE);
+        output2.write(event2);
+        verify(connection).send(new Append(SEGMENT, cid2, 1, 1, event2.getData(), null, output2.getRequestId()));
+        verifyNoMoreInteractions(connection);
+    }
+
     @Test(timeout = 10000)
     public void testReconnectWorksWithTokenTaskInInternalExecutor() {
         UUID cid = UUID.randomUUID();
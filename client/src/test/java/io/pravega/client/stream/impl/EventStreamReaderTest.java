@@ -25,8 +25,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import io.pravega.client.security.auth.DelegationTokenProviderFactory;
@@ -72,6 +76,7 @@ import io.pravega.client.stream.mock.MockConnectionFactoryImpl;
 import io.pravega.client.stream.mock.MockController;
 import io.pravega.client.stream.mock.MockSegmentStreamFactory;
 import io.pravega.client.watermark.WatermarkSerializer;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
 import io.pravega.shared.NameUtils;
 import io.pravega.shared.protocol.netty.PravegaNodeUri;
 import io.pravega.shared.watermarks.Watermark;
@@ -115,6 +120,83 @@ public class EventStreamReaderTest {
         reader.close();
     }
 
+    @Test(timeout = 10000)
+    public void testReadNextEventAsync() throws Exception {
+        AtomicLong clock = new AtomicLong();
+        MockSegmentStreamFactory segmentStreamFactory = new MockSegmentStreamFactory();
+        ReaderGroupStateManager groupState = Mockito.mock(ReaderGroupStateManager.class);
+        Segment segment = Segment.fromScopedName("Foo/Bar/0");
+        Mockito.when(groupState.acquireNewSegmentsIfNeeded(eq(0L), any()))
+               .thenReturn(ImmutableMap.of(new SegmentWithRange(segment, 0, 1), 0L))
+               .thenReturn(Collections.emptyMap());
+        Mockito.when(groupState.getEndOffsetForSegment(any(Segment.class))).thenReturn(Long.MAX_VALUE);
+
+        // A segment which only has data once the test says so.
+        AtomicBoolean ready = new AtomicBoolean(false);
+        AtomicReference<Semaphore> hasData = new AtomicReference<>();
+        AtomicReference<CompletableFuture<?>> cancelOnRead = new AtomicReference<>();
+        EventSegmentReader segmentReader = Mockito.mock(EventSegmentReader.class);
+        Mockito.when(segmentReader.getSegmentId()).thenReturn(segment);
+        Mockito.when(segmentReader.isSegmentReady()).thenAnswer(i -> ready.get());
+        Mockito.when(segmentReader.read(anyLong())).thenAnswer(i -> {
+            if (!ready.get()) {
+                return null;
+            }
+            CompletableFuture<?> toCancel = cancelOnRead.getAndSet(null);
+            if (toCancel != null) {
+                // Simulates the caller cancelling the read while the event is being read; this is the only event.
+                toCancel.cancel(true);
+                ready.set(false);
+            }
+            return ByteBuffer.wrap(new byte[] {1, 2, 3});
+        });
+        SegmentInputStreamFactory inputStreamFactory = Mockito.mock(SegmentInputStreamFactory.class);
+        Mockito.when(inputStreamFactory.createEventReaderForSegment(any(Segment.class), any(Semaphore.class), anyLong()))
+               .thenAnswer(i -> {
+                   hasData.set(i.getArgument(1));
+                   return segmentReader;
+               });
+
+        @Cleanup("shutdownNow")
+        ScheduledExecutorService executor = ExecutorServiceHelpers.newScheduledThreadPool(1, "testReadNextEventAsync");
+        @Cleanup
+        EventStreamReaderImpl<byte[]> reader = new EventStreamReaderImpl<>(inputStreamFactory, segmentStreamFactory,
+                new ByteArraySerializer(), groupState, new Orderer(), clock::get, ReaderConfig.builder().build(),
+                createWatermarkReaders(), Mockito.mock(Controller.class), () -> executor);
+
+        // No data is available, so the read remains pending (without blocking any thread) until some arrives.
+        CompletableFuture<EventRead<byte[]>> read = reader.readNextEventAsync(Long.MAX_VALUE);
+        AssertExtensions.assertEventuallyEquals(true, () -> hasData.get() != null, 5000);
+        assertFalse(read.isDone());
+        ready.set(true);
+        hasData.get().release();
+        assertEquals(ByteBuffer.wrap(new byte[] {1, 2, 3}), ByteBuffer.wrap(read.get(5, TimeUnit.SECONDS).getEvent()));
+
+        // If nothing arrives before the timeout, an empty event is returned.
+        ready.set(false);
+        assertNull(reader.readNextEventAsync(10).get(5, TimeUnit.SECONDS).getEvent());
+
+        // An event that was read for a cancelled read is not lost; it is returned by the next read.
+        read = reader.readNextEventAsync(Long.MAX_VALUE);
+        cancelOnRead.set(read);
+        ready.set(true);
+        hasData.get().release();
+        AssertExtensions.assertEventuallyEquals(true, read::isCancelled, 5000);
+        AtomicReference<EventRead<byte[]>> unclaimed = new AtomicReference<>();
+        AssertExtensions.assertEventuallyEquals(true, () -> {
+            unclaimed.set(reader.readNextEvent(0));
+            return unclaimed.get().getEvent() != null;
+        }, 5000);
+        assertEquals(ByteBuffer.wrap(new byte[] {1, 2, 3}), ByteBuffer.wrap(unclaimed.get().getEvent()));
+
+        // Readers which have not been given an executor do not support asynchronous reads.
+        @Cleanup
+        EventStreamReaderImpl<byte[]> syncReader = new EventStreamReaderImpl<>(inputStreamFactory, segmentStreamFactory,
+                new ByteArraySerializer(), groupState, new Orderer(), clock::get, ReaderConfig.builder().build(),
+                createWatermarkReaders(), Mockito.mock(Controller.class));
+        assertThrows(IllegalStateException.class, () -> syncReader.readNextEventAsync(0));
+    }
+
     @SuppressWarnings("unchecked")
     @Test(timeout = 10000)
     public void testReadWithEndOfSegmentException() throws Exception {
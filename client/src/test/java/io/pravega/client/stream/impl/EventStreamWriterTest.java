@@ -10,6 +10,7 @@
 package io.pravega.client.stream.impl;
 
 import com.google.common.collect.ImmutableMap;
+import io.netty.buffer.ByteBuf;
 import io.netty.util.ResourceLeakDetector;
 import io.netty.util.ResourceLeakDetector.Level;
 import io.pravega.client.segment.impl.EndOfSegmentException;
@@ -29,6 +30,7 @@ import io.pravega.test.common.CollectingExecutor;
 import io.pravega.test.common.ThreadPooledTestSuite;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -139,6 +141,42 @@ public class EventStreamWriterTest extends ThreadPooledTestSuite {
         }
     }
 
+    @Test
+    public void testWriteEvents() {
+        String scope = "scope";
+        String streamName = "stream";
+        StreamImpl stream = new StreamImpl(scope, streamName);
+        Segment segment = new Segment(scope, streamName, 0);
+        EventWriterConfig config = EventWriterConfig.builder().build();
+        SegmentOutputStreamFactory streamFactory = Mockito.mock(SegmentOutputStreamFactory.class);
+        Controller controller = Mockito.mock(Controller.class);
+        Mockito.when(controller.getCurrentSegments(scope, streamName)).thenReturn(getSegmentsFuture(segment));
+        FakeSegmentOutputStream outputStream = new FakeSegmentOutputStream(segment);
+        Mockito.when(streamFactory.createOutputStreamForSegment(eq(segment), any(), any(), any())).thenReturn(outputStream);
+        JavaSerializer<String> serializer = new JavaSerializer<>();
+        @Cleanup
+        EventStreamWriter<String> writer = new EventStreamWriterImpl<>(stream, "id", controller, streamFactory,
+                serializer, config, executorService(), executorService());
+        List<String> events = Arrays.asList("Foo", "Bar", "Baz");
+        CompletableFuture<Void> ack = writer.writeEvents("key", events);
+
+        // The whole batch is written as a single unit.
+        assertEquals(1, outputStream.unacked.size());
+        PendingEvent written = outputStream.unacked.get(0);
+        assertEquals(events.size(), written.getEventCount());
+        assertEquals("key", written.getRoutingKey());
+        ByteBuf data = written.getData().slice();
+        for (String event : events) {
+            int length = data.skipBytes(Integer.BYTES).readInt();
+            assertEquals(serializer.serialize(event), data.readSlice(length).nioBuffer());
+        }
+        assertEquals(0, data.readableBytes());
+
+        writer.flush();
+        assertTrue(ack == written.getAckFuture());
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> writer.writeEvents("key", Collections.emptyList()));
+    }
+
     @NotThreadSafe
     @RequiredArgsConstructor
     public static final class FakeSegmentOutputStream implements SegmentOutputStream {
@@ -82,6 +82,14 @@ public class MockSegmentStreamFactory implements SegmentInputStreamFactory, Segm
         return getMockStream(segment);
     }
 
+    @Override
+    public SegmentInputStream createInputStreamForSegment(Segment segment, DelegationTokenProvider tokenProvider, long startOffset,
+                                                          long endOffset) {
+        MockSegmentIoStreams streams = getMockStream(segment);
+        streams.setOffset(startOffset);
+        return streams;
+    }
+
     @Override
     public SegmentMetadataClient createSegmentMetadataClient(Segment segment, DelegationTokenProvider tokenProvider) {
         return getMockStream(segment);
@@ -13,6 +13,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.List;
 
 /**
  * Defines a generic read-only view of a readable memory buffer with a known length.
@@ -77,7 +78,8 @@ public interface BufferView {
     void copyTo(OutputStream target) throws IOException;
 
     /**
-     * Copies the contents of this {@link BufferView} to the given {@link ByteBuffer}.
+     * Copies the contents of this {@link BufferView} to the given {@link ByteBuffer}, beginning at its position. The
+     * {@link ByteBuffer}'s position will be advanced by the number of bytes copied.
      *
      * @param byteBuffer The {@link ByteBuffer} to copy to. This buffer must have sufficient capacity to allow the entire
      *                   contents of the {@link BufferView} to be written. If less needs to be copied, consider using
@@ -86,6 +88,18 @@ public interface BufferView {
      */
     int copyTo(ByteBuffer byteBuffer);
 
+    /**
+     * Gets a {@link ByteBuffer} with the contents of this {@link BufferView}, spanning from its position to its limit.
+     * Implementations should avoid copying the data where possible (by wrapping the underlying buffer), in which case the
+     * result may be read-only and may not be backed by an accessible array ({@link ByteBuffer#hasArray()}). The default
+     * implementation returns a copy of the data.
+     *
+     * @return A {@link ByteBuffer}.
+     */
+    default ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(getCopy());
+    }
+
     /**
      * When implemented in a derived class, notifies any wrapped buffer that this {@link BufferView} has a need for it.
      * Use {@link #release()} to do the opposite. See the main documentation on this interface for recommendations on how
@@ -104,4 +118,14 @@ public interface BufferView {
     default void release() {
         // Default implementation intentionally left blank. Any derived class may implement if needed.
     }
+
+    /**
+     * Creates a new {@link BufferView} that is made up of the given {@link BufferView}s, in order. No data is copied.
+     *
+     * @param components The {@link BufferView}s to wrap.
+     * @return A {@link BufferView}. If components has a single element, that element is returned.
+     */
+    static BufferView wrap(List<BufferView> components) {
+        return components.size() == 1 ? components.get(0) : new CompositeBufferView(components);
+    }
 }
@@ -152,6 +152,14 @@ public class ByteArraySegment implements ArrayView {
         return length;
     }
 
+    /**
+     * Returns a {@link ByteBuffer} that wraps the same backing array as this ByteArraySegment (no data is copied).
+     */
+    @Override
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(this.array, this.startOffset, this.length);
+    }
+
     /**
      * Writes the entire contents of this ByteArraySegment to the given OutputStream. Only copies the contents of the
      * ByteArraySegment, and writes no other data (such as the length of the Segment or any other info).
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.common.util;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * {@link BufferView} that is made up of one or more other {@link BufferView}s, laid out one after the other. None of
+ * the data is copied; the components are accessed directly whenever this instance is read from.
+ *
+ * Use {@link BufferView#wrap(List)} to create instances of this class.
+ */
+class CompositeBufferView implements BufferView {
+    //region Members
+
+    private final List<BufferView> components;
+    @Getter
+    private final int length;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the {@link CompositeBufferView} class.
+     *
+     * @param components The components to wrap. This list will not be copied, so it should not be modified afterwards.
+     */
+    CompositeBufferView(@NonNull List<BufferView> components) {
+        this.components = Collections.unmodifiableList(components);
+        this.length = components.stream().mapToInt(BufferView::getLength).sum();
+    }
+
+    //endregion
+
+    //region BufferView Implementation
+
+    /**
+     * Invokes {@link BufferView#retain()} on all the components.
+     */
+    @Override
+    public void retain() {
+        this.components.forEach(BufferView::retain);
+    }
+
+    /**
+     * Invokes {@link BufferView#release()} on all the components.
+     */
+    @Override
+    public void release() {
+        this.components.forEach(BufferView::release);
+    }
+
+    @Override
+    public InputStream getReader() {
+        return new SequenceInputStream(Iterators.asEnumeration(
+                this.components.stream().map(BufferView::getReader).iterator()));
+    }
+
+    @Override
+    public InputStream getReader(int offset, int length) {
+        return slice(offset, length).getReader();
+    }
+
+    @Override
+    public BufferView slice(int offset, int length) {
+        Preconditions.checkPositionIndexes(offset, offset + length, this.length);
+        List<BufferView> result = new ArrayList<>();
+        int componentOffset = 0;
+        for (BufferView c : this.components) {
+            int componentEnd = componentOffset + c.getLength();
+            if (componentEnd > offset && componentOffset < offset + length) {
+                // This component overlaps with the requested range.
+                int sliceStart = Math.max(offset, componentOffset) - componentOffset;
+                int sliceEnd = Math.min(offset + length, componentEnd) - componentOffset;
+                result.add(c.slice(sliceStart, sliceEnd - sliceStart));
+            }
+
+            componentOffset = componentEnd;
+        }
+
+        return result.size() == 1 ? result.get(0) : new CompositeBufferView(result);
+    }
+
+    @Override
+    public byte[] getCopy() {
+        byte[] result = new byte[this.length];
+        copyTo(ByteBuffer.wrap(result));
+        return result;
+    }
+
+    @Override
+    public void copyTo(OutputStream target) throws IOException {
+        for (BufferView c : this.components) {
+            c.copyTo(target);
+        }
+    }
+
+    @Override
+    public int copyTo(ByteBuffer byteBuffer) {
+        int copied = 0;
+        for (BufferView c : this.components) {
+            if (!byteBuffer.hasRemaining()) {
+                break;
+            }
+
+            copied += c.copyTo(byteBuffer);
+        }
+
+        return copied;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Components = %d, Length = %d", this.components.size(), this.length);
+    }
+
+    //endregion
+}
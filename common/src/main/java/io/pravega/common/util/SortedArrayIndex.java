@@ -0,0 +1,255 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.common.util;
+
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.function.Consumer;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * SortedIndex backed by a pair of parallel arrays: a primitive (long) array holding the Keys, in sorted order, and an
+ * array holding the IndexEntries corresponding to them.
+ * <p>
+ * Compared to the tree-based implementations, this does not allocate any objects per IndexEntry (there are no tree
+ * nodes and no boxed keys), which significantly reduces the number of heap objects when indexing a large number of
+ * entries. Lookups are binary searches over a contiguous long array, which is at least as fast as traversing a
+ * balanced tree.
+ * <p>
+ * The occupied range of the arrays may begin anywhere within them, which makes both inserting after the last item and
+ * removing the first item O(1) (amortized) operations; this suits indices that are mostly appended to at one end and
+ * truncated at the other. Inserting or removing items elsewhere requires shifting the items on the shorter side, so
+ * these operations are O(N) in the worst case.
+ * <p>
+ * Note: This class is not thread-safe and requires external synchronization when in a multi-threaded environment.
+ *
+ * @param <V> The type of the IndexEntries.
+ */
+@NotThreadSafe
+public class SortedArrayIndex<V extends SortedIndex.IndexEntry> implements SortedIndex<V> {
+    //region Members
+
+    private static final int INITIAL_CAPACITY = 8;
+    private long[] keys;
+    private Object[] values;
+    private int head;
+    private int size;
+    private transient int modCount;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the SortedArrayIndex class.
+     */
+    public SortedArrayIndex() {
+        this.keys = new long[INITIAL_CAPACITY];
+        this.values = new Object[INITIAL_CAPACITY];
+        this.head = 0;
+        this.size = 0;
+        this.modCount = 0;
+    }
+
+    //endregion
+
+    //region SortedIndex Implementation
+
+    @Override
+    public void clear() {
+        this.keys = new long[INITIAL_CAPACITY];
+        this.values = new Object[INITIAL_CAPACITY];
+        this.head = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    @Override
+    public V put(V item) {
+        Preconditions.checkNotNull(item, "item");
+        long key = item.key();
+        int index = find(key);
+        if (index >= 0) {
+            // An item with the same key exists. Replace it.
+            V result = getValue(index);
+            this.values[index] = item;
+            this.modCount++;
+            return result;
+        }
+
+        if (this.head + this.size == this.keys.length) {
+            // No room at the end. Make some.
+            ensureCapacity();
+            index = find(key);
+        }
+
+        int insertionIndex = -index - 1;
+        int tail = this.head + this.size;
+        if (this.head > 0 && insertionIndex - this.head < tail - insertionIndex) {
+            // Closer to the beginning and we have room there: shift everything before the insertion point to the left.
+            System.arraycopy(this.keys, this.head, this.keys, this.head - 1, insertionIndex - this.head);
+            System.arraycopy(this.values, this.head, this.values, this.head - 1, insertionIndex - this.head);
+            this.head--;
+            insertionIndex--;
+        } else {
+            // Shift everything after the insertion point to the right.
+            System.arraycopy(this.keys, insertionIndex, this.keys, insertionIndex + 1, tail - insertionIndex);
+            System.arraycopy(this.values, insertionIndex, this.values, insertionIndex + 1, tail - insertionIndex);
+        }
+
+        this.keys[insertionIndex] = key;
+        this.values[insertionIndex] = item;
+        this.size++;
+        this.modCount++;
+        return null;
+    }
+
+    @Override
+    public V remove(long key) {
+        int index = find(key);
+        if (index < 0) {
+            return null;
+        }
+
+        V result = getValue(index);
+        int tail = this.head + this.size;
+        if (index - this.head < tail - index - 1) {
+            // Closer to the beginning: shift everything before it to the right.
+            System.arraycopy(this.keys, this.head, this.keys, this.head + 1, index - this.head);
+            System.arraycopy(this.values, this.head, this.values, this.head + 1, index - this.head);
+            this.values[this.head] = null;
+            this.head++;
+        } else {
+            // Shift everything after it to the left.
+            System.arraycopy(this.keys, index + 1, this.keys, index, tail - index - 1);
+            System.arraycopy(this.values, index + 1, this.values, index, tail - index - 1);
+            this.values[tail - 1] = null;
+        }
+
+        this.size--;
+        this.modCount++;
+        if (this.size == 0) {
+            this.head = 0;
+        } else if (this.keys.length > INITIAL_CAPACITY && this.size < this.keys.length / 4) {
+            // Release unused memory.
+            resize(this.keys.length / 2);
+        }
+
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public V get(long key) {
+        int index = find(key);
+        return index >= 0 ? getValue(index) : null;
+    }
+
+    @Override
+    public V getCeiling(long key) {
+        int index = find(key);
+        if (index < 0) {
+            // Insertion point: the index of the first item that is greater than the key.
+            index = -index - 1;
+        }
+
+        return index < this.head + this.size ? getValue(index) : null;
+    }
+
+    @Override
+    public V getFloor(long key) {
+        int index = find(key);
+        if (index < 0) {
+            // The item just before the insertion point is the last one that is smaller than the key.
+            index = -index - 2;
+        }
+
+        return index >= this.head ? getValue(index) : null;
+    }
+
+    @Override
+    public V getFirst() {
+        return this.size == 0 ? null : getValue(this.head);
+    }
+
+    @Override
+    public V getLast() {
+        return this.size == 0 ? null : getValue(this.head + this.size - 1);
+    }
+
+    @Override
+    public void forEach(Consumer<V> consumer) {
+        Preconditions.checkNotNull(consumer, "consumer");
+        final int originalModCount = this.modCount;
+        final int tail = this.head + this.size;
+        for (int i = this.head; i < tail; i++) {
+            if (originalModCount != this.modCount) {
+                throw new ConcurrentModificationException("SortedArrayIndex has been modified; forEach cannot continue.");
+            }
+
+            consumer.accept(getValue(i));
+        }
+    }
+
+    //endregion
+
+    //region Helpers
+
+    /**
+     * Locates the given key.
+     *
+     * @param key The key to search.
+     * @return The array index of the key, if it exists, otherwise (-(insertion point) - 1). See
+     * {@link Arrays#binarySearch(long[], int, int, long)}.
+     */
+    private int find(long key) {
+        return Arrays.binarySearch(this.keys, this.head, this.head + this.size, key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V getValue(int index) {
+        return (V) this.values[index];
+    }
+
+    /**
+     * Makes room for at least one more item at the end of the arrays, either by moving the items to the beginning (if
+     * there is sufficient unused space there) or by growing the arrays.
+     */
+    private void ensureCapacity() {
+        if (this.size < this.keys.length / 2) {
+            resize(this.keys.length);
+        } else {
+            resize(this.keys.length * 2);
+        }
+    }
+
+    private void resize(int newCapacity) {
+        assert newCapacity > this.size;
+        long[] newKeys = newCapacity == this.keys.length ? this.keys : new long[newCapacity];
+        Object[] newValues = newCapacity == this.values.length ? this.values : new Object[newCapacity];
+        System.arraycopy(this.keys, this.head, newKeys, 0, this.size);
+        System.arraycopy(this.values, this.head, newValues, 0, this.size);
+        if (newValues == this.values) {
+            // Compacting in place; clear out the references we no longer need.
+            Arrays.fill(this.values, this.size, this.head + this.size, null);
+        }
+
+        this.keys = newKeys;
+        this.values = newValues;
+        this.head = 0;
+    }
+
+    //endregion
+}
@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -32,6 +33,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.NotThreadSafe;
 import lombok.Builder;
 import lombok.Data;
@@ -81,6 +83,14 @@ import lombok.val;
  * the caller to decide how to properly recover from the situation - the BTreeIndex has insufficient information to make
  * such a decision.
  *
+ * Caching:
+ * * Pages at a given offset are never modified in the data source (updates always write them to a new offset), so Index
+ * Pages may be "pinned" in memory across operations (up to a configurable limit), which avoids having to fetch the root
+ * page (and the upper levels of the tree) from the data source for every operation. Newly written Index Pages are pinned
+ * after every update, while obsolete ones are unpinned.
+ * * Multi-key lookups fetch every page on the path to the sought keys at most once, and pages at the same level of the
+ * tree are fetched in parallel. Iterators prefetch the next few sibling Leaf Pages in parallel.
+ *
  * Compaction:
  * * B+Trees on an append-only storage suffer from write amplification problems, which means every update will have to
  * rewrite the affected leaf page(s) and all their parent page(s), up to, and including the root. These updates cause the
@@ -115,6 +125,11 @@ public class BTreeIndex {
     private final WritePages write;
     private final GetLength getLength;
     private final AtomicReference<IndexState> state;
+    private final int maxPinnedIndexBytes;
+    @GuardedBy("pinnedIndexPages")
+    private final HashMap<Long, ByteArraySegment> pinnedIndexPages;
+    @GuardedBy("pinnedIndexPages")
+    private int pinnedIndexBytes;
     private final Executor executor;
     private final String traceObjectId;
 
@@ -131,12 +146,15 @@ public class BTreeIndex {
      * @param readPage    A Function that reads the contents of a page from an external data source.
      * @param writePages  A Function that writes contents of one or more contiguous pages to an external data source.
      * @param getLength   A Function that returns the length of the index, in bytes, as stored in an external data source.
+     * @param maxPinnedIndexBytes The maximum number of bytes of Index Pages to keep in memory across operations. If 0,
+     *                            every operation will fetch all the pages it needs from the external data source.
      * @param executor    Executor for async operations.
      * @param traceObjectId An identifier to add to all log entries.
      */
     @Builder
     public BTreeIndex(int maxPageSize, int keyLength, int valueLength, @NonNull ReadPage readPage, @NonNull WritePages writePages,
-                      @NonNull GetLength getLength, @NonNull Executor executor, String traceObjectId) {
+                      @NonNull GetLength getLength, int maxPinnedIndexBytes, @NonNull Executor executor, String traceObjectId) {
+        Preconditions.checkArgument(maxPinnedIndexBytes >= 0, "maxPinnedIndexBytes must be a non-negative number.");
         this.read = readPage;
         this.write = writePages;
         this.getLength = getLength;
@@ -147,6 +165,9 @@ public class BTreeIndex {
         this.indexPageConfig = new BTreePage.Config(keyLength, INDEX_VALUE_LENGTH, maxPageSize, true);
         this.leafPageConfig = new BTreePage.Config(keyLength, valueLength, maxPageSize, false);
         this.state = new AtomicReference<>();
+        this.maxPinnedIndexBytes = maxPinnedIndexBytes;
+        this.pinnedIndexPages = new HashMap<>();
+        this.pinnedIndexBytes = 0;
     }
 
     //endregion
@@ -172,6 +193,17 @@ public class BTreeIndex {
         return s == null ? -1 : s.length;
     }
 
+    /**
+     * Gets a value indicating whether the index is empty (it has no pages at all). Note that an index whose entries
+     * have all been removed is not empty, as it still has a (empty) root page.
+     *
+     * @return True if empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        ensureInitialized();
+        return this.state.get().rootPageOffset == PagePointer.NO_OFFSET;
+    }
+
     /**
      * Initializes the BTreeIndex by fetching metadata from the external data source. This method must be invoked (and
      * completed) prior to executing any other operation on this instance.
@@ -184,6 +216,9 @@ public class BTreeIndex {
             log.warn("{}: Reinitializing.", this.traceObjectId);
         }
 
+        // We may be reinitializing because someone else modified the index, so start over with nothing pinned.
+        unpinAllPages();
+
         TimeoutTimer timer = new TimeoutTimer(timeout);
         return this.getLength
                 .apply(timer.getRemaining())
@@ -297,6 +332,33 @@ public class BTreeIndex {
                         this.executor);
     }
 
+    /**
+     * Loads the given Page Entries into an empty index. Unlike {@link #update}, which rewrites every page it touches
+     * (and their ancestors) with every invocation, this builds fully packed Leaf Pages in a single pass over the given
+     * entries, then builds the Index Pages above them (bottom-up), and writes everything to the external data source
+     * with a single sequential write. This is the preferred method to rebuild or seed large indices.
+     *
+     * @param entries An Iterator returning the Page Entries to load, in sorted order (by key). Keys must be unique and
+     *                values must not be null.
+     * @param timeout Timeout for the operation.
+     * @return A CompletableFuture that, when completed normally, will indicate that the entries have been loaded and will
+     * contain the current version of the index (same as {@link #update}). If the operation failed, the Future will be
+     * completed with the appropriate exception.
+     * @throws IllegalStateException    If the index is not empty (see {@link #isEmpty()}).
+     * @throws IllegalArgumentException If entries is empty, not sorted, contains duplicate keys or null values.
+     */
+    public CompletableFuture<Long> bulkLoad(@NonNull Iterator<PageEntry> entries, @NonNull Duration timeout) {
+        Preconditions.checkState(isEmpty(), "Cannot bulk-load a non-empty index.");
+        Preconditions.checkArgument(entries.hasNext(), "No entries to load.");
+        UpdateablePageCollection pageCollection = new UpdateablePageCollection(this.state.get().length);
+        List<PagePointer> pointers = bulkLoadLeafPages(entries, pageCollection);
+        while (pointers.size() > 1) {
+            pointers = bulkLoadIndexPages(pointers, pageCollection);
+        }
+
+        return writePages(pageCollection, timeout);
+    }
+
     /**
      * Returns an {@link AsyncIterator} that will iterate through all the keys within the specified bounds. All iterated keys will
      * be returned in lexicographic order (smallest to largest). See {@link ByteArrayComparator} for ordering details.
@@ -369,6 +431,81 @@ public class BTreeIndex {
                       }, this.executor);
     }
 
+    /**
+     * Packs the given entries into as few Leaf Pages as possible and assigns them consecutive offsets.
+     *
+     * @param entries        An Iterator of the PageEntry instances to load. Must return them in sorted order (by key).
+     * @param pageCollection An UpdateablePageCollection to insert the new pages into.
+     * @return A List of PagePointers for the new pages, in order.
+     */
+    private List<PagePointer> bulkLoadLeafPages(Iterator<PageEntry> entries, UpdateablePageCollection pageCollection) {
+        int maxCount = this.leafPageConfig.getMaxEntryCount();
+        val result = new ArrayList<PagePointer>();
+        val pageEntries = new ArrayList<PageEntry>(maxCount);
+        ByteArraySegment lastKey = null;
+        while (entries.hasNext()) {
+            PageEntry e = entries.next();
+            Preconditions.checkArgument(e.getValue() != null, "Cannot bulk-load entries with no value.");
+            Preconditions.checkArgument(lastKey == null || KEY_COMPARATOR.compare(lastKey, e.getKey()) < 0,
+                    "Entries must be sorted by key and must have unique keys.");
+            lastKey = e.getKey();
+            pageEntries.add(e);
+            if (pageEntries.size() == maxCount) {
+                result.add(bulkLoadPage(createEmptyLeafPage(), pageEntries, pageCollection));
+                pageEntries.clear();
+            }
+        }
+
+        if (!pageEntries.isEmpty()) {
+            result.add(bulkLoadPage(createEmptyLeafPage(), pageEntries, pageCollection));
+        }
+
+        return result;
+    }
+
+    /**
+     * Packs the given Page Pointers into as few Index Pages as possible and assigns them consecutive offsets.
+     *
+     * @param childPointers  An ordered List of PagePointers to the pages on the level below.
+     * @param pageCollection An UpdateablePageCollection to insert the new pages into.
+     * @return A List of PagePointers for the new pages, in order.
+     */
+    private List<PagePointer> bulkLoadIndexPages(List<PagePointer> childPointers, UpdateablePageCollection pageCollection) {
+        int maxCount = this.indexPageConfig.getMaxEntryCount();
+        val result = new ArrayList<PagePointer>();
+        for (int i = 0; i < childPointers.size(); i += maxCount) {
+            val pageEntries = childPointers.subList(i, Math.min(childPointers.size(), i + maxCount)).stream()
+                                           .map(pp -> new PageEntry(pp.getKey(), serializePointer(pp)))
+                                           .collect(Collectors.toList());
+            if (i == 0) {
+                // The first page on each level must begin with the minimum possible key (see updateFirstKey()).
+                pageEntries.set(0, new PageEntry(generateMinKey(), pageEntries.get(0).getValue()));
+            }
+
+            result.add(bulkLoadPage(createEmptyIndexPage(), pageEntries, pageCollection));
+        }
+
+        return result;
+    }
+
+    /**
+     * Inserts the given entries into the given (new) BTreePage, registers the page with the given UpdateablePageCollection
+     * and assigns it the next available offset.
+     *
+     * @param page           The BTreePage to load.
+     * @param entries        The (sorted) entries to insert into the page.
+     * @param pageCollection The UpdateablePageCollection to register the page with.
+     * @return A PagePointer for the page.
+     */
+    private PagePointer bulkLoadPage(BTreePage page, List<PageEntry> entries, UpdateablePageCollection pageCollection) {
+        page.update(entries);
+        PageWrapper pageWrapper = PageWrapper.wrapNew(page, null, null);
+        pageCollection.insert(pageWrapper);
+        pageCollection.complete(pageWrapper);
+        pageWrapper.setMinOffset(calculateMinOffset(pageWrapper));
+        return new PagePointer(page.getKeyAt(0), pageWrapper.getOffset(), page.getLength(), pageWrapper.getMinOffset());
+    }
+
     /**
      * Loads the BTreePage with the smallest offset from the DataSource. The purpose of this is for incremental compaction.
      * The page with the smallest offset will be moved to the end of the index, which allows the external data source to
@@ -654,9 +791,26 @@ public class BTreeIndex {
      * @return A CompletableFuture containing a PageWrapper for the sought page.
      */
     private CompletableFuture<PageWrapper> fetchPage(PagePointer pagePointer, PageWrapper parentPage, PageCollection pageCollection, Duration timeout) {
-        PageWrapper fromCache = pageCollection.get(pagePointer.getOffset());
-        if (fromCache != null) {
-            return CompletableFuture.completedFuture(fromCache);
+        return pageCollection.getOrLoad(
+                pagePointer.getOffset(),
+                () -> loadPage(pagePointer, pageCollection, timeout)
+                        .thenApply(page -> pageCollection.insert(PageWrapper.wrapExisting(page, parentPage, pagePointer))));
+    }
+
+    /**
+     * Loads up a single Page, either from the pinned Index Pages or from the external data source.
+     *
+     * @param pagePointer    A PagePointer indicating the Page to load.
+     * @param pageCollection The PageCollection for the operation requesting this page.
+     * @param timeout        Timeout for the operation.
+     * @return A CompletableFuture containing the sought BTreePage.
+     */
+    private CompletableFuture<BTreePage> loadPage(PagePointer pagePointer, PageCollection pageCollection, Duration timeout) {
+        ByteArraySegment pinned = getPinnedPage(pagePointer);
+        if (pinned != null) {
+            // Pinned pages are shared across operations; make a copy if the requesting operation may modify it.
+            ByteArraySegment data = pageCollection.isUpdateable() ? new ByteArraySegment(pinned.getCopy()) : pinned;
+            return CompletableFuture.completedFuture(new BTreePage(this.indexPageConfig, data));
         }
 
         return readPage(pagePointer.getOffset(), pagePointer.getLength(), timeout)
@@ -666,11 +820,57 @@ public class BTreeIndex {
                                 pagePointer.getLength(), pagePointer.getOffset(), data.getLength()));
                     }
 
-                    val pageConfig = BTreePage.isIndexPage(data) ? this.indexPageConfig : this.leafPageConfig;
-                    return pageCollection.insert(PageWrapper.wrapExisting(new BTreePage(pageConfig, data), parentPage, pagePointer));
+                    boolean isIndexPage = BTreePage.isIndexPage(data);
+                    if (isIndexPage && !pageCollection.isUpdateable() && pageCollection.getIndexLength() == this.state.get().length) {
+                        // Only pin pages from the current version of the index. Pages loaded for updates will be
+                        // modified in place; their new versions will be pinned once written.
+                        pinPage(pagePointer.getOffset(), data);
+                    }
+
+                    return new BTreePage(isIndexPage ? this.indexPageConfig : this.leafPageConfig, data);
                 });
     }
 
+    private ByteArraySegment getPinnedPage(PagePointer pagePointer) {
+        synchronized (this.pinnedIndexPages) {
+            ByteArraySegment result = this.pinnedIndexPages.getOrDefault(pagePointer.getOffset(), null);
+            return result != null && result.getLength() == pagePointer.getLength() ? result : null;
+        }
+    }
+
+    private void pinPage(long offset, ByteArraySegment contents) {
+        synchronized (this.pinnedIndexPages) {
+            if (!this.pinnedIndexPages.containsKey(offset) && this.pinnedIndexBytes + contents.getLength() <= this.maxPinnedIndexBytes) {
+                this.pinnedIndexPages.put(offset, contents);
+                this.pinnedIndexBytes += contents.getLength();
+            }
+        }
+    }
+
+    private void unpinPages(Collection<Long> obsoleteOffsets, long truncateOffset) {
+        synchronized (this.pinnedIndexPages) {
+            obsoleteOffsets.forEach(this::unpinPage);
+            new ArrayList<>(this.pinnedIndexPages.keySet()).stream()
+                    .filter(offset -> offset < truncateOffset)
+                    .forEach(this::unpinPage);
+        }
+    }
+
+    @GuardedBy("pinnedIndexPages")
+    private void unpinPage(long offset) {
+        ByteArraySegment removed = this.pinnedIndexPages.remove(offset);
+        if (removed != null) {
+            this.pinnedIndexBytes -= removed.getLength();
+        }
+    }
+
+    private void unpinAllPages() {
+        synchronized (this.pinnedIndexPages) {
+            this.pinnedIndexPages.clear();
+            this.pinnedIndexBytes = 0;
+        }
+    }
+
     private BTreePage createEmptyLeafPage() {
         return new BTreePage(this.leafPageConfig);
     }
@@ -757,6 +957,7 @@ public class BTreeIndex {
 
         // Collect the data to be written.
         val pages = new ArrayList<Map.Entry<Long, ByteArraySegment>>();
+        val toPin = new ArrayList<Map.Entry<Long, ByteArraySegment>>();
         val oldOffsets = new ArrayList<Long>();
         long offset = state.length;
         PageWrapper lastPage = null;
@@ -767,6 +968,10 @@ public class BTreeIndex {
 
             // Collect the page, as well as its previous offset.
             pages.add(new AbstractMap.SimpleImmutableEntry<>(offset, p.getPage().getContents()));
+            if (p.isIndexPage()) {
+                toPin.add(pages.get(pages.size() - 1));
+            }
+
             if (p.getPointer() != null && p.getPointer().getOffset() >= 0) {
                 oldOffsets.add(p.getPointer().getOffset());
             }
@@ -797,6 +1002,11 @@ public class BTreeIndex {
         assert rootMinOffset >= 0 : "root.MinOffset not set";
         return this.write.apply(pages, oldOffsets, rootMinOffset, timeout)
                 .thenApply(indexLength -> {
+                    // Replace any obsolete pinned pages with the ones we just wrote. Pin the root page (which is always
+                    // written last) first, followed by the other Index Pages in decreasing order of their level.
+                    unpinPages(oldOffsets, rootMinOffset);
+                    Collections.reverse(toPin);
+                    toPin.forEach(e -> pinPage(e.getKey(), e.getValue()));
                     setState(indexLength, rootOffset, rootLength);
                     assert footerOffset == getFooterOffset(indexLength); // This should fail any unit tests.
                     return footerOffset;
@@ -697,6 +697,15 @@ class BTreePage {
             this.maxPageSize = maxPageSize;
             this.isIndexPage = isIndexPage;
         }
+
+        /**
+         * Gets the maximum number of entries that can fit in a single BTreePage with this configuration.
+         *
+         * @return The maximum number of entries.
+         */
+        int getMaxEntryCount() {
+            return (this.maxPageSize - DATA_OFFSET - FOOTER_LENGTH) / this.entryLength;
+        }
     }
 
     //endregion
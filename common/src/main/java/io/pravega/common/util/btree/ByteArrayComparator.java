@@ -9,6 +9,7 @@
  */
 package io.pravega.common.util.btree;
 
+import io.pravega.common.util.ArrayView;
 import io.pravega.common.util.BitConverter;
 import io.pravega.common.util.ByteArraySegment;
 import java.io.Serializable;
@@ -35,8 +36,9 @@ import java.util.Comparator;
  * - This equality would not hold should L1 and L2 be serialized using {@link BitConverter#writeLong} or if we used plain
  * (signed) byte comparison internall.
  *
+ * Arrays of different lengths can be compared using {@link #compareArbitraryLength}.
  */
-final class ByteArrayComparator implements Comparator<byte[]>, Serializable {
+public final class ByteArrayComparator implements Comparator<byte[]>, Serializable {
     /**
      * The minimum byte value for this comparison. Since we use unsigned bytes, this is 0-based.
      */
@@ -88,4 +90,24 @@ final class ByteArrayComparator implements Comparator<byte[]>, Serializable {
 
         return 0;
     }
+
+    /**
+     * Compares two non-null ArrayViews, which need not have the same length, using lexicographic bitwise comparison. If
+     * one of them is a prefix of the other, then the shorter one is ordered first.
+     *
+     * @param b1 First instance.
+     * @param b2 Second instance.
+     * @return A negative number if b1 should be before b2, 0 if b1 equals b2 and a positive number if b1 should be after b2.
+     */
+    public static int compareArbitraryLength(ArrayView b1, ArrayView b2) {
+        int length = Math.min(b1.getLength(), b2.getLength());
+        for (int i = 0; i < length; i++) {
+            int r = (b1.get(i) & 0xFF) - (b2.get(i) & 0xFF);
+            if (r != 0) {
+                return r;
+            }
+        }
+
+        return b1.getLength() - b2.getLength();
+    }
 }
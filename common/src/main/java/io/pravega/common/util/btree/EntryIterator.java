@@ -30,6 +30,10 @@ class EntryIterator implements AsyncIterator<List<PageEntry>> {
     //region Members
 
     private static final ByteArrayComparator KEY_COMPARATOR = new ByteArrayComparator();
+    /**
+     * The maximum number of sibling Leaf Pages to prefetch ahead of the iteration.
+     */
+    private static final int PREFETCH_PAGE_COUNT = 4;
     private final ByteArraySegment firstKey;
     private final boolean firstKeyInclusive;
     private final ByteArraySegment lastKey;
@@ -40,6 +44,7 @@ class EntryIterator implements AsyncIterator<List<PageEntry>> {
     private final PageCollection pageCollection;
     private final AtomicReference<PageWrapper> lastPage;
     private final AtomicInteger processedPageCount;
+    private final AtomicReference<ByteArraySegment> lastPrefetchedKey;
 
     //endregion
 
@@ -79,6 +84,7 @@ class EntryIterator implements AsyncIterator<List<PageEntry>> {
         this.lastPage = new AtomicReference<>(null);
         this.finished = new AtomicBoolean();
         this.processedPageCount = new AtomicInteger();
+        this.lastPrefetchedKey = new AtomicReference<>(null);
     }
 
     //endregion
@@ -115,6 +121,8 @@ class EntryIterator implements AsyncIterator<List<PageEntry>> {
                     // Check if we have reached the last page that could possibly contain some result.
                     if (result == null) {
                         this.finished.set(true);
+                    } else {
+                        prefetchNextPages(pageWrapper, timer);
                     }
 
                     return result;
@@ -163,6 +171,39 @@ class EntryIterator implements AsyncIterator<List<PageEntry>> {
         return this.locatePage.apply(referenceKey, this.pageCollection, timer);
     }
 
+    /**
+     * Begins loading (but does not wait for) the next few sibling pages of the given page that may contain keys within
+     * the iteration bounds. These are loaded into our PageCollection, where they will be picked up by subsequent calls
+     * to getNext(), which will also wait on any prefetches that are still in progress.
+     *
+     * @param pageWrapper The page that was just processed.
+     * @param timer       Timer for the operation.
+     */
+    private void prefetchNextPages(PageWrapper pageWrapper, TimeoutTimer timer) {
+        PageWrapper parentPage = pageWrapper.getParent();
+        if (parentPage == null) {
+            // This is the root page. Nothing to prefetch.
+            return;
+        }
+
+        val pos = parentPage.getPage().search(pageWrapper.getPointer().getKey(), 0);
+        assert pos.isExactMatch() : "expecting exact match";
+        int endPos = Math.min(parentPage.getPage().getCount(), pos.getPosition() + 1 + PREFETCH_PAGE_COUNT);
+        for (int i = pos.getPosition() + 1; i < endPos; i++) {
+            ByteArraySegment pageKey = parentPage.getPage().getKeyAt(i);
+            if (KEY_COMPARATOR.compare(pageKey, this.lastKey) > 0) {
+                // This page (and all the ones after it) are beyond our iteration bounds.
+                break;
+            }
+
+            ByteArraySegment lastPrefetchedKey = this.lastPrefetchedKey.get();
+            if (lastPrefetchedKey == null || KEY_COMPARATOR.compare(pageKey, lastPrefetchedKey) > 0) {
+                this.locatePage.apply(pageKey, this.pageCollection, timer);
+                this.lastPrefetchedKey.set(pageKey);
+            }
+        }
+    }
+
     private List<PageEntry> extractFromPage(PageWrapper pageWrapper) {
         BTreePage page = pageWrapper.getPage();
         assert !page.getConfig().isIndexPage() : "expecting leaf page";
@@ -10,7 +10,10 @@
 package io.pravega.common.util.btree;
 
 import com.google.common.base.Preconditions;
+import io.pravega.common.concurrent.Futures;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -25,6 +28,8 @@ class PageCollection {
     @GuardedBy("this")
     protected final HashMap<Long, PageWrapper> pageByOffset;
     @GuardedBy("this")
+    private final HashMap<Long, CompletableFuture<PageWrapper>> pendingByOffset;
+    @GuardedBy("this")
     protected long indexLength;
 
     //endregion
@@ -38,6 +43,7 @@ class PageCollection {
         Preconditions.checkArgument(indexLength >= 0, "indexLength must be a non-negative number.");
         this.indexLength = indexLength;
         this.pageByOffset = new HashMap<>();
+        this.pendingByOffset = new HashMap<>();
     }
 
     //region Operations
@@ -71,6 +77,51 @@ class PageCollection {
         return this.pageByOffset.getOrDefault(offset, null);
     }
 
+    /**
+     * Gets the PageWrapper that begins at the given offset, loading it if it is not already registered. Concurrent
+     * invocations for the same offset will share a single load, so pages that are on the path to multiple keys (such as
+     * the root page) are only fetched once.
+     *
+     * @param offset   The offset to look up the page at.
+     * @param loadPage A Supplier that, when invoked, will load the page and insert it into this PageCollection.
+     * @return A CompletableFuture that, when completed, will contain the sought PageWrapper.
+     */
+    CompletableFuture<PageWrapper> getOrLoad(long offset, Supplier<CompletableFuture<PageWrapper>> loadPage) {
+        CompletableFuture<PageWrapper> result;
+        synchronized (this) {
+            PageWrapper existing = this.pageByOffset.getOrDefault(offset, null);
+            if (existing != null) {
+                return CompletableFuture.completedFuture(existing);
+            }
+
+            result = this.pendingByOffset.getOrDefault(offset, null);
+            if (result != null) {
+                // Someone else is already loading this page.
+                return result;
+            }
+
+            result = new CompletableFuture<>();
+            this.pendingByOffset.put(offset, result);
+        }
+
+        result.whenComplete((page, ex) -> {
+            synchronized (this) {
+                this.pendingByOffset.remove(offset);
+            }
+        });
+        Futures.completeAfter(loadPage::get, result);
+        return result;
+    }
+
+    /**
+     * Gets a value indicating whether the pages in this PageCollection may be modified by the operation using it.
+     *
+     * @return True if the pages may be modified, false otherwise.
+     */
+    boolean isUpdateable() {
+        return false;
+    }
+
     /**
      * Inserts a new PageWrapper into this PageCollection.
      *
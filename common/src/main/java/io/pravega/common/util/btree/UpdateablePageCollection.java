@@ -50,6 +50,11 @@ class UpdateablePageCollection extends PageCollection {
 
     //region Operations
 
+    @Override
+    boolean isUpdateable() {
+        return true;
+    }
+
     /**
      * Inserts a new PageWrapper into this PageCollection.
      *
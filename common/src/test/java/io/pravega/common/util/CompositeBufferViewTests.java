@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.common.util;
+
+import io.pravega.common.io.StreamHelpers;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the CompositeBufferView class.
+ */
+public class CompositeBufferViewTests {
+    private static final int COMPONENT_COUNT = 5;
+    private static final int COMPONENT_LENGTH = 10;
+
+    /**
+     * Tests {@link BufferView#wrap} with a single component.
+     */
+    @Test
+    public void testWrapSingle() {
+        val component = new ByteArraySegment(new byte[COMPONENT_LENGTH]);
+        Assert.assertSame("Expected the single component to be returned.", component,
+                BufferView.wrap(Collections.singletonList(component)));
+    }
+
+    /**
+     * Tests the ability to read the contents of a {@link CompositeBufferView} using all the available methods.
+     */
+    @Test
+    public void testRead() throws Exception {
+        val expectedData = createData();
+        val b = BufferView.wrap(createComponents(expectedData));
+        Assert.assertEquals("Unexpected length.", expectedData.length, b.getLength());
+        Assert.assertArrayEquals("Unexpected result from getCopy().", expectedData, b.getCopy());
+        Assert.assertArrayEquals("Unexpected result from getReader().", expectedData,
+                StreamHelpers.readAll(b.getReader(), b.getLength()));
+
+        val os = new ByteArrayOutputStream();
+        b.copyTo(os);
+        Assert.assertArrayEquals("Unexpected result from copyTo(OutputStream).", expectedData, os.toByteArray());
+
+        val target = ByteBuffer.allocate(expectedData.length * 2);
+        Assert.assertEquals("Unexpected result from copyTo(ByteBuffer).", expectedData.length, b.copyTo(target));
+        Assert.assertEquals("Expected the target position to have been advanced.", expectedData.length, target.position());
+        Assert.assertArrayEquals("Unexpected contents after copyTo(ByteBuffer).", expectedData,
+                Arrays.copyOf(target.array(), expectedData.length));
+    }
+
+    /**
+     * Tests {@link CompositeBufferView#slice} and {@link CompositeBufferView#getReader(int, int)}.
+     */
+    @Test
+    public void testSlice() throws Exception {
+        val data = createData();
+        val b = BufferView.wrap(createComponents(data));
+        for (int offset = 0; offset < data.length; offset += COMPONENT_LENGTH / 3) {
+            for (int length = 0; length <= data.length - offset; length += COMPONENT_LENGTH / 3) {
+                val expected = Arrays.copyOfRange(data, offset, offset + length);
+                Assert.assertArrayEquals("Unexpected slice contents.", expected, b.slice(offset, length).getCopy());
+                Assert.assertArrayEquals("Unexpected getReader(offset, length) contents.", expected,
+                        StreamHelpers.readAll(b.getReader(offset, length), length));
+            }
+        }
+    }
+
+    private byte[] createData() {
+        byte[] data = new byte[COMPONENT_COUNT * COMPONENT_LENGTH];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        return data;
+    }
+
+    private List<BufferView> createComponents(byte[] data) {
+        val result = new ArrayList<BufferView>();
+        for (int i = 0; i < COMPONENT_COUNT; i++) {
+            result.add(new ByteArraySegment(data, i * COMPONENT_LENGTH, COMPONENT_LENGTH));
+        }
+
+        return result;
+    }
+}
@@ -54,6 +54,16 @@ abstract class SortedIndexTestBase {
         }
     }
 
+    /**
+     * Unit tests for the SortedArrayIndex class.
+     */
+    public static class SortedArrayIndexTests extends SortedIndexTestBase {
+        @Override
+        protected SortedIndex<TestEntry> createIndex() {
+            return new SortedArrayIndex<>();
+        }
+    }
+
     //endregion
 
     //region Test Definitions
@@ -173,6 +173,61 @@ public class BTreeIndexTests extends ThreadPooledTestSuite {
         check("Unexpected index contents.", index, expectedEntries, 0);
     }
 
+    /**
+     * Tests the {@link BTreeIndex#bulkLoad} method.
+     */
+    @Test
+    public void testBulkLoad() {
+        final int count = 1000;
+        val entries = generate(count);
+        sort(entries);
+        for (int i = entries.size() - 1; i > 0; i--) {
+            if (KEY_COMPARATOR.compare(entries.get(i - 1).getKey(), entries.get(i).getKey()) == 0) {
+                entries.remove(i); // Bulk-loads do not accept duplicate keys.
+            }
+        }
+
+        val ds = new DataSource();
+        val index = defaultBuilder(ds).build();
+        index.initialize(TIMEOUT).join();
+        Assert.assertTrue("Expected a new index to be empty.", index.isEmpty());
+        AssertExtensions.assertThrows(
+                "bulkLoad() accepted no entries.",
+                () -> index.bulkLoad(Collections.emptyIterator(), TIMEOUT),
+                ex -> ex instanceof IllegalArgumentException);
+        AssertExtensions.assertThrows(
+                "bulkLoad() accepted unsorted entries.",
+                () -> index.bulkLoad(Arrays.asList(entries.get(1), entries.get(0)).iterator(), TIMEOUT),
+                ex -> ex instanceof IllegalArgumentException);
+
+        index.bulkLoad(entries.iterator(), TIMEOUT).join();
+        Assert.assertFalse("Not expecting the index to be empty after a bulk-load.", index.isEmpty());
+        check("after bulk-load", index, entries, 0);
+        Assert.assertEquals("Unexpected key count after bulk-load.", entries.size(), getKeyCount(index));
+        AssertExtensions.assertThrows(
+                "bulkLoad() worked on a non-empty index.",
+                () -> index.bulkLoad(entries.iterator(), TIMEOUT),
+                ex -> ex instanceof IllegalStateException);
+
+        // Bulk-loaded pages are fully packed, so the result should not be larger than that of a regular update.
+        val updateDs = new DataSource();
+        val updateIndex = defaultBuilder(updateDs).build();
+        updateIndex.initialize(TIMEOUT).join();
+        updateIndex.update(entries, TIMEOUT).join();
+        AssertExtensions.assertLessThanOrEqual("Unexpected bulk-loaded index length.",
+                updateIndex.getIndexLength(), index.getIndexLength());
+
+        // Verify that the bulk-loaded index can be recovered and updated.
+        val recoveredIndex = defaultBuilder(ds).build();
+        recoveredIndex.initialize(TIMEOUT).join();
+        check("after recovery", recoveredIndex, entries, 0);
+        recoveredIndex.update(entries.stream().map(e -> PageEntry.noValue(e.getKey())).collect(Collectors.toList()), TIMEOUT).join();
+        Assert.assertEquals("Not expecting any keys after removing everything.", 0, getKeyCount(recoveredIndex));
+        val newEntries = generate(count + 1);
+        recoveredIndex.update(newEntries, TIMEOUT).join();
+        check("after update", recoveredIndex, newEntries, 0);
+    }
+
     /**
      * Tests the get() method. getBulk() is already extensively tested in other tests, so we are not explicitly testing it here.
      */
@@ -236,6 +291,90 @@ public class BTreeIndexTests extends ThreadPooledTestSuite {
         }
     }
 
+    /**
+     * Tests the ability to keep Index Pages in memory across operations (pinning) and that multi-key lookups read every
+     * page at most once.
+     */
+    @Test
+    public void testPinnedIndexPages() {
+        final int count = 1000;
+        val ds = new DataSource();
+        val index = defaultBuilder(ds).maxPinnedIndexBytes(Integer.MAX_VALUE).build();
+        index.initialize(TIMEOUT).join();
+        val entries = generate(count);
+        index.update(entries, TIMEOUT).join();
+
+        // Without pinning, every lookup needs to read all the pages on the path to the sought keys, but only once.
+        val coldIndex = defaultBuilder(ds).build();
+        coldIndex.initialize(TIMEOUT).join();
+        ds.resetReads();
+        check("cold", coldIndex, entries, 0);
+        val coldReads = ds.getReadCount();
+        Assert.assertEquals("Not expecting any page to be read more than once.", 1, ds.getMaxReadsPerOffset());
+        ds.resetReads();
+        check("cold, again", coldIndex, entries, 0);
+        Assert.assertEquals("Not expecting any pages to be pinned.", coldReads, ds.getReadCount());
+
+        // The index that wrote the data has pinned all its Index Pages, so it only needs to read the Leaf Pages.
+        ds.resetReads();
+        check("pinned", index, entries, 0);
+        val pinnedReads = ds.getReadCount();
+        AssertExtensions.assertLessThan("Expected fewer reads with pinned pages.", coldReads, pinnedReads);
+
+        // A new index pins the Index Pages it reads.
+        val newIndex = defaultBuilder(ds).maxPinnedIndexBytes(Integer.MAX_VALUE).build();
+        newIndex.initialize(TIMEOUT).join();
+        ds.resetReads();
+        check("new", newIndex, entries, 0);
+        Assert.assertEquals("Unexpected number of reads for first lookup.", coldReads, ds.getReadCount());
+        ds.resetReads();
+        check("new, again", newIndex, entries, 0);
+        Assert.assertEquals("Unexpected number of reads after pinning.", pinnedReads, ds.getReadCount());
+
+        // Updates must not modify pinned pages in place.
+        val newValues = generate(count + 1);
+        val expectedEntries = new ArrayList<PageEntry>(entries);
+        for (int i = 0; i < count / 2; i++) {
+            expectedEntries.set(i, new PageEntry(entries.get(i).getKey(), newValues.get(i).getValue()));
+        }
+
+        newIndex.update(expectedEntries.subList(0, count / 2), TIMEOUT).join();
+        check("after update", newIndex, expectedEntries, 0);
+    }
+
+    /**
+     * Tests the ability of {@link BTreeIndex#iterator} to prefetch Leaf Pages.
+     */
+    @Test
+    public void testIteratorPrefetch() throws Exception {
+        final int count = 1000;
+        val ds = new DataSource();
+        val index = defaultBuilder(ds).build();
+        index.initialize(TIMEOUT).join();
+        val entries = generate(count);
+        index.update(entries, TIMEOUT).join();
+        sort(entries);
+        val firstKey = entries.get(0).getKey();
+        val lastKey = entries.get(count - 1).getKey();
+
+        // Determine how many reads are needed to locate the first Leaf Page.
+        ds.resetReads();
+        index.get(firstKey, TIMEOUT).join();
+        val firstPageReads = ds.getReadCount();
+
+        // Fetch the first page, and verify that some of the subsequent ones are being loaded in the background.
+        ds.resetReads();
+        val iterator = index.iterator(firstKey, true, lastKey, true, TIMEOUT);
+        val actualEntries = new ArrayList<PageEntry>(iterator.getNext().join());
+        AssertExtensions.assertEventuallyEquals(true, () -> ds.getReadCount() > firstPageReads, TIMEOUT.toMillis());
+
+        // Verify the result and that prefetching did not cause any page to be read more than once.
+        iterator.forEachRemaining(actualEntries::addAll, executorService()).join();
+        AssertExtensions.assertListEquals("Unexpected result.", entries, actualEntries,
+                (e, a) -> KEY_COMPARATOR.compare(e.getKey(), a.getKey()) == 0 && KEY_COMPARATOR.compare(e.getValue(), a.getValue()) == 0);
+        Assert.assertEquals("Not expecting any page to be read more than once.", 1, ds.getMaxReadsPerOffset());
+    }
+
     /**
      * Tests the behavior of the index when there are data source write errors.
      */
@@ -500,6 +639,8 @@ public class BTreeIndexTests extends ThreadPooledTestSuite {
         private final HashMap<Long, Boolean> offsets; // Key: Offset, Value: valid(true), obsolete(false).
         private final AtomicReference<CompletableFuture<Void>> writeInterceptor = new AtomicReference<>();
         private final AtomicBoolean checkOffsets = new AtomicBoolean(true);
+        @GuardedBy("readsByOffset")
+        private final HashMap<Long, Integer> readsByOffset = new HashMap<>();
 
         DataSource() {
             this.data = new EnhancedByteArrayOutputStream();
@@ -521,6 +662,24 @@ public class BTreeIndexTests extends ThreadPooledTestSuite {
             this.checkOffsets.set(check);
         }
 
+        void resetReads() {
+            synchronized (this.readsByOffset) {
+                this.readsByOffset.clear();
+            }
+        }
+
+        int getReadCount() {
+            synchronized (this.readsByOffset) {
+                return this.readsByOffset.values().stream().mapToInt(Integer::intValue).sum();
+            }
+        }
+
+        int getMaxReadsPerOffset() {
+            synchronized (this.readsByOffset) {
+                return this.readsByOffset.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+            }
+        }
+
         CompletableFuture<BTreeIndex.IndexInfo> getLength(Duration timeout) {
             return CompletableFuture.supplyAsync(() -> {
                 synchronized (this.data) {
@@ -530,6 +689,10 @@ public class BTreeIndexTests extends ThreadPooledTestSuite {
         }
 
         CompletableFuture<ByteArraySegment> read(long offset, int length, Duration timeout) {
+            synchronized (this.readsByOffset) {
+                this.readsByOffset.merge(offset, 1, Integer::sum);
+            }
+
             return CompletableFuture.supplyAsync(() -> {
                 synchronized (this.data) {
                     if (this.checkOffsets.get()) {
@@ -12,6 +12,7 @@ package io.pravega.common.util.btree;
 import io.pravega.common.util.BitConverter;
 import io.pravega.common.util.ByteArraySegment;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
@@ -43,6 +44,26 @@ public class ByteArrayComparatorTests {
         test(sortedData, new ByteArrayComparator()::compare);
     }
 
+    /**
+     * Tests comparing ByteArraySegments of different lengths.
+     */
+    @Test
+    public void testCompareArbitraryLength() {
+        val sortedData = Arrays.asList(
+                new byte[0],
+                new byte[]{0},
+                new byte[]{0, 0},
+                new byte[]{0, 1},
+                new byte[]{1},
+                new byte[]{1, 0, 0},
+                new byte[]{1, (byte) 255},
+                new byte[]{(byte) 128},
+                new byte[]{(byte) 255},
+                new byte[]{(byte) 255, 0});
+        test(sortedData.stream().map(ByteArraySegment::new).collect(Collectors.toList()), ByteArrayComparator::compareArbitraryLength);
+        test(generateSortedData().stream().map(ByteArraySegment::new).collect(Collectors.toList()), ByteArrayComparator::compareArbitraryLength);
+    }
+
     private ArrayList<byte[]> generateSortedData() {
         val sortedData = new ArrayList<byte[]>();
         int maxValue = COUNT / 2;
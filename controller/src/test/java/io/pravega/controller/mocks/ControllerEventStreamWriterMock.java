@@ -14,6 +14,7 @@ import io.pravega.client.stream.EventWriterConfig;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.controller.server.eventProcessor.requesthandlers.StreamRequestHandler;
 import io.pravega.shared.controller.event.ControllerEvent;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import lombok.Data;
@@ -38,6 +39,12 @@ public class ControllerEventStreamWriterMock implements EventStreamWriter<Contro
         return writeEvent(event);
     }
 
+    @Override
+    public CompletableFuture<Void> writeEvents(String routingKey, List<ControllerEvent> events) {
+        events.forEach(this::writeEvent);
+        return CompletableFuture.completedFuture(null);
+    }
+
     @Override
     public EventWriterConfig getConfig() {
         return null;
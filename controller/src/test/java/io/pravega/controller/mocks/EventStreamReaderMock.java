@@ -20,6 +20,7 @@ import io.pravega.client.stream.Stream;
 import io.pravega.client.stream.TimeWindow;
 import io.pravega.client.stream.impl.EventReadImpl;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import lombok.SneakyThrows;
 
@@ -40,6 +41,11 @@ public class EventStreamReaderMock<T> implements EventStreamReader<T> {
         return new EventReadImpl<>(event, null, null, null);
     }
 
+    @Override
+    public CompletableFuture<EventRead<T>> readNextEventAsync(long timeoutMillis) {
+        return CompletableFuture.completedFuture(readNextEvent(timeoutMillis));
+    }
+
     @Override
     public ReaderConfig getConfig() {
         return null;
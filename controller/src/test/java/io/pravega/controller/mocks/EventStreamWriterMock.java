@@ -37,6 +37,12 @@ public class EventStreamWriterMock<T> implements EventStreamWriter<T> {
         return CompletableFuture.completedFuture(null);
     }
 
+    @Override
+    public CompletableFuture<Void> writeEvents(String routingKey, List<T> events) {
+        eventList.addAll(events);
+        return CompletableFuture.completedFuture(null);
+    }
+
     @Override
     public EventWriterConfig getConfig() {
         throw new NotImplementedException("getClientConfig");
@@ -960,6 +960,12 @@ public abstract class ScaleRequestHandlerTest {
             return CompletableFuture.completedFuture(null);
         }
 
+        @Override
+        public CompletableFuture<Void> writeEvents(String routingKey, List<ControllerEvent> events) {
+            queue.addAll(events);
+            return CompletableFuture.completedFuture(null);
+        }
+
         @Override
         public EventWriterConfig getConfig() {
             return null;
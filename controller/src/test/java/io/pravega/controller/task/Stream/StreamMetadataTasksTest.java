@@ -1535,6 +1535,12 @@ public abstract class StreamMetadataTasksTest {
             return writeEvent(event);
         }
 
+        @Override
+        public CompletableFuture<Void> writeEvents(String routingKey, List<ControllerEvent> events) {
+            this.eventQueue.addAll(events);
+            return CompletableFuture.completedFuture(null);
+        }
+
         @Override
         public EventWriterConfig getConfig() {
             return null;
@@ -750,6 +750,12 @@ public class StreamTransactionMetadataTasksTest {
             return CompletableFuture.completedFuture(null);
         }
 
+        @Override
+        public CompletableFuture<Void> writeEvents(String routingKey, List<T> events) {
+            events.forEach(event -> requestsReceived.offer(new ImmutablePair<>(routingKey, event)));
+            return CompletableFuture.completedFuture(null);
+        }
+
         @Override
         public EventWriterConfig getConfig() {
             return null;
@@ -9,6 +9,7 @@
  */
 package io.pravega.segmentstore.contracts;
 
+import io.pravega.common.util.BufferView;
 import java.io.InputStream;
 
 /**
@@ -17,6 +18,7 @@ import java.io.InputStream;
 public class ReadResultEntryContents {
     private final int length;
     private final InputStream data;
+    private final BufferView buffer;
 
     /**
      * Creates a new instance of the ReadResultEntryContents class.
@@ -27,6 +29,18 @@ public class ReadResultEntryContents {
     public ReadResultEntryContents(InputStream data, int length) {
         this.data = data;
         this.length = length;
+        this.buffer = null;
+    }
+
+    /**
+     * Creates a new instance of the ReadResultEntryContents class.
+     *
+     * @param buffer A {@link BufferView} containing the retrieved data.
+     */
+    public ReadResultEntryContents(BufferView buffer) {
+        this.data = buffer.getReader();
+        this.length = buffer.getLength();
+        this.buffer = buffer;
     }
 
     /**
@@ -49,6 +63,16 @@ public class ReadResultEntryContents {
         return this.data;
     }
 
+    /**
+     * Gets the {@link BufferView} containing the retrieved data, if this instance was created with one. Consumers that
+     * need to transfer the data elsewhere may use this instead of {@link #getData()} to avoid an intermediate copy.
+     *
+     * @return The {@link BufferView}, or null if this instance was created from an {@link InputStream}.
+     */
+    public BufferView getBuffer() {
+        return this.buffer;
+    }
+
     @Override
     public String toString() {
         return String.format("Length = %d", getLength());
@@ -27,7 +27,8 @@ public interface IteratorItem<T> {
 
     /**
      * Gets a Collection of items that are contained in this instance. The items in this list are not necessarily related
-     * to each other, nor are they guaranteed to be in any particular order.
+     * to each other, nor are they guaranteed to be in any particular order (except for iterators over a {@link KeyRange},
+     * whose items contain a single element each and are returned in order).
      *
      * @return Items contained in this instance (not necessarily related to each other or in order)
      */
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.contracts.tables;
+
+import io.pravega.common.util.ArrayView;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.common.util.btree.ByteArrayComparator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Defines a range of Table Keys, which can be used to iterate over a sorted Table Segment (see {@link TableStore#keyIterator(String, KeyRange, byte[], java.time.Duration)}).
+ *
+ * Keys are ordered lexicographically, by comparing their bytes as unsigned values; if a Key is a prefix of another, then
+ * the shorter Key is ordered first. A range includes all Keys that are greater than or equal to {@link #getFrom()} and
+ * smaller than {@link #getTo()}.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeyRange {
+    /**
+     * A {@link KeyRange} that includes all Keys.
+     */
+    public static final KeyRange ALL = new KeyRange(null, null);
+
+    /**
+     * The lower bound of the range (inclusive). If null, the range is not bounded below.
+     */
+    private final ArrayView from;
+
+    /**
+     * The upper bound of the range (exclusive). If null, the range is not bounded above.
+     */
+    private final ArrayView to;
+
+    /**
+     * Creates a new {@link KeyRange} that includes all Keys that are greater than or equal to from and smaller than to.
+     *
+     * @param from (Optional) The lower bound of the range (inclusive). If null, the range is not bounded below.
+     * @param to   (Optional) The upper bound of the range (exclusive). If null, the range is not bounded above.
+     * @return A new {@link KeyRange}.
+     */
+    public static KeyRange between(ArrayView from, ArrayView to) {
+        return new KeyRange(from, to);
+    }
+
+    /**
+     * Creates a new {@link KeyRange} that includes all Keys that begin with the given prefix.
+     *
+     * @param prefix The prefix.
+     * @return A new {@link KeyRange}.
+     */
+    public static KeyRange prefix(@NonNull ArrayView prefix) {
+        // The upper bound is the smallest key that is greater than all keys beginning with the prefix: drop any trailing
+        // 0xFF bytes and increment the last remaining one. If there is no such byte, the range is unbounded above.
+        byte[] to = prefix.getCopy();
+        int length = to.length;
+        while (length > 0 && to[length - 1] == (byte) 0xFF) {
+            length--;
+        }
+
+        if (length == 0) {
+            return new KeyRange(prefix, null);
+        }
+
+        to[length - 1]++;
+        return new KeyRange(prefix, new ByteArraySegment(to, 0, length));
+    }
+
+    /**
+     * Gets a value indicating whether the given Key is included in this range.
+     *
+     * @param key The Key to test.
+     * @return True if the Key is included, false otherwise.
+     */
+    public boolean contains(@NonNull ArrayView key) {
+        return (this.from == null || ByteArrayComparator.compareArbitraryLength(this.from, key) <= 0)
+                && (this.to == null || ByteArrayComparator.compareArbitraryLength(key, this.to) < 0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("From = %s, To = %s",
+                this.from == null ? "*" : this.from.getLength() + " bytes",
+                this.to == null ? "*" : this.to.getLength() + " bytes");
+    }
+}
@@ -51,6 +51,13 @@ public class TableAttributes extends Attributes {
      */
     public static final UUID MIN_UTILIZATION = new UUID(CORE_ATTRIBUTE_ID_PREFIX, TABLE_ATTRIBUTES_START_OFFSET + 5);
 
+    /**
+     * Defines an attribute that is used to indicate whether a (Table) Segment supports iterating over its Keys in sorted
+     * order. A non-zero value means the Table Segment is sorted. This is set when the Table Segment is created and never
+     * changed afterwards.
+     */
+    public static final UUID SORTED = new UUID(CORE_ATTRIBUTE_ID_PREFIX, TABLE_ATTRIBUTES_START_OFFSET + 6);
+
     /**
      * Defines a Map that contains all Table Attributes along with their default values.
      */
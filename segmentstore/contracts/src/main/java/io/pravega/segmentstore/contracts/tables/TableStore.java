@@ -76,6 +76,22 @@ public interface TableStore {
      */
     CompletableFuture<Void> createSegment(String segmentName, Duration timeout);
 
+    /**
+     * Creates a new Segment and marks it as a Table Segment, optionally enabling iteration over its Keys in sorted order.
+     * This segment may not be used for Streaming purposes (i.e., it cannot be used with {@link StreamSegmentStore}).
+     *
+     * @param segmentName The name of the Table Segment to create.
+     * @param sorted      If true, the Table Segment will support {@link #keyIterator(String, KeyRange, byte[], Duration)}
+     *                    and {@link #entryIterator(String, KeyRange, byte[], Duration)}.
+     * @param timeout     Timeout for the operation.
+     * @return A CompletableFuture that, when completed normally, will indicate the operation completed. If the operation
+     * failed, the future will be failed with the causing exception. Notable Exceptions:
+     * <ul>
+     * <li>{@link StreamSegmentExistsException} If the Segment does exist (whether as a Table Segment or Stream Segment).
+     * </ul>
+     */
+    CompletableFuture<Void> createSegment(String segmentName, boolean sorted, Duration timeout);
+
     /**
      * Deletes an existing Table Segment.
      *
@@ -231,4 +247,59 @@ public interface TableStore {
      * @throws IllegalDataFormatException If serializedState is not null and cannot be deserialized.
      */
     CompletableFuture<AsyncIterator<IteratorItem<TableEntry>>> entryIterator(String segmentName, byte[] serializedState, Duration fetchTimeout);
+
+    /**
+     * Creates a new Iterator over the {@link TableKey} instances in the given sorted Table Segment that are included in
+     * the given {@link KeyRange}. The {@link TableKey}s are returned in ascending order (see {@link KeyRange} for how
+     * Keys are compared), and each {@link IteratorItem} contains exactly one of them. This is a resumable iterator; this
+     * method can be reinvoked using the {@link IteratorItem#getState()} from the last processed item and the same
+     * {@link KeyRange}, and the resulting iterator will continue after the last returned {@link TableKey}.
+     *
+     * Similarly to {@link #keyIterator(String, byte[], Duration)}, this iterator does not provide a consistent view of
+     * the Table Segment: Keys that are inserted or removed while iterating may or may not be included.
+     *
+     * @param segmentName     The name of the Table Segment to iterate over.
+     * @param range           The {@link KeyRange} to iterate over. Use {@link KeyRange#prefix} for prefix scans.
+     * @param serializedState (Optional) A byte array representing the serialized form of the State. This can be obtained
+     *                        from {@link IteratorItem#getState()}. If provided, the iteration will resume from where it
+     *                        left off, otherwise it will start from the beginning of the range.
+     * @param fetchTimeout    Timeout for each invocation to {@link AsyncIterator#getNext()}.
+     * @return A CompletableFuture that, when completed, will return an {@link AsyncIterator} that can be used to iterate
+     * over the {@link TableKey} instances in the range. If the operation failed, the Future will be failed with the
+     * causing exception. Notable exceptions:
+     * <ul>
+     * <li>{@link StreamSegmentNotExistsException} If the Table Segment does not exist.
+     * <li>{@link BadSegmentTypeException} If segmentName refers to a non-Table Segment.
+     * <li>{@link UnsupportedOperationException} If segmentName refers to a Table Segment that was not created as sorted
+     * (see {@link #createSegment(String, boolean, Duration)}).
+     * </ul>
+     * @throws IllegalDataFormatException If serializedState is not null and cannot be deserialized.
+     */
+    CompletableFuture<AsyncIterator<IteratorItem<TableKey>>> keyIterator(String segmentName, KeyRange range, byte[] serializedState, Duration fetchTimeout);
+
+    /**
+     * Creates a new Iterator over the {@link TableEntry} instances in the given sorted Table Segment whose Keys are
+     * included in the given {@link KeyRange}.
+     *
+     * Please refer to {@link #keyIterator(String, KeyRange, byte[], Duration)} for notes about ordering, consistency
+     * and the ability to resume.
+     *
+     * @param segmentName     The name of the Table Segment to iterate over.
+     * @param range           The {@link KeyRange} to iterate over. Use {@link KeyRange#prefix} for prefix scans.
+     * @param serializedState (Optional) A byte array representing the serialized form of the State. This can be obtained
+     *                        from {@link IteratorItem#getState()}. If provided, the iteration will resume from where it
+     *                        left off, otherwise it will start from the beginning of the range.
+     * @param fetchTimeout    Timeout for each invocation to {@link AsyncIterator#getNext()}.
+     * @return A CompletableFuture that, when completed, will return an {@link AsyncIterator} that can be used to iterate
+     * over the {@link TableEntry} instances in the range. If the operation failed, the Future will be failed with the
+     * causing exception. Notable exceptions:
+     * <ul>
+     * <li>{@link StreamSegmentNotExistsException} If the Table Segment does not exist.
+     * <li>{@link BadSegmentTypeException} If segmentName refers to a non-Table Segment.
+     * <li>{@link UnsupportedOperationException} If segmentName refers to a Table Segment that was not created as sorted
+     * (see {@link #createSegment(String, boolean, Duration)}).
+     * </ul>
+     * @throws IllegalDataFormatException If serializedState is not null and cannot be deserialized.
+     */
+    CompletableFuture<AsyncIterator<IteratorItem<TableEntry>>> entryIterator(String segmentName, KeyRange range, byte[] serializedState, Duration fetchTimeout);
 }
@@ -159,7 +159,9 @@ public class AppendProcessor extends DelegatingRequestProcessor {
                         } else {
                             long eventNumber = attributes.getOrDefault(writer, Attributes.NULL_ATTRIBUTE_VALUE);
                             this.writerStates.putIfAbsent(Pair.of(newSegment, writer), new WriterState(eventNumber));
-                            connection.send(new AppendSetup(setupAppend.getRequestId(), newSegment, writer, eventNumber));
+                            // Event contents are opaque to the Segment Store, so we can accept any codec that we know of.
+                            connection.send(new AppendSetup(setupAppend.getRequestId(), newSegment, writer, eventNumber,
+                                    setupAppend.getCodec()));
                         }
                     } catch (Throwable e) {
                         handleException(writer, setupAppend.getRequestId(), newSegment, "handling setupAppend result", e);
@@ -13,6 +13,8 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.util.ReferenceCountUtil;
 import io.pravega.auth.TokenException;
 import io.pravega.auth.TokenExpiredException;
 import io.pravega.common.Exceptions;
@@ -21,6 +23,7 @@ import io.pravega.common.Timer;
 import io.pravega.common.io.StreamHelpers;
 import io.pravega.common.tracing.TagLogger;
 import io.pravega.common.util.ArrayView;
+import io.pravega.common.util.AsyncIterator;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.segmentstore.contracts.AttributeUpdate;
 import io.pravega.segmentstore.contracts.AttributeUpdateType;
@@ -39,7 +42,9 @@ import io.pravega.segmentstore.contracts.StreamSegmentSealedException;
 import io.pravega.segmentstore.contracts.StreamSegmentStore;
 import io.pravega.segmentstore.contracts.StreamSegmentTruncatedException;
 import io.pravega.segmentstore.contracts.tables.BadKeyVersionException;
+import io.pravega.segmentstore.contracts.tables.IteratorItem;
 import io.pravega.segmentstore.contracts.tables.KeyNotExistsException;
+import io.pravega.segmentstore.contracts.tables.KeyRange;
 import io.pravega.segmentstore.contracts.tables.TableEntry;
 import io.pravega.segmentstore.contracts.tables.TableKey;
 import io.pravega.segmentstore.contracts.tables.TableSegmentNotEmptyException;
@@ -51,6 +56,7 @@ import io.pravega.segmentstore.server.host.stat.SegmentStatsRecorder;
 import io.pravega.segmentstore.server.host.stat.TableSegmentStatsRecorder;
 import io.pravega.shared.protocol.netty.FailingRequestProcessor;
 import io.pravega.shared.protocol.netty.RequestProcessor;
+import io.pravega.shared.protocol.netty.WireCommand;
 import io.pravega.shared.protocol.netty.WireCommands;
 import io.pravega.shared.protocol.netty.WireCommands.AuthTokenCheckFailed;
 import io.pravega.shared.protocol.netty.WireCommands.CreateSegment;
@@ -64,6 +70,7 @@ import io.pravega.shared.protocol.netty.WireCommands.MergeTableSegments;
 import io.pravega.shared.protocol.netty.WireCommands.NoSuchSegment;
 import io.pravega.shared.protocol.netty.WireCommands.OperationUnsupported;
 import io.pravega.shared.protocol.netty.WireCommands.ReadSegment;
+import io.pravega.shared.protocol.netty.WireCommands.ReadSegments;
 import io.pravega.shared.protocol.netty.WireCommands.SealSegment;
 import io.pravega.shared.protocol.netty.WireCommands.SegmentAlreadyExists;
 import io.pravega.shared.protocol.netty.WireCommands.SegmentAttribute;
@@ -77,10 +84,13 @@ import io.pravega.shared.protocol.netty.WireCommands.SegmentRead;
 import io.pravega.shared.protocol.netty.WireCommands.SegmentSealed;
 import io.pravega.shared.protocol.netty.WireCommands.SegmentTruncated;
 import io.pravega.shared.protocol.netty.WireCommands.StreamSegmentInfo;
+import io.pravega.shared.protocol.netty.WireCommands.SubscribeSegment;
 import io.pravega.shared.protocol.netty.WireCommands.TableSegmentNotEmpty;
 import io.pravega.shared.protocol.netty.WireCommands.TruncateSegment;
+import io.pravega.shared.protocol.netty.WireCommands.UnsubscribeSegment;
 import io.pravega.shared.protocol.netty.WireCommands.UpdateSegmentAttribute;
 import io.pravega.shared.protocol.netty.WireCommands.UpdateSegmentPolicy;
+import io.pravega.shared.protocol.netty.WireCommands.UpdateSegmentSubscription;
 import io.pravega.shared.protocol.netty.WireCommands.WrongHost;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -94,10 +104,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.SneakyThrows;
@@ -130,6 +143,7 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
     static final Duration TIMEOUT = Duration.ofMinutes(1);
     private static final TagLogger log = new TagLogger(LoggerFactory.getLogger(PravegaRequestProcessor.class));
     private static final int MAX_READ_SIZE = 2 * 1024 * 1024;
+    private static final int MAX_SUBSCRIPTION_WINDOW_SIZE = 16 * 1024 * 1024;
     private static final ByteBuffer EMPTY_BYTE_BUFFER = ByteBuffer.wrap(new byte[0]);
     private static final String EMPTY_STACK_TRACE = "";
     private final StreamSegmentStore segmentStore;
@@ -139,6 +153,7 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
     private final TableSegmentStatsRecorder tableStatsRecorder;
     private final DelegationTokenVerifier tokenVerifier;
     private final boolean replyWithStackTraceOnError;
+    private final ConcurrentHashMap<Long, SegmentSubscription> subscriptions = new ConcurrentHashMap<>();
 
     //endregion
 
@@ -205,6 +220,13 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                                                          wrapCancellationException(ex)));
     }
 
+    @Override
+    public void readSegments(ReadSegments readSegments) {
+        // Each read is verified, executed and replied to independently, using its own request id.
+        log.debug(readSegments.getRequestId(), "Processing {} batched reads.", readSegments.getReads().size());
+        readSegments.getReads().forEach(this::readSegment);
+    }
+
     private boolean verifyToken(String segment, long requestId, String delegationToken, String operation) {
         boolean isTokenValid = false;
         try {
@@ -235,10 +257,11 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
 
         if (!cachedEntries.isEmpty() || endOfSegment) {
             // We managed to collect some data. Send it.
-            ByteBuffer data = copyData(cachedEntries);
-            SegmentRead reply = new SegmentRead(segment, request.getOffset(), atTail, endOfSegment, data, request.getRequestId());
+            SegmentRead reply = createCachedRead(segment, request.getOffset(), atTail, endOfSegment, cachedEntries,
+                                                 request.getRequestId());
+            int length = reply.getData().remaining();
             connection.send(reply);
-            this.statsRecorder.read(segment, reply.getData().array().length);
+            this.statsRecorder.read(segment, length);
         } else if (truncated) {
             // We didn't collect any data, instead we determined that the current read offset was truncated.
             // Determine the current Start Offset and send that back.
@@ -253,12 +276,17 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
             nonCachedEntry.requestContent(TIMEOUT);
             nonCachedEntry.getContent()
                     .thenAccept(contents -> {
-                        ByteBuffer data = copyData(Collections.singletonList(contents));
+                        // Data read from Storage may be exposed as a (direct or memory-mapped) buffer; if so, send it as-is
+                        // instead of copying it into a heap buffer first.
+                        ByteBuffer data = contents.getBuffer() == null
+                                ? copyData(Collections.singletonList(contents))
+                                : contents.getBuffer().asByteBuffer();
+                        // Data from a Future read has just been appended, so the reader has caught up with the tail.
                         SegmentRead reply = new SegmentRead(segment, nonCachedEntry.getStreamSegmentOffset(),
-                                                            false, endOfSegment,
+                                                            atTail, endOfSegment,
                                                             data, request.getRequestId());
                         connection.send(reply);
-                        this.statsRecorder.read(segment, reply.getData().array().length);
+                        this.statsRecorder.read(segment, data.remaining());
                     })
                     .exceptionally(e -> {
                         if (Exceptions.unwrap(e) instanceof StreamSegmentTruncatedException) {
@@ -279,6 +307,164 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
         }
     }
 
+    /**
+     * Creates a SegmentRead out of the given cached entries.
+     */
+    private SegmentRead createCachedRead(String segment, long offset, boolean atTail, boolean endOfSegment,
+                                         List<ReadResultEntryContents> cachedEntries, long requestId) {
+        if (connection.releasesSentCommands() && !cachedEntries.isEmpty()
+                && cachedEntries.stream().allMatch(c -> c.getBuffer() != null)) {
+            // The reply owns the buffer and the connection releases it after it has been written out. Connections that
+            // do not release what they send (i.e., in-process ones) get a heap copy instead, which need not be released.
+            return new SegmentRead(segment, offset, atTail, endOfSegment, copyToDirectBuffer(cachedEntries), requestId);
+        } else {
+            return new SegmentRead(segment, offset, atTail, endOfSegment, copyData(cachedEntries), requestId);
+        }
+    }
+
+    @Override
+    public void subscribeSegment(SubscribeSegment subscribeSegment) {
+        final String segment = subscribeSegment.getSegment();
+        final long requestId = subscribeSegment.getRequestId();
+        final String operation = "subscribeSegment";
+
+        if (!verifyToken(segment, requestId, subscribeSegment.getDelegationToken(), operation)) {
+            return;
+        }
+
+        final int windowSize = min(MAX_SUBSCRIPTION_WINDOW_SIZE, max(TYPE_PLUS_LENGTH_SIZE, subscribeSegment.getWindowSize()));
+        SegmentSubscription subscription = new SegmentSubscription(segment, requestId, subscribeSegment.getOffset(), windowSize);
+        log.debug(requestId, "Subscribing to '{}' at offset {} with a window of {} bytes.", segment, subscribeSegment.getOffset(),
+                  windowSize);
+        SegmentSubscription previous = this.subscriptions.put(requestId, subscription);
+        if (previous != null) {
+            previous.close();
+        }
+
+        pushSubscriptionData(subscription);
+    }
+
+    @Override
+    public void updateSegmentSubscription(UpdateSegmentSubscription updateSegmentSubscription) {
+        SegmentSubscription subscription = getSubscription(updateSegmentSubscription.getRequestId(), updateSegmentSubscription.getSegment());
+        if (subscription != null) {
+            subscription.acknowledge(updateSegmentSubscription.getAcknowledgedOffset());
+            pushSubscriptionData(subscription);
+        }
+    }
+
+    @Override
+    public void unsubscribeSegment(UnsubscribeSegment unsubscribeSegment) {
+        SegmentSubscription subscription = getSubscription(unsubscribeSegment.getRequestId(), unsubscribeSegment.getSegment());
+        if (subscription != null) {
+            log.debug(subscription.getRequestId(), "Unsubscribing from '{}'.", subscription);
+            closeSubscription(subscription);
+        }
+    }
+
+    private SegmentSubscription getSubscription(long requestId, String segment) {
+        SegmentSubscription subscription = this.subscriptions.get(requestId);
+        if (subscription == null || !subscription.getSegment().equals(segment)) {
+            // The subscription may have ended in the meantime (i.e., due to an error or reaching the end of the Segment).
+            log.debug(requestId, "No subscription found for segment '{}'.", segment);
+            return null;
+        }
+        return subscription;
+    }
+
+    private void closeSubscription(SegmentSubscription subscription) {
+        subscription.close();
+        this.subscriptions.remove(subscription.getRequestId(), subscription);
+    }
+
+    /**
+     * Reads the next chunk of data for the given subscription (if it has not used up its window) and pushes it to the
+     * client. Upon completion, this is repeated until the window is exhausted, after which it will be resumed once the
+     * client acknowledges some of the data. Reads at the tail of the Segment complete when new data is appended to it.
+     * The subscription is closed when an error is encountered or the end of the Segment is reached.
+     */
+    private void pushSubscriptionData(SegmentSubscription subscription) {
+        if (connection.isClosed()) {
+            closeSubscription(subscription);
+            return;
+        }
+
+        final int readLength = subscription.beginRead(MAX_READ_SIZE);
+        if (readLength <= 0) {
+            // Closed, another read is in progress, or we need to wait for the client to catch up.
+            return;
+        }
+
+        final String segment = subscription.getSegment();
+        final long requestId = subscription.getRequestId();
+        final long offset = subscription.getNextOffset();
+        final String operation = "subscribeSegment";
+        Timer timer = new Timer();
+        segmentStore.read(segment, offset, readLength, TIMEOUT)
+                    .thenCompose(readResult -> readForSubscription(segment, offset, readResult, requestId))
+                    .whenComplete((reply, ex) -> {
+                        if (ex != null) {
+                            closeSubscription(subscription);
+                            Throwable u = wrapCancellationException(ex);
+                            if (u instanceof StreamSegmentTruncatedException) {
+                                final String clientReplyStackTrace = replyWithStackTraceOnError ? u.getMessage() : EMPTY_STACK_TRACE;
+                                connection.send(new SegmentIsTruncated(requestId, segment, offset, clientReplyStackTrace, offset));
+                            } else {
+                                handleException(requestId, segment, offset, operation, u);
+                            }
+                            return;
+                        }
+
+                        if (subscription.isClosed()) {
+                            // Unsubscribed while the read was in progress; the client is no longer interested in this.
+                            ReferenceCountUtil.release(reply);
+                            return;
+                        }
+
+                        connection.send(reply);
+                        int length = reply instanceof SegmentRead ? ((SegmentRead) reply).getData().remaining() : 0;
+                        if (length > 0 && !((SegmentRead) reply).isEndOfSegment()) {
+                            this.statsRecorder.read(segment, length);
+                            this.statsRecorder.readComplete(timer.getElapsed());
+                            subscription.endRead(length);
+                            pushSubscriptionData(subscription);
+                        } else {
+                            // Error, empty read or end of segment. Either way, there is nothing more to push.
+                            log.debug(requestId, "Subscription ended: {}.", subscription);
+                            closeSubscription(subscription);
+                        }
+                    });
+    }
+
+    /**
+     * Same as {@link #handleReadResult}, except that the reply is returned instead of being sent out.
+     */
+    private CompletableFuture<WireCommand> readForSubscription(String segment, long offset, ReadResult result, long requestId) {
+        ArrayList<ReadResultEntryContents> cachedEntries = new ArrayList<>();
+        ReadResultEntry nonCachedEntry = collectCachedEntries(offset, result, cachedEntries);
+        boolean endOfSegment = nonCachedEntry != null && nonCachedEntry.getType() == EndOfStreamSegment;
+        boolean atTail = nonCachedEntry != null && nonCachedEntry.getType() == Future;
+
+        if (!cachedEntries.isEmpty() || endOfSegment) {
+            return CompletableFuture.completedFuture(createCachedRead(segment, offset, atTail, endOfSegment, cachedEntries, requestId));
+        } else if (nonCachedEntry != null && nonCachedEntry.getType() == Truncated) {
+            return segmentStore.getStreamSegmentInfo(segment, TIMEOUT)
+                               .thenApply(info -> new SegmentIsTruncated(requestId, segment, info.getStartOffset(),
+                                                                         EMPTY_STACK_TRACE, offset));
+        } else {
+            Preconditions.checkState(nonCachedEntry != null, "No ReadResultEntries returned from read!?");
+            nonCachedEntry.requestContent(TIMEOUT);
+            return nonCachedEntry.getContent()
+                                 .thenApply(contents -> {
+                                     ByteBuffer data = contents.getBuffer() == null
+                                             ? copyData(Collections.singletonList(contents))
+                                             : contents.getBuffer().asByteBuffer();
+                                     return new SegmentRead(segment, nonCachedEntry.getStreamSegmentOffset(), atTail, false,
+                                                            data, requestId);
+                                 });
+        }
+    }
+
     /**
      * Wrap a {@link CancellationException} to {@link ReadCancellationException}
      */
@@ -332,6 +518,30 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
         return data;
     }
 
+    /**
+     * Copies all of the contents provided (which must all have a {@link ReadResultEntryContents#getBuffer()}) into a
+     * single pooled, direct {@link ByteBuf} and returns it. The data is transferred straight from the cache buffers,
+     * without going through the heap.
+     *
+     * The cache does not support pinning its buffers and may reuse them as soon as an entry is evicted, so we cannot hand
+     * them over to Netty (which encodes replies asynchronously); we need to make a copy before returning from here.
+     */
+    private ByteBuf copyToDirectBuffer(List<ReadResultEntryContents> contents) {
+        int totalSize = contents.stream().mapToInt(ReadResultEntryContents::getLength).sum();
+        ByteBuf data = PooledByteBufAllocator.DEFAULT.directBuffer(totalSize, totalSize);
+        try {
+            for (ReadResultEntryContents content : contents) {
+                int copied = content.getBuffer().copyTo(data.nioBuffer(data.writerIndex(), content.getLength()));
+                Preconditions.checkState(copied == content.getLength(), "Read fewer bytes than available.");
+                data.writerIndex(data.writerIndex() + copied);
+            }
+        } catch (Throwable ex) {
+            data.release();
+            throw ex;
+        }
+        return data;
+    }
+
     @Override
     public void updateSegmentAttribute(UpdateSegmentAttribute updateSegmentAttribute) {
         long requestId = updateSegmentAttribute.getRequestId();
@@ -576,7 +786,7 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
 
         log.info(createTableSegment.getRequestId(), "Creating table segment {}.", createTableSegment);
         val timer = new Timer();
-        tableStore.createSegment(createTableSegment.getSegment(), TIMEOUT)
+        tableStore.createSegment(createTableSegment.getSegment(), createTableSegment.isSorted(), TIMEOUT)
                   .thenAccept(v -> {
                       connection.send(new SegmentCreated(createTableSegment.getRequestId(), createTableSegment.getSegment()));
                       this.tableStatsRecorder.createTableSegment(createTableSegment.getSegment(), timer.getElapsed());
@@ -725,21 +935,35 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
         }
 
         log.info(readTableKeys.getRequestId(), "Fetching keys from {}.", readTableKeys);
+        byte[] state = getIteratorState(readTableKeys.getContinuationToken());
+        readTableKeys(readTableKeys.getRequestId(), segment, readTableKeys.getSuggestedKeyCount(), operation,
+                () -> tableStore.keyIterator(segment, state, TIMEOUT));
+    }
 
-        int suggestedKeyCount = readTableKeys.getSuggestedKeyCount();
-        ByteBuf token = readTableKeys.getContinuationToken();
+    @Override
+    public void readTableKeyRange(WireCommands.ReadTableKeyRange readTableKeyRange) {
+        final String segment = readTableKeyRange.getSegment();
+        final String operation = "readTableKeyRange";
 
-        byte[] state = null;
-        if (!token.equals(EMPTY_BUFFER)) {
-            state = token.array();
+        if (!verifyToken(segment, readTableKeyRange.getRequestId(), readTableKeyRange.getDelegationToken(), operation)) {
+            return;
         }
 
+        log.info(readTableKeyRange.getRequestId(), "Fetching key range from {}.", readTableKeyRange);
+        byte[] state = getIteratorState(readTableKeyRange.getContinuationToken());
+        KeyRange range = getKeyRange(readTableKeyRange.getFromKey(), readTableKeyRange.getToKey());
+        readTableKeys(readTableKeyRange.getRequestId(), segment, readTableKeyRange.getSuggestedKeyCount(), operation,
+                () -> tableStore.keyIterator(segment, range, state, TIMEOUT));
+    }
+
+    private void readTableKeys(long requestId, String segment, int suggestedKeyCount, String operation,
+                               Supplier<CompletableFuture<AsyncIterator<IteratorItem<TableKey>>>> createIterator) {
         final AtomicInteger msgSize = new AtomicInteger(0);
         final AtomicReference<ByteBuf> continuationToken = new AtomicReference<>(EMPTY_BUFFER);
         final List<TableKey> keys = new ArrayList<>();
 
         val timer = new Timer();
-        tableStore.keyIterator(segment, state, TIMEOUT)
+        createIterator.get()
                   .thenCompose(itr -> itr.collectRemaining(
                           e -> {
                               synchronized (keys) {
@@ -762,7 +986,7 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                   .thenAccept(v -> {
                       final List<WireCommands.TableKey> wireCommandKeys;
                       synchronized (keys) {
-                          log.debug(readTableKeys.getRequestId(), "{} keys obtained for ReadTableKeys request.", keys.size());
+                          log.debug(requestId, "{} keys obtained for {} request.", keys.size(), operation);
                           wireCommandKeys = keys.stream()
                                                 .map(k -> {
                                                     ArrayView keyArray = k.getKey();
@@ -772,9 +996,9 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                                                 })
                                                 .collect(toList());
                       }
-                      connection.send(new WireCommands.TableKeysRead(readTableKeys.getRequestId(), segment, wireCommandKeys, continuationToken.get()));
-                      this.tableStatsRecorder.iterateKeys(readTableKeys.getSegment(), keys.size(), timer.getElapsed());
-                  }).exceptionally(e -> handleException(readTableKeys.getRequestId(), segment, operation, e));
+                      connection.send(new WireCommands.TableKeysRead(requestId, segment, wireCommandKeys, continuationToken.get()));
+                      this.tableStatsRecorder.iterateKeys(segment, keys.size(), timer.getElapsed());
+                  }).exceptionally(e -> handleException(requestId, segment, operation, e));
     }
 
     @Override
@@ -787,20 +1011,34 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
         }
 
         log.info(readTableEntries.getRequestId(), "Fetching keys from {}.", readTableEntries);
+        byte[] state = getIteratorState(readTableEntries.getContinuationToken());
+        readTableEntries(readTableEntries.getRequestId(), segment, readTableEntries.getSuggestedEntryCount(), operation,
+                () -> tableStore.entryIterator(segment, state, TIMEOUT));
+    }
 
-        int suggestedEntryCount = readTableEntries.getSuggestedEntryCount();
-        ByteBuf token = readTableEntries.getContinuationToken();
+    @Override
+    public void readTableEntryRange(WireCommands.ReadTableEntryRange readTableEntryRange) {
+        final String segment = readTableEntryRange.getSegment();
+        final String operation = "readTableEntryRange";
 
-        byte[] state = null;
-        if (!token.equals(EMPTY_BUFFER)) {
-            state = token.array();
+        if (!verifyToken(segment, readTableEntryRange.getRequestId(), readTableEntryRange.getDelegationToken(), operation)) {
+            return;
         }
 
+        log.info(readTableEntryRange.getRequestId(), "Fetching entry range from {}.", readTableEntryRange);
+        byte[] state = getIteratorState(readTableEntryRange.getContinuationToken());
+        KeyRange range = getKeyRange(readTableEntryRange.getFromKey(), readTableEntryRange.getToKey());
+        readTableEntries(readTableEntryRange.getRequestId(), segment, readTableEntryRange.getSuggestedEntryCount(), operation,
+                () -> tableStore.entryIterator(segment, range, state, TIMEOUT));
+    }
+
+    private void readTableEntries(long requestId, String segment, int suggestedEntryCount, String operation,
+                                  Supplier<CompletableFuture<AsyncIterator<IteratorItem<TableEntry>>>> createIterator) {
         final AtomicInteger msgSize = new AtomicInteger(0);
         final AtomicReference<ByteBuf> continuationToken = new AtomicReference<>(EMPTY_BUFFER);
         final List<TableEntry> entries = new ArrayList<>();
         val timer = new Timer();
-        tableStore.entryIterator(segment, state, TIMEOUT)
+        createIterator.get()
                   .thenCompose(itr -> itr.collectRemaining(
                           e -> {
                               synchronized (entries) {
@@ -823,7 +1061,7 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                   .thenAccept(v -> {
                       final List<Map.Entry<WireCommands.TableKey, WireCommands.TableValue>> wireCommandEntries;
                       synchronized (entries) {
-                          log.debug(readTableEntries.getRequestId(), "{} entries obtained for ReadTableEntries request.", entries.size());
+                          log.debug(requestId, "{} entries obtained for {} request.", entries.size(), operation);
                           wireCommandEntries = entries.stream()
                                                       .map(e -> {
                                                           TableKey k = e.getKey();
@@ -838,11 +1076,21 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                                                       .collect(toList());
                       }
 
-                      connection.send(new WireCommands.TableEntriesRead(readTableEntries.getRequestId(), segment,
+                      connection.send(new WireCommands.TableEntriesRead(requestId, segment,
                                                                         new WireCommands.TableEntries(wireCommandEntries),
                                                                         continuationToken.get()));
-                      this.tableStatsRecorder.iterateEntries(readTableEntries.getSegment(), entries.size(), timer.getElapsed());
-                  }).exceptionally(e -> handleException(readTableEntries.getRequestId(), segment, operation, e));
+                      this.tableStatsRecorder.iterateEntries(segment, entries.size(), timer.getElapsed());
+                  }).exceptionally(e -> handleException(requestId, segment, operation, e));
+    }
+
+    private byte[] getIteratorState(ByteBuf token) {
+        return token.equals(EMPTY_BUFFER) ? null : token.array();
+    }
+
+    private KeyRange getKeyRange(ByteBuf fromKey, ByteBuf toKey) {
+        // An empty lower bound includes all keys, while an empty upper bound means the range is not bounded above.
+        return KeyRange.between(fromKey.readableBytes() == 0 ? null : getArrayView(fromKey),
+                                toKey.readableBytes() == 0 ? null : getArrayView(toKey));
     }
 
     private int getTableKeyBytes(String segment, Collection<TableKey> keys, int continuationTokenLength) {
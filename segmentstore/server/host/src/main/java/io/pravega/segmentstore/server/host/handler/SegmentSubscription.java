@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.host.handler;
+
+import com.google.common.base.Preconditions;
+import io.pravega.shared.protocol.netty.WireCommands;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+
+/**
+ * Tracks the state of a Segment subscription (see {@link WireCommands.SubscribeSegment}): the offset up to which data
+ * has been pushed to the client, the offset up to which the client has acknowledged it and whether a read is in progress.
+ * At most one read is in progress at any given time, which ensures data is pushed in order.
+ */
+@ThreadSafe
+class SegmentSubscription {
+    @Getter
+    private final String segment;
+    @Getter
+    private final long requestId;
+    private final int windowSize;
+    @GuardedBy("this")
+    private long nextOffset;
+    @GuardedBy("this")
+    private long acknowledgedOffset;
+    @GuardedBy("this")
+    private boolean readInProgress;
+    @GuardedBy("this")
+    private boolean closed;
+
+    SegmentSubscription(String segment, long requestId, long offset, int windowSize) {
+        Preconditions.checkArgument(offset >= 0, "offset must be a non-negative number.");
+        Preconditions.checkArgument(windowSize > 0, "windowSize must be a positive number.");
+        this.segment = segment;
+        this.requestId = requestId;
+        this.nextOffset = offset;
+        this.acknowledgedOffset = offset;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Gets the offset at which the next push begins.
+     *
+     * @return The offset.
+     */
+    synchronized long getNextOffset() {
+        return this.nextOffset;
+    }
+
+    /**
+     * Attempts to begin a read. If successful, no other read may begin until {@link #endRead} is invoked.
+     *
+     * @param maxReadLength The maximum number of bytes to read.
+     * @return The number of bytes that may be read from {@link #getNextOffset()}, or 0 if the subscription is closed,
+     * another read is in progress or the client has not acknowledged enough data to allow more to be pushed.
+     */
+    synchronized int beginRead(int maxReadLength) {
+        long available = this.acknowledgedOffset + this.windowSize - this.nextOffset;
+        if (this.closed || this.readInProgress || available <= 0) {
+            return 0;
+        }
+
+        this.readInProgress = true;
+        return (int) Math.min(available, maxReadLength);
+    }
+
+    /**
+     * Indicates that the read begun with {@link #beginRead} is complete and its data has been pushed.
+     *
+     * @param length The number of bytes pushed.
+     */
+    synchronized void endRead(int length) {
+        Preconditions.checkState(this.readInProgress, "No read in progress.");
+        this.nextOffset += length;
+        this.readInProgress = false;
+    }
+
+    /**
+     * Records that the client has consumed all pushed data up to the given offset.
+     *
+     * @param offset The offset.
+     */
+    synchronized void acknowledge(long offset) {
+        this.acknowledgedOffset = Math.max(this.acknowledgedOffset, Math.min(offset, this.nextOffset));
+    }
+
+    synchronized void close() {
+        this.closed = true;
+    }
+
+    synchronized boolean isClosed() {
+        return this.closed;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("Segment = %s, RequestId = %d, NextOffset = %d, AcknowledgedOffset = %d, Closed = %s",
+                this.segment, this.requestId, this.nextOffset, this.acknowledgedOffset, this.closed);
+    }
+}
@@ -24,6 +24,18 @@ public interface ServerConnection extends AutoCloseable {
      */
     void send(WireCommand cmd);
 
+    /**
+     * Gets a value indicating whether this connection releases the reference-counted commands (such as a
+     * {@link io.pravega.shared.protocol.netty.WireCommands.SegmentRead} backed by a pooled buffer) passed to
+     * {@link #send} once they have been written out. Connections that do not must only be sent commands backed by
+     * unpooled heap memory.
+     *
+     * @return True if sent commands are released by this connection, false otherwise.
+     */
+    default boolean releasesSentCommands() {
+        return false;
+    }
+
     /**
      * Sets the command processor to receive incoming commands from the client. This
      * method may only be called once.
@@ -41,4 +53,11 @@ public interface ServerConnection extends AutoCloseable {
      */
     @Override
     void close();
+
+    /**
+     * Gets a value indicating whether the connection has been closed (by either side).
+     *
+     * @return True if closed, false otherwise.
+     */
+    boolean isClosed();
 }
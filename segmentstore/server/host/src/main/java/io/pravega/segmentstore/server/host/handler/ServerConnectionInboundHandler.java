@@ -71,6 +71,14 @@ public class ServerConnectionInboundHandler extends ChannelInboundHandlerAdapter
     private static void write(Channel channel, WireCommand data) {
         channel.write(data).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
     }  
+
+    /**
+     * Netty releases reference-counted messages once they have been encoded, or if they could not be written.
+     */
+    @Override
+    public boolean releasesSentCommands() {
+        return true;
+    }
     
     @Override
     public void setRequestProcessor(RequestProcessor rp) {
@@ -86,6 +94,12 @@ public class ServerConnectionInboundHandler extends ChannelInboundHandlerAdapter
         }
     }
 
+    @Override
+    public boolean isClosed() {
+        Channel ch = channel.get();
+        return ch != null && !ch.isOpen();
+    }
+
     @Override
     public void pauseReading() {
         log.debug("Pausing reading from connection {}", this);
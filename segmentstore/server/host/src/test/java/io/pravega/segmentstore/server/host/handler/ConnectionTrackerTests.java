@@ -117,5 +117,10 @@ public class ConnectionTrackerTests {
         public void close() {
             throw new UnsupportedOperationException();
         }
+
+        @Override
+        public boolean isClosed() {
+            return false;
+        }
     }
 }
@@ -51,6 +51,8 @@ import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -188,6 +190,133 @@ public class PravegaRequestProcessorTest {
         verifyNoMoreInteractions(store);
     }
 
+    @Test(timeout = 20000)
+    public void testReadSegments() {
+        String segment1 = "scope/stream/testReadSegments1";
+        String segment2 = "scope/stream/testReadSegments2";
+        byte[] data = new byte[]{1, 2, 3, 4, 6, 7, 8, 9};
+        int readLength = 1000;
+
+        StreamSegmentStore store = mock(StreamSegmentStore.class);
+        ServerConnection connection = mock(ServerConnection.class);
+        PravegaRequestProcessor processor = new PravegaRequestProcessor(store, mock(TableStore.class), connection);
+
+        TestReadResultEntry entry = new TestReadResultEntry(ReadResultEntryType.Cache, 10, readLength);
+        entry.complete(new ReadResultEntryContents(new ByteArrayInputStream(data), data.length));
+        when(store.read(segment1, 10, readLength, PravegaRequestProcessor.TIMEOUT))
+                .thenReturn(CompletableFuture.completedFuture(new TestReadResult(10, readLength, new ArrayList<>(Collections.singletonList(entry)))));
+        when(store.read(segment2, 0, readLength, PravegaRequestProcessor.TIMEOUT))
+                .thenReturn(Futures.failedFuture(new StreamSegmentNotExistsException(segment2)));
+
+        // Each read in the batch is executed and replied to on its own, using its own request id.
+        processor.readSegments(new WireCommands.ReadSegments(requestId, Arrays.asList(
+                new WireCommands.ReadSegment(segment1, 10, readLength, "", requestId + 1),
+                new WireCommands.ReadSegment(segment2, 0, readLength, "", requestId + 2))));
+        verify(store).read(segment1, 10, readLength, PravegaRequestProcessor.TIMEOUT);
+        verify(store).read(segment2, 0, readLength, PravegaRequestProcessor.TIMEOUT);
+        verify(connection).send(new WireCommands.SegmentRead(segment1, 10, false, false, ByteBuffer.wrap(data), requestId + 1));
+        verify(connection).send(new WireCommands.NoSuchSegment(requestId + 2, segment2, "", 0));
+        verifyNoMoreInteractions(connection);
+        verifyNoMoreInteractions(store);
+    }
+
+    @Test(timeout = 20000)
+    public void testSubscribeSegment() {
+        String segment = "scope/stream/testSubscribeSegment";
+        byte[] data1 = new byte[]{1, 2, 3, 4, 6, 7, 8, 9};
+        byte[] data2 = new byte[]{9, 8, 7, 6, 4, 3, 2, 1};
+        int windowSize = data1.length;
+
+        StreamSegmentStore store = mock(StreamSegmentStore.class);
+        ServerConnection connection = mock(ServerConnection.class);
+        PravegaRequestProcessor processor = new PravegaRequestProcessor(store, mock(TableStore.class), connection);
+
+        TestReadResultEntry entry1 = new TestReadResultEntry(ReadResultEntryType.Cache, 0, windowSize);
+        entry1.complete(new ReadResultEntryContents(new ByteArrayInputStream(data1), data1.length));
+        when(store.read(segment, 0, windowSize, PravegaRequestProcessor.TIMEOUT))
+                .thenReturn(CompletableFuture.completedFuture(new TestReadResult(0, windowSize, new ArrayList<>(Collections.singletonList(entry1)))));
+        TestReadResultEntry entry2 = new TestReadResultEntry(ReadResultEntryType.Future, data1.length, windowSize);
+        when(store.read(segment, data1.length, windowSize, PravegaRequestProcessor.TIMEOUT))
+                .thenReturn(CompletableFuture.completedFuture(new TestReadResult(data1.length, windowSize, new ArrayList<>(Collections.singletonList(entry2)))));
+
+        // The first read is pushed right away, after which the window is full.
+        processor.subscribeSegment(new WireCommands.SubscribeSegment(requestId, segment, 0, windowSize, ""));
+        verify(store).read(segment, 0, windowSize, PravegaRequestProcessor.TIMEOUT);
+        verify(connection).send(new WireCommands.SegmentRead(segment, 0, false, false, ByteBuffer.wrap(data1), requestId));
+        verifyNoMoreInteractions(store);
+
+        // Once acknowledged, the next read is issued at the tail, and its data is pushed as soon as it is appended.
+        processor.updateSegmentSubscription(new WireCommands.UpdateSegmentSubscription(requestId, segment, data1.length));
+        verify(store).read(segment, data1.length, windowSize, PravegaRequestProcessor.TIMEOUT);
+        entry2.complete(new ReadResultEntryContents(new ByteArrayInputStream(data2), data2.length));
+        verify(connection).send(new WireCommands.SegmentRead(segment, data1.length, true, false, ByteBuffer.wrap(data2), requestId));
+
+        // After unsubscribing, acknowledgements have no effect.
+        processor.unsubscribeSegment(new WireCommands.UnsubscribeSegment(requestId, segment));
+        processor.updateSegmentSubscription(new WireCommands.UpdateSegmentSubscription(requestId, segment, data1.length + data2.length));
+        verify(connection, Mockito.atLeastOnce()).isClosed();
+        verifyNoMoreInteractions(connection);
+        verifyNoMoreInteractions(store);
+    }
+
+    /**
+     * Verifies that cached entries that expose their data as buffers are sent in a buffer that is owned (and released)
+     * by the reply, if the connection releases what it sends.
+     */
+    @Test(timeout = 20000)
+    public void testReadSegmentCachedBuffers() {
+        val reply = readCachedBuffers(true);
+        // The reply is released by Netty once it has been encoded.
+        assertEquals(1, reply.refCnt());
+        assertTrue(reply.release());
+        assertEquals(0, reply.refCnt());
+    }
+
+    /**
+     * Verifies that cached entries that expose their data as buffers are sent in a heap buffer (which need not be
+     * released) if the connection does not release what it sends.
+     */
+    @Test(timeout = 20000)
+    public void testReadSegmentCachedBuffersInProcess() {
+        val reply = readCachedBuffers(false);
+        assertTrue(reply.getData().hasArray());
+        assertFalse(reply.release());
+    }
+
+    private WireCommands.SegmentRead readCachedBuffers(boolean connectionReleasesSentCommands) {
+        String streamSegmentName = "scope/stream/testReadSegmentCachedBuffers";
+        byte[] data1 = new byte[]{1, 2, 3, 4};
+        byte[] data2 = new byte[]{6, 7, 8, 9};
+        int readLength = 1000;
+
+        StreamSegmentStore store = mock(StreamSegmentStore.class);
+        ServerConnection connection = mock(ServerConnection.class);
+        when(connection.releasesSentCommands()).thenReturn(connectionReleasesSentCommands);
+        PravegaRequestProcessor processor = new PravegaRequestProcessor(store, mock(TableStore.class), connection);
+
+        TestReadResultEntry entry1 = new TestReadResultEntry(ReadResultEntryType.Cache, 0, readLength);
+        entry1.complete(new ReadResultEntryContents(new ByteBufWrapper(Unpooled.directBuffer().writeBytes(data1))));
+        TestReadResultEntry entry2 = new TestReadResultEntry(ReadResultEntryType.Cache, data1.length, readLength);
+        entry2.complete(new ReadResultEntryContents(new ByteBufWrapper(Unpooled.directBuffer().writeBytes(data2))));
+        TestReadResultEntry entry3 = new TestReadResultEntry(ReadResultEntryType.Future, data1.length + data2.length, readLength);
+
+        List<ReadResultEntry> results = new ArrayList<>();
+        results.add(entry1);
+        results.add(entry2);
+        results.add(entry3);
+        CompletableFuture<ReadResult> readResult = new CompletableFuture<>();
+        readResult.complete(new TestReadResult(0, readLength, results));
+        when(store.read(streamSegmentName, 0, readLength, PravegaRequestProcessor.TIMEOUT)).thenReturn(readResult);
+
+        processor.readSegment(new WireCommands.ReadSegment(streamSegmentName, 0, readLength, "", requestId));
+        ArgumentCaptor<WireCommands.SegmentRead> reply = ArgumentCaptor.forClass(WireCommands.SegmentRead.class);
+        verify(connection).send(reply.capture());
+        val expectedData = ByteBuffer.allocate(data1.length + data2.length).put(data1).put(data2);
+        expectedData.flip();
+        assertEquals(new WireCommands.SegmentRead(streamSegmentName, 0, true, false, expectedData, requestId), reply.getValue());
+        return reply.getValue();
+    }
+
     @Test(timeout = 20000)
     public void testReadSegmentEmptySealed() {
         // Set up PravegaRequestProcessor instance to execute read segment request against
@@ -593,9 +722,9 @@ public class PravegaRequestProcessorTest {
                 recorderMock, new PassingTokenVerifier(), false);
 
         // Execute and Verify createTableSegment calling stack is executed as design.
-        processor.createTableSegment(new WireCommands.CreateTableSegment(1, tableSegmentName, ""));
+        processor.createTableSegment(new WireCommands.CreateTableSegment(1, tableSegmentName, false, ""));
         order.verify(connection).send(new WireCommands.SegmentCreated(1, tableSegmentName));
-        processor.createTableSegment(new WireCommands.CreateTableSegment(2, tableSegmentName, ""));
+        processor.createTableSegment(new WireCommands.CreateTableSegment(2, tableSegmentName, false, ""));
         order.verify(connection).send(new WireCommands.SegmentAlreadyExists(2, tableSegmentName, ""));
         verify(recorderMock).createTableSegment(eq(tableSegmentName), any());
         verifyNoMoreInteractions(recorderMock);
@@ -645,7 +774,7 @@ public class PravegaRequestProcessorTest {
         ArrayList<HashedArray> keys = generateKeys(3, rnd);
 
         // Execute and Verify createSegment calling stack is executed as design.
-        processor.createTableSegment(new WireCommands.CreateTableSegment(1, tableSegmentName, ""));
+        processor.createTableSegment(new WireCommands.CreateTableSegment(1, tableSegmentName, false, ""));
         order.verify(connection).send(new WireCommands.SegmentCreated(1, tableSegmentName));
         verify(recorderMock).createTableSegment(eq(tableSegmentName), any());
 
@@ -696,7 +825,7 @@ public class PravegaRequestProcessorTest {
         ArrayList<HashedArray> keys = generateKeys(2, rnd);
 
         // Create a table segment and add data.
-        processor.createTableSegment(new WireCommands.CreateTableSegment(1, tableSegmentName, ""));
+        processor.createTableSegment(new WireCommands.CreateTableSegment(1, tableSegmentName, false, ""));
         order.verify(connection).send(new WireCommands.SegmentCreated(1, tableSegmentName));
         TableEntry e1 = TableEntry.unversioned(keys.get(0), generateValue(rnd));
         processor.updateTableEntries(new WireCommands.UpdateTableEntries(2, tableSegmentName, "", getTableEntries(singletonList(e1))));
@@ -733,7 +862,7 @@ public class PravegaRequestProcessorTest {
                 recorderMock, new PassingTokenVerifier(), false);
 
         // Create a table segment.
-        processor.createTableSegment(new WireCommands.CreateTableSegment(1, tableSegmentName, ""));
+        processor.createTableSegment(new WireCommands.CreateTableSegment(1, tableSegmentName, false, ""));
         order.verify(connection).send(new WireCommands.SegmentCreated(1, tableSegmentName));
         verify(recorderMock).createTableSegment(eq(tableSegmentName), any());
 
@@ -762,7 +891,7 @@ public class PravegaRequestProcessorTest {
         ArrayList<HashedArray> keys = generateKeys(2, rnd);
 
         // Create a table segment and add data.
-        processor.createTableSegment(new WireCommands.CreateTableSegment(3, tableSegmentName, ""));
+        processor.createTableSegment(new WireCommands.CreateTableSegment(3, tableSegmentName, false, ""));
         order.verify(connection).send(new WireCommands.SegmentCreated(3, tableSegmentName));
         verify(recorderMock).createTableSegment(eq(tableSegmentName), any());
 
@@ -798,7 +927,7 @@ public class PravegaRequestProcessorTest {
         ArrayList<HashedArray> keys = generateKeys(2, rnd);
 
         // Create a table segment and add data.
-        processor.createTableSegment(new WireCommands.CreateTableSegment(1, tableSegmentName, ""));
+        processor.createTableSegment(new WireCommands.CreateTableSegment(1, tableSegmentName, false, ""));
         order.verify(connection).send(new WireCommands.SegmentCreated(1, tableSegmentName));
         recorderMockOrder.verify(recorderMock).createTableSegment(eq(tableSegmentName), any());
         TableEntry entry = TableEntry.unversioned(keys.get(0), generateValue(rnd));
@@ -852,7 +981,7 @@ public class PravegaRequestProcessorTest {
         TableEntry e3 = TableEntry.unversioned(keys.get(2), generateValue(rnd));
 
         // Create a table segment and add data.
-        processor.createTableSegment(new WireCommands.CreateTableSegment(1, tableSegmentName, ""));
+        processor.createTableSegment(new WireCommands.CreateTableSegment(1, tableSegmentName, false, ""));
         order.verify(connection).send(new WireCommands.SegmentCreated(1, tableSegmentName));
         verify(recorderMock).createTableSegment(eq(tableSegmentName), any());
         processor.updateTableEntries(new WireCommands.UpdateTableEntries(2, tableSegmentName, "", getTableEntries(asList(e1, e2, e3))));
@@ -923,7 +1052,7 @@ public class PravegaRequestProcessorTest {
         TableEntry e3 = TableEntry.unversioned(keys.get(2), testValue);
 
         // Create a table segment and add data.
-        processor.createTableSegment(new WireCommands.CreateTableSegment(1, tableSegmentName, ""));
+        processor.createTableSegment(new WireCommands.CreateTableSegment(1, tableSegmentName, false, ""));
         order.verify(connection).send(new WireCommands.SegmentCreated(1, tableSegmentName));
         verify(recorderMock).createTableSegment(eq(tableSegmentName), any());
         processor.updateTableEntries(new WireCommands.UpdateTableEntries(2, tableSegmentName, "", getTableEntries(asList(e1, e2, e3))));
@@ -978,6 +1107,69 @@ public class PravegaRequestProcessorTest {
         assertTrue(keyVersions.containsAll(getTableEntriesIteratorsResp.getEntries().getEntries().stream().map(e -> e.getKey().getKeyVersion()).collect(Collectors.toList())));
     }
 
+    @Test
+    public void testReadTableKeyRange() throws Exception {
+        // Set up PravegaRequestProcessor instance to execute requests against
+        String tableSegmentName = "testReadTableKeyRange";
+        String unsortedSegmentName = "testReadTableKeyRangeUnsorted";
+        @Cleanup
+        ServiceBuilder serviceBuilder = newInlineExecutionInMemoryBuilder(getBuilderConfig());
+        serviceBuilder.initialize();
+        StreamSegmentStore store = serviceBuilder.createStreamSegmentService();
+        TableStore tableStore = serviceBuilder.createTableStoreService();
+        ServerConnection connection = mock(ServerConnection.class);
+        InOrder order = inOrder(connection);
+        val recorderMock = mock(TableSegmentStatsRecorder.class);
+        PravegaRequestProcessor processor = new PravegaRequestProcessor(store, tableStore, connection, SegmentStatsRecorder.noOp(),
+                recorderMock, new PassingTokenVerifier(), false);
+
+        // Create a sorted table segment and add data, out of order.
+        processor.createTableSegment(new WireCommands.CreateTableSegment(1, tableSegmentName, true, ""));
+        order.verify(connection).send(new WireCommands.SegmentCreated(1, tableSegmentName));
+        val entries = asList(4, 1, 3, 2).stream()
+                                        .map(i -> TableEntry.unversioned(new HashedArray(new byte[]{(byte) (int) i}), new HashedArray(new byte[]{1})))
+                                        .collect(toList());
+        processor.updateTableEntries(new WireCommands.UpdateTableEntries(2, tableSegmentName, "", getTableEntries(entries)));
+        order.verify(connection).send(any(WireCommands.TableEntriesUpdated.class));
+
+        // 1. Read the keys in [2, 4), one at a time.
+        processor.readTableKeyRange(new WireCommands.ReadTableKeyRange(3, tableSegmentName, "", 1,
+                wrappedBuffer(new byte[]{2}), wrappedBuffer(new byte[]{4}), wrappedBuffer(new byte[0])));
+        ArgumentCaptor<WireCommands.TableKeysRead> tableKeysCaptor = ArgumentCaptor.forClass(WireCommands.TableKeysRead.class);
+        order.verify(connection).send(tableKeysCaptor.capture());
+        WireCommands.TableKeysRead response = tableKeysCaptor.getValue();
+        assertEquals(1, response.getKeys().size());
+        assertEquals(2, response.getKeys().get(0).getData().getByte(0));
+        verify(recorderMock).iterateKeys(eq(tableSegmentName), eq(1), any());
+
+        // 2. Resume the iteration from the returned state.
+        processor.readTableKeyRange(new WireCommands.ReadTableKeyRange(4, tableSegmentName, "", 10,
+                wrappedBuffer(new byte[]{2}), wrappedBuffer(new byte[]{4}), response.getContinuationToken()));
+        tableKeysCaptor = ArgumentCaptor.forClass(WireCommands.TableKeysRead.class);
+        order.verify(connection).send(tableKeysCaptor.capture());
+        response = tableKeysCaptor.getValue();
+        assertEquals(1, response.getKeys().size());
+        assertEquals(3, response.getKeys().get(0).getData().getByte(0));
+
+        // 3. Read all the entries (empty bounds).
+        processor.readTableEntryRange(new WireCommands.ReadTableEntryRange(5, tableSegmentName, "", 10,
+                wrappedBuffer(new byte[0]), wrappedBuffer(new byte[0]), wrappedBuffer(new byte[0])));
+        ArgumentCaptor<WireCommands.TableEntriesRead> tableEntriesCaptor = ArgumentCaptor.forClass(WireCommands.TableEntriesRead.class);
+        order.verify(connection).send(tableEntriesCaptor.capture());
+        val readKeys = tableEntriesCaptor.getValue().getEntries().getEntries().stream()
+                                         .map(e -> (int) e.getKey().getData().getByte(0))
+                                         .collect(toList());
+        assertEquals(asList(1, 2, 3, 4), readKeys);
+        verify(recorderMock).iterateEntries(eq(tableSegmentName), eq(4), any());
+
+        // 4. Range reads are not supported on unsorted segments.
+        processor.createTableSegment(new WireCommands.CreateTableSegment(6, unsortedSegmentName, false, ""));
+        order.verify(connection).send(new WireCommands.SegmentCreated(6, unsortedSegmentName));
+        processor.readTableKeyRange(new WireCommands.ReadTableKeyRange(7, unsortedSegmentName, "", 10,
+                wrappedBuffer(new byte[0]), wrappedBuffer(new byte[0]), wrappedBuffer(new byte[0])));
+        order.verify(connection).send(any(WireCommands.OperationUnsupported.class));
+    }
+
     private HashedArray generateData(int length, Random rnd) {
         byte[] keyData = new byte[length];
         rnd.nextBytes(keyData);
@@ -20,6 +20,7 @@ import io.pravega.test.common.SecurityConfigDefaults;
 import io.pravega.test.common.ThreadPooledTestSuite;
 import java.net.URI;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -220,6 +221,12 @@ public class AutoScaleProcessorTest extends ThreadPooledTestSuite {
                 return CompletableFuture.<Void>completedFuture(null);
             }
 
+            @Override
+            public CompletableFuture<Void> writeEvents(String routingKey, List<AutoScaleEvent> events) {
+                events.forEach(consumer);
+                return CompletableFuture.<Void>completedFuture(null);
+            }
+
             @Override
             public EventWriterConfig getConfig() {
                 return null;
@@ -42,6 +42,13 @@ import lombok.extern.slf4j.Slf4j;
  * (in the clients) that is generated or updated gets assigned the current generation. As the CacheManager determines that
  * there are too many Cache Entries or that the maximum size has been exceeded, it will increment the oldest generation.
  * The CacheManager Clients can use this information to evict those Cache Entries that have a generation below the oldest generation number.
+ *
+ * In addition, the CacheManager holds an oldest probationary generation, which is never lower than the oldest generation.
+ * Clients may choose to admit some Cache Entries as probationary (see {@link CacheStatus#getOldestProbationaryGeneration()});
+ * these can be evicted if they have a generation below the oldest probationary generation. With the
+ * {@link CachePolicy.EvictionMode#SEGMENTED} policy, the CacheManager will first increment the oldest probationary generation
+ * (for as long as there are probationary entries to evict) before touching the oldest generation. With the
+ * {@link CachePolicy.EvictionMode#GENERATIONAL} policy, both values are kept in sync.
  */
 @Slf4j
 @ThreadSafe
@@ -57,6 +64,8 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
     @GuardedBy("lock")
     private int oldestGeneration;
     @GuardedBy("lock")
+    private int oldestProbationaryGeneration;
+    @GuardedBy("lock")
     private CacheState lastCacheState;
     private final CachePolicy policy;
     private final AtomicBoolean closed;
@@ -88,7 +97,6 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
      * @param cacheStorage       The CacheStorage to maintain.
      * @param executorService An executorService to use for scheduled tasks.
      */
-    @VisibleForTesting
     public CacheManager(CachePolicy policy, CacheStorage cacheStorage, ScheduledExecutorService executorService) {
         this.policy = Preconditions.checkNotNull(policy, "policy");
         this.executorService = Preconditions.checkNotNull(executorService, "executorService");
@@ -96,6 +104,7 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
         this.cacheStorage.setCacheFullCallback(this::cacheFullCallback);
         this.clients = new HashSet<>();
         this.oldestGeneration = 0;
+        this.oldestProbationaryGeneration = 0;
         this.currentGeneration = 0;
         this.closed = new AtomicBoolean();
         this.lastCacheState = this.cacheStorage.getState();
@@ -168,7 +177,7 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
         synchronized (this.lock) {
             if (!this.clients.contains(client)) {
                 this.clients.add(client);
-                client.updateGenerations(this.currentGeneration, this.oldestGeneration);
+                client.updateGenerations(this.currentGeneration, this.oldestGeneration, this.oldestProbationaryGeneration);
             }
         }
 
@@ -299,6 +308,7 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
         int cg = this.currentGeneration;
         int minGeneration = cg;
         int maxGeneration = 0;
+        int minProbationaryGeneration = CacheStatus.EMPTY_VALUE;
         ArrayList<Client> toUnregister = new ArrayList<>();
         for (Client c : this.clients) {
             CacheStatus clientStatus;
@@ -321,6 +331,7 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
 
             minGeneration = Math.min(minGeneration, clientStatus.oldestGeneration);
             maxGeneration = Math.max(maxGeneration, clientStatus.newestGeneration);
+            minProbationaryGeneration = Math.min(minProbationaryGeneration, clientStatus.oldestProbationaryGeneration);
         }
 
         toUnregister.forEach(this::unregister);
@@ -329,7 +340,7 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
             return null;
         }
 
-        return new CacheStatus(minGeneration, maxGeneration);
+        return new CacheStatus(minGeneration, maxGeneration, minProbationaryGeneration);
     }
 
     @GuardedBy("lock")
@@ -342,10 +353,11 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
         boolean reduced = false;
         int cg = this.currentGeneration;
         int og = this.oldestGeneration;
+        int opg = this.oldestProbationaryGeneration;
         ArrayList<Client> toUnregister = new ArrayList<>();
         for (Client c : this.clients) {
             try {
-                reduced = c.updateGenerations(cg, og) | reduced;
+                reduced = c.updateGenerations(cg, og, opg) | reduced;
             } catch (ObjectClosedException ex) {
                 // This object was closed but it was not unregistered. Do it now.
                 log.warn("{} Detected closed client {}.", TRACE_OBJECT_ID, c);
@@ -382,9 +394,17 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
     private boolean adjustOldestGeneration(CacheStatus currentStatus) {
         // Figure out if we exceed the policy criteria.
         int newOldestGeneration = this.oldestGeneration;
+        int newOldestProbationaryGeneration = this.oldestProbationaryGeneration;
         if (exceedsPolicy(currentStatus)) {
-            // Start by setting the new value to the smallest reported value, and increment by one.
-            newOldestGeneration = Math.max(newOldestGeneration, currentStatus.oldestGeneration) + 1;
+            if (canEvictProbationary(currentStatus)) {
+                // Evict probationary entries first, starting with the smallest reported probationary generation. We do not
+                // evict any protected entries in this round, unless they are older than the oldest permissible generation.
+                newOldestProbationaryGeneration = Math.max(newOldestProbationaryGeneration, currentStatus.oldestProbationaryGeneration) + 1;
+                newOldestProbationaryGeneration = Math.min(newOldestProbationaryGeneration, this.currentGeneration);
+            } else {
+                // Start by setting the new value to the smallest reported value, and increment by one.
+                newOldestGeneration = Math.max(newOldestGeneration, currentStatus.oldestGeneration) + 1;
+            }
 
             // Then factor in the oldest permissible generation.
             newOldestGeneration = Math.max(newOldestGeneration, getOldestPermissibleGeneration());
@@ -393,14 +413,28 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
             newOldestGeneration = Math.min(newOldestGeneration, this.currentGeneration);
         }
 
-        boolean isAdjusted = newOldestGeneration > this.oldestGeneration;
+        // Probationary entries can never outlive protected ones.
+        newOldestProbationaryGeneration = Math.max(newOldestProbationaryGeneration, newOldestGeneration);
+        boolean isAdjusted = newOldestGeneration > this.oldestGeneration
+                || newOldestProbationaryGeneration > this.oldestProbationaryGeneration;
         if (isAdjusted) {
             this.oldestGeneration = newOldestGeneration;
+            this.oldestProbationaryGeneration = newOldestProbationaryGeneration;
         }
 
         return isAdjusted;
     }
 
+    @GuardedBy("lock")
+    private boolean canEvictProbationary(CacheStatus currentStatus) {
+        // We only prefer probationary entries when we exceed the eviction threshold (the max-age criterion applies to all
+        // entries equally) and if there are any probationary entries that are older than the current generation.
+        return this.policy.getEvictionMode() == CachePolicy.EvictionMode.SEGMENTED
+                && exceedsEvictionThreshold()
+                && this.oldestProbationaryGeneration < this.currentGeneration
+                && currentStatus.oldestProbationaryGeneration < this.currentGeneration;
+    }
+
     @GuardedBy("lock")
     private boolean exceedsPolicy(CacheStatus currentStatus) {
         // We need to increment the OldestGeneration only if any of the following conditions occurred:
@@ -422,8 +456,8 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
 
     @GuardedBy("lock")
     private void logCurrentStatus(CacheStatus status) {
-        log.info("{}: Gen: {}-{}; Clients: {} ({}-{}); Cache: {}.", TRACE_OBJECT_ID, this.currentGeneration, this.oldestGeneration,
-                this.clients.size(), status.getNewestGeneration(), status.getOldestGeneration(), this.lastCacheState);
+        log.info("{}: Gen: {}-{} (Probationary: {}); Clients: {} ({}); Cache: {}.", TRACE_OBJECT_ID, this.currentGeneration,
+                this.oldestGeneration, this.oldestProbationaryGeneration, this.clients.size(), status, this.lastCacheState);
     }
 
     private long getStoredBytes() {
@@ -455,6 +489,23 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
          * @return If any cache data was trimmed with this update.
          */
         boolean updateGenerations(int currentGeneration, int oldestGeneration);
+
+        /**
+         * Called by the CacheManager to notify when there is a generation change (either current, oldest or oldest
+         * probationary). Clients that admit probationary entries (see {@link CacheStatus#getOldestProbationaryGeneration()})
+         * should override this method. The default implementation invokes {@link #updateGenerations(int, int)}.
+         *
+         * @param currentGeneration            The value of the current generation.
+         * @param oldestGeneration             The value of the oldest generation. This is the cutoff for which entries
+         *                                     can still exist in the cache.
+         * @param oldestProbationaryGeneration The value of the oldest probationary generation. This is the cutoff for
+         *                                     which probationary entries can still exist in the cache. This value is
+         *                                     always greater than or equal to oldestGeneration.
+         * @return If any cache data was trimmed with this update.
+         */
+        default boolean updateGenerations(int currentGeneration, int oldestGeneration, int oldestProbationaryGeneration) {
+            return updateGenerations(currentGeneration, oldestGeneration);
+        }
     }
 
     //endregion
@@ -476,18 +527,40 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
          */
         @Getter
         private final int newestGeneration;
+        /**
+         * The oldest generation found in any probationary cache entry (an entry that the {@link Client} admitted on
+         * probation and which has not yet been promoted by being used again), or {@link #EMPTY_VALUE} if there are no
+         * such entries. This value is irrelevant if {@link #isEmpty()} is true.
+         */
+        @Getter
+        private final int oldestProbationaryGeneration;
 
         /**
-         * Creates a new instance of the CacheStatus class.
+         * Creates a new instance of the CacheStatus class with no probationary entries.
          *
          * @param oldestGeneration The oldest generation found in any cache entry.
          * @param newestGeneration The newest generation found in any cache entry.
          */
         CacheStatus(int oldestGeneration, int newestGeneration) {
+            this(oldestGeneration, newestGeneration, EMPTY_VALUE);
+        }
+
+        /**
+         * Creates a new instance of the CacheStatus class.
+         *
+         * @param oldestGeneration             The oldest generation found in any cache entry.
+         * @param newestGeneration             The newest generation found in any cache entry.
+         * @param oldestProbationaryGeneration The oldest generation found in any probationary cache entry, or
+         *                                     {@link #EMPTY_VALUE} if there are no such entries.
+         */
+        CacheStatus(int oldestGeneration, int newestGeneration, int oldestProbationaryGeneration) {
             Preconditions.checkArgument(oldestGeneration >= 0, "oldestGeneration must be a non-negative number");
             Preconditions.checkArgument(newestGeneration >= oldestGeneration, "newestGeneration must be larger than or equal to oldestGeneration");
+            Preconditions.checkArgument(oldestProbationaryGeneration >= oldestGeneration,
+                    "oldestProbationaryGeneration must be larger than or equal to oldestGeneration");
             this.oldestGeneration = oldestGeneration;
             this.newestGeneration = newestGeneration;
+            this.oldestProbationaryGeneration = oldestProbationaryGeneration;
         }
 
         /**
@@ -514,31 +587,55 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
             return new CacheManager.CacheStatus(minGen, maxGen);
         }
 
+        /**
+         * Creates a new {@link CacheStatus} instance from the given generations.
+         *
+         * @param generations             An {@link Iterator} containing generations of all the entries of {@link Client}
+         *                                instances (including probationary ones).
+         * @param probationaryGenerations An {@link Iterator} containing generations of the probationary entries of
+         *                                {@link Client} instances. This must be a subset of `generations`.
+         * @return A new {@link CacheStatus} instance, similar to the one returned by {@link #fromGenerations(Iterator)},
+         * which also has {@link #getOldestProbationaryGeneration()} set to the minimum value from `probationaryGenerations`.
+         */
+        public static CacheStatus fromGenerations(Iterator<Integer> generations, Iterator<Integer> probationaryGenerations) {
+            CacheStatus status = fromGenerations(generations);
+            int minProbationaryGen = EMPTY_VALUE;
+            while (probationaryGenerations.hasNext()) {
+                minProbationaryGen = Math.min(minProbationaryGen, probationaryGenerations.next());
+            }
+
+            return minProbationaryGen == EMPTY_VALUE || status.isEmpty()
+                    ? status
+                    : new CacheStatus(status.oldestGeneration, status.newestGeneration, minProbationaryGen);
+        }
+
         /**
          * Creates a new {@link CacheStatus} instance from the given {@link CacheStatus} instances.
          *
          * @param cacheStates An {@link Iterator} containing {@link CacheStatus} instances.
          * @return A new {@link CacheStatus} instance having {@link #getOldestGeneration()} set to the minimum value
          * of all {@link #getOldestGeneration()} from `cacheStates` and {@link #getNewestGeneration()} set to the maximum
-         * of all {@link #getNewestGeneration()} from `cacheStates`. If `cacheStates` is empty, returns an instance with
-         * {@link #isEmpty()} set to true.
+         * of all {@link #getNewestGeneration()} from `cacheStates` (and similarly for {@link #getOldestProbationaryGeneration()}).
+         * If `cacheStates` is empty, returns an instance with {@link #isEmpty()} set to true.
          */
         public static CacheStatus combine(Iterator<CacheStatus> cacheStates) {
             int minGen = EMPTY_VALUE;
             int maxGen = 0;
+            int minProbationaryGen = EMPTY_VALUE;
             int nonEmptyCount = 0;
             while (cacheStates.hasNext()) {
                 CacheStatus cs = cacheStates.next();
                 if (!cs.isEmpty()) {
                     minGen = Math.min(minGen, cs.getOldestGeneration());
                     maxGen = Math.max(maxGen, cs.getNewestGeneration());
+                    minProbationaryGen = Math.min(minProbationaryGen, cs.getOldestProbationaryGeneration());
                     nonEmptyCount++;
                 }
             }
 
             return nonEmptyCount == 0
                     ? new CacheStatus(EMPTY_VALUE, EMPTY_VALUE)
-                    : new CacheStatus(minGen, maxGen);
+                    : new CacheStatus(minGen, maxGen, minProbationaryGen);
         }
 
         /**
@@ -553,7 +650,13 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
 
         @Override
         public String toString() {
-            return isEmpty() ? "<EMPTY>" : String.format("OG-NG = %d-%d", this.oldestGeneration, this.newestGeneration);
+            if (isEmpty()) {
+                return "<EMPTY>";
+            }
+
+            return this.oldestProbationaryGeneration == EMPTY_VALUE
+                    ? String.format("OG-NG = %d-%d", this.oldestGeneration, this.newestGeneration)
+                    : String.format("OG-NG = %d-%d, OPG = %d", this.oldestGeneration, this.newestGeneration, this.oldestProbationaryGeneration);
         }
     }
 
@@ -61,6 +61,12 @@ public class CachePolicy {
      */
     @Getter
     private final Duration generationDuration;
+    /**
+     * The {@link EvictionMode} that determines which entries are evicted first when the cache exceeds its
+     * {@link #getEvictionThreshold()}.
+     */
+    @Getter
+    private final EvictionMode evictionMode;
 
     //endregion
 
@@ -88,6 +94,21 @@ public class CachePolicy {
      * @param generationDuration The amount of time one Cache generation spans.
      */
     public CachePolicy(long maxSize, double targetUtilization, double maxUtilization, Duration maxTime, Duration generationDuration) {
+        this(maxSize, targetUtilization, maxUtilization, maxTime, generationDuration, EvictionMode.GENERATIONAL);
+    }
+
+    /**
+     * Creates a new instance of the CachePolicy class.
+     *
+     * @param maxSize            The maximum size of the cache.
+     * @param targetUtilization  The target cache utilization to set. See {@link #getTargetUtilization()} ()}.
+     * @param maxUtilization     The maximum cache utilization to set. See {@link #getMaxUtilization()}.
+     * @param maxTime            The maximum amount of time a cache entry can live in the cache.
+     * @param generationDuration The amount of time one Cache generation spans.
+     * @param evictionMode       The {@link EvictionMode} to use.
+     */
+    public CachePolicy(long maxSize, double targetUtilization, double maxUtilization, Duration maxTime, Duration generationDuration,
+                       EvictionMode evictionMode) {
         Preconditions.checkArgument(maxSize > 0, "maxSize must be a positive integer");
         Preconditions.checkArgument(targetUtilization > 0 && targetUtilization <= 1.0,
                 "targetUtilization must be a number in the range (0.0, 1.0].");
@@ -99,13 +120,37 @@ public class CachePolicy {
         this.evictionThreshold = (long) Math.floor(this.maxSize * this.targetUtilization);
         this.generationDuration = generationDuration;
         this.maxGenerations = Math.max(1, (int) ((double) maxTime.toMillis() / generationDuration.toMillis()));
+        this.evictionMode = Preconditions.checkNotNull(evictionMode, "evictionMode");
     }
 
     //endregion
 
     @Override
     public String toString() {
-        return String.format("MaxSize = %d, UsableSize = %d, MaxGen = %d, Generation = %s",
-                this.maxSize, this.evictionThreshold, this.maxGenerations, this.generationDuration);
+        return String.format("MaxSize = %d, UsableSize = %d, MaxGen = %d, Generation = %s, EvictionMode = %s",
+                this.maxSize, this.evictionThreshold, this.maxGenerations, this.generationDuration, this.evictionMode);
     }
+
+    //region EvictionMode
+
+    /**
+     * Defines how the CacheManager picks the entries to evict when the cache exceeds its eviction threshold.
+     */
+    public enum EvictionMode {
+        /**
+         * All entries are evicted in the order of their generation (least recently used first), regardless of how often
+         * they have been used.
+         */
+        GENERATIONAL,
+
+        /**
+         * Segmented (2Q-style) eviction. Clients may admit entries as probationary (for example, data loaded from Storage
+         * for a historical read); such entries are promoted to protected if they are used again in a later generation.
+         * When the cache exceeds its eviction threshold, probationary entries are evicted before any protected entries,
+         * which prevents a large one-off scan from flushing out the working set.
+         */
+        SEGMENTED
+    }
+
+    //endregion
 }
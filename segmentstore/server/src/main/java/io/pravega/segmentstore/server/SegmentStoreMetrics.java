@@ -27,6 +27,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import static io.pravega.shared.MetricsTags.containerTag;
+import static io.pravega.shared.MetricsTags.segmentTags;
 
 /**
  * General Metrics for the SegmentStore.
@@ -356,6 +357,14 @@ public final class SegmentStoreMetrics {
          * Number of operations read from DurableLog.
          */
         private final Counter readCount;
+        /**
+         * Number of Segments waiting for the flush budget to allow them to be flushed.
+         */
+        private final OpStatsLogger flushQueueSize;
+        /**
+         * Time elapsed for flushing a single Segment.
+         */
+        private final OpStatsLogger segmentFlushLatency;
 
         public StorageWriter(int containerId) {
             String[] containerTag = containerTag(containerId);
@@ -365,6 +374,8 @@ public final class SegmentStoreMetrics {
             this.flushedBytes = STATS_LOGGER.createCounter(MetricsNames.STORAGE_WRITER_FLUSHED_BYTES, containerTag);
             this.mergedBytes = STATS_LOGGER.createCounter(MetricsNames.STORAGE_WRITER_MERGED_BYTES, containerTag);
             this.flushedAttributes = STATS_LOGGER.createCounter(MetricsNames.STORAGE_WRITER_FLUSHED_ATTRIBUTES, containerTag);
+            this.flushQueueSize = STATS_LOGGER.createStats(MetricsNames.STORAGE_WRITER_FLUSH_QUEUE_SIZE, containerTag);
+            this.segmentFlushLatency = STATS_LOGGER.createStats(MetricsNames.STORAGE_WRITER_SEGMENT_FLUSH_LATENCY, containerTag);
         }
 
         @Override
@@ -375,6 +386,8 @@ public final class SegmentStoreMetrics {
             this.flushedBytes.close();
             this.mergedBytes.close();
             this.flushedAttributes.close();
+            this.flushQueueSize.close();
+            this.segmentFlushLatency.close();
         }
 
         public void readComplete(int operationCount) {
@@ -391,6 +404,81 @@ public final class SegmentStoreMetrics {
         public void iterationComplete(Duration elapsed) {
             this.iterationElapsed.reportSuccessEvent(elapsed);
         }
+
+        public void flushQueued(int queueSize) {
+            this.flushQueueSize.reportSuccessValue(queueSize);
+        }
+
+        public void segmentFlushComplete(Duration elapsed) {
+            this.segmentFlushLatency.reportSuccessEvent(elapsed);
+        }
+    }
+
+    /**
+     * Per-segment StorageWriter flush metrics.
+     */
+    public final static class SegmentFlush implements AutoCloseable {
+        private final String[] segmentTags;
+
+        public SegmentFlush(String segmentName) {
+            this.segmentTags = segmentTags(segmentName);
+        }
+
+        @Override
+        public void close() {
+            DYNAMIC_LOGGER.freezeCounter(MetricsNames.STORAGE_WRITER_SEGMENT_FLUSH_COUNT, this.segmentTags);
+            DYNAMIC_LOGGER.freezeCounter(MetricsNames.STORAGE_WRITER_SEGMENT_FLUSHED_BYTES, this.segmentTags);
+            DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.STORAGE_WRITER_SEGMENT_FLUSH_THRESHOLD, this.segmentTags);
+        }
+
+        public void flushComplete(long flushedBytes, int flushThresholdBytes) {
+            DYNAMIC_LOGGER.incCounterValue(MetricsNames.STORAGE_WRITER_SEGMENT_FLUSH_COUNT, 1, this.segmentTags);
+            DYNAMIC_LOGGER.incCounterValue(MetricsNames.STORAGE_WRITER_SEGMENT_FLUSHED_BYTES, flushedBytes, this.segmentTags);
+            DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.STORAGE_WRITER_SEGMENT_FLUSH_THRESHOLD, flushThresholdBytes, this.segmentTags);
+        }
+    }
+
+    //endregion
+
+    //region TableCompaction
+
+    /**
+     * Table Segment compaction metrics.
+     */
+    public final static class TableCompaction implements AutoCloseable {
+        private final String[] containerTag;
+        /**
+         * Number of compactions executed.
+         */
+        private final Counter compactionCount;
+        /**
+         * Number of bytes processed by compactions.
+         */
+        private final Counter compactionBytes;
+
+        public TableCompaction(int containerId) {
+            this.containerTag = containerTag(containerId);
+            this.compactionCount = STATS_LOGGER.createCounter(MetricsNames.TABLE_COMPACTION_COUNT, this.containerTag);
+            this.compactionBytes = STATS_LOGGER.createCounter(MetricsNames.TABLE_COMPACTION_BYTES, this.containerTag);
+        }
+
+        @Override
+        public void close() {
+            this.compactionCount.close();
+            this.compactionBytes.close();
+            DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.TABLE_COMPACTION_BACKLOG_COUNT, this.containerTag);
+            DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.TABLE_COMPACTION_BACKLOG_BYTES, this.containerTag);
+        }
+
+        public void backlog(int segmentCount, long reclaimableBytes) {
+            DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.TABLE_COMPACTION_BACKLOG_COUNT, segmentCount, this.containerTag);
+            DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.TABLE_COMPACTION_BACKLOG_BYTES, reclaimableBytes, this.containerTag);
+        }
+
+        public void compactionComplete(long compactedBytes) {
+            this.compactionCount.inc();
+            this.compactionBytes.add(compactedBytes);
+        }
     }
 
     //endregion
@@ -407,5 +495,15 @@ public final class SegmentStoreMetrics {
         DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.CONTAINER_RECOVERY_TIME, duration, containerTag(containerId));
     }
 
+    /**
+     * Reports the throughput of a container recovery.
+     *
+     * @param bytesPerSecond The number of DurableLog bytes recovered per second.
+     * @param containerId    Container id related to the recovery process.
+     */
+    public static void recoveryThroughput(long bytesPerSecond, int containerId) {
+        DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.CONTAINER_RECOVERY_THROUGHPUT, bytesPerSecond, containerTag(containerId));
+    }
+
     //endregion
 }
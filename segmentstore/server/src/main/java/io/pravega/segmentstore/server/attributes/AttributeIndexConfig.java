@@ -26,6 +26,7 @@ public class AttributeIndexConfig {
     private static final int MAX_INDEX_PAGE_SIZE_VALUE = (int) Short.MAX_VALUE; // Max allowed by BTreeIndex.
     public static final Property<Integer> MAX_INDEX_PAGE_SIZE = Property.named("maxIndexPageSizeBytes", MAX_INDEX_PAGE_SIZE_VALUE);
     private static final int MIN_INDEX_PAGE_SIZE_VALUE = 1024;
+    public static final Property<Integer> MAX_PINNED_INDEX_BYTES = Property.named("maxPinnedIndexBytes", 0);
     private static final String COMPONENT_CODE = "attributeindex";
 
     //endregion
@@ -38,6 +39,13 @@ public class AttributeIndexConfig {
     @Getter
     private final int maxIndexPageSize;
 
+    /**
+     * The maximum number of bytes of Index Pages (including the root page) to keep in memory for each Attribute Index.
+     * Pinned pages are held on the heap, outside of the Cache, so they are not accounted for by the CacheManager.
+     */
+    @Getter
+    private final int maxPinnedIndexBytes;
+
     /**
      * The Attribute Segment Rolling Policy. If not explicitly defined in the configuration, it will be auto-calculated
      * based on the SnapshotTriggerSize and ReadBlockSize.
@@ -67,6 +75,12 @@ public class AttributeIndexConfig {
             throw new ConfigurationException(String.format("Property '%s' must be at least %s and at most %s; found '%d'.",
                     MAX_INDEX_PAGE_SIZE, MIN_INDEX_PAGE_SIZE_VALUE, MAX_INDEX_PAGE_SIZE_VALUE, this.maxIndexPageSize));
         }
+
+        this.maxPinnedIndexBytes = properties.getInt(MAX_PINNED_INDEX_BYTES);
+        if (this.maxPinnedIndexBytes < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer; found '%d'.",
+                    MAX_PINNED_INDEX_BYTES, this.maxPinnedIndexBytes));
+        }
     }
 
     /**
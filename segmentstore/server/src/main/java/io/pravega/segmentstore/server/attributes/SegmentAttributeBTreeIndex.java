@@ -138,6 +138,7 @@ public class SegmentAttributeBTreeIndex implements AttributeIndex, CacheManager.
                                .getLength(this::getLength)
                                .readPage(this::readPage)
                                .writePages(this::writePages)
+                               .maxPinnedIndexBytes(this.config.getMaxPinnedIndexBytes())
                                .traceObjectId(this.traceObjectId)
                                .build();
 
@@ -266,7 +267,7 @@ public class SegmentAttributeBTreeIndex implements AttributeIndex, CacheManager.
         }
 
         Collection<PageEntry> entries = values.entrySet().stream().map(this::serialize).collect(Collectors.toList());
-        return executeConditionally(tm -> this.index.update(entries, tm), timeout);
+        return executeConditionally(tm -> this.index.isEmpty() ? bulkLoad(values, entries, tm) : this.index.update(entries, tm), timeout);
     }
 
     @Override
@@ -422,6 +423,27 @@ public class SegmentAttributeBTreeIndex implements AttributeIndex, CacheManager.
                 });
     }
 
+    /**
+     * Loads the given entries into the (empty) index using {@link BTreeIndex#bulkLoad}, which writes fully packed pages
+     * in one sequential write. This is most useful for the first flush of Segments with many attributes (or when rebuilding
+     * an Attribute Index).
+     *
+     * @param values  The Attribute values to load. Removals will be ignored.
+     * @param entries The serialized values, to be used if there is nothing to load.
+     * @param timeout Timeout for the operation.
+     * @return A CompletableFuture that, when completed, will contain the result of the operation.
+     */
+    private CompletableFuture<Long> bulkLoad(Map<UUID, Long> values, Collection<PageEntry> entries, Duration timeout) {
+        // Serialized keys sort in the same order as their UUIDs (see serializeKey()). Removals are meaningless for an
+        // empty index.
+        val toLoad = values.entrySet().stream()
+                           .sorted(Map.Entry.comparingByKey())
+                           .map(this::serialize)
+                           .filter(e -> e.getValue() != null)
+                           .iterator();
+        return toLoad.hasNext() ? this.index.bulkLoad(toLoad, timeout) : this.index.update(entries, timeout);
+    }
+
     private PageEntry serialize(Map.Entry<UUID, Long> entry) {
         return new PageEntry(serializeKey(entry.getKey()), serializeValue(entry.getValue()));
     }
@@ -14,15 +14,21 @@ import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
 import io.pravega.common.io.BoundedInputStream;
 import io.pravega.common.io.SerializationException;
+import io.pravega.common.io.StreamHelpers;
 import io.pravega.common.util.ArrayView;
 import io.pravega.common.util.BitConverter;
+import io.pravega.common.util.ByteArraySegment;
 import io.pravega.common.util.CloseableIterator;
 import io.pravega.common.util.CompositeArrayView;
 import io.pravega.common.util.CompositeByteArraySegment;
 import io.pravega.segmentstore.storage.LogAddress;
+import java.io.ByteArrayInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 import javax.annotation.concurrent.NotThreadSafe;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +38,10 @@ import lombok.SneakyThrows;
 /**
  * Helps serialize entries into fixed-size batches. Allows writing multiple records per frame, as well as splitting a record
  * across multiple frames.
+ *
+ * The contents of a frame may optionally be compressed (when it is sealed) using a {@link DataFrameCodec}. The codec that
+ * was used is recorded in the frame header, and the contents are decompressed transparently upon reading. If compression
+ * does not reduce the size of the contents, the frame is stored uncompressed.
  */
 @NotThreadSafe
 public class DataFrame {
@@ -39,8 +49,13 @@ public class DataFrame {
 
     static final int MIN_ENTRY_LENGTH_NEEDED = EntryHeader.HEADER_SIZE + 1;
     private static final int BUFFER_BLOCK_SIZE = 128 * 1024; // 128KB
-    private static final byte CURRENT_VERSION = 0;
+    /**
+     * Version 1 introduced the codec in the Frame Header flags. Frames with version 0 are never compressed.
+     */
+    private static final byte CURRENT_VERSION = 1;
+    private static final byte CODEC_MIN_VERSION = 1;
     private final CompositeArrayView data;
+    private final DataFrameCodec codec;
     private WriteFrameHeader header;
     private CompositeArrayView contents;
 
@@ -66,9 +81,11 @@ public class DataFrame {
      * Creates a new instance of a DataFrame.
      *
      * @param source The ByteArraySegment to wrap.
+     * @param codec  The DataFrameCodec to compress the contents with when sealing.
      */
-    private DataFrame(CompositeArrayView source) {
+    private DataFrame(CompositeArrayView source, DataFrameCodec codec) {
         this.data = source;
+        this.codec = Preconditions.checkNotNull(codec, "codec");
         this.writeEntryStartIndex = -1;
         this.sealed = false;
         this.writePosition = this.sealed ? -1 : 0;
@@ -89,7 +106,18 @@ public class DataFrame {
      *                that the frame may use to organize records.
      */
     static DataFrame ofSize(int maxSize) {
-        return new DataFrame(new CompositeByteArraySegment(maxSize, BUFFER_BLOCK_SIZE));
+        return ofSize(maxSize, DataFrameCodec.NONE);
+    }
+
+    /**
+     * Creates a new instance of the DataFrame class with given maximum size, which will compress its contents upon sealing.
+     *
+     * @param maxSize The maximum size of the frame, including Frame Header and other control structures
+     *                that the frame may use to organize records.
+     * @param codec   The DataFrameCodec to compress the contents with.
+     */
+    static DataFrame ofSize(int maxSize, DataFrameCodec codec) {
+        return new DataFrame(new CompositeByteArraySegment(maxSize, BUFFER_BLOCK_SIZE), codec);
     }
 
     //endregion
@@ -250,11 +278,52 @@ public class DataFrame {
             Preconditions.checkState(writeEntryStartIndex < 0, "An open entry exists. Any open entries must be closed prior to sealing.");
 
             this.header.setContentLength(writePosition);
+            if (this.codec != DataFrameCodec.NONE && this.writePosition > 0) {
+                compressContents();
+            }
+
             this.header.commit();
             this.sealed = true;
         }
     }
 
+    /**
+     * Compresses the contents of the frame in place (the compressed contents is always smaller, if we use it) and updates
+     * the header accordingly. The contents is left unchanged if it cannot be compressed.
+     */
+    private void compressContents() {
+        assert this.codec == DataFrameCodec.DEFLATE;
+        if (this.writePosition <= Integer.BYTES) {
+            // Too small to benefit from compression.
+            return;
+        }
+
+        byte[] uncompressed = this.contents.slice(0, this.writePosition).getCopy();
+
+        // The compressed contents is prefixed by the uncompressed length. We only use it if it is smaller than the original.
+        byte[] compressed = new byte[uncompressed.length];
+        int compressedLength = BitConverter.writeInt(compressed, 0, uncompressed.length);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(uncompressed);
+            deflater.finish();
+            while (!deflater.finished() && compressedLength < compressed.length) {
+                compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+            }
+
+            if (!deflater.finished()) {
+                // Incompressible contents.
+                return;
+            }
+        } finally {
+            deflater.end();
+        }
+
+        this.contents.copyFrom(new ByteArraySegment(compressed, 0, compressedLength), 0, compressedLength);
+        this.header.setContentLength(compressedLength);
+        this.header.setCodec(this.codec);
+    }
+
     /**
      * Calculates the number of bytes available in the frame for writing.
      */
@@ -290,9 +359,54 @@ public class DataFrame {
         }
 
         BoundedInputStream contents = new BoundedInputStream(source, header.getContentLength());
+        if (header.getCodec() != DataFrameCodec.NONE) {
+            // Entry offsets within compressed frames refer to the decompressed contents.
+            contents = decompress(contents, header.getCodec());
+        }
+
         return new DataFrameEntryIterator(contents, address, ReadFrameHeader.SERIALIZATION_LENGTH);
     }
 
+    private static BoundedInputStream decompress(BoundedInputStream source, DataFrameCodec codec) throws IOException {
+        assert codec == DataFrameCodec.DEFLATE;
+        byte[] compressed = StreamHelpers.readAll(source, source.getBound());
+        if (compressed.length < Integer.BYTES) {
+            throw new SerializationException(String.format("Data Frame is corrupt. Compressed contents is too short (%d).", compressed.length));
+        }
+
+        int uncompressedLength = BitConverter.readInt(compressed, 0);
+        if (uncompressedLength <= 0) {
+            throw new SerializationException(String.format("Data Frame is corrupt. Invalid uncompressed length (%d).", uncompressedLength));
+        }
+
+        // Allocate one extra byte so that we can detect (and reject) contents that decompress to more than expected.
+        byte[] result = new byte[uncompressedLength + 1];
+        int resultLength = 0;
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed, Integer.BYTES, compressed.length - Integer.BYTES);
+            while (!inflater.finished() && resultLength < result.length) {
+                int count = inflater.inflate(result, resultLength, result.length - resultLength);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+
+                resultLength += count;
+            }
+        } catch (DataFormatException ex) {
+            throw new SerializationException("Data Frame is corrupt. Unable to decompress contents.", ex);
+        } finally {
+            inflater.end();
+        }
+
+        if (!inflater.finished() || resultLength != uncompressedLength) {
+            throw new SerializationException(String.format("Data Frame is corrupt. Expected %d decompressed bytes, found %d.",
+                    uncompressedLength, resultLength));
+        }
+
+        return new BoundedInputStream(new ByteArrayInputStream(result, 0, resultLength), resultLength);
+    }
+
     //endregion
 
     //region EntryHeader
@@ -387,18 +501,31 @@ public class DataFrame {
         @Setter
         private int contentLength;
 
+        /**
+         * The codec used to compress the Frame's payload (contents).
+         */
+        @Getter
+        @Setter
+        private DataFrameCodec codec = DataFrameCodec.NONE;
+
         byte encodeFlags() {
-            // Placeholder method. Nothing to do yet.
-            return 0;
+            return this.codec.getId();
         }
 
-        void decodeFlags(byte flags, byte version) {
-            // Placeholder method. Nothing to do yet.
+        void decodeFlags(byte flags, byte version) throws SerializationException {
+            if (version > CURRENT_VERSION) {
+                throw new SerializationException(String.format("Unsupported Data Frame version %d. Maximum supported version is %d.",
+                        version, CURRENT_VERSION));
+            }
+
+            if (version >= CODEC_MIN_VERSION) {
+                setCodec(DataFrameCodec.fromId((byte) (flags & DataFrameCodec.MAX_ID)));
+            }
         }
 
         @Override
         public String toString() {
-            return String.format("Version = %d, ContentLength = %d", getVersion(), getContentLength());
+            return String.format("Version = %d, ContentLength = %d, Codec = %s", getVersion(), getContentLength(), getCodec());
         }
     }
 
@@ -9,9 +9,11 @@
  */
 package io.pravega.segmentstore.server.logs;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
 import io.pravega.common.ObjectClosedException;
+import io.pravega.common.Timer;
 import io.pravega.common.util.SequencedItemList;
 import io.pravega.segmentstore.server.logs.operations.CompletableOperation;
 import io.pravega.segmentstore.storage.DurableDataLog;
@@ -22,24 +24,32 @@ import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import javax.annotation.concurrent.NotThreadSafe;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Builds DataFrames from LogItems. Splits the serialization of LogItems across multiple Data Frames, if necessary,
  * and publishes the finished Data Frames to the given DataFrameLog.
+ *
+ * If {@link Args#targetWriteLatency} is set, the maximum size of the Data Frames is adjusted based on the observed latency
+ * of the DataFrameLog writes: it is increased (up to the DataFrameLog's max write length) while writes take longer than
+ * the target, which reduces the number of writes when the DataFrameLog is under pressure, and it is decreased (down to
+ * {@link #MIN_ADAPTIVE_FRAME_LENGTH}) while writes complete well within the target, which allows records in large batches
+ * to be committed sooner.
  */
 @Slf4j
 @NotThreadSafe
 class DataFrameBuilder<T extends SequencedItemList.Element> implements AutoCloseable {
     //region Members
 
+    @VisibleForTesting
+    static final int MIN_ADAPTIVE_FRAME_LENGTH = 64 * 1024;
     private final DataFrameOutputStream outputStream;
     private final DurableDataLog targetLog;
     private final Serializer<T> serializer;
@@ -48,6 +58,9 @@ class DataFrameBuilder<T extends SequencedItemList.Element> implements AutoClose
     private long lastSerializedSequenceNumber;
     private long lastStartedSequenceNumber;
     private final AtomicReference<Throwable> failureCause;
+    private final int maxFrameLength;
+    private final int minFrameLength;
+    private final AtomicInteger frameLength;
 
     //endregion
 
@@ -68,7 +81,13 @@ class DataFrameBuilder<T extends SequencedItemList.Element> implements AutoClose
         this.args = Preconditions.checkNotNull(args, "args");
         Preconditions.checkNotNull(args.commitSuccess, "args.commitSuccess");
         Preconditions.checkNotNull(args.commitFailure, "args.commitFailure");
-        this.outputStream = new DataFrameOutputStream(targetLog.getWriteSettings().getMaxWriteLength(), this::handleDataFrameComplete);
+        Preconditions.checkNotNull(args.codec, "args.codec");
+        Preconditions.checkNotNull(args.targetWriteLatency, "args.targetWriteLatency");
+        Preconditions.checkArgument(!args.targetWriteLatency.isNegative(), "args.targetWriteLatency must be non-negative.");
+        this.maxFrameLength = targetLog.getWriteSettings().getMaxWriteLength();
+        this.minFrameLength = Math.min(MIN_ADAPTIVE_FRAME_LENGTH, this.maxFrameLength);
+        this.frameLength = new AtomicInteger(this.maxFrameLength);
+        this.outputStream = new DataFrameOutputStream(this.frameLength::get, args.codec, this::handleDataFrameComplete);
         this.lastSerializedSequenceNumber = -1;
         this.lastStartedSequenceNumber = -1;
         this.failureCause = new AtomicReference<>();
@@ -100,6 +119,16 @@ class DataFrameBuilder<T extends SequencedItemList.Element> implements AutoClose
         this.outputStream.flush();
     }
 
+    /**
+     * Gets a value indicating the maximum length of the next Data Frame that will be created.
+     *
+     * @return The maximum Data Frame length.
+     */
+    @VisibleForTesting
+    int getFrameLength() {
+        return this.frameLength.get();
+    }
+
     /**
      * If in a failed state (and thus closed), returns the original exception that caused the failure.
      *
@@ -182,8 +211,10 @@ class DataFrameBuilder<T extends SequencedItemList.Element> implements AutoClose
 
         try {
             this.args.beforeCommit.accept(commitArgs);
+            Timer timer = new Timer();
             this.targetLog.append(dataFrame.getData(), this.args.writeTimeout)
                     .thenAcceptAsync(logAddress -> {
+                        adjustFrameLength(timer.getElapsed());
                         commitArgs.setLogAddress(logAddress);
                         this.args.commitSuccess.accept(commitArgs);
                     }, this.args.executor)
@@ -197,6 +228,24 @@ class DataFrameBuilder<T extends SequencedItemList.Element> implements AutoClose
         }
     }
 
+    /**
+     * Adjusts the maximum length of subsequent Data Frames based on the latency of a DataFrameLog write (doubling or
+     * halving it as needed). Has no effect if no target write latency is configured.
+     *
+     * @param writeLatency The latency of the write.
+     */
+    private void adjustFrameLength(Duration writeLatency) {
+        if (this.args.targetWriteLatency.isZero()) {
+            return;
+        }
+
+        if (writeLatency.compareTo(this.args.targetWriteLatency) > 0) {
+            this.frameLength.updateAndGet(length -> (int) Math.min(this.maxFrameLength, 2L * length));
+        } else if (writeLatency.compareTo(this.args.targetWriteLatency.dividedBy(2)) < 0) {
+            this.frameLength.updateAndGet(length -> Math.max(this.minFrameLength, length / 2));
+        }
+    }
+
     private Void handleProcessingException(Throwable ex, CommitArgs commitArgs) {
         // This failure is due to us being unable to commit a DataFrame, whether synchronously or via a callback. The
         // DataFrameBuilder cannot recover from this; as such it will close and will leave it to the caller to handle
@@ -295,7 +344,6 @@ class DataFrameBuilder<T extends SequencedItemList.Element> implements AutoClose
 
     //region Args
 
-    @RequiredArgsConstructor
     static class Args {
         /**
          * A Callback that will be invoked synchronously upon a DataFrame's sealing, and right before it is about to be
@@ -319,7 +367,33 @@ class DataFrameBuilder<T extends SequencedItemList.Element> implements AutoClose
          */
         final BiConsumer<Throwable, CommitArgs> commitFailure;
         final Executor executor;
+
+        /**
+         * The {@link DataFrameCodec} to compress Data Frames with.
+         */
+        final DataFrameCodec codec;
+
+        /**
+         * The target latency for DataFrameLog writes, based on which Data Frames are resized. If zero, Data Frames are
+         * always filled up to the DataFrameLog's max write length.
+         */
+        final Duration targetWriteLatency;
         final Duration writeTimeout = Duration.ofSeconds(30); // TODO: actual timeout.
+
+        Args(Consumer<CommitArgs> beforeCommit, Consumer<CommitArgs> commitSuccess, BiConsumer<Throwable, CommitArgs> commitFailure,
+             Executor executor) {
+            this(beforeCommit, commitSuccess, commitFailure, executor, DataFrameCodec.NONE, Duration.ZERO);
+        }
+
+        Args(Consumer<CommitArgs> beforeCommit, Consumer<CommitArgs> commitSuccess, BiConsumer<Throwable, CommitArgs> commitFailure,
+             Executor executor, DataFrameCodec codec, Duration targetWriteLatency) {
+            this.beforeCommit = beforeCommit;
+            this.commitSuccess = commitSuccess;
+            this.commitFailure = commitFailure;
+            this.executor = executor;
+            this.codec = codec;
+            this.targetWriteLatency = targetWriteLatency;
+        }
     }
 
     //endregion
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.logs;
+
+import io.pravega.common.io.SerializationException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Defines the compression codecs that can be applied to the contents of a {@link DataFrame}.
+ *
+ * The id of the codec that was used is serialized in the header of each DataFrame, so any DataFrame can be read back
+ * regardless of the codec that is currently configured. As such, the ids of existing codecs must never change.
+ */
+@RequiredArgsConstructor
+public enum DataFrameCodec {
+    /**
+     * DataFrame contents are not compressed.
+     */
+    NONE((byte) 0),
+    /**
+     * DataFrame contents are compressed using the DEFLATE algorithm, optimized for speed.
+     */
+    DEFLATE((byte) 1);
+
+    /**
+     * The maximum id that can be serialized in a DataFrame header.
+     */
+    static final byte MAX_ID = 0x07;
+
+    /**
+     * The serialized id of the codec.
+     */
+    @Getter
+    private final byte id;
+
+    /**
+     * Gets the {@link DataFrameCodec} with the given id.
+     *
+     * @param id The id to look up.
+     * @return The {@link DataFrameCodec}.
+     * @throws SerializationException If the id does not correspond to any known codec.
+     */
+    static DataFrameCodec fromId(byte id) throws SerializationException {
+        for (DataFrameCodec c : values()) {
+            if (c.id == id) {
+                return c;
+            }
+        }
+
+        throw new SerializationException(String.format("Unsupported DataFrame codec id %d.", id));
+    }
+}
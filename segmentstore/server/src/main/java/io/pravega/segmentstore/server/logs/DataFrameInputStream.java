@@ -18,6 +18,7 @@ import io.pravega.segmentstore.storage.DurableDataLogException;
 import io.pravega.segmentstore.storage.LogAddress;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.Executor;
 import javax.annotation.concurrent.NotThreadSafe;
 import lombok.Getter;
 import lombok.SneakyThrows;
@@ -34,6 +35,7 @@ public class DataFrameInputStream extends InputStream {
 
     private final String traceObjectId;
     private final CloseableIterator<DurableDataLog.ReadItem, DurableDataLogException> reader;
+    private final DataFramePrefetcher prefetcher;
     private DataFrame.DataFrameEntryIterator currentFrameContents;
     private DataFrame.DataFrameEntry currentEntry;
     private long lastReadFrameSequence;
@@ -71,7 +73,23 @@ public class DataFrameInputStream extends InputStream {
      * @param traceObjectId Used for logging.
      */
     DataFrameInputStream(CloseableIterator<DurableDataLog.ReadItem, DurableDataLogException> reader, String traceObjectId) {
+        this(reader, 0, null, traceObjectId);
+    }
+
+    /**
+     * Creates a new instance of the DataFrameInputStream class.
+     *
+     * @param reader         An Iterator that produces DurableDataLog.ReadItems, which are then interpreted as DataFrames.
+     * @param readAheadCount The number of DataFrames to read and decode in the background, ahead of their consumption.
+     *                       If 0, DataFrames are read and decoded synchronously, when needed.
+     * @param executor       An Executor to read and decode DataFrames on. Only used if readAheadCount is positive.
+     * @param traceObjectId  Used for logging.
+     */
+    DataFrameInputStream(CloseableIterator<DurableDataLog.ReadItem, DurableDataLogException> reader, int readAheadCount,
+                         Executor executor, String traceObjectId) {
+        Preconditions.checkArgument(readAheadCount >= 0, "readAheadCount must be a non-negative integer.");
         this.reader = Preconditions.checkNotNull(reader, "reader");
+        this.prefetcher = readAheadCount == 0 ? null : new DataFramePrefetcher(reader, readAheadCount, executor);
         this.traceObjectId = Exceptions.checkNotNullOrEmpty(traceObjectId, "traceObjectId");
         this.lastReadFrameSequence = -1;
         this.currentRecordBuilder = DataFrameRecord.RecordInfo.builder();
@@ -85,7 +103,11 @@ public class DataFrameInputStream extends InputStream {
     public void close() {
         if (!this.closed) {
             this.currentEntry = null;
-            this.reader.close();
+            if (this.prefetcher == null) {
+                this.reader.close();
+            } else {
+                this.prefetcher.close();
+            }
             this.closed = true;
         }
     }
@@ -307,21 +329,20 @@ public class DataFrameInputStream extends InputStream {
     }
 
     private DataFrame.DataFrameEntryIterator getNextFrame() throws DurableDataLogException, IOException {
-        DurableDataLog.ReadItem nextItem = this.reader.getNext();
-        if (nextItem == null) {
-            // We have reached the end. Stop here.
-            return null;
-        }
-
         DataFrame.DataFrameEntryIterator frameContents;
         try {
-            frameContents = DataFrame.read(nextItem.getPayload(), nextItem.getLength(), nextItem.getAddress());
+            frameContents = this.prefetcher == null ? readNextFrame() : this.prefetcher.getNext();
         } catch (SerializationException ex) {
             throw new SerializationException(String.format("Unable to deserialize DataFrame. LastReadFrameSequence =  %d.",
                     this.lastReadFrameSequence), ex);
         }
 
-        long sequence = nextItem.getAddress().getSequence();
+        if (frameContents == null) {
+            // We have reached the end. Stop here.
+            return null;
+        }
+
+        long sequence = frameContents.getFrameAddress().getSequence();
         if (sequence <= this.lastReadFrameSequence) {
             // FrameSequence must be a strictly monotonically increasing number.
             throw new SerializationException(String.format("Found DataFrame out of order. Expected frame sequence greater than %d, found %d.",
@@ -332,6 +353,11 @@ public class DataFrameInputStream extends InputStream {
         return frameContents;
     }
 
+    private DataFrame.DataFrameEntryIterator readNextFrame() throws DurableDataLogException, IOException {
+        DurableDataLog.ReadItem nextItem = this.reader.getNext();
+        return nextItem == null ? null : DataFrame.read(nextItem.getPayload(), nextItem.getLength(), nextItem.getAddress());
+    }
+
     //endregion
 
     //region Exceptions
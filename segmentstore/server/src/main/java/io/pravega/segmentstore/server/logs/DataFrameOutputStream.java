@@ -16,6 +16,7 @@ import io.pravega.common.util.ByteArraySegment;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 import javax.annotation.concurrent.NotThreadSafe;
 import lombok.Getter;
 
@@ -34,7 +35,8 @@ class DataFrameOutputStream extends OutputStream {
     private boolean hasDataInCurrentFrame;
     @Getter
     private boolean closed;
-    private final int maxDataFrameSize;
+    private final IntSupplier maxDataFrameSize;
+    private final DataFrameCodec codec;
 
     //endregion
 
@@ -49,10 +51,26 @@ class DataFrameOutputStream extends OutputStream {
      * @throws NullPointerException     If any of the arguments are null.
      */
     DataFrameOutputStream(int maxDataFrameSize, Consumer<DataFrame> dataFrameCompleteCallback) {
-        Exceptions.checkArgument(maxDataFrameSize > DataFrame.MIN_ENTRY_LENGTH_NEEDED, "maxDataFrameSize",
+        this(() -> maxDataFrameSize, DataFrameCodec.NONE, dataFrameCompleteCallback);
+    }
+
+    /**
+     * Creates a new instance of the DataFrameOutputStream class.
+     *
+     * @param maxDataFrameSize          A Supplier for the maximum size, in bytes, of a Data Frame. This is invoked every
+     *                                  time a new Data Frame is created, and it must always return a value larger than
+     *                                  {@link DataFrame#MIN_ENTRY_LENGTH_NEEDED}.
+     * @param codec                     The {@link DataFrameCodec} to compress the Data Frames with.
+     * @param dataFrameCompleteCallback A callback that will be invoked when a Data Frame is full.
+     * @throws IllegalArgumentException If maxDataFrameSize does not supply a large enough value.
+     * @throws NullPointerException     If any of the arguments are null.
+     */
+    DataFrameOutputStream(IntSupplier maxDataFrameSize, DataFrameCodec codec, Consumer<DataFrame> dataFrameCompleteCallback) {
+        Exceptions.checkArgument(maxDataFrameSize.getAsInt() > DataFrame.MIN_ENTRY_LENGTH_NEEDED, "maxDataFrameSize",
                 "Must be a at least %s.", DataFrame.MIN_ENTRY_LENGTH_NEEDED);
 
         this.maxDataFrameSize = maxDataFrameSize;
+        this.codec = Preconditions.checkNotNull(codec, "codec");
         this.dataFrameCompleteCallback = Preconditions.checkNotNull(dataFrameCompleteCallback, "dataFrameCompleteCallback");
     }
 
@@ -207,7 +225,7 @@ class DataFrameOutputStream extends OutputStream {
     private void createNewFrame() {
         Preconditions.checkState(this.currentFrame == null || this.currentFrame.isSealed(), "Cannot create a new frame if we currently have a non-sealed frame.");
 
-        this.currentFrame = DataFrame.ofSize(this.maxDataFrameSize);
+        this.currentFrame = DataFrame.ofSize(this.maxDataFrameSize.getAsInt(), this.codec);
         this.hasDataInCurrentFrame = false;
     }
 
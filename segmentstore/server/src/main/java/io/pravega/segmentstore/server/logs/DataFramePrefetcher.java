@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.logs;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.CloseableIterator;
+import io.pravega.segmentstore.storage.DurableDataLog;
+import io.pravega.segmentstore.storage.DurableDataLogException;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads and decodes {@link DataFrame}s ahead of their consumption. Items are read from the {@link DurableDataLog}
+ * sequentially (in the background), but each {@link DataFrame} is decoded (which may involve decompression) in parallel
+ * with the others. Decoded {@link DataFrame}s are returned in the order in which they were read.
+ *
+ * This class is not thread safe. It is meant to be used by a single consumer, such as a {@link DataFrameInputStream}.
+ */
+@Slf4j
+class DataFramePrefetcher implements CloseableIterator<DataFrame.DataFrameEntryIterator, Exception> {
+    //region Members
+
+    private final CloseableIterator<DurableDataLog.ReadItem, DurableDataLogException> reader;
+    private final int readAheadCount;
+    private final Executor executor;
+    private final ArrayDeque<CompletableFuture<DataFrame.DataFrameEntryIterator>> pendingFrames;
+    private final AtomicBoolean closed;
+    private CompletableFuture<DurableDataLog.ReadItem> lastRead;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the DataFramePrefetcher class.
+     *
+     * @param reader         An Iterator that produces DurableDataLog.ReadItems, which are then interpreted as DataFrames.
+     * @param readAheadCount The maximum number of DataFrames to read and decode ahead of their consumption.
+     * @param executor       An Executor to read and decode DataFrames on. Since {@link #getNext()} blocks until these
+     *                       tasks complete, this must not be the Executor that the consumer itself runs on.
+     */
+    DataFramePrefetcher(CloseableIterator<DurableDataLog.ReadItem, DurableDataLogException> reader, int readAheadCount, Executor executor) {
+        Preconditions.checkArgument(readAheadCount > 0, "readAheadCount must be a positive integer.");
+        this.reader = Preconditions.checkNotNull(reader, "reader");
+        this.executor = Preconditions.checkNotNull(executor, "executor");
+        this.readAheadCount = readAheadCount;
+        this.pendingFrames = new ArrayDeque<>();
+        this.closed = new AtomicBoolean();
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        if (!this.closed.getAndSet(true)) {
+            // Reads happen in the background, so we cannot close the reader while one may still be in progress.
+            CompletableFuture<DurableDataLog.ReadItem> lastRead = this.lastRead;
+            if (lastRead == null) {
+                this.reader.close();
+            } else {
+                lastRead.whenComplete((r, ex) -> this.reader.close());
+            }
+
+            this.pendingFrames.forEach(f -> f.thenAccept(DataFrame.DataFrameEntryIterator::close));
+            this.pendingFrames.clear();
+        }
+    }
+
+    //endregion
+
+    //region CloseableIterator Implementation
+
+    /**
+     * Gets the next {@link DataFrame}, in the order in which they were read from the {@link DurableDataLog}.
+     *
+     * @return A {@link DataFrame.DataFrameEntryIterator} for the next DataFrame, or null if the end of the
+     * {@link DurableDataLog} has been reached.
+     * @throws DurableDataLogException If the {@link DurableDataLog} could not be read.
+     * @throws IOException             If the DataFrame could not be decoded.
+     */
+    @Override
+    public DataFrame.DataFrameEntryIterator getNext() throws DurableDataLogException, IOException {
+        Preconditions.checkState(!this.closed.get(), "DataFramePrefetcher is closed.");
+        while (this.pendingFrames.size() < this.readAheadCount) {
+            readNext();
+        }
+
+        return Futures.<DataFrame.DataFrameEntryIterator, DurableDataLogException, IOException, RuntimeException>getThrowingException(
+                this.pendingFrames.removeFirst());
+    }
+
+    private void readNext() {
+        // Reads must be sequential, so each one is chained to the previous one. Decoding does not need to be.
+        CompletableFuture<DurableDataLog.ReadItem> read;
+        if (this.lastRead == null) {
+            read = CompletableFuture.supplyAsync(this::readItem, this.executor);
+        } else {
+            read = this.lastRead.thenApplyAsync(previous -> previous == null ? null : readItem(), this.executor);
+        }
+
+        this.lastRead = read;
+        this.pendingFrames.addLast(read.thenApplyAsync(this::decode, this.executor));
+    }
+
+    @SneakyThrows(DurableDataLogException.class)
+    private DurableDataLog.ReadItem readItem() {
+        return this.closed.get() ? null : this.reader.getNext();
+    }
+
+    @SneakyThrows(IOException.class)
+    private DataFrame.DataFrameEntryIterator decode(DurableDataLog.ReadItem item) {
+        return item == null ? null : DataFrame.read(item.getPayload(), item.getLength(), item.getAddress());
+    }
+
+    //endregion
+}
@@ -18,6 +18,7 @@ import io.pravega.segmentstore.server.logs.operations.Operation;
 import io.pravega.segmentstore.storage.DurableDataLog;
 import io.pravega.segmentstore.storage.DurableDataLogException;
 import java.io.IOException;
+import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -48,10 +49,28 @@ class DataFrameReader<T extends SequencedItemList.Element> implements CloseableI
      * @throws DurableDataLogException If the given log threw an exception while initializing a Reader.
      */
     DataFrameReader(DurableDataLog log, Serializer<T> serializer, int containerId) throws DurableDataLogException {
+        this(log, serializer, 0, null, containerId);
+    }
+
+    /**
+     * Creates a new instance of the DataFrameReader class.
+     *
+     * @param log            The DataFrameLog to read data frames from.
+     * @param serializer     A Serializer to create LogItems upon deserialization.
+     * @param readAheadCount The number of DataFrames to read and decode in the background, ahead of the LogItems in
+     *                       them being requested. If 0, DataFrames are read and decoded synchronously.
+     * @param executor       An Executor to read and decode DataFrames on. Only used if readAheadCount is positive.
+     * @param containerId    The Container Id for the DataFrameReader (used primarily for logging).
+     * @throws NullPointerException    If any of the arguments are null.
+     * @throws DurableDataLogException If the given log threw an exception while initializing a Reader.
+     */
+    DataFrameReader(DurableDataLog log, Serializer<T> serializer, int readAheadCount, Executor executor, int containerId) throws DurableDataLogException {
         Preconditions.checkNotNull(log, "log");
         Preconditions.checkNotNull(serializer, "serializer");
+        Preconditions.checkArgument(readAheadCount == 0 || executor != null, "executor must be provided if readAheadCount is positive.");
         this.lastReadSequenceNumber = Operation.NO_SEQUENCE_NUMBER;
-        this.dataFrameInputStream = new DataFrameInputStream(log.getReader(), String.format("DataFrameReader[%d]", containerId));
+        this.dataFrameInputStream = new DataFrameInputStream(log.getReader(), readAheadCount, executor,
+                String.format("DataFrameReader[%d]", containerId));
         this.serializer = serializer;
     }
 
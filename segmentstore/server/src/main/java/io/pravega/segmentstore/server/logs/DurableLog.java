@@ -17,6 +17,7 @@ import io.pravega.common.LoggerHelpers;
 import io.pravega.common.ObjectClosedException;
 import io.pravega.common.TimeoutTimer;
 import io.pravega.common.Timer;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.concurrent.Services;
 import io.pravega.common.util.Retry;
@@ -62,6 +63,7 @@ public class DurableLog extends AbstractService implements OperationLog {
     //region Members
 
     private static final Duration RECOVERY_TIMEOUT = Duration.ofSeconds(30);
+    private static final int RECOVERY_READ_AHEAD_THREAD_COUNT = 2;
     private final String traceObjectId;
     private final SequencedItemList<Operation> inMemoryOperationLog;
     private final DurableDataLog durableDataLog;
@@ -75,6 +77,7 @@ public class DurableLog extends AbstractService implements OperationLog {
     private final AtomicBoolean closed;
     private final CompletableFuture<Void> delayedStart;
     private final Retry.RetryAndThrowConditionally delayedStartRetry;
+    private final int recoveryReadAheadFrameCount;
 
     //endregion
 
@@ -96,6 +99,7 @@ public class DurableLog extends AbstractService implements OperationLog {
         Preconditions.checkNotNull(dataFrameLogFactory, "dataFrameLogFactory");
         Preconditions.checkNotNull(readIndex, "readIndex");
         this.executor = Preconditions.checkNotNull(executor, "executor");
+        this.recoveryReadAheadFrameCount = config.getRecoveryReadAheadFrameCount();
 
         this.durableDataLog = dataFrameLogFactory.createDurableDataLog(metadata.getContainerId());
         assert this.durableDataLog != null : "dataFrameLogFactory created null durableDataLog.";
@@ -104,7 +108,8 @@ public class DurableLog extends AbstractService implements OperationLog {
         this.inMemoryOperationLog = createInMemoryLog();
         this.memoryStateUpdater = new MemoryStateUpdater(this.inMemoryOperationLog, readIndex, this::triggerTailReads);
         MetadataCheckpointPolicy checkpointPolicy = new MetadataCheckpointPolicy(config, this::queueMetadataCheckpoint, this.executor);
-        this.operationProcessor = new OperationProcessor(this.metadata, this.memoryStateUpdater, this.durableDataLog, checkpointPolicy, executor);
+        this.operationProcessor = new OperationProcessor(this.metadata, this.memoryStateUpdater, this.durableDataLog, checkpointPolicy,
+                config, executor);
         Services.onStop(this.operationProcessor, this::queueStoppedHandler, this::queueFailedHandler, this.executor);
         this.tailReads = new HashSet<>();
         this.closed = new AtomicBoolean();
@@ -206,12 +211,20 @@ public class DurableLog extends AbstractService implements OperationLog {
 
         this.operationProcessor.getMetrics().operationLogInit();
         Timer timer = new Timer();
+
+        // Recovery runs on (and blocks) a thread from the core executor, so DataFrames must be read ahead on a separate
+        // executor. Otherwise recovering containers could occupy all the core threads while waiting on their own reads,
+        // which would be queued behind them.
+        ScheduledExecutorService readAheadExecutor = this.recoveryReadAheadFrameCount == 0 ? null
+                : ExecutorServiceHelpers.newScheduledThreadPool(RECOVERY_READ_AHEAD_THREAD_COUNT,
+                        "recovery-read-ahead-" + this.metadata.getContainerId());
         try {
             // Initialize the DurableDataLog, which will acquire its lock and ensure we are the only active users of it.
             this.durableDataLog.initialize(RECOVERY_TIMEOUT);
 
             // Initiate the recovery.
-            RecoveryProcessor p = new RecoveryProcessor(this.metadata, this.durableDataLog, this.memoryStateUpdater);
+            RecoveryProcessor p = new RecoveryProcessor(this.metadata, this.durableDataLog, this.memoryStateUpdater,
+                    this.recoveryReadAheadFrameCount, readAheadExecutor);
             int recoveredItemCount = p.performRecovery();
             this.operationProcessor.getMetrics().operationsCompleted(recoveredItemCount, timer.getElapsed());
 
@@ -235,6 +248,11 @@ public class DurableLog extends AbstractService implements OperationLog {
             }
 
             throw ex;
+        } finally {
+            if (readAheadExecutor != null) {
+                // Any read-ahead tasks that are still queued will be allowed to complete, after which the threads exit.
+                readAheadExecutor.shutdown();
+            }
         }
     }
 
@@ -26,6 +26,9 @@ public class DurableLogConfig {
     public static final Property<Integer> CHECKPOINT_COMMIT_COUNT = Property.named("checkpointCommitCountThreshold", 300);
     public static final Property<Long> CHECKPOINT_TOTAL_COMMIT_LENGTH = Property.named("checkpointTotalCommitLengthThreshold", 256 * 1024 * 1024L);
     public static final Property<Integer> START_RETRY_DELAY_MILLIS = Property.named("startRetryDelayMillis", 60 * 1000);
+    public static final Property<DataFrameCodec> FRAME_CODEC = Property.named("frameCodec", DataFrameCodec.NONE);
+    public static final Property<Integer> FRAME_TARGET_WRITE_LATENCY_MILLIS = Property.named("frameTargetWriteLatencyMillis", 0);
+    public static final Property<Integer> RECOVERY_READ_AHEAD_FRAME_COUNT = Property.named("recoveryReadAheadFrameCount", 16);
     private static final String COMPONENT_CODE = "durablelog";
 
     //endregion
@@ -56,6 +59,26 @@ public class DurableLogConfig {
     @Getter
     private Duration startRetryDelay;
 
+    /**
+     * The codec to compress DataFrames with.
+     */
+    @Getter
+    private final DataFrameCodec frameCodec;
+
+    /**
+     * The target latency for DurableDataLog writes, based on which DataFrames are resized. If zero, DataFrames are always
+     * filled up to the DurableDataLog's max write length.
+     */
+    @Getter
+    private final Duration frameTargetWriteLatency;
+
+    /**
+     * The number of DataFrames to read and decode in parallel, ahead of the Operations in them being applied, during
+     * recovery. If zero, DataFrames are read and decoded sequentially.
+     */
+    @Getter
+    private final int recoveryReadAheadFrameCount;
+
     //endregion
 
     //region Constructor
@@ -80,6 +103,16 @@ public class DurableLogConfig {
             throw new ConfigurationException(String.format("Property '%s' must be a positive integer.", START_RETRY_DELAY_MILLIS));
         }
         this.startRetryDelay = Duration.ofMillis(startRetryDelayMillis);
+        this.frameCodec = properties.getEnum(FRAME_CODEC, DataFrameCodec.class);
+        int frameTargetWriteLatencyMillis = properties.getInt(FRAME_TARGET_WRITE_LATENCY_MILLIS);
+        if (frameTargetWriteLatencyMillis < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", FRAME_TARGET_WRITE_LATENCY_MILLIS));
+        }
+        this.frameTargetWriteLatency = Duration.ofMillis(frameTargetWriteLatencyMillis);
+        this.recoveryReadAheadFrameCount = properties.getInt(RECOVERY_READ_AHEAD_FRAME_COUNT);
+        if (this.recoveryReadAheadFrameCount < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", RECOVERY_READ_AHEAD_FRAME_COUNT));
+        }
     }
 
     /**
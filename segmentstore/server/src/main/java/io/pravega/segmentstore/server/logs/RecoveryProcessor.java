@@ -22,7 +22,9 @@ import io.pravega.segmentstore.server.logs.operations.Operation;
 import io.pravega.segmentstore.server.logs.operations.OperationSerializer;
 import io.pravega.segmentstore.storage.DurableDataLog;
 import io.pravega.segmentstore.storage.LogAddress;
+import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 
 /**
  * Helper class (for the DurableLog) that is used to execute the recovery process.
@@ -34,6 +36,8 @@ class RecoveryProcessor {
     private final UpdateableContainerMetadata metadata;
     private final DurableDataLog durableDataLog;
     private final MemoryStateUpdater stateUpdater;
+    private final int readAheadCount;
+    private final Executor executor;
     private final String traceObjectId;
 
     //endregion
@@ -48,9 +52,28 @@ class RecoveryProcessor {
      * @param stateUpdater     A MemoryStateUpdater that can be used to apply the recovered operations.
      */
     RecoveryProcessor(UpdateableContainerMetadata metadata, DurableDataLog durableDataLog, MemoryStateUpdater stateUpdater) {
+        this(metadata, durableDataLog, stateUpdater, 0, null);
+    }
+
+    /**
+     * Creates a new instance of the RecoveryProcessor class.
+     *
+     * @param metadata         The UpdateableContainerMetadata to use for recovery.
+     * @param durableDataLog   The (uninitialized) DurableDataLog to read data from for recovery.
+     * @param stateUpdater     A MemoryStateUpdater that can be used to apply the recovered operations.
+     * @param readAheadCount   The number of DataFrames to read and decode in parallel, ahead of the Operations in them
+     *                         being applied. If 0, DataFrames are read and decoded sequentially.
+     * @param executor         An Executor to read and decode DataFrames on. Only used if readAheadCount is positive.
+     */
+    RecoveryProcessor(UpdateableContainerMetadata metadata, DurableDataLog durableDataLog, MemoryStateUpdater stateUpdater,
+                      int readAheadCount, Executor executor) {
+        Preconditions.checkArgument(readAheadCount >= 0, "readAheadCount must be a non-negative integer.");
+        Preconditions.checkArgument(readAheadCount == 0 || executor != null, "executor must be provided if readAheadCount is positive.");
         this.metadata = Preconditions.checkNotNull(metadata, "metadata");
         this.durableDataLog = Preconditions.checkNotNull(durableDataLog, "durableDataLog");
         this.stateUpdater = Preconditions.checkNotNull(stateUpdater, "stateUpdater");
+        this.readAheadCount = readAheadCount;
+        this.executor = executor;
         this.traceObjectId = String.format("RecoveryProcessor[%s]", this.metadata.getContainerId());
     }
 
@@ -91,12 +114,16 @@ class RecoveryProcessor {
         boolean successfulRecovery = false;
         int recoveredItemCount;
         try {
-            recoveredItemCount = recoverAllOperations(metadataUpdater);
+            val recoveryStats = new RecoveryStats();
+            recoverAllOperations(metadataUpdater, recoveryStats);
+            recoveredItemCount = recoveryStats.itemCount;
             this.metadata.setContainerEpoch(this.durableDataLog.getEpoch());
             long timeElapsed = timer.getElapsedMillis();
-            log.info("{} Recovery completed. Epoch = {}, Items Recovered = {}, Time = {}ms.", this.traceObjectId,
-                    this.metadata.getContainerEpoch(), recoveredItemCount, timeElapsed);
+            long bytesPerSecond = recoveryStats.length * 1000 / Math.max(1, timeElapsed);
+            log.info("{} Recovery completed. Epoch = {}, Items Recovered = {}, Bytes Recovered = {}, Time = {}ms ({} bytes/s).",
+                    this.traceObjectId, this.metadata.getContainerEpoch(), recoveredItemCount, recoveryStats.length, timeElapsed, bytesPerSecond);
             SegmentStoreMetrics.recoveryCompleted(timeElapsed, this.metadata.getContainerId());
+            SegmentStoreMetrics.recoveryThroughput(bytesPerSecond, this.metadata.getContainerId());
             successfulRecovery = true;
         } finally {
             // We must exit recovery mode when done, regardless of outcome.
@@ -116,17 +143,18 @@ class RecoveryProcessor {
      * been built up using the Operations up to them).
      *
      * @param metadataUpdater The OperationMetadataUpdater to use for updates.
-     * @return The number of Operations recovered.
+     * @param recoveryStats   A RecoveryStats to record the number of Operations (and their serialized length) recovered.
      */
-    private int recoverAllOperations(OperationMetadataUpdater metadataUpdater) throws Exception {
+    private void recoverAllOperations(OperationMetadataUpdater metadataUpdater, RecoveryStats recoveryStats) throws Exception {
         long traceId = LoggerHelpers.traceEnterWithContext(log, this.traceObjectId, "recoverAllOperations");
         int skippedOperationCount = 0;
         int skippedDataFramesCount = 0;
-        int recoveredItemCount = 0;
 
-        // Read all entries from the DataFrameLog and append them to the InMemoryOperationLog.
+        // Read all entries from the DataFrameLog and append them to the InMemoryOperationLog. DataFrames are read and
+        // decoded ahead of time (if so configured), but Operations are always applied in order.
         // Also update metadata along the way.
-        try (DataFrameReader<Operation> reader = new DataFrameReader<>(this.durableDataLog, OperationSerializer.DEFAULT, this.metadata.getContainerId())) {
+        try (DataFrameReader<Operation> reader = new DataFrameReader<>(this.durableDataLog, OperationSerializer.DEFAULT,
+                this.readAheadCount, this.executor, this.metadata.getContainerId())) {
             DataFrameRecord<Operation> dataFrameRecord;
 
             // We can only recover starting from a MetadataCheckpointOperation; find the first one.
@@ -156,7 +184,7 @@ class RecoveryProcessor {
             while (dataFrameRecord != null) {
                 recordTruncationMarker(dataFrameRecord);
                 recoverOperation(dataFrameRecord, metadataUpdater);
-                recoveredItemCount++;
+                recoveryStats.record(dataFrameRecord);
 
                 // Fetch the next operation.
                 dataFrameRecord = reader.getNext();
@@ -166,8 +194,7 @@ class RecoveryProcessor {
         // Commit whatever changes we have in the metadata updater to the Container Metadata.
         // This code will only be invoked if we haven't encountered any exceptions during recovery.
         metadataUpdater.commitAll();
-        LoggerHelpers.traceLeave(log, this.traceObjectId, "recoverAllOperations", traceId, recoveredItemCount);
-        return recoveredItemCount;
+        LoggerHelpers.traceLeave(log, this.traceObjectId, "recoverAllOperations", traceId, recoveryStats.itemCount);
     }
 
     protected void recoverOperation(DataFrameRecord<Operation> dataFrameRecord, OperationMetadataUpdater metadataUpdater) throws DataCorruptionException {
@@ -207,4 +234,20 @@ class RecoveryProcessor {
     }
 
     //endregion
+
+    //region RecoveryStats
+
+    private static class RecoveryStats {
+        private int itemCount;
+        private long length;
+
+        void record(DataFrameRecord<Operation> dataFrameRecord) {
+            this.itemCount++;
+            for (DataFrameRecord.EntryInfo e : dataFrameRecord.getFrameEntries()) {
+                this.length += e.getLength();
+            }
+        }
+    }
+
+    //endregion
 }
@@ -24,6 +24,7 @@ public class ReadIndexConfig {
     public static final Property<Integer> STORAGE_READ_ALIGNMENT = Property.named("storageReadAlignment", 1024 * 1024);
     public static final Property<Integer> MEMORY_READ_MIN_LENGTH = Property.named("memoryReadMinLength", 4 * 1024);
     public static final Property<Integer> STORAGE_READ_DEFAULT_TIMEOUT = Property.named("storageReadDefaultTimeoutMillis", 30 * 1000);
+    public static final Property<IndexType> INDEX_TYPE = Property.named("indexType", IndexType.AVL_TREE);
     private static final String COMPONENT_CODE = "readindex";
 
     //endregion
@@ -57,6 +58,12 @@ public class ReadIndexConfig {
     @Getter
     private final Duration storageReadDefaultTimeout;
 
+    /**
+     * The type of SortedIndex to use for indexing the entries of each Segment's Read Index.
+     */
+    @Getter
+    private final IndexType indexType;
+
     //endregion
 
     //region Constructor
@@ -70,6 +77,7 @@ public class ReadIndexConfig {
         this.storageReadAlignment = properties.getInt(STORAGE_READ_ALIGNMENT);
         this.memoryReadMinLength = properties.getInt(MEMORY_READ_MIN_LENGTH);
         this.storageReadDefaultTimeout = Duration.ofMillis(properties.getInt(STORAGE_READ_DEFAULT_TIMEOUT));
+        this.indexType = properties.getEnum(INDEX_TYPE, IndexType.class);
     }
 
     /**
@@ -82,4 +90,24 @@ public class ReadIndexConfig {
     }
 
     //endregion
+
+    //region IndexType
+
+    /**
+     * Defines the types of SortedIndex that can be used for indexing Read Index entries.
+     */
+    public enum IndexType {
+        /**
+         * Use an {@link io.pravega.common.util.AvlTreeIndex}.
+         */
+        AVL_TREE,
+        /**
+         * Use a {@link io.pravega.common.util.SortedArrayIndex}. This keeps the entry offsets in a primitive array and
+         * allocates no objects per entry, which significantly reduces the number of heap objects (and hence GC pressure)
+         * when there are many entries across all the Segments.
+         */
+        SORTED_ARRAY
+    }
+
+    //endregion
 }
@@ -22,6 +22,8 @@ abstract class ReadIndexEntry implements SortedIndex.IndexEntry {
     private final long streamSegmentOffset;
     @GuardedBy("this")
     private int generation;
+    @GuardedBy("this")
+    private boolean probationary;
 
     //endregion
 
@@ -61,6 +63,25 @@ abstract class ReadIndexEntry implements SortedIndex.IndexEntry {
         this.generation = generation;
     }
 
+    /**
+     * Gets a value indicating whether this ReadIndexEntry is probationary (it has been admitted into the cache, but it
+     * has not been used again since). See {@link ReadIndexSummary}.
+     *
+     * @return True if probationary, false otherwise.
+     */
+    synchronized boolean isProbationary() {
+        return this.probationary;
+    }
+
+    /**
+     * Sets a value indicating whether this ReadIndexEntry is probationary.
+     *
+     * @param probationary True if probationary, false otherwise.
+     */
+    synchronized void setProbationary(boolean probationary) {
+        this.probationary = probationary;
+    }
+
     /**
      * Gets a value indicating the StreamSegment offset for this entry.
      */
@@ -95,7 +116,8 @@ abstract class ReadIndexEntry implements SortedIndex.IndexEntry {
 
     @Override
     public synchronized String toString() {
-        return String.format("Offset = %d, Length = %d, Gen = %d", this.streamSegmentOffset, getLength(), this.generation);
+        return String.format("Offset = %d, Length = %d, Gen = %d%s", this.streamSegmentOffset, getLength(), this.generation,
+                this.probationary ? " (P)" : "");
     }
 
     @Override
@@ -17,6 +17,9 @@ import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Represents a summary for a particular ReadIndex.
+ *
+ * Elements may be recorded as probationary (see {@link CacheManager.CacheStatus#getOldestProbationaryGeneration()}).
+ * A probationary element that is used again in a later generation than the one it was last recorded in is promoted.
  */
 @ThreadSafe
 class ReadIndexSummary {
@@ -26,6 +29,8 @@ class ReadIndexSummary {
     private int currentGeneration;
     @GuardedBy("this")
     private final HashMap<Integer, Integer> generations;
+    @GuardedBy("this")
+    private final HashMap<Integer, Integer> probationaryGenerations;
 
     //endregion
 
@@ -35,6 +40,7 @@ class ReadIndexSummary {
     ReadIndexSummary() {
         this.currentGeneration = 0;
         this.generations = new HashMap<>();
+        this.probationaryGenerations = new HashMap<>();
     }
 
     //endregion
@@ -55,8 +61,17 @@ class ReadIndexSummary {
      * @return The value of the current generation.
      */
     synchronized int addOne() {
-        int newCount = this.generations.getOrDefault(this.currentGeneration, 0) + 1;
-        this.generations.put(this.currentGeneration, newCount);
+        return addOne(false);
+    }
+
+    /**
+     * Records the addition of an element to the current generation.
+     *
+     * @param probationary True if the element is probationary, false otherwise.
+     * @return The value of the current generation.
+     */
+    synchronized int addOne(boolean probationary) {
+        addOne(this.currentGeneration, probationary);
         return this.currentGeneration;
     }
 
@@ -66,9 +81,21 @@ class ReadIndexSummary {
      * @param generation The generation of the element to add.
      */
     synchronized void addOne(int generation) {
+        addOne(generation, false);
+    }
+
+    /**
+     * Records the addition of an element to the given generation.
+     *
+     * @param generation   The generation of the element to add.
+     * @param probationary True if the element is probationary, false otherwise.
+     */
+    synchronized void addOne(int generation, boolean probationary) {
         Preconditions.checkArgument(generation >= 0, "generation must be a non-negative number");
-        int newCount = this.generations.getOrDefault(generation, 0) + 1;
-        this.generations.put(generation, newCount);
+        increment(this.generations, generation);
+        if (probationary) {
+            increment(this.probationaryGenerations, generation);
+        }
     }
 
     /**
@@ -77,11 +104,19 @@ class ReadIndexSummary {
      * @param generation The generation of the element to remove.
      */
     synchronized void removeOne(int generation) {
-        int newCount = this.generations.getOrDefault(generation, 0) - 1;
-        if (newCount > 0) {
-            this.generations.put(generation, newCount);
-        } else {
-            this.generations.remove(generation);
+        removeOne(generation, false);
+    }
+
+    /**
+     * Records the removal of an element from the given generation.
+     *
+     * @param generation   The generation of the element to remove.
+     * @param probationary True if the element is probationary, false otherwise.
+     */
+    synchronized void removeOne(int generation, boolean probationary) {
+        decrement(this.generations, generation);
+        if (probationary) {
+            decrement(this.probationaryGenerations, generation);
         }
     }
 
@@ -93,15 +128,55 @@ class ReadIndexSummary {
      * @return The value of the current generation.
      */
     synchronized int touchOne(int generation) {
-        removeOne(generation);
-        addOne();
+        return touchOne(generation, false);
+    }
+
+    /**
+     * Records that an element pertaining to the given generation has been used. This element will be removed from
+     * its current generation and recorded in the current generation. If the element is probationary, it will be promoted
+     * if {@link #isPromoted} returns true for the given generation and the current generation.
+     *
+     * @param generation   The original generation of the element to touch.
+     * @param probationary True if the element is probationary, false otherwise.
+     * @return The value of the current generation.
+     */
+    synchronized int touchOne(int generation, boolean probationary) {
+        removeOne(generation, probationary);
+        addOne(probationary && !isPromoted(generation, this.currentGeneration));
         return this.currentGeneration;
     }
 
+    /**
+     * Determines whether a probationary element that was recorded in the given generation is promoted when it is used
+     * again in the given current generation. Uses that happen in the same generation are considered to be correlated
+     * (i.e., a reader consuming data that was just loaded from Storage in smaller chunks) and do not cause a promotion.
+     *
+     * @param generation        The generation the element was recorded in.
+     * @param currentGeneration The generation the element is used again in.
+     * @return True if the element is promoted, false otherwise.
+     */
+    static boolean isPromoted(int generation, int currentGeneration) {
+        return generation < currentGeneration;
+    }
+
     /**
      * Generates a CacheManager.CacheStatus object with the information in this ReadIndexSummary object.
      */
     synchronized CacheManager.CacheStatus toCacheStatus() {
-        return CacheManager.CacheStatus.fromGenerations(this.generations.keySet().iterator());
+        return CacheManager.CacheStatus.fromGenerations(this.generations.keySet().iterator(),
+                this.probationaryGenerations.keySet().iterator());
+    }
+
+    private void increment(HashMap<Integer, Integer> counts, int generation) {
+        counts.put(generation, counts.getOrDefault(generation, 0) + 1);
+    }
+
+    private void decrement(HashMap<Integer, Integer> counts, int generation) {
+        int newCount = counts.getOrDefault(generation, 0) - 1;
+        if (newCount > 0) {
+            counts.put(generation, newCount);
+        } else {
+            counts.remove(generation);
+        }
     }
 }
@@ -12,7 +12,7 @@ package io.pravega.segmentstore.server.reading;
 import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
-import io.pravega.common.util.ByteArraySegment;
+import io.pravega.common.util.BufferView;
 import io.pravega.segmentstore.server.SegmentMetadata;
 import io.pravega.segmentstore.storage.ReadOnlyStorage;
 import io.pravega.segmentstore.storage.SegmentHandle;
@@ -131,10 +131,9 @@ public class StorageReadManager implements AutoCloseable {
      */
     private void executeStorageRead(Request request) {
         try {
-            byte[] buffer = new byte[request.length];
             getHandle()
-                    .thenComposeAsync(handle -> this.storage.read(handle, request.offset, buffer, 0, buffer.length, request.getTimeout()), this.executor)
-                    .thenAcceptAsync(bytesRead -> request.complete(new ByteArraySegment(buffer, 0, bytesRead)), this.executor)
+                    .thenComposeAsync(handle -> this.storage.read(handle, request.offset, request.length, request.getTimeout()), this.executor)
+                    .thenAcceptAsync(request::complete, this.executor)
                     .whenComplete((r, ex) -> {
                         if (ex != null) {
                             request.fail(ex);
@@ -209,18 +208,19 @@ public class StorageReadManager implements AutoCloseable {
      * Represents a Result for a StorageReaderOperation.
      */
     static class Result {
-        private final ByteArraySegment data;
+        private final BufferView data;
         private final boolean derived;
 
-        private Result(ByteArraySegment data, boolean derived) {
+        private Result(BufferView data, boolean derived) {
             this.data = data;
             this.derived = derived;
         }
 
         /**
-         * Gets a pointer to a ByteArraySegment that contains the data for this Result.
+         * Gets a pointer to a BufferView that contains the data for this Result. Depending on the Storage implementation,
+         * this may not be backed by a heap array.
          */
-        public ByteArraySegment getData() {
+        public BufferView getData() {
             return this.data;
         }
 
@@ -384,7 +384,7 @@ public class StorageReadManager implements AutoCloseable {
          *
          * @param data The result to complete with.
          */
-        private void complete(ByteArraySegment data) {
+        private void complete(BufferView data) {
             Preconditions.checkState(!isDone(), "This Request is already completed.");
             this.resultFuture.complete(new Result(data, false));
         }
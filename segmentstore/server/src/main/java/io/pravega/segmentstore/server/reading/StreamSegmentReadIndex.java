@@ -17,7 +17,7 @@ import io.pravega.common.LoggerHelpers;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.AvlTreeIndex;
 import io.pravega.common.util.BufferView;
-import io.pravega.common.util.ByteArraySegment;
+import io.pravega.common.util.SortedArrayIndex;
 import io.pravega.common.util.SortedIndex;
 import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.ReadResultEntry;
@@ -109,7 +109,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         this.metadata = metadata;
         this.cacheStorage = cacheStorage;
         this.recoveryMode = recoveryMode;
-        this.indexEntries = new AvlTreeIndex<>();
+        this.indexEntries = createIndex(config.getIndexType());
         this.futureReads = new FutureReadResultEntryCollection();
         this.pendingMergers = new HashMap<>();
         this.lastAppendedOffset = new AtomicLong(-1);
@@ -119,6 +119,17 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         this.storageReadAlignment = alignToCacheBlockSize(this.config.getStorageReadAlignment());
     }
 
+    private static SortedIndex<ReadIndexEntry> createIndex(ReadIndexConfig.IndexType indexType) {
+        switch (indexType) {
+            case SORTED_ARRAY:
+                return new SortedArrayIndex<>();
+            case AVL_TREE:
+                return new AvlTreeIndex<>();
+            default:
+                throw new IllegalArgumentException("Unsupported index type: " + indexType);
+        }
+    }
+
     private int alignToCacheBlockSize(int value) {
         int r = value % this.cacheStorage.getBlockAlignment();
         if (r != 0) {
@@ -212,6 +223,11 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
 
     @Override
     public boolean updateGenerations(int currentGeneration, int oldestGeneration) {
+        return updateGenerations(currentGeneration, oldestGeneration, oldestGeneration);
+    }
+
+    @Override
+    public boolean updateGenerations(int currentGeneration, int oldestGeneration, int oldestProbationaryGeneration) {
         Exceptions.checkNotClosed(this.closed, this);
 
         // Update the current generation with the provided info.
@@ -225,11 +241,12 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                 // 1. The entry is a Cache Entry (Redirect entries cannot be removed).
                 // 2. Every single byte in the entry has to exist in Storage.
                 // In addition, we are free to evict (regardless of Generation, but still subject to the above rules) if
-                // every single byte in the entry has been truncated out.
+                // every single byte in the entry has been truncated out. Probationary entries have their own generation cutoff.
                 long lastOffset = entry.getLastStreamSegmentOffset();
+                int cutoffGeneration = entry.isProbationary() ? oldestProbationaryGeneration : oldestGeneration;
                 boolean canRemove = entry.isDataEntry()
                         && lastOffset < this.metadata.getStorageLength()
-                        && (entry.getGeneration() < oldestGeneration || lastOffset < this.metadata.getStartOffset());
+                        && (entry.getGeneration() < cutoffGeneration || lastOffset < this.metadata.getStartOffset());
                 if (canRemove) {
                     toRemove.add(entry);
                 }
@@ -242,7 +259,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         // Update the summary (no need for holding the lock here; we are not modifying the index).
         toRemove.forEach(e -> {
             deleteData(e);
-            this.summary.removeOne(e.getGeneration());
+            this.summary.removeOne(e.getGeneration(), e.isProbationary());
         });
 
         return !toRemove.isEmpty();
@@ -501,7 +518,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         LoggerHelpers.traceLeave(log, this.traceObjectId, "completeMerge", traceId);
     }
 
-    private void insert(long offset, ByteArraySegment data) {
+    private void insert(long offset, BufferView data) {
         log.debug("{}: Insert (Offset = {}, Length = {}).", this.traceObjectId, offset, data.getLength());
 
         // There is a very small chance we might be adding data twice, if we get two concurrent requests that slipped past
@@ -539,7 +556,11 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         // Add append data to the Data Store.
         appendLength = this.cacheStorage.append(entry.getCacheAddress(), (int) entry.getLength(), data);
         entry.increaseLength(appendLength);
-        entry.setGeneration(this.summary.touchOne(entry.getGeneration()));
+
+        // Newly appended data is part of the working set, so this entry is promoted (if it isn't protected already).
+        this.summary.removeOne(entry.getGeneration(), entry.isProbationary());
+        entry.setProbationary(false);
+        entry.setGeneration(this.summary.addOne());
         return appendLength;
     }
 
@@ -621,6 +642,9 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                     try {
                         dataAddress = this.cacheStorage.insert(dataToInsert);
                         newEntry = new CacheIndexEntry(segmentOffset, dataToInsert.getLength(), dataAddress);
+
+                        // Data loaded from Storage may be part of a one-off scan; admit it on probation.
+                        newEntry.setProbationary(true);
                         ReadIndexEntry overriddenEntry = addToIndex(newEntry);
                         assert overriddenEntry == null : "Insert overrode existing entry; " + segmentOffset + ":" + dataToInsert.getLength();
                         lastInsertedEntry = newEntry;
@@ -648,17 +672,17 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         if (entry.isDataEntry()) {
             if (entry instanceof MergedIndexEntry) {
                 // This entry has already existed in the cache for a while; do not change its generation.
-                this.summary.addOne(entry.getGeneration());
+                this.summary.addOne(entry.getGeneration(), entry.isProbationary());
             } else {
                 // Update the Stats with the entry's length, and set the entry's generation as well.
-                int generation = this.summary.addOne();
+                int generation = this.summary.addOne(entry.isProbationary());
                 entry.setGeneration(generation);
             }
         }
 
         if (rejectedEntry != null && rejectedEntry.isDataEntry()) {
             // Need to eject the old entry's data from the Cache Stats.
-            this.summary.removeOne(rejectedEntry.getGeneration());
+            this.summary.removeOne(rejectedEntry.getGeneration(), rejectedEntry.isProbationary());
         }
 
         return rejectedEntry;
@@ -947,11 +971,11 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         }
 
         // Collect the contents of congruent Index Entries into a list, as long as we still encounter data in the cache.
-        ArrayList<InputStream> contents = new ArrayList<>();
+        ArrayList<BufferView> contents = new ArrayList<>();
         do {
             assert Futures.isSuccessful(nextEntry.getContent()) : "Found CacheReadResultEntry that is not completed yet: " + nextEntry;
             val entryContents = nextEntry.getContent().join();
-            contents.add(entryContents.getData());
+            contents.add(entryContents.getBuffer());
             readLength += entryContents.getLength();
             if (readLength >= this.config.getMemoryReadMinLength() || readLength >= maxLength) {
                 break;
@@ -960,8 +984,8 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
             nextEntry = getSingleMemoryReadResultEntry(resultStartOffset + readLength, maxLength - readLength);
         } while (nextEntry != null);
 
-        // Coalesce the results into a single InputStream and return the result.
-        return new CacheReadResultEntry(resultStartOffset, new SequenceInputStream(Iterators.asEnumeration(contents.iterator())), readLength);
+        // Coalesce the results into a single BufferView (without copying any data) and return the result.
+        return new CacheReadResultEntry(resultStartOffset, BufferView.wrap(contents));
     }
 
     /**
@@ -1102,12 +1126,15 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         assert data != null : String.format("No Cache Entry could be retrieved for entry %s", entry);
 
         if (updateStats) {
-            // Update its generation before returning it.
-            int generation = this.summary.touchOne(entry.getGeneration());
+            // Update its generation before returning it. Probationary entries may get promoted as a result.
+            int oldGeneration = entry.getGeneration();
+            boolean probationary = entry.isProbationary();
+            int generation = this.summary.touchOne(oldGeneration, probationary);
+            entry.setProbationary(probationary && !ReadIndexSummary.isPromoted(oldGeneration, generation));
             entry.setGeneration(generation);
         }
 
-        return new CacheReadResultEntry(entry.getStreamSegmentOffset() + entryOffset, data.getReader(entryOffset, length), length);
+        return new CacheReadResultEntry(entry.getStreamSegmentOffset() + entryOffset, data.slice(entryOffset, length));
     }
 
     /**
@@ -1124,10 +1151,10 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         // Create a callback that inserts into the ReadIndex (and cache) and invokes the success callback.
         Consumer<StorageReadManager.Result> doneCallback = result -> {
             try {
-                ByteArraySegment data = result.getData();
+                BufferView data = result.getData();
 
                 // Make sure we invoke our callback first, before any chance of exceptions from insert() may block it.
-                successCallback.accept(new ReadResultEntryContents(data.getReader(), data.getLength()));
+                successCallback.accept(new ReadResultEntryContents(data));
                 if (!result.isDerived()) {
                     // Only insert primary results into the cache. Derived results are always sub-portions of primaries
                     // and there is no need to insert them too, as they are already contained within.
@@ -45,9 +45,14 @@ import io.pravega.segmentstore.storage.ConfigSetup;
 import io.pravega.segmentstore.storage.DurableDataLogException;
 import io.pravega.segmentstore.storage.DurableDataLogFactory;
 import io.pravega.segmentstore.storage.StorageFactory;
+import io.pravega.segmentstore.storage.cache.CacheStorage;
+import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
+import io.pravega.segmentstore.storage.cache.MemoryMappedFileCache;
+import io.pravega.segmentstore.storage.cache.TieredCacheStorage;
 import io.pravega.segmentstore.storage.mocks.InMemoryDurableDataLogFactory;
 import io.pravega.segmentstore.storage.mocks.InMemoryStorageFactory;
 import io.pravega.shared.segment.SegmentToContainerMapper;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
@@ -126,7 +131,20 @@ public class ServiceBuilder implements AutoCloseable {
         this.storageExecutor = executorBuilder.apply(serviceConfig.getStorageThreadPoolSize(), instancePrefix + "storage-io");
         this.threadPoolMetrics = new SegmentStoreMetrics.ThreadPool(this.coreExecutor);
 
-        this.cacheManager = new CacheManager(serviceConfig.getCachePolicy(), this.coreExecutor);
+        this.cacheManager = new CacheManager(serviceConfig.getCachePolicy(), createCacheStorage(serviceConfig), this.coreExecutor);
+    }
+
+    private CacheStorage createCacheStorage(ServiceConfig serviceConfig) {
+        long spillSize = serviceConfig.getCacheSpillMaxSize();
+        long maxSize = serviceConfig.getCachePolicy().getMaxSize();
+        if (spillSize <= 0) {
+            return new DirectMemoryCache(maxSize);
+        }
+
+        // The CachePolicy accounts for both tiers (see ServiceConfig); the hot (direct memory) tier gets whatever is left.
+        log.info("Using a memory-mapped file cache tier of {} bytes at '{}'.", spillSize, serviceConfig.getCacheSpillFile());
+        return new TieredCacheStorage(new DirectMemoryCache(maxSize - spillSize),
+                new MemoryMappedFileCache(Paths.get(serviceConfig.getCacheSpillFile()), spillSize));
     }
 
     private String getInstanceIdPrefix(ServiceConfig serviceConfig) {
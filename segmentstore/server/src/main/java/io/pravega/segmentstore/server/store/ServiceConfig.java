@@ -51,6 +51,9 @@ public class ServiceConfig {
     public static final Property<Integer> CACHE_POLICY_MAX_UTILIZATION = Property.named("cacheMaxUtilizationPercent", (int) (100 * CachePolicy.DEFAULT_MAX_UTILIZATION));
     public static final Property<Integer> CACHE_POLICY_MAX_TIME = Property.named("cacheMaxTimeSeconds", 30 * 60);
     public static final Property<Integer> CACHE_POLICY_GENERATION_TIME = Property.named("cacheGenerationTimeSeconds", 1);
+    public static final Property<CachePolicy.EvictionMode> CACHE_POLICY_EVICTION_MODE = Property.named("cacheEvictionMode", CachePolicy.EvictionMode.GENERATIONAL);
+    public static final Property<Long> CACHE_SPILL_MAX_SIZE = Property.named("cacheSpillMaxSize", 0L);
+    public static final Property<String> CACHE_SPILL_FILE = Property.named("cacheSpillFile", "");
     public static final Property<Boolean> REPLY_WITH_STACK_TRACE_ON_ERROR = Property.named("replyWithStackTraceOnError", false);
     public static final Property<String> INSTANCE_ID = Property.named("instanceId", "");
 
@@ -258,6 +261,20 @@ public class ServiceConfig {
     @Getter
     private final CachePolicy cachePolicy;
 
+    /**
+     * The maximum size (in bytes) of the memory-mapped file cache tier that the Local Shared Cache demotes entries to
+     * when it is full. If 0, there is no such tier. When set, {@link #getCachePolicy()} includes this size as well.
+     */
+    @Getter
+    private final long cacheSpillMaxSize;
+
+    /**
+     * The path to the file backing the memory-mapped file cache tier. Only used if {@link #getCacheSpillMaxSize()} is
+     * greater than 0.
+     */
+    @Getter
+    private final String cacheSpillFile;
+
     /**
      * Defines whether server-side stack traces should be send to clients as part of an error response.
      */
@@ -330,8 +347,19 @@ public class ServiceConfig {
         double cachePolicyMaxUtilization = properties.getInt(CACHE_POLICY_MAX_UTILIZATION) / 100.0;
         int cachePolicyMaxTime = properties.getInt(CACHE_POLICY_MAX_TIME);
         int cachePolicyGenerationTime = properties.getInt(CACHE_POLICY_GENERATION_TIME);
-        this.cachePolicy = new CachePolicy(cachePolicyMaxSize, cachePolicyTargetUtilization, cachePolicyMaxUtilization,
-                Duration.ofSeconds(cachePolicyMaxTime), Duration.ofSeconds(cachePolicyGenerationTime));
+        CachePolicy.EvictionMode cachePolicyEvictionMode = properties.getEnum(CACHE_POLICY_EVICTION_MODE, CachePolicy.EvictionMode.class);
+        this.cacheSpillFile = properties.get(CACHE_SPILL_FILE);
+        long cacheSpillMaxSize = properties.getLong(CACHE_SPILL_MAX_SIZE);
+        if (cacheSpillMaxSize < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", CACHE_SPILL_MAX_SIZE));
+        } else if (cacheSpillMaxSize > 0 && Strings.isNullOrEmpty(this.cacheSpillFile)) {
+            throw new ConfigurationException(String.format("Property '%s' must be set if '%s' is greater than 0.",
+                    CACHE_SPILL_FILE, CACHE_SPILL_MAX_SIZE));
+        }
+
+        this.cacheSpillMaxSize = cacheSpillMaxSize;
+        this.cachePolicy = new CachePolicy(cachePolicyMaxSize + cacheSpillMaxSize, cachePolicyTargetUtilization, cachePolicyMaxUtilization,
+                Duration.ofSeconds(cachePolicyMaxTime), Duration.ofSeconds(cachePolicyGenerationTime), cachePolicyEvictionMode);
         this.replyWithStackTraceOnError = properties.getBoolean(REPLY_WITH_STACK_TRACE_ON_ERROR);
         this.instanceId = properties.get(INSTANCE_ID);
     }
@@ -381,6 +409,8 @@ public class ServiceConfig {
                         Strings.isNullOrEmpty(keyFile) ? "unspecified" : "specified"))
                 .append(String.format("enableTlsReload: %b, ", enableTlsReload))
                 .append(String.format("cachePolicy is %s, ", (cachePolicy != null) ? cachePolicy.toString() : "null"))
+                .append(String.format("cacheSpillMaxSize: %d, ", cacheSpillMaxSize))
+                .append(String.format("cacheSpillFile: %s, ", cacheSpillFile))
                 .append(String.format("replyWithStackTraceOnError: %b, ", replyWithStackTraceOnError))
                 .append(String.format("instanceId: %s", instanceId))
                 .append(")")
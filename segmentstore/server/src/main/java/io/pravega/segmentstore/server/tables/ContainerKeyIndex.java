@@ -40,6 +40,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -84,6 +85,7 @@ class ContainerKeyIndex implements AutoCloseable {
     private final CacheManager cacheManager;
     private final MultiKeySequentialProcessor<Map.Entry<Long, UUID>> conditionalUpdateProcessor;
     private final RecoveryTracker recoveryTracker;
+    private final KeyHashFilters keyHashFilters;
     private final AtomicBoolean closed;
     private final KeyHasher keyHasher;
     private final String traceObjectId;
@@ -109,6 +111,7 @@ class ContainerKeyIndex implements AutoCloseable {
         this.indexReader = new IndexReader(executor);
         this.conditionalUpdateProcessor = new MultiKeySequentialProcessor<>(this.executor);
         this.recoveryTracker = new RecoveryTracker();
+        this.keyHashFilters = new KeyHashFilters();
         this.keyHasher = keyHasher;
         this.closed = new AtomicBoolean();
         this.traceObjectId = String.format("KeyIndex[%d]", containerId);
@@ -125,6 +128,7 @@ class ContainerKeyIndex implements AutoCloseable {
             this.cacheManager.unregister(this.cache);
             this.cache.close();
             this.recoveryTracker.close();
+            this.keyHashFilters.clear();
             log.info("{}: Closed.", this.traceObjectId);
         }
     }
@@ -265,8 +269,10 @@ class ContainerKeyIndex implements AutoCloseable {
             }
         }
 
+        // Exclude those Key Hashes that are known not to exist; there is no need to look them up in the index.
+        this.keyHashFilters.excludeNonExisting(segment, toLookup);
         if (toLookup.isEmpty()) {
-            // Full cache hit.
+            // Full cache hit (or none of the remaining Key Hashes exist).
             return CompletableFuture.completedFuture(result);
         } else {
             // Fetch information for missing hashes.
@@ -408,7 +414,16 @@ class ContainerKeyIndex implements AutoCloseable {
         this.cache.updateSegmentIndexOffsetIfMissing(segment.getSegmentId(), () -> this.indexReader.getLastIndexedOffset(segment.getInfo()));
 
         // Update the cache with the contents of the batch.
-        return this.cache.includeUpdateBatch(segment.getSegmentId(), batch, batchOffset);
+        List<Long> result = this.cache.includeUpdateBatch(segment.getSegmentId(), batch, batchOffset);
+
+        // Record any new Key Hashes (removals cannot create new Table Buckets). This must be done after the cache update:
+        // a filter that is being built either takes its tail cache snapshot after that (so it has them already), or it
+        // has been registered before we get here (so we add them to it).
+        if (!batch.isRemoval()) {
+            this.keyHashFilters.include(segment.getSegmentId(), batch);
+        }
+
+        return result;
     }
 
     /**
@@ -520,6 +535,9 @@ class ContainerKeyIndex implements AutoCloseable {
     void notifyIndexOffsetChanged(long segmentId, long indexOffset) {
         this.cache.updateSegmentIndexOffset(segmentId, indexOffset);
         this.recoveryTracker.updateSegmentIndexOffset(segmentId, indexOffset);
+        if (indexOffset < 0) {
+            this.keyHashFilters.remove(segmentId);
+        }
     }
 
     /**
@@ -618,6 +636,111 @@ class ContainerKeyIndex implements AutoCloseable {
 
     //endregion
 
+    //region KeyHashFilters
+
+    /**
+     * Keeps track of the {@link KeyHashFilter}s for Table Segments, which help avoid index lookups for Key Hashes that
+     * do not exist.
+     *
+     * A Segment's filter is built upon the first index lookup that could not be satisfied from the cache, by adding all the
+     * Key Hashes from the tail cache and then all the Table Buckets from the index; until that completes, the filter is not
+     * used. Any Key Hashes that are updated in the meantime (or afterwards) are added to the filter directly, but only
+     * after they have been added to the cache, so that no Key Hash can be missed by both the filter and its build.
+     */
+    @ThreadSafe
+    private class KeyHashFilters {
+        private final ConcurrentHashMap<Long, KeyHashFilter> filters = new ConcurrentHashMap<>();
+
+        /**
+         * Removes from the given Collection those Key Hashes that definitely do not exist in the given Segment. If the
+         * Segment has no filter, this will trigger building one (but it will not be used for this invocation).
+         *
+         * @param segment   The Segment to check.
+         * @param keyHashes The Key Hashes to check. This Collection will be modified.
+         */
+        void excludeNonExisting(DirectSegmentAccess segment, Collection<UUID> keyHashes) {
+            if (keyHashes.isEmpty()) {
+                return;
+            }
+
+            KeyHashFilter filter = this.filters.get(segment.getSegmentId());
+            if (filter == null) {
+                build(segment);
+            } else if (filter.isReady()) {
+                keyHashes.removeIf(keyHash -> !filter.mightContain(keyHash));
+            }
+        }
+
+        /**
+         * Adds the Key Hashes from the given {@link TableKeyBatch} to the given Segment's filter, if any.
+         *
+         * @param segmentId The Id of the Segment.
+         * @param batch     The {@link TableKeyBatch} to include.
+         */
+        void include(long segmentId, TableKeyBatch batch) {
+            KeyHashFilter filter = this.filters.get(segmentId);
+            if (filter == null) {
+                // No filter. Whenever one will be built, it will pick up these Key Hashes from the cache or the index.
+                return;
+            }
+
+            batch.getItems().forEach(item -> filter.add(item.getHash()));
+            if (filter.isSaturated() && this.filters.remove(segmentId, filter)) {
+                // Too many Key Hashes for this filter's capacity. A larger one will be built upon the next lookup.
+                log.debug("{}: Discarded saturated Key Hash filter for Table Segment {} ({}).", traceObjectId, segmentId, filter);
+            }
+        }
+
+        /**
+         * Discards the filter for the given Segment.
+         *
+         * @param segmentId The Id of the Segment.
+         */
+        void remove(long segmentId) {
+            this.filters.remove(segmentId);
+        }
+
+        /**
+         * Discards all filters.
+         */
+        void clear() {
+            this.filters.clear();
+        }
+
+        private void build(DirectSegmentAccess segment) {
+            final long segmentId = segment.getSegmentId();
+            long expectedCount = indexReader.getBucketCount(segment.getInfo()) + cache.getTailHashes(segmentId).size();
+            KeyHashFilter filter = new KeyHashFilter(2 * expectedCount); // Leave room for growth.
+            if (this.filters.putIfAbsent(segmentId, filter) != null) {
+                // Someone else is already building (or has built) a filter.
+                return;
+            }
+
+            log.debug("{}: Building Key Hash filter for Table Segment {} ({}).", traceObjectId, segmentId, filter);
+            recoveryTracker
+                    .waitIfNeeded(segment, ignored -> {
+                        // Include the tail cache before scanning the index. A Key Hash is only removed from the tail cache
+                        // after it has been indexed, so none can fall in between.
+                        cache.getTailHashes(segmentId).keySet().forEach(filter::add);
+                        return segment.attributeIterator(KeyHasher.MIN_HASH, KeyHasher.MAX_HASH, getRecoveryTimeout())
+                                      .thenCompose(iterator -> iterator.forEachRemaining(
+                                              buckets -> buckets.forEach(bucket -> filter.add(bucket.getKey())), executor));
+                    })
+                    .whenComplete((r, ex) -> {
+                        if (ex == null) {
+                            filter.markReady();
+                            log.debug("{}: Built Key Hash filter for Table Segment {} ({}).", traceObjectId, segmentId, filter);
+                        } else {
+                            // Not a problem (this may be due to the Segment being evicted); let the next lookup retry.
+                            this.filters.remove(segmentId, filter);
+                            log.debug("{}: Unable to build Key Hash filter for Table Segment {}.", traceObjectId, segmentId, Exceptions.unwrap(ex));
+                        }
+                    });
+        }
+    }
+
+    //endregion
+
     //region RecoveryTracker
 
     /**
@@ -23,6 +23,7 @@ import io.pravega.segmentstore.contracts.AttributeUpdate;
 import io.pravega.segmentstore.contracts.AttributeUpdateType;
 import io.pravega.segmentstore.contracts.StreamSegmentTruncatedException;
 import io.pravega.segmentstore.contracts.tables.IteratorItem;
+import io.pravega.segmentstore.contracts.tables.KeyRange;
 import io.pravega.segmentstore.contracts.tables.TableAttributes;
 import io.pravega.segmentstore.contracts.tables.TableEntry;
 import io.pravega.segmentstore.contracts.tables.TableKey;
@@ -44,6 +45,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.Getter;
@@ -63,13 +65,20 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
     /**
      * The default value to supply to a {@link WriterTableProcessor} to indicate how big compactions need to be.
      * We need to return a value that is large enough to encompass the largest possible Table Entry (otherwise
-     * compaction will stall), but not too big, as that will introduce larger indexing pauses when compaction is running.
+     * compaction will stall), but not too big, as each compaction step is charged this much against the
+     * {@link TableCompactionScheduler}'s I/O budget.
      */
     private static final int DEFAULT_MAX_COMPACTION_SIZE = 4 * EntrySerializer.MAX_SERIALIZATION_LENGTH;
+    /**
+     * The maximum number of Keys to look up at once when iterating over a sorted Table Segment.
+     */
+    private static final int SORTED_ITERATOR_BATCH_SIZE = 32;
     private final SegmentContainer segmentContainer;
     private final ScheduledExecutorService executor;
     private final KeyHasher hasher;
     private final ContainerKeyIndex keyIndex;
+    private final SortedKeyIndex sortedKeyIndex;
+    private final TableCompactionScheduler compactionScheduler;
     private final EntrySerializer serializer;
     private final AtomicBoolean closed;
     private final String traceObjectId;
@@ -104,6 +113,8 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
         this.executor = executor;
         this.hasher = hasher;
         this.keyIndex = new ContainerKeyIndex(segmentContainer.getId(), cacheManager, this.hasher, this.executor);
+        this.sortedKeyIndex = new SortedKeyIndex(segmentContainer.getId(), this::loadSortedKeys);
+        this.compactionScheduler = new TableCompactionScheduler(segmentContainer.getId(), this.executor);
         this.serializer = new EntrySerializer();
         this.closed = new AtomicBoolean();
         this.traceObjectId = String.format("TableExtension[%d]", this.segmentContainer.getId());
@@ -117,6 +128,8 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
     public void close() {
         if (!this.closed.getAndSet(true)) {
             this.keyIndex.close();
+            this.sortedKeyIndex.close();
+            this.compactionScheduler.close();
             log.info("{}: Closed.", this.traceObjectId);
         }
     }
@@ -142,12 +155,18 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
 
     @Override
     public CompletableFuture<Void> createSegment(@NonNull String segmentName, Duration timeout) {
+        return createSegment(segmentName, false, timeout);
+    }
+
+    @Override
+    public CompletableFuture<Void> createSegment(@NonNull String segmentName, boolean sorted, Duration timeout) {
         Exceptions.checkNotClosed(this.closed.get(), this);
         val attributes = TableAttributes.DEFAULT_VALUES
                 .entrySet().stream()
-                .map(e -> new AttributeUpdate(e.getKey(), AttributeUpdateType.None, e.getValue()))
+                .map(e -> new AttributeUpdate(e.getKey(), AttributeUpdateType.None,
+                        sorted && e.getKey().equals(TableAttributes.SORTED) ? 1L : e.getValue()))
                 .collect(Collectors.toList());
-        logRequest("createSegment", segmentName);
+        logRequest("createSegment", segmentName, sorted);
         return this.segmentContainer.createStreamSegment(segmentName, attributes, timeout);
     }
 
@@ -191,7 +210,13 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
         return this.segmentContainer
                 .forSegment(segmentName, timer.getRemaining())
                 .thenComposeAsync(segment -> this.keyIndex.update(segment, updateBatch,
-                        () -> commit(entries, updateBatch.getLength(), this.serializer::serializeUpdate, segment, timer.getRemaining()), timer),
+                        () -> commit(entries, updateBatch.getLength(), this.serializer::serializeUpdate, segment, timer.getRemaining()), timer)
+                                .thenApply(versions -> {
+                                    if (SortedKeyIndex.isSorted(segment)) {
+                                        this.sortedKeyIndex.includeUpdates(segment.getSegmentId(), getKeys(entries, e -> e.getKey().getKey()), versions);
+                                    }
+                                    return versions;
+                                }),
                         this.executor);
     }
 
@@ -207,7 +232,12 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
         return this.segmentContainer
                 .forSegment(segmentName, timer.getRemaining())
                 .thenComposeAsync(segment -> this.keyIndex.update(segment, removeBatch,
-                        () -> commit(keys, removeBatch.getLength(), this.serializer::serializeRemoval, segment, timer.getRemaining()), timer),
+                        () -> commit(keys, removeBatch.getLength(), this.serializer::serializeRemoval, segment, timer.getRemaining()), timer)
+                                .thenAccept(offsets -> {
+                                    if (SortedKeyIndex.isSorted(segment)) {
+                                        this.sortedKeyIndex.includeRemovals(segment.getSegmentId(), getKeys(keys, TableKey::getKey), offsets);
+                                    }
+                                }),
                         this.executor)
                 .thenRun(Runnables.doNothing());
     }
@@ -220,15 +250,18 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
             return CompletableFuture.completedFuture(Collections.emptyList());
         } else {
             TimeoutTimer timer = new TimeoutTimer(timeout);
-            val resultBuilder = new GetResultBuilder(keys, this.hasher);
             return this.segmentContainer
                     .forSegment(segmentName, timer.getRemaining())
-                    .thenComposeAsync(segment -> this.keyIndex.getBucketOffsets(segment, resultBuilder.getHashes(), timer)
-                                    .thenComposeAsync(offsets -> get(segment, resultBuilder, offsets, timer), this.executor),
-                            this.executor);
+                    .thenComposeAsync(segment -> get(segment, keys, timer), this.executor);
         }
     }
 
+    private CompletableFuture<List<TableEntry>> get(DirectSegmentAccess segment, List<ArrayView> keys, TimeoutTimer timer) {
+        val resultBuilder = new GetResultBuilder(keys, this.hasher);
+        return this.keyIndex.getBucketOffsets(segment, resultBuilder.getHashes(), timer)
+                            .thenComposeAsync(offsets -> get(segment, resultBuilder, offsets, timer), this.executor);
+    }
+
     private CompletableFuture<List<TableEntry>> get(DirectSegmentAccess segment, GetResultBuilder builder,
                                                     Map<UUID, Long> bucketOffsets, TimeoutTimer timer) {
         val bucketReader = TableBucketReader.entry(segment, this.keyIndex::getBackpointerOffset, this.executor);
@@ -280,6 +313,20 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
         return newIterator(segmentName, serializedState, fetchTimeout, TableBucketReader::entry);
     }
 
+    @Override
+    public CompletableFuture<AsyncIterator<IteratorItem<TableKey>>> keyIterator(String segmentName, KeyRange range, byte[] serializedState,
+                                                                               Duration fetchTimeout) {
+        logRequest("keyIterator", segmentName, range);
+        return newSortedIterator(segmentName, range, serializedState, fetchTimeout, TableEntry::getKey, TableKey::getKey);
+    }
+
+    @Override
+    public CompletableFuture<AsyncIterator<IteratorItem<TableEntry>>> entryIterator(String segmentName, KeyRange range, byte[] serializedState,
+                                                                                   Duration fetchTimeout) {
+        logRequest("entryIterator", segmentName, range);
+        return newSortedIterator(segmentName, range, serializedState, fetchTimeout, e -> e, e -> e.getKey().getKey());
+    }
+
     //endregion
 
     //region Helpers
@@ -295,6 +342,17 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
         return DEFAULT_MAX_COMPACTION_SIZE;
     }
 
+    /**
+     * When overridden in a derived class, this will be invoked to schedule a Table Segment compaction. By default this
+     * registers the {@link TableCompactionScheduler.Candidate} with this Segment Container's {@link TableCompactionScheduler}.
+     *
+     * @param candidate The {@link TableCompactionScheduler.Candidate} to compact.
+     */
+    @VisibleForTesting
+    protected void requestCompaction(TableCompactionScheduler.Candidate candidate) {
+        this.compactionScheduler.register(candidate);
+    }
+
     private <T> TableKeyBatch batch(Collection<T> toBatch, Function<T, TableKey> getKey, Function<T, Integer> getLength, TableKeyBatch batch) {
         for (T item : toBatch) {
             val length = getLength.apply(item);
@@ -357,6 +415,63 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
                                     .build(), this.executor);
     }
 
+    private <T> CompletableFuture<AsyncIterator<IteratorItem<T>>> newSortedIterator(@NonNull String segmentName, @NonNull KeyRange range,
+                                                                                    byte[] serializedState, @NonNull Duration fetchTimeout,
+                                                                                    Function<TableEntry, T> convert, Function<T, ArrayView> getKey) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        ArrayView lastKey;
+        try {
+            lastKey = serializedState == null ? null : SortedIteratorState.deserialize(serializedState).getLastKey();
+        } catch (IOException ex) {
+            // Bad SortedIteratorState serialization.
+            throw new IllegalDataFormatException("Unable to deserialize `serializedState`.", ex);
+        }
+
+        return this.segmentContainer
+                .forSegment(segmentName, fetchTimeout)
+                .<AsyncIterator<IteratorItem<T>>>thenApply(segment -> {
+                    if (!SortedKeyIndex.isSorted(segment)) {
+                        throw new UnsupportedOperationException(String.format("Table Segment '%s' is not sorted.", segmentName));
+                    }
+
+                    return new SortedTableIterator<>(lastKey,
+                            (fromKey, maxCount) -> this.sortedKeyIndex.getKeys(segment, range, fromKey, maxCount, fetchTimeout),
+                            candidates -> getExisting(segment, candidates, convert, new TimeoutTimer(fetchTimeout)),
+                            getKey, SORTED_ITERATOR_BATCH_SIZE, this.executor);
+                });
+    }
+
+    /**
+     * Looks up the given candidate Keys (obtained from the {@link SortedKeyIndex}) and returns the results for those
+     * that still exist. Those that do not are removed from the {@link SortedKeyIndex}.
+     */
+    private <T> CompletableFuture<List<T>> getExisting(DirectSegmentAccess segment, List<TableKey> candidates,
+                                                       Function<TableEntry, T> convert, TimeoutTimer timer) {
+        return get(segment, getKeys(candidates, TableKey::getKey), timer)
+                .thenApply(entries -> {
+                    val result = new ArrayList<T>(entries.size());
+                    for (int i = 0; i < entries.size(); i++) {
+                        TableEntry e = entries.get(i);
+                        if (e == null) {
+                            this.sortedKeyIndex.removeStale(segment.getSegmentId(), candidates.get(i));
+                        } else {
+                            result.add(convert.apply(e));
+                        }
+                    }
+                    return result;
+                });
+    }
+
+    private CompletableFuture<Void> loadSortedKeys(DirectSegmentAccess segment, Consumer<TableKey> keyConsumer, Duration timeout) {
+        UUID fromHash = KeyHasher.getNextHash(null);
+        return this.<TableKey>buildIterator(segment, TableBucketReader::key, fromHash, timeout)
+                .thenCompose(iterator -> iterator.forEachRemaining(item -> item.getEntries().forEach(keyConsumer), this.executor));
+    }
+
+    private <T> List<ArrayView> getKeys(Collection<T> items, Function<T, ArrayView> getKey) {
+        return items.stream().map(getKey).collect(Collectors.toList());
+    }
+
     private TableEntry maybeDeleted(TableEntry e) {
         return e == null || e.getValue() == null ? null : e;
     }
@@ -399,10 +514,21 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
             return ContainerTableExtensionImpl.this.getMaxCompactionSize();
         }
 
+        @Override
+        public void requestCompaction(TableCompactionScheduler.Candidate candidate) {
+            ContainerTableExtensionImpl.this.requestCompaction(candidate);
+        }
+
         @Override
         public void close() {
             // Tell the KeyIndex that it's ok to clear any tail-end cache.
             ContainerTableExtensionImpl.this.keyIndex.notifyIndexOffsetChanged(this.metadata.getId(), -1L);
+
+            // The Segment is no longer active; its sorted Keys (if any) will be reloaded if needed again.
+            ContainerTableExtensionImpl.this.sortedKeyIndex.unload(this.metadata.getId());
+
+            // Do not compact this Segment anymore; a new WriterTableProcessor will request it again if needed.
+            ContainerTableExtensionImpl.this.compactionScheduler.unregister(this.metadata.getId());
         }
     }
 
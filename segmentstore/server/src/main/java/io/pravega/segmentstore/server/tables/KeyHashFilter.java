@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.PrimitiveSink;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+
+/**
+ * A Bloom Filter for Key Hashes, which can be used to determine that a Key Hash (and therefore the {@link TableBucket}
+ * associated with it) definitely does not exist in a Table Segment, without having to look it up in the index.
+ *
+ * A filter is only usable after it has been marked as ready (see {@link #markReady()}), which should be done once all
+ * the Key Hashes in the Table Segment have been added to it.
+ */
+@ThreadSafe
+class KeyHashFilter {
+    //region Members
+
+    /**
+     * The minimum number of Key Hashes a filter is sized for.
+     */
+    @VisibleForTesting
+    static final long MIN_CAPACITY = 1024;
+    /**
+     * The maximum number of Key Hashes a filter is sized for. At {@link #FALSE_POSITIVE_PROBABILITY}, this works out to
+     * about 4.8MB per filter. Filters may still have more Key Hashes added to them, at the expense of accuracy.
+     */
+    @VisibleForTesting
+    static final long MAX_CAPACITY = 4 * 1024 * 1024;
+    /**
+     * The desired false positive probability, when the filter is at capacity.
+     */
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+    /**
+     * The estimated false positive probability beyond which the filter is considered saturated.
+     */
+    private static final double MAX_FALSE_POSITIVE_PROBABILITY = 0.05;
+    private final BloomFilter<UUID> filter;
+    @Getter
+    private final long capacity;
+    private final AtomicBoolean ready;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the KeyHashFilter class.
+     *
+     * @param expectedCount The number of Key Hashes expected to be added to this filter. The actual capacity will be
+     *                      adjusted to be between {@link #MIN_CAPACITY} and {@link #MAX_CAPACITY}.
+     */
+    KeyHashFilter(long expectedCount) {
+        this.capacity = Math.max(MIN_CAPACITY, Math.min(MAX_CAPACITY, expectedCount));
+        this.filter = BloomFilter.create(KeyHashFilter::funnel, this.capacity, FALSE_POSITIVE_PROBABILITY);
+        this.ready = new AtomicBoolean();
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Adds the given Key Hash to this filter.
+     *
+     * @param keyHash The Key Hash to add.
+     */
+    void add(UUID keyHash) {
+        this.filter.put(keyHash);
+    }
+
+    /**
+     * Gets a value indicating whether the given Key Hash may have been added to this filter.
+     *
+     * @param keyHash The Key Hash to test.
+     * @return False if the Key Hash has definitely not been added to this filter, true otherwise.
+     */
+    boolean mightContain(UUID keyHash) {
+        return this.filter.mightContain(keyHash);
+    }
+
+    /**
+     * Gets a value indicating whether too many Key Hashes have been added to this filter, which causes its estimated
+     * false positive probability to exceed acceptable bounds. Filters sized at {@link #MAX_CAPACITY} are never considered
+     * saturated, since they could not be replaced by a larger one.
+     *
+     * @return True if saturated, false otherwise.
+     */
+    boolean isSaturated() {
+        return this.capacity < MAX_CAPACITY && this.filter.expectedFpp() > MAX_FALSE_POSITIVE_PROBABILITY;
+    }
+
+    /**
+     * Gets a value indicating whether this filter contains all the Key Hashes in its Table Segment and can be used.
+     *
+     * @return True if ready, false otherwise.
+     */
+    boolean isReady() {
+        return this.ready.get();
+    }
+
+    /**
+     * Indicates that all the Key Hashes in the Table Segment have been added to this filter.
+     */
+    void markReady() {
+        this.ready.set(true);
+    }
+
+    private static void funnel(UUID keyHash, PrimitiveSink into) {
+        into.putLong(keyHash.getMostSignificantBits())
+            .putLong(keyHash.getLeastSignificantBits());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Capacity = %d, Ready = %s, Fpp = %.4f", this.capacity, this.ready.get(), this.filter.expectedFpp());
+    }
+
+    //endregion
+}
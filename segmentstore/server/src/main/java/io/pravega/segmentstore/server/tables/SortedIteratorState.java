@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.common.ObjectBuilder;
+import io.pravega.common.io.serialization.RevisionDataInput;
+import io.pravega.common.io.serialization.RevisionDataOutput;
+import io.pravega.common.io.serialization.VersionedSerializer;
+import io.pravega.common.util.ArrayView;
+import io.pravega.common.util.ByteArraySegment;
+import java.io.IOException;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Represents the state of a resumable iterator over a sorted Table Segment (see {@link SortedTableIterator}).
+ */
+@RequiredArgsConstructor
+class SortedIteratorState {
+    private static final Serializer SERIALIZER = new Serializer();
+
+    /**
+     * Gets the last Key included in the iteration so far. All Keys in the iterated range that are smaller than or equal
+     * to this one have been included.
+     */
+    @Getter
+    @NonNull
+    private final ArrayView lastKey;
+
+    @Override
+    public String toString() {
+        return String.format("LastKey = %s bytes", this.lastKey.getLength());
+    }
+
+    //region Serialization
+
+    /**
+     * Creates a new instance of the SortedIteratorState class from the given array.
+     *
+     * @param data A byte array containing the serialization of a SortedIteratorState. This must have been generated
+     *             using {@link #serialize()}.
+     * @return As new instance of the SortedIteratorState class.
+     * @throws IOException If unable to deserialize.
+     */
+    static SortedIteratorState deserialize(byte[] data) throws IOException {
+        return SERIALIZER.deserialize(data);
+    }
+
+    /**
+     * Serializes this SortedIteratorState instance into an {@link ArrayView}.
+     *
+     * @return The {@link ArrayView} that was used for serialization.
+     */
+    @SneakyThrows(IOException.class)
+    public ArrayView serialize() {
+        return SERIALIZER.serialize(this);
+    }
+
+    private static class SortedIteratorStateBuilder implements ObjectBuilder<SortedIteratorState> {
+        private ArrayView lastKey;
+
+        @Override
+        public SortedIteratorState build() {
+            return new SortedIteratorState(lastKey);
+        }
+    }
+
+    private static class Serializer extends VersionedSerializer.WithBuilder<SortedIteratorState, SortedIteratorStateBuilder> {
+        @Override
+        protected SortedIteratorStateBuilder newBuilder() {
+            return new SortedIteratorStateBuilder();
+        }
+
+        @Override
+        protected byte getWriteVersion() {
+            return 0;
+        }
+
+        @Override
+        protected void declareVersions() {
+            version(0).revision(0, this::write00, this::read00);
+        }
+
+        private void read00(RevisionDataInput revisionDataInput, SortedIteratorStateBuilder builder) throws IOException {
+            builder.lastKey = new ByteArraySegment(revisionDataInput.readArray());
+        }
+
+        private void write00(SortedIteratorState state, RevisionDataOutput revisionDataOutput) throws IOException {
+            int keyLength = state.lastKey.getLength();
+            revisionDataOutput.length(revisionDataOutput.getCompactIntLength(keyLength) + keyLength);
+            revisionDataOutput.writeArray(state.lastKey.array(), state.lastKey.arrayOffset(), keyLength);
+        }
+    }
+
+    //endregion
+}
@@ -0,0 +1,264 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.common.Exceptions;
+import io.pravega.common.util.ArrayView;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.common.util.btree.ByteArrayComparator;
+import io.pravega.segmentstore.contracts.tables.KeyRange;
+import io.pravega.segmentstore.contracts.tables.TableAttributes;
+import io.pravega.segmentstore.contracts.tables.TableKey;
+import io.pravega.segmentstore.server.DirectSegmentAccess;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory index of the Keys in sorted Table Segments (see {@link TableAttributes#SORTED}), which enables iterating
+ * over the Keys of such a Table Segment in order.
+ *
+ * The Table Segment (and its hash-based index) remains the source of truth. A Segment's Keys are loaded upon first use
+ * and then kept up to date with every subsequent update; they are unloaded when the Segment's {@link TableWriterConnector}
+ * is closed (which happens when the Segment is evicted from memory or deleted). Each Key is mapped to the offset of the
+ * update that last touched it, which helps resolve concurrent updates to the same Key that are reported out of order.
+ * Since removals and loads may race with each other, this index may contain Keys that no longer exist, so any results
+ * must be validated against the Table Segment.
+ */
+@ThreadSafe
+@Slf4j
+class SortedKeyIndex implements AutoCloseable {
+    //region Members
+
+    private final ConcurrentHashMap<Long, SegmentKeys> segments;
+    private final KeyLoader keyLoader;
+    private final AtomicBoolean closed;
+    private final String traceObjectId;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the SortedKeyIndex class.
+     *
+     * @param containerId Id of the SegmentContainer this instance is associated with.
+     * @param keyLoader   A {@link KeyLoader} that can be used to load all the Keys in a Table Segment.
+     */
+    SortedKeyIndex(int containerId, @NonNull KeyLoader keyLoader) {
+        this.segments = new ConcurrentHashMap<>();
+        this.keyLoader = keyLoader;
+        this.closed = new AtomicBoolean();
+        this.traceObjectId = String.format("SortedKeyIndex[%d]", containerId);
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        if (!this.closed.getAndSet(true)) {
+            this.segments.clear();
+            log.info("{}: Closed.", this.traceObjectId);
+        }
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Gets a value indicating whether the given Segment is a sorted Table Segment.
+     *
+     * @param segment The Segment to check.
+     * @return True if sorted, false otherwise.
+     */
+    static boolean isSorted(DirectSegmentAccess segment) {
+        return segment.getInfo().getAttributes().getOrDefault(TableAttributes.SORTED, 0L) != 0L;
+    }
+
+    /**
+     * Gets the next Keys in the given range, in ascending order. Loads the Segment's Keys if necessary.
+     *
+     * @param segment  The Segment to look up Keys for.
+     * @param range    The {@link KeyRange} to look up Keys in.
+     * @param lastKey  (Optional) If provided, only Keys greater than this one will be returned.
+     * @param maxCount The maximum number of Keys to return.
+     * @param timeout  Timeout for the operation.
+     * @return A CompletableFuture that, when completed, will contain the sought {@link TableKey}s, each containing the
+     * offset at which it was last updated as version. The result may include Keys that no longer exist.
+     */
+    CompletableFuture<List<TableKey>> getKeys(DirectSegmentAccess segment, KeyRange range, ArrayView lastKey, int maxCount, Duration timeout) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        SegmentKeys segmentKeys = this.segments.computeIfAbsent(segment.getSegmentId(), id -> new SegmentKeys());
+        return segmentKeys.load(segment, timeout)
+                          .thenApply(v -> segmentKeys.getKeys(range, lastKey, maxCount));
+    }
+
+    /**
+     * Records that the given Keys have been updated.
+     *
+     * @param segmentId The Id of the Segment the Keys belong to.
+     * @param keys      The Keys that have been inserted or updated.
+     * @param offsets   The offsets (versions) at which each of the Keys have been updated, in the same order as keys.
+     */
+    void includeUpdates(long segmentId, List<ArrayView> keys, List<Long> offsets) {
+        SegmentKeys segmentKeys = this.segments.get(segmentId);
+        if (segmentKeys != null) {
+            // If the Segment's Keys are not loaded, there is no need to record this; they will be picked up when loaded.
+            for (int i = 0; i < keys.size(); i++) {
+                segmentKeys.update(keys.get(i), offsets.get(i));
+            }
+        }
+    }
+
+    /**
+     * Records that the given Keys have been removed.
+     *
+     * @param segmentId The Id of the Segment the Keys belong to.
+     * @param keys      The Keys that have been removed.
+     * @param offsets   The offsets at which each of the Keys have been removed, in the same order as keys.
+     */
+    void includeRemovals(long segmentId, List<ArrayView> keys, List<Long> offsets) {
+        SegmentKeys segmentKeys = this.segments.get(segmentId);
+        if (segmentKeys != null) {
+            for (int i = 0; i < keys.size(); i++) {
+                segmentKeys.remove(keys.get(i), offsets.get(i));
+            }
+        }
+    }
+
+    /**
+     * Removes a Key that has been found to no longer exist, provided it has not been updated in the meantime.
+     *
+     * @param segmentId The Id of the Segment the Key belongs to.
+     * @param key       A {@link TableKey} returned by {@link #getKeys}, that does not exist anymore.
+     */
+    void removeStale(long segmentId, TableKey key) {
+        SegmentKeys segmentKeys = this.segments.get(segmentId);
+        if (segmentKeys != null) {
+            segmentKeys.keys.remove(key.getKey(), key.getVersion());
+        }
+    }
+
+    /**
+     * Unloads all the Keys for the given Segment.
+     *
+     * @param segmentId The Id of the Segment to unload.
+     */
+    void unload(long segmentId) {
+        if (this.segments.remove(segmentId) != null) {
+            log.debug("{}: Unloaded sorted keys for Segment {}.", this.traceObjectId, segmentId);
+        }
+    }
+
+    //endregion
+
+    //region SegmentKeys
+
+    /**
+     * The sorted Keys of a single Table Segment.
+     */
+    private class SegmentKeys {
+        private final ConcurrentSkipListMap<ArrayView, Long> keys = new ConcurrentSkipListMap<>(ByteArrayComparator::compareArbitraryLength);
+        @GuardedBy("this")
+        private CompletableFuture<Void> loaded;
+
+        synchronized CompletableFuture<Void> load(DirectSegmentAccess segment, Duration timeout) {
+            if (this.loaded == null || this.loaded.isCompletedExceptionally()) {
+                // Not loaded yet, or the previous attempt failed. Updates that complete while loading are applied
+                // directly to the map, so they are not lost.
+                log.debug("{}: Loading sorted keys for Segment {}.", traceObjectId, segment.getSegmentId());
+                this.loaded = keyLoader.load(segment, key -> update(key.getKey(), key.getVersion()), timeout);
+            }
+
+            return this.loaded;
+        }
+
+        void update(ArrayView key, long offset) {
+            // Copy the key; we do not want to hold on to (possibly large) buffers that were used for reading or writing.
+            this.keys.merge(new ByteArraySegment(key.getCopy()), offset, Math::max);
+        }
+
+        void remove(ArrayView key, long offset) {
+            // Only remove the Key if it has not been updated after this removal.
+            this.keys.computeIfPresent(key, (k, existingOffset) -> existingOffset < offset ? null : existingOffset);
+        }
+
+        List<TableKey> getKeys(KeyRange range, ArrayView lastKey, int maxCount) {
+            ArrayView from = range.getFrom();
+            boolean fromInclusive = true;
+            if (lastKey != null && (from == null || ByteArrayComparator.compareArbitraryLength(lastKey, from) >= 0)) {
+                from = lastKey;
+                fromInclusive = false;
+            }
+
+            ArrayView to = range.getTo();
+            if (from != null && to != null && ByteArrayComparator.compareArbitraryLength(from, to) >= 0) {
+                // Empty range.
+                return Collections.emptyList();
+            }
+
+            NavigableMap<ArrayView, Long> view = this.keys;
+            if (from != null) {
+                view = view.tailMap(from, fromInclusive);
+            }
+            if (to != null) {
+                view = view.headMap(to, false);
+            }
+
+            List<TableKey> result = new ArrayList<>(Math.min(maxCount, 16));
+            for (Map.Entry<ArrayView, Long> e : view.entrySet()) {
+                if (result.size() >= maxCount) {
+                    break;
+                }
+                result.add(TableKey.versioned(e.getKey(), e.getValue()));
+            }
+
+            return result;
+        }
+    }
+
+    //endregion
+
+    //region KeyLoader
+
+    /**
+     * Loads all the Keys in a Table Segment.
+     */
+    @FunctionalInterface
+    interface KeyLoader {
+        /**
+         * Loads all the Keys in the given Table Segment.
+         *
+         * @param segment     The Segment to load Keys from.
+         * @param keyConsumer A Consumer that will be invoked with each Key (versioned by the offset where it was last
+         *                    updated).
+         * @param timeout     Timeout for the operation.
+         * @return A CompletableFuture that, when completed, will indicate all Keys have been loaded.
+         */
+        CompletableFuture<Void> load(DirectSegmentAccess segment, Consumer<TableKey> keyConsumer, Duration timeout);
+    }
+
+    //endregion
+}
@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.ArrayView;
+import io.pravega.common.util.AsyncIterator;
+import io.pravega.segmentstore.contracts.tables.IteratorItem;
+import io.pravega.segmentstore.contracts.tables.KeyRange;
+import io.pravega.segmentstore.contracts.tables.TableKey;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Iterates through the Keys of a sorted Table Segment that are included in a {@link KeyRange}, in order.
+ *
+ * Candidate Keys are fetched in batches from a {@link SortedKeyIndex} and then resolved against the Table Segment, which
+ * filters out any Keys that no longer exist. Each {@link IteratorItem} returned contains exactly one result.
+ *
+ * @param <T> Type of the final, converted result.
+ */
+@ThreadSafe
+class SortedTableIterator<T> implements AsyncIterator<IteratorItem<T>> {
+    //region Members
+
+    private final GetCandidates getCandidates;
+    private final ResolveCandidates<T> resolveCandidates;
+    private final Function<T, ArrayView> getKey;
+    private final int batchSize;
+    private final Executor executor;
+    @GuardedBy("this")
+    private ArrayView lastCandidate;
+    @GuardedBy("this")
+    private ArrayDeque<T> currentBatch;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the SortedTableIterator class.
+     *
+     * @param lastKey           (Optional) The last Key that has already been iterated on. If provided, iteration will
+     *                          begin with the first Key after it.
+     * @param getCandidates     A {@link GetCandidates} that returns the next candidate Keys.
+     * @param resolveCandidates A {@link ResolveCandidates} that resolves candidate Keys into results.
+     * @param getKey            A Function that returns the Key of a result.
+     * @param batchSize         The maximum number of candidate Keys to fetch at once.
+     * @param executor          Executor for async operations.
+     */
+    SortedTableIterator(ArrayView lastKey, @NonNull GetCandidates getCandidates, @NonNull ResolveCandidates<T> resolveCandidates,
+                        @NonNull Function<T, ArrayView> getKey, int batchSize, @NonNull Executor executor) {
+        this.lastCandidate = lastKey;
+        this.getCandidates = getCandidates;
+        this.resolveCandidates = resolveCandidates;
+        this.getKey = getKey;
+        this.batchSize = batchSize;
+        this.executor = executor;
+    }
+
+    //endregion
+
+    //region AsyncIterator Implementation
+
+    @Override
+    public CompletableFuture<IteratorItem<T>> getNext() {
+        val fromBatch = getNextFromExistingBatch();
+        if (fromBatch != null) {
+            return CompletableFuture.completedFuture(fromBatch);
+        }
+
+        // Keep fetching batches until we either find a Key that still exists or we reach the end of the range.
+        val canContinue = new AtomicBoolean(true);
+        return Futures.loop(canContinue::get, this::fetchNextBatch, canContinue::set, this.executor)
+                      .thenApply(v -> getNextFromExistingBatch());
+    }
+
+    private synchronized IteratorItem<T> getNextFromExistingBatch() {
+        if (this.currentBatch == null || this.currentBatch.isEmpty()) {
+            return null;
+        }
+
+        T result = this.currentBatch.removeFirst();
+        return new Item<>(new SortedIteratorState(this.getKey.apply(result)), Collections.singletonList(result));
+    }
+
+    private CompletableFuture<Boolean> fetchNextBatch() {
+        ArrayView fromKey;
+        synchronized (this) {
+            fromKey = this.lastCandidate;
+        }
+
+        return this.getCandidates
+                .apply(fromKey, this.batchSize)
+                .thenCompose(candidates -> {
+                    if (candidates.isEmpty()) {
+                        // End of iteration.
+                        return CompletableFuture.completedFuture(false);
+                    }
+
+                    ArrayView last = candidates.get(candidates.size() - 1).getKey();
+                    return this.resolveCandidates.apply(candidates).thenApply(results -> includeBatch(last, results));
+                });
+    }
+
+    private synchronized boolean includeBatch(ArrayView last, List<T> results) {
+        this.lastCandidate = last;
+        if (results.isEmpty()) {
+            // None of the candidates exist anymore. Fetch the next batch.
+            return true;
+        }
+
+        this.currentBatch = new ArrayDeque<>(results);
+        return false;
+    }
+
+    //endregion
+
+    //region Helper Classes
+
+    @RequiredArgsConstructor
+    private static class Item<T> implements IteratorItem<T> {
+        private final SortedIteratorState state;
+        @Getter
+        private final Collection<T> entries;
+
+        @Override
+        public ArrayView getState() {
+            return this.state.serialize();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("State = %s, EntryCount = %s", this.state, this.entries.size());
+        }
+    }
+
+    /**
+     * Fetches candidate Keys for the iteration.
+     */
+    @FunctionalInterface
+    interface GetCandidates {
+        /**
+         * Gets the next candidate Keys, in ascending order.
+         *
+         * @param lastKey  (Optional) If provided, only Keys greater than this one should be returned.
+         * @param maxCount The maximum number of Keys to return.
+         * @return A CompletableFuture that, when completed, will contain the candidate Keys. An empty list indicates
+         * the iteration is complete.
+         */
+        CompletableFuture<List<TableKey>> apply(ArrayView lastKey, int maxCount);
+    }
+
+    /**
+     * Resolves candidate Keys into results.
+     *
+     * @param <T> Type of the result.
+     */
+    @FunctionalInterface
+    interface ResolveCandidates<T> {
+        /**
+         * Resolves the given candidate Keys.
+         *
+         * @param candidates The candidate Keys, in ascending order.
+         * @return A CompletableFuture that, when completed, will contain the results for those candidate Keys that
+         * still exist, in the same order.
+         */
+        CompletableFuture<List<T>> apply(List<TableKey> candidates);
+    }
+
+    //endregion
+}
@@ -0,0 +1,363 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.common.AbstractTimer;
+import io.pravega.common.Timer;
+import io.pravega.segmentstore.server.SegmentStoreMetrics;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * Schedules Table Segment compactions for all the Table Segments in a Segment Container.
+ *
+ * Table Segments register themselves as {@link Candidate}s whenever they require compaction. Candidates are picked in
+ * decreasing order of their reclaimable bytes (see {@link Candidate#getReclaimableBytes()}), with at most one compaction
+ * running for any given Table Segment and at most a fixed number of compactions running at once. A Candidate remains
+ * registered (and will be compacted again) for as long as it reports any reclaimable bytes, so compaction keeps up with
+ * Table Segments with heavy overwrite churn instead of advancing only once per indexing cycle.
+ *
+ * Compactions are throttled using an I/O budget: the budget is replenished at a fixed rate (up to one second's worth)
+ * and every compaction is charged the maximum number of bytes it may process. A compaction may begin as long as the
+ * budget is positive (even if it is then overdrawn), so large compactions cannot be starved out.
+ */
+@ThreadSafe
+@Slf4j
+class TableCompactionScheduler implements AutoCloseable {
+    //region Members
+
+    /**
+     * Default value for the I/O budget, in bytes per second.
+     */
+    @VisibleForTesting
+    static final long DEFAULT_MAX_BYTES_PER_SECOND = 16 * 1024 * 1024;
+    /**
+     * Default value for the maximum number of compactions that may run at the same time.
+     */
+    @VisibleForTesting
+    static final int DEFAULT_MAX_CONCURRENT_COMPACTIONS = 2;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private final long maxBytesPerSecond;
+    private final int maxConcurrentCompactions;
+    private final AbstractTimer timer;
+    private final ScheduledExecutorService executor;
+    private final SegmentStoreMetrics.TableCompaction metrics;
+    @GuardedBy("this")
+    private final HashMap<Long, Candidate> pending;
+    /**
+     * Table Segments with running compactions, mapped to their {@link Candidate}s. A null value indicates the Table
+     * Segment has been unregistered while its compaction was running.
+     */
+    @GuardedBy("this")
+    private final HashMap<Long, Candidate> running;
+    @GuardedBy("this")
+    private long availableBytes;
+    @GuardedBy("this")
+    private long lastRefillNanos;
+    @GuardedBy("this")
+    private boolean refillScheduled;
+    private final AtomicLong compactionCount;
+    private final AtomicLong compactedBytes;
+    private final AtomicBoolean closed;
+    private final String traceObjectId;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the TableCompactionScheduler class with default settings.
+     *
+     * @param containerId Id of the Segment Container this instance is associated with.
+     * @param executor    An Executor for async operations.
+     */
+    TableCompactionScheduler(int containerId, ScheduledExecutorService executor) {
+        this(containerId, DEFAULT_MAX_BYTES_PER_SECOND, DEFAULT_MAX_CONCURRENT_COMPACTIONS, new Timer(), executor);
+    }
+
+    /**
+     * Creates a new instance of the TableCompactionScheduler class.
+     *
+     * @param containerId              Id of the Segment Container this instance is associated with.
+     * @param maxBytesPerSecond        The I/O budget for compactions, in bytes per second.
+     * @param maxConcurrentCompactions The maximum number of compactions that may run at the same time.
+     * @param timer                    An {@link AbstractTimer} to use to determine elapsed time.
+     * @param executor                 An Executor for async operations.
+     */
+    @VisibleForTesting
+    TableCompactionScheduler(int containerId, long maxBytesPerSecond, int maxConcurrentCompactions, @NonNull AbstractTimer timer,
+                             @NonNull ScheduledExecutorService executor) {
+        Preconditions.checkArgument(maxBytesPerSecond > 0, "maxBytesPerSecond must be a positive number.");
+        Preconditions.checkArgument(maxConcurrentCompactions > 0, "maxConcurrentCompactions must be a positive number.");
+        this.maxBytesPerSecond = maxBytesPerSecond;
+        this.maxConcurrentCompactions = maxConcurrentCompactions;
+        this.timer = timer;
+        this.executor = executor;
+        this.metrics = new SegmentStoreMetrics.TableCompaction(containerId);
+        this.pending = new HashMap<>();
+        this.running = new HashMap<>();
+        this.availableBytes = maxBytesPerSecond;
+        this.lastRefillNanos = timer.getElapsedNanos();
+        this.refillScheduled = false;
+        this.compactionCount = new AtomicLong();
+        this.compactedBytes = new AtomicLong();
+        this.closed = new AtomicBoolean();
+        this.traceObjectId = String.format("TableCompactionScheduler[%d]", containerId);
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        if (!this.closed.getAndSet(true)) {
+            synchronized (this) {
+                this.pending.clear();
+            }
+
+            this.metrics.close();
+            log.info("{}: Closed.", this.traceObjectId);
+        }
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Registers the given {@link Candidate} for compaction. If a Candidate is already registered for the same Table
+     * Segment, it will be replaced by this one. This method has no effect if the Candidate has no reclaimable bytes or
+     * if this instance is closed.
+     *
+     * @param candidate The {@link Candidate} to register.
+     */
+    void register(@NonNull Candidate candidate) {
+        if (this.closed.get()) {
+            // The Segment Container is shutting down; there is no point in scheduling anything.
+            return;
+        }
+
+        synchronized (this) {
+            this.pending.put(candidate.getSegmentId(), candidate);
+        }
+
+        triggerCompactions();
+    }
+
+    /**
+     * Unregisters any {@link Candidate} for the given Table Segment. A compaction that is currently running for this
+     * Table Segment will not be interrupted, but it will not be rescheduled.
+     *
+     * @param segmentId The Id of the Table Segment to unregister.
+     */
+    void unregister(long segmentId) {
+        boolean removed;
+        synchronized (this) {
+            removed = this.pending.remove(segmentId) != null;
+            if (this.running.containsKey(segmentId)) {
+                this.running.put(segmentId, null);
+                removed = true;
+            }
+        }
+
+        if (removed) {
+            log.debug("{}: Unregistered Segment {}.", this.traceObjectId, segmentId);
+        }
+    }
+
+    /**
+     * Gets the number of compactions executed so far.
+     *
+     * @return The number of compactions.
+     */
+    long getCompactionCount() {
+        return this.compactionCount.get();
+    }
+
+    /**
+     * Gets the number of bytes processed by all the compactions executed so far.
+     *
+     * @return The number of bytes.
+     */
+    long getCompactedBytes() {
+        return this.compactedBytes.get();
+    }
+
+    /**
+     * Gets the number of Table Segments awaiting compaction.
+     *
+     * @return The number of Table Segments.
+     */
+    @VisibleForTesting
+    synchronized int getBacklogCount() {
+        return this.pending.size();
+    }
+
+    //endregion
+
+    //region Scheduling
+
+    /**
+     * Picks as many {@link Candidate}s as allowed by the concurrency limit and the I/O budget and begins compacting them.
+     */
+    private void triggerCompactions() {
+        if (this.closed.get()) {
+            return;
+        }
+
+        val toRun = new ArrayList<Candidate>();
+        long refillDelayNanos = 0;
+        synchronized (this) {
+            refillBudget();
+
+            // Discard any Candidates that no longer need compacting.
+            this.pending.values().removeIf(c -> c.getReclaimableBytes() <= 0);
+            Candidate next = getHighestPriority();
+            while (next != null && this.running.size() < this.maxConcurrentCompactions) {
+                if (this.availableBytes <= 0) {
+                    // Out of budget; try again once it has been replenished.
+                    if (!this.refillScheduled) {
+                        this.refillScheduled = true;
+                        refillDelayNanos = Math.max(1, -this.availableBytes * NANOS_PER_SECOND / this.maxBytesPerSecond);
+                    }
+                    break;
+                }
+
+                this.availableBytes -= next.getMaxCompactionSize();
+                this.pending.remove(next.getSegmentId());
+                this.running.put(next.getSegmentId(), next);
+                toRun.add(next);
+                next = getHighestPriority();
+            }
+
+            this.metrics.backlog(this.pending.size(), this.pending.values().stream().mapToLong(Candidate::getReclaimableBytes).sum());
+        }
+
+        if (refillDelayNanos > 0) {
+            this.executor.schedule(this::onBudgetRefilled, refillDelayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        toRun.forEach(this::compact);
+    }
+
+    @GuardedBy("this")
+    private Candidate getHighestPriority() {
+        Candidate result = null;
+        long resultBytes = 0;
+        for (val c : this.pending.values()) {
+            long reclaimable = c.getReclaimableBytes();
+            if (reclaimable > resultBytes && !this.running.containsKey(c.getSegmentId())) {
+                result = c;
+                resultBytes = reclaimable;
+            }
+        }
+
+        return result;
+    }
+
+    @GuardedBy("this")
+    private void refillBudget() {
+        long now = this.timer.getElapsedNanos();
+        long elapsedNanos = now - this.lastRefillNanos;
+        if (elapsedNanos > 0) {
+            long refill = (long) ((double) elapsedNanos / NANOS_PER_SECOND * this.maxBytesPerSecond);
+            this.availableBytes = Math.min(this.maxBytesPerSecond, this.availableBytes + refill);
+            this.lastRefillNanos = now;
+        }
+    }
+
+    private void onBudgetRefilled() {
+        synchronized (this) {
+            this.refillScheduled = false;
+        }
+
+        triggerCompactions();
+    }
+
+    private void compact(Candidate candidate) {
+        log.debug("{}: Compacting Segment {} (Reclaimable={}).", this.traceObjectId, candidate.getSegmentId(), candidate.getReclaimableBytes());
+        CompletableFuture.completedFuture(null)
+                .thenComposeAsync(v -> candidate.compact(), this.executor)
+                .thenAccept(bytes -> {
+                    this.compactionCount.incrementAndGet();
+                    this.compactedBytes.addAndGet(bytes);
+                    this.metrics.compactionComplete(bytes);
+                })
+                .exceptionally(ex -> {
+                    // Compactions are not critical to making progress; record the failure and move on.
+                    log.error("{}: Compaction failed for Segment {}.", this.traceObjectId, candidate.getSegmentId(), ex);
+                    return null;
+                })
+                .thenRun(() -> {
+                    synchronized (this) {
+                        boolean registered = this.running.remove(candidate.getSegmentId()) != null;
+                        if (registered && !this.closed.get() && candidate.getReclaimableBytes() > 0) {
+                            // Still more to compact. Requeue it, unless it was replaced in the meantime.
+                            this.pending.putIfAbsent(candidate.getSegmentId(), candidate);
+                        }
+                    }
+
+                    triggerCompactions();
+                });
+    }
+
+    //endregion
+
+    //region Candidate
+
+    /**
+     * A Table Segment that may be compacted.
+     */
+    interface Candidate {
+        /**
+         * Gets the Id of the Table Segment.
+         *
+         * @return The Segment Id.
+         */
+        long getSegmentId();
+
+        /**
+         * Gets an estimate of the number of bytes that would be reclaimed by compacting the Table Segment, which is used
+         * to prioritize compactions. This is invoked frequently, so it should not perform any I/O.
+         *
+         * @return The number of reclaimable bytes. A value of 0 or less indicates no compaction is required.
+         */
+        long getReclaimableBytes();
+
+        /**
+         * Gets the maximum number of bytes that may be processed by a single invocation of {@link #compact()}.
+         *
+         * @return The maximum compaction size.
+         */
+        int getMaxCompactionSize();
+
+        /**
+         * Performs a single compaction step on the Table Segment.
+         *
+         * @return A CompletableFuture that, when completed, will contain the number of bytes compacted.
+         */
+        CompletableFuture<Long> compact();
+    }
+
+    //endregion
+}
@@ -100,6 +100,25 @@ class TableCompactor {
         return utilization < utilizationThreshold;
     }
 
+    /**
+     * Estimates how many bytes would be reclaimed by compacting a Table Segment all the way up to its
+     * {@link TableAttributes#INDEX_OFFSET}. This assumes obsolete Table Entries are evenly distributed across the
+     * uncompacted portion of the Table Segment.
+     *
+     * @param info The {@link SegmentProperties} associated with the Table Segment to inquire about.
+     * @return The estimated number of reclaimable bytes, or 0 if {@link #isCompactionRequired} is false.
+     */
+    long getReclaimableBytes(SegmentProperties info) {
+        if (!isCompactionRequired(info)) {
+            return 0;
+        }
+
+        long uncompactedLength = this.indexReader.getLastIndexedOffset(info) - getCompactionStartOffset(info);
+        long totalEntryCount = this.indexReader.getTotalEntryCount(info);
+        long entryCount = Math.min(this.indexReader.getEntryCount(info), totalEntryCount);
+        return totalEntryCount == 0 ? 0 : Math.round(uncompactedLength * (1.0 - (double) entryCount / totalEntryCount));
+    }
+
     /**
      * Calculates the offset in the Segment where it is safe to truncate based on the current state of the Segment and
      * the highest copied offset encountered during an index update.
@@ -115,6 +134,10 @@ class TableCompactor {
      * indexer hasn't gotten to yet. As such, it is only safe to truncate at {@link TableAttributes#COMPACTION_OFFSET}
      * if the indexer has indexed all the entries in the Table Segment.
      *
+     * This method must not be invoked while a compaction ({@link #compact}) is in progress for the same Table Segment,
+     * since that may append unindexed (copied) Table Entries and update {@link TableAttributes#COMPACTION_OFFSET} in between
+     * the checks made here.
+     *
      * @param info                The {@link SegmentProperties} associated with the Table Segment to inquire about.
      * @param highestCopiedOffset The highest offset that was copied from a lower offset during a compaction. If the copied
      *                            entry has already been index then it is guaranteed that every entry prior to this
@@ -346,7 +369,7 @@ class TableCompactor {
      * @param info A {@link SegmentProperties} representing the current state of the Segment.
      * @return The Segment Offset where to begin compaction at.
      */
-    private long getCompactionStartOffset(SegmentProperties info) {
+    long getCompactionStartOffset(SegmentProperties info) {
         return Math.max(this.indexReader.getCompactionOffset(info), info.getStartOffset());
     }
 
@@ -13,6 +13,7 @@ import com.google.common.annotations.Beta;
 import io.pravega.common.util.ArrayView;
 import io.pravega.common.util.AsyncIterator;
 import io.pravega.segmentstore.contracts.tables.IteratorItem;
+import io.pravega.segmentstore.contracts.tables.KeyRange;
 import io.pravega.segmentstore.contracts.tables.TableEntry;
 import io.pravega.segmentstore.contracts.tables.TableKey;
 import io.pravega.segmentstore.contracts.tables.TableStore;
@@ -53,6 +54,13 @@ public class TableService extends SegmentContainerCollection implements TableSto
                 "createSegment", segmentName);
     }
 
+    @Override
+    public CompletableFuture<Void> createSegment(String segmentName, boolean sorted, Duration timeout) {
+        return invokeExtension(segmentName,
+                e -> e.createSegment(segmentName, sorted, timeout),
+                "createSegment", segmentName, sorted);
+    }
+
     @Override
     public CompletableFuture<Void> deleteSegment(String segmentName, boolean mustBeEmpty, Duration timeout) {
         return invokeExtension(segmentName,
@@ -109,6 +117,22 @@ public class TableService extends SegmentContainerCollection implements TableSto
                 "get", segmentName, serializedState != null, fetchTimeout);
     }
 
+    @Override
+    public CompletableFuture<AsyncIterator<IteratorItem<TableKey>>> keyIterator(String segmentName, KeyRange range, byte[] serializedState,
+                                                                               Duration fetchTimeout) {
+        return invokeExtension(segmentName,
+                e -> e.keyIterator(segmentName, range, serializedState, fetchTimeout),
+                "keyIterator", segmentName, range, serializedState != null, fetchTimeout);
+    }
+
+    @Override
+    public CompletableFuture<AsyncIterator<IteratorItem<TableEntry>>> entryIterator(String segmentName, KeyRange range, byte[] serializedState,
+                                                                                   Duration fetchTimeout) {
+        return invokeExtension(segmentName,
+                e -> e.entryIterator(segmentName, range, serializedState, fetchTimeout),
+                "entryIterator", segmentName, range, serializedState != null, fetchTimeout);
+    }
+
     //endregion
 
     //region Helpers
@@ -65,6 +65,15 @@ interface TableWriterConnector extends AutoCloseable {
      */
     int getMaxCompactionSize();
 
+    /**
+     * This method will be invoked by the {@link WriterTableProcessor} after a call to {@link WriterTableProcessor#flush}
+     * if the Table Segment this connector refers to requires compaction. The compaction should be executed asynchronously,
+     * outside of the {@link WriterTableProcessor#flush} call.
+     *
+     * @param candidate A {@link TableCompactionScheduler.Candidate} that can be used to compact the Table Segment.
+     */
+    void requestCompaction(TableCompactionScheduler.Candidate candidate);
+
     /**
      * This method will be invoked by the {@link WriterTableProcessor} when it is closed.
      */
@@ -14,10 +14,10 @@ import com.google.common.collect.Iterators;
 import io.pravega.common.Exceptions;
 import io.pravega.common.TimeoutTimer;
 import io.pravega.common.concurrent.Futures;
+import io.pravega.common.concurrent.SequentialProcessor;
 import io.pravega.common.util.HashedArray;
 import io.pravega.segmentstore.contracts.BadAttributeUpdateException;
 import io.pravega.segmentstore.contracts.ReadResult;
-import io.pravega.segmentstore.contracts.SegmentProperties;
 import io.pravega.segmentstore.contracts.tables.TableAttributes;
 import io.pravega.segmentstore.server.DataCorruptionException;
 import io.pravega.segmentstore.server.DirectSegmentAccess;
@@ -52,6 +52,10 @@ import lombok.val;
 public class WriterTableProcessor implements WriterSegmentProcessor {
     //region Members
 
+    /**
+     * Timeout for a single compaction step, which is executed outside of {@link #flush}.
+     */
+    private static final Duration COMPACTION_TIMEOUT = Duration.ofSeconds(60);
     private final TableWriterConnector connector;
     private final IndexWriter indexWriter;
     private final ScheduledExecutorService executor;
@@ -60,6 +64,12 @@ public class WriterTableProcessor implements WriterSegmentProcessor {
     private final AtomicBoolean closed;
     private final String traceObjectId;
     private final TableCompactor compactor;
+    private final CompactionCandidate compactionCandidate;
+    /**
+     * Serializes compactions (which are triggered by the {@link TableCompactionScheduler}) and truncations (which are
+     * triggered by {@link #flush}), since the latter are only safe if the Table Segment is not being compacted at the time.
+     */
+    private final SequentialProcessor compactionProcessor;
 
     //endregion
 
@@ -80,6 +90,8 @@ public class WriterTableProcessor implements WriterSegmentProcessor {
         this.closed = new AtomicBoolean();
         this.traceObjectId = String.format("TableProcessor[%d-%d]", this.connector.getMetadata().getContainerId(), this.connector.getMetadata().getId());
         this.compactor = new TableCompactor(connector, this.indexWriter, this.executor);
+        this.compactionCandidate = new CompactionCandidate();
+        this.compactionProcessor = new SequentialProcessor(this.executor);
     }
 
     //endregion
@@ -89,6 +101,7 @@ public class WriterTableProcessor implements WriterSegmentProcessor {
     @Override
     public void close() {
         if (this.closed.compareAndSet(false, true)) {
+            this.compactionProcessor.close();
             this.connector.close();
             log.info("{}: Closed.", this.traceObjectId);
         }
@@ -166,8 +179,11 @@ public class WriterTableProcessor implements WriterSegmentProcessor {
                 .thenComposeAsync(segment -> flushWithSingleRetry(segment, timer)
                                 .thenComposeAsync(flushResult -> {
                                     flushComplete(flushResult.lastIndexedOffset);
-                                    return compactIfNeeded(segment, flushResult.highestCopiedOffset, timer)
-                                            .thenApply(v -> flushResult);
+                                    return truncateIfNeeded(segment, flushResult.highestCopiedOffset, timer)
+                                            .thenApply(v -> {
+                                                requestCompactionIfNeeded();
+                                                return flushResult;
+                                            });
                                 }, this.executor),
                         this.executor);
     }
@@ -188,49 +204,55 @@ public class WriterTableProcessor implements WriterSegmentProcessor {
     //region Helpers
 
     /**
-     * Performs a Table Segment Compaction if needed.
+     * Truncates the Table Segment if any of its data is no longer needed (i.e., it has been compacted).
      *
-     * @param segment             The Segment to compact.
+     * @param segment             The Segment to truncate.
      * @param highestCopiedOffset The highest copied offset that was encountered during indexing. This is used to determine
      *                            where to safely truncate the segment, if at all.
      * @param timer               Timer for the operation.
-     * @return A CompletableFuture that, when completed, will indicate the compaction (if anything) has completed. This
+     * @return A CompletableFuture that, when completed, will indicate the truncation (if anything) has completed. This
      * future will always complete normally; any exceptions are logged but not otherwise bubbled up.
      */
-    private CompletableFuture<Void> compactIfNeeded(DirectSegmentAccess segment, long highestCopiedOffset, TimeoutTimer timer) {
-        // Decide if compaction is needed. If not, bail out early.
-        SegmentProperties info = segment.getInfo();
-
-        CompletableFuture<Void> result;
-        if (this.compactor.isCompactionRequired(info)) {
-            result = this.compactor.compact(segment, timer);
-        } else {
-            log.debug("{}: No compaction required at this time.", this.traceObjectId);
-            result = CompletableFuture.completedFuture(null);
-        }
-
-        return result
-                .thenComposeAsync(v -> {
-                    // Calculate the safe truncation offset.
-                    long truncateOffset = this.compactor.calculateTruncationOffset(segment.getInfo(), highestCopiedOffset);
-
-                    // Truncate if necessary.
-                    if (truncateOffset > 0) {
-                        log.debug("{}: Truncating segment at offset {}.", this.traceObjectId, truncateOffset);
-                        return segment.truncate(truncateOffset, timer.getRemaining());
-                    } else {
-                        log.debug("{}: No segment truncation possible now.", this.traceObjectId);
-                        return CompletableFuture.completedFuture(null);
-                    }
-                }, this.executor)
+    private CompletableFuture<Void> truncateIfNeeded(DirectSegmentAccess segment, long highestCopiedOffset, TimeoutTimer timer) {
+        // The safe truncation offset is calculated from the Segment's length and its INDEX_OFFSET and COMPACTION_OFFSET
+        // attributes. A concurrent compaction may append (unindexed) copies and advance COMPACTION_OFFSET between those
+        // reads, in which case we would truncate away entries that are still referenced by the index. To prevent that,
+        // we queue up behind any running compaction.
+        return this.compactionProcessor
+                .<Void>add(() -> truncate(segment, highestCopiedOffset, timer))
                 .exceptionally(ex -> {
-                    // We want to record the compaction failure, but since this is not a critical step in making progress,
-                    // we do not want to prevent the StorageWriter from ack-ing operations.
-                    log.error("{}: Compaction failed.", this.traceObjectId, ex);
+                    // We want to record the truncation failure, but since this is not a critical step in making
+                    // progress, we do not want to prevent the StorageWriter from ack-ing operations.
+                    log.error("{}: Truncation failed.", this.traceObjectId, ex);
                     return null;
                 });
     }
 
+    private CompletableFuture<Void> truncate(DirectSegmentAccess segment, long highestCopiedOffset, TimeoutTimer timer) {
+        // Calculate the safe truncation offset.
+        long truncateOffset = this.compactor.calculateTruncationOffset(segment.getInfo(), highestCopiedOffset);
+
+        // Truncate if necessary.
+        if (truncateOffset <= 0) {
+            log.debug("{}: No segment truncation possible now.", this.traceObjectId);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        log.debug("{}: Truncating segment at offset {}.", this.traceObjectId, truncateOffset);
+        return segment.truncate(truncateOffset, timer.getRemaining());
+    }
+
+    /**
+     * Requests a Table Segment Compaction via the {@link TableWriterConnector}, if needed. Compactions are not executed
+     * as part of {@link #flush}; they are scheduled separately so they do not compete with indexing.
+     */
+    private void requestCompactionIfNeeded() {
+        if (this.compactionCandidate.getReclaimableBytes() > 0) {
+            this.connector.requestCompaction(this.compactionCandidate);
+        } else {
+            log.debug("{}: No compaction required at this time.", this.traceObjectId);
+        }
+    }
 
     /**
      * Performs a flush attempt, and retries it in case it failed with {@link BadAttributeUpdateException} for the
@@ -549,5 +571,49 @@ public class WriterTableProcessor implements WriterSegmentProcessor {
         final long highestCopiedOffset;
     }
 
+    /**
+     * {@link TableCompactionScheduler.Candidate} for the Table Segment handled by this {@link WriterTableProcessor}.
+     */
+    private class CompactionCandidate implements TableCompactionScheduler.Candidate {
+        @Override
+        public long getSegmentId() {
+            return connector.getMetadata().getId();
+        }
+
+        @Override
+        public long getReclaimableBytes() {
+            if (closed.get() || connector.getMetadata().isDeleted()) {
+                return 0;
+            }
+
+            return compactor.getReclaimableBytes(connector.getMetadata());
+        }
+
+        @Override
+        public int getMaxCompactionSize() {
+            return connector.getMaxCompactionSize();
+        }
+
+        @Override
+        public CompletableFuture<Long> compact() {
+            // Run through the same processor as truncations, so that we never compact and truncate at the same time.
+            return compactionProcessor.add(() -> {
+                TimeoutTimer timer = new TimeoutTimer(COMPACTION_TIMEOUT);
+                return connector
+                        .getSegment(timer.getRemaining())
+                        .thenComposeAsync(segment -> {
+                            long startOffset = compactor.getCompactionStartOffset(segment.getInfo());
+                            return compactor.compact(segment, timer)
+                                            .thenApply(v -> compactor.getCompactionStartOffset(segment.getInfo()) - startOffset);
+                        }, executor);
+            });
+        }
+
+        @Override
+        public String toString() {
+            return traceObjectId;
+        }
+    }
+
     //endregion
 }
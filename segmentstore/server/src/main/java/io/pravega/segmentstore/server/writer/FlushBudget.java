@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.writer;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Limits the number of flushes that may be in progress at any given time. Flushes that exceed this limit are queued up
+ * and executed in the order in which they were submitted, as soon as earlier flushes complete.
+ *
+ * Budgets may be nested (by submitting a task that runs another budget's {@link #run}) to enforce more than one limit at
+ * once. To avoid deadlocks, nested budgets must always be entered in the same order.
+ */
+@ThreadSafe
+class FlushBudget {
+    //region Members
+
+    @Getter
+    private final int maxInFlight;
+    @GuardedBy("this")
+    private final ArrayDeque<CompletableFuture<Void>> waiting;
+    @GuardedBy("this")
+    private int inFlight;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the FlushBudget class.
+     *
+     * @param maxInFlight The maximum number of flushes that may be in progress at any given time.
+     */
+    FlushBudget(int maxInFlight) {
+        Preconditions.checkArgument(maxInFlight > 0, "maxInFlight must be a positive number.");
+        this.maxInFlight = maxInFlight;
+        this.waiting = new ArrayDeque<>();
+        this.inFlight = 0;
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Executes the given task as soon as the budget allows.
+     *
+     * @param task     A {@link Supplier} that, when invoked, begins the flush and returns a CompletableFuture that will
+     *                 be completed when it is done.
+     * @param executor An Executor to invoke the task on.
+     * @param <T>      Return type.
+     * @return A CompletableFuture that will be completed with the result of the task.
+     */
+    <T> CompletableFuture<T> run(@NonNull Supplier<CompletableFuture<T>> task, @NonNull Executor executor) {
+        CompletableFuture<T> result = acquire().thenComposeAsync(v -> task.get(), executor);
+        result.whenComplete((r, ex) -> release());
+        return result;
+    }
+
+    /**
+     * Gets the number of flushes currently in progress.
+     *
+     * @return The number of flushes.
+     */
+    synchronized int getInFlightCount() {
+        return this.inFlight;
+    }
+
+    /**
+     * Gets the number of flushes currently waiting for the budget to allow them to begin.
+     *
+     * @return The number of flushes.
+     */
+    synchronized int getQueueSize() {
+        return this.waiting.size();
+    }
+
+    private CompletableFuture<Void> acquire() {
+        synchronized (this) {
+            if (this.inFlight < this.maxInFlight) {
+                this.inFlight++;
+                return CompletableFuture.completedFuture(null);
+            }
+
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            this.waiting.addLast(result);
+            return result;
+        }
+    }
+
+    private void release() {
+        CompletableFuture<Void> next;
+        synchronized (this) {
+            // Hand the slot over to the next waiting flush, if any. Otherwise free it up.
+            next = this.waiting.pollFirst();
+            if (next == null) {
+                this.inFlight--;
+            }
+        }
+
+        if (next != null) {
+            next.complete(null);
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("InFlight = %d/%d, Queued = %d", this.inFlight, this.maxInFlight, this.waiting.size());
+    }
+
+    //endregion
+}
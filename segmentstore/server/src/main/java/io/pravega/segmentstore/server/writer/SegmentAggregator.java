@@ -88,6 +88,7 @@ class SegmentAggregator implements WriterSegmentProcessor, AutoCloseable {
     private final AtomicReference<Duration> lastFlush;
     private final AtomicReference<AggregatorState> state;
     private final AtomicReference<ReconciliationState> reconciliationState;
+    private final SegmentFlushPolicy flushPolicy;
 
     //endregion
 
@@ -122,6 +123,7 @@ class SegmentAggregator implements WriterSegmentProcessor, AutoCloseable {
         this.state = new AtomicReference<>(AggregatorState.NotInitialized);
         this.reconciliationState = new AtomicReference<>();
         this.handle = new AtomicReference<>();
+        this.flushPolicy = new SegmentFlushPolicy(this.metadata.getName(), this.config, this.timer, this.dataSource::getCacheUtilization);
     }
 
     //endregion
@@ -132,6 +134,7 @@ class SegmentAggregator implements WriterSegmentProcessor, AutoCloseable {
     public void close() {
         if (!isClosed()) {
             setState(AggregatorState.Closed);
+            this.flushPolicy.close();
         }
     }
 
@@ -171,13 +174,21 @@ class SegmentAggregator implements WriterSegmentProcessor, AutoCloseable {
         return this.timer.getElapsed().minus(this.lastFlush.get());
     }
 
+    /**
+     * Gets a value representing the amount of time since the last successful call to flush() that should trigger a
+     * flush. See {@link SegmentFlushPolicy}.
+     */
+    Duration getFlushThresholdTime() {
+        return this.flushPolicy.getFlushThresholdTime();
+    }
+
     /**
      * Gets a value indicating whether a call to flush() is required given the current state of this SegmentAggregator.
      * <p>
      * Any of the following conditions can trigger a flush:
      * <ul>
-     * <li> There is more data in the SegmentAggregator than the configuration allows (getOutstandingLength >= FlushThresholdBytes)
-     * <li> Too much time has passed since the last call to flush() (getElapsedSinceLastFlush >= FlushThresholdTime)
+     * <li> There is more data in the SegmentAggregator than the {@link SegmentFlushPolicy} allows (getOutstandingLength >= FlushThresholdBytes)
+     * <li> Too much time has passed since the last call to flush() (getElapsedSinceLastFlush >= getFlushThresholdTime)
      * <li> The SegmentAggregator contains a StreamSegmentSealOperation or MergeSegmentOperation (hasSealPending == true)
      * <li> The SegmentAggregator is currently in a Reconciliation State (recovering from an inconsistency in Storage).
      * </ul>
@@ -203,8 +214,8 @@ class SegmentAggregator implements WriterSegmentProcessor, AutoCloseable {
     private boolean exceedsThresholds() {
         boolean isFirstAppend = this.operations.size() > 0 && isAppendOperation(this.operations.getFirst());
         long length = isFirstAppend ? this.operations.getFirst().getLength() : 0;
-        return length >= this.config.getFlushThresholdBytes()
-                || (length > 0 && getElapsedSinceLastFlush().compareTo(this.config.getFlushThresholdTime()) >= 0);
+        return length >= this.flushPolicy.getFlushThresholdBytes()
+                || (length > 0 && getElapsedSinceLastFlush().compareTo(this.flushPolicy.getFlushThresholdTime()) >= 0);
     }
 
     /**
@@ -392,6 +403,7 @@ class SegmentAggregator implements WriterSegmentProcessor, AutoCloseable {
             this.truncateCount.incrementAndGet();
         } else if (operation instanceof CachedStreamSegmentAppendOperation) {
             // Aggregate the Append Operation.
+            this.flushPolicy.recordIngest(operation.getLength());
             AggregatedAppendOperation aggregatedAppend = getOrCreateAggregatedAppend(
                     operation.getStreamSegmentOffset(), operation.getSequenceNumber());
             aggregateAppendOperation((CachedStreamSegmentAppendOperation) operation, aggregatedAppend);
@@ -728,6 +740,7 @@ class SegmentAggregator implements WriterSegmentProcessor, AutoCloseable {
 
         // Flush them.
         TimeoutTimer timer = new TimeoutTimer(timeout);
+        Duration flushStart = this.timer.getElapsed();
         CompletableFuture<Void> flush;
         if (flushArgs.getLength() == 0) {
             flush = CompletableFuture.completedFuture(null);
@@ -739,6 +752,10 @@ class SegmentAggregator implements WriterSegmentProcessor, AutoCloseable {
 
         return flush
                 .thenApplyAsync(v -> {
+                    if (flushArgs.getLength() > 0) {
+                        this.flushPolicy.recordFlush(flushArgs.getLength(), this.timer.getElapsed().minus(flushStart));
+                    }
+
                     WriterFlushResult result = updateStatePostFlush(flushArgs);
                     LoggerHelpers.traceLeave(log, this.traceObjectId, "flushPendingAppends", traceId, result);
                     return result;
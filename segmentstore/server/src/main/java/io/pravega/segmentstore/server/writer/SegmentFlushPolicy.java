@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.writer;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.pravega.common.AbstractTimer;
+import io.pravega.segmentstore.server.SegmentStoreMetrics;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.NonNull;
+
+/**
+ * Determines the flush thresholds for a single Segment.
+ *
+ * If {@link WriterConfig#isAdaptiveFlushEnabled()} is false, this simply returns {@link WriterConfig#getFlushThresholdBytes()}
+ * and {@link WriterConfig#getFlushThresholdTime()}. Otherwise the thresholds are adjusted as follows:
+ * <ul>
+ * <li> The flush threshold size is raised to the number of bytes the Segment is expected to ingest over a flush interval
+ * (the greater of one second and a few times the recent Storage write latency), up to {@link WriterConfig#getMaxFlushSizeBytes()}.
+ * This issues fewer, larger Storage writes for busy Segments and keeps them ahead of their ingestion rate if Storage is slow.
+ * <li> Both the flush threshold size and time are scaled down as the Cache approaches its target utilization. Data that
+ * has not yet been flushed cannot be evicted from the Cache, so flushing sooner is the only way to release it.
+ * </ul>
+ */
+@ThreadSafe
+class SegmentFlushPolicy implements AutoCloseable {
+    //region Members
+
+    /**
+     * The relative Cache utilization (see {@link WriterDataSource#getCacheUtilization()}) beyond which the thresholds
+     * are scaled down.
+     */
+    @VisibleForTesting
+    static final double CACHE_UTILIZATION_LOW = 0.75;
+    /**
+     * The smallest fraction the thresholds may be scaled down to, which is reached when the Cache is at or above its
+     * target utilization.
+     */
+    @VisibleForTesting
+    static final double MIN_THRESHOLD_RATIO = 0.125;
+    private static final long RATE_SAMPLE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final double MIN_FLUSH_INTERVAL_SECONDS = 1.0;
+    private static final int WRITE_LATENCY_MULTIPLIER = 4;
+    private static final double SMOOTHING_FACTOR = 0.25;
+    private final WriterConfig config;
+    private final AbstractTimer timer;
+    private final Supplier<Double> getCacheUtilization;
+    private final SegmentStoreMetrics.SegmentFlush metrics;
+    @GuardedBy("this")
+    private long sampleStartNanos;
+    @GuardedBy("this")
+    private long sampleBytes;
+    @GuardedBy("this")
+    private double ingestRate;
+    @GuardedBy("this")
+    private double writeLatencyMillis;
+    @GuardedBy("this")
+    private long writeCount;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the SegmentFlushPolicy class.
+     *
+     * @param segmentName         The name of the Segment this policy applies to.
+     * @param config              The {@link WriterConfig} to use.
+     * @param timer               An {@link AbstractTimer} to use to determine elapsed time.
+     * @param getCacheUtilization A {@link Supplier} that, when invoked, returns the relative Cache utilization (see
+     *                            {@link WriterDataSource#getCacheUtilization()}).
+     */
+    SegmentFlushPolicy(@NonNull String segmentName, @NonNull WriterConfig config, @NonNull AbstractTimer timer,
+                       @NonNull Supplier<Double> getCacheUtilization) {
+        this.config = config;
+        this.timer = timer;
+        this.getCacheUtilization = getCacheUtilization;
+        this.metrics = config.isAdaptiveFlushEnabled() ? new SegmentStoreMetrics.SegmentFlush(segmentName) : null;
+        this.sampleStartNanos = timer.getElapsedNanos();
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        if (this.metrics != null) {
+            this.metrics.close();
+        }
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Records that the given number of bytes have been appended to the Segment.
+     *
+     * @param length The number of bytes.
+     */
+    synchronized void recordIngest(long length) {
+        this.sampleBytes += length;
+        updateIngestRate(this.timer.getElapsedNanos());
+    }
+
+    /**
+     * Records that the given number of bytes have been written to Storage.
+     *
+     * @param length  The number of bytes.
+     * @param elapsed The amount of time it took to write them.
+     */
+    void recordFlush(long length, Duration elapsed) {
+        synchronized (this) {
+            this.writeLatencyMillis = this.writeCount == 0
+                    ? elapsed.toMillis()
+                    : this.writeLatencyMillis + SMOOTHING_FACTOR * (elapsed.toMillis() - this.writeLatencyMillis);
+            this.writeCount++;
+        }
+
+        if (this.metrics != null) {
+            this.metrics.flushComplete(length, getFlushThresholdBytes());
+        }
+    }
+
+    /**
+     * Gets the number of outstanding bytes that should trigger a flush.
+     *
+     * @return The flush threshold size.
+     */
+    int getFlushThresholdBytes() {
+        if (!this.config.isAdaptiveFlushEnabled()) {
+            return this.config.getFlushThresholdBytes();
+        }
+
+        double expectedBytes;
+        synchronized (this) {
+            updateIngestRate(this.timer.getElapsedNanos());
+            double flushIntervalSeconds = Math.max(MIN_FLUSH_INTERVAL_SECONDS, WRITE_LATENCY_MULTIPLIER * this.writeLatencyMillis / 1000);
+            expectedBytes = this.ingestRate * flushIntervalSeconds;
+        }
+
+        double bytes = Math.min(Math.max(this.config.getFlushThresholdBytes(), expectedBytes), this.config.getMaxFlushSizeBytes());
+        return (int) (bytes * getCacheScale());
+    }
+
+    /**
+     * Gets the amount of time since the last flush that should trigger a flush.
+     *
+     * @return The flush threshold time.
+     */
+    Duration getFlushThresholdTime() {
+        if (!this.config.isAdaptiveFlushEnabled()) {
+            return this.config.getFlushThresholdTime();
+        }
+
+        return Duration.ofMillis((long) (this.config.getFlushThresholdTime().toMillis() * getCacheScale()));
+    }
+
+    /**
+     * Gets the estimated ingestion rate for the Segment.
+     *
+     * @return The ingestion rate, in bytes per second.
+     */
+    @VisibleForTesting
+    synchronized double getIngestRate() {
+        updateIngestRate(this.timer.getElapsedNanos());
+        return this.ingestRate;
+    }
+
+    @GuardedBy("this")
+    private void updateIngestRate(long nowNanos) {
+        long elapsedNanos = nowNanos - this.sampleStartNanos;
+        if (elapsedNanos >= RATE_SAMPLE_INTERVAL_NANOS) {
+            // Weigh the new sample by its duration, so that the rate of an idle Segment decays accordingly.
+            double sampleRate = (double) this.sampleBytes * RATE_SAMPLE_INTERVAL_NANOS / elapsedNanos;
+            double weight = 1 - Math.pow(1 - SMOOTHING_FACTOR, (double) elapsedNanos / RATE_SAMPLE_INTERVAL_NANOS);
+            this.ingestRate += weight * (sampleRate - this.ingestRate);
+            this.sampleBytes = 0;
+            this.sampleStartNanos = nowNanos;
+        }
+    }
+
+    private double getCacheScale() {
+        double utilization = this.getCacheUtilization.get();
+        if (utilization <= CACHE_UTILIZATION_LOW) {
+            return 1;
+        } else if (utilization >= 1) {
+            return MIN_THRESHOLD_RATIO;
+        } else {
+            // Scale linearly on the interval [CACHE_UTILIZATION_LOW, 1].
+            return 1 - (utilization - CACHE_UTILIZATION_LOW) / (1 - CACHE_UTILIZATION_LOW) * (1 - MIN_THRESHOLD_RATIO);
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("IngestRate = %.0f, WriteLatency = %.0fms", this.ingestRate, this.writeLatencyMillis);
+    }
+
+    //endregion
+}
@@ -64,6 +64,8 @@ class StorageWriter extends AbstractThreadPoolService implements Writer {
     private final WriterFactory.CreateProcessors createProcessors;
     private final SequentialProcessor ackProcessor;
     private final SegmentStoreMetrics.StorageWriter metrics;
+    private final FlushBudget flushBudget;
+    private final FlushBudget storageFlushBudget;
 
     //endregion
 
@@ -81,6 +83,22 @@ class StorageWriter extends AbstractThreadPoolService implements Writer {
      */
     StorageWriter(WriterConfig config, WriterDataSource dataSource, Storage storage, WriterFactory.CreateProcessors createProcessors,
                   ScheduledExecutorService executor) {
+        this(config, dataSource, storage, createProcessors, new FlushBudget(config.getMaxConcurrentStorageFlushes()), executor);
+    }
+
+    /**
+     * Creates a new instance of the StorageWriter class.
+     *
+     * @param config             The WriterConfig to use.
+     * @param dataSource         The WriterDataSource to use.
+     * @param storage            The Storage to use.
+     * @param createProcessors   A Function, that, when invoked with a Segment Metadata as an argument, will return a Collection
+     *                           of WriterSegmentProcessors to handle that Segment's operations.
+     * @param storageFlushBudget A {@link FlushBudget} shared with all other StorageWriters using the same Storage.
+     * @param executor           The Executor to use for async callbacks and operations.
+     */
+    StorageWriter(WriterConfig config, WriterDataSource dataSource, Storage storage, WriterFactory.CreateProcessors createProcessors,
+                  FlushBudget storageFlushBudget, ScheduledExecutorService executor) {
         super(String.format("StorageWriter[%d]", dataSource.getId()), executor);
 
         // No need to check dataSource or executor != null as the super() call above takes care of that.
@@ -94,6 +112,8 @@ class StorageWriter extends AbstractThreadPoolService implements Writer {
         this.ackCalculator = new AckCalculator(this.state);
         this.ackProcessor = new SequentialProcessor(this.executor);
         this.metrics = new SegmentStoreMetrics.StorageWriter(dataSource.getId());
+        this.flushBudget = new FlushBudget(config.getMaxConcurrentFlushes());
+        this.storageFlushBudget = Preconditions.checkNotNull(storageFlushBudget, "storageFlushBudget");
     }
 
     //endregion
@@ -301,6 +321,9 @@ class StorageWriter extends AbstractThreadPoolService implements Writer {
 
     /**
      * Flushes eligible operations to Storage, if necessary. Does not perform any mergers.
+     *
+     * Eligible Segments are flushed in parallel, subject to this StorageWriter's {@link FlushBudget} and the one shared
+     * by all StorageWriters using the same Storage.
      */
     private CompletableFuture<Void> flush(Void ignored) {
         checkRunning();
@@ -310,8 +333,9 @@ class StorageWriter extends AbstractThreadPoolService implements Writer {
         val timer = new Timer();
         val flushFutures = this.processors.values().stream()
                                           .filter(ProcessorCollection::mustFlush)
-                                          .map(a -> a.flush(this.config.getFlushTimeout()))
+                                          .map(this::scheduleFlush)
                                           .collect(Collectors.toList());
+        this.metrics.flushQueued(this.flushBudget.getQueueSize());
 
         return Futures
                 .allOfWithResults(flushFutures)
@@ -327,6 +351,22 @@ class StorageWriter extends AbstractThreadPoolService implements Writer {
                 }, this.executor);
     }
 
+    /**
+     * Flushes the given ProcessorCollection as soon as the {@link FlushBudget}s allow.
+     */
+    private CompletableFuture<WriterFlushResult> scheduleFlush(ProcessorCollection processorCollection) {
+        return this.flushBudget.run(
+                () -> this.storageFlushBudget.run(() -> {
+                    val timer = new Timer();
+                    return processorCollection.flush(this.config.getFlushTimeout())
+                                              .thenApply(result -> {
+                                                  this.metrics.segmentFlushComplete(timer.getElapsed());
+                                                  return result;
+                                              });
+                }, this.executor),
+                this.executor);
+    }
+
     /**
      * Cleans up all SegmentAggregators that are currently closed.
      */
@@ -467,7 +507,7 @@ class StorageWriter extends AbstractThreadPoolService implements Writer {
                 break;
             }
 
-            timeMillis = MathHelpers.minMax(this.config.getFlushThresholdTime().minus(a.getElapsedSinceLastFlush()).toMillis(), minTimeMillis, timeMillis);
+            timeMillis = MathHelpers.minMax(a.getFlushThresholdTime().minus(a.getElapsedSinceLastFlush()).toMillis(), minTimeMillis, timeMillis);
         }
 
         return Duration.ofMillis(timeMillis);
@@ -594,6 +634,14 @@ class StorageWriter extends AbstractThreadPoolService implements Writer {
             return this.aggregator.getElapsedSinceLastFlush();
         }
 
+        /**
+         * Gets a value indicating the amount of time since the last flush that should trigger a flush for the main
+         * Segment Aggregator.
+         */
+        Duration getFlushThresholdTime() {
+            return this.aggregator.getFlushThresholdTime();
+        }
+
         /**
          * Gets a value indicating the Segment Id for all processors in this collection.
          */
@@ -15,6 +15,7 @@ import io.pravega.segmentstore.contracts.AttributeUpdate;
 import io.pravega.segmentstore.contracts.AttributeUpdateType;
 import io.pravega.segmentstore.contracts.Attributes;
 import io.pravega.segmentstore.contracts.StreamSegmentNotExistsException;
+import io.pravega.segmentstore.server.CacheUtilizationProvider;
 import io.pravega.segmentstore.server.OperationLog;
 import io.pravega.segmentstore.server.ReadIndex;
 import io.pravega.segmentstore.server.SegmentMetadata;
@@ -43,6 +44,11 @@ import lombok.extern.slf4j.Slf4j;
 public class StorageWriterFactory implements WriterFactory {
     private final WriterConfig config;
     private final ScheduledExecutorService executor;
+    /**
+     * Limits the number of concurrent flushes across all the StorageWriters created by this factory, all of which share
+     * the same Storage.
+     */
+    private final FlushBudget storageFlushBudget;
 
     /**
      * Creates a new instance of the StorageWriterFactory class.
@@ -55,6 +61,7 @@ public class StorageWriterFactory implements WriterFactory {
         Preconditions.checkNotNull(executor, "executor");
         this.config = config;
         this.executor = executor;
+        this.storageFlushBudget = new FlushBudget(config.getMaxConcurrentStorageFlushes());
     }
 
     @Override
@@ -63,7 +70,7 @@ public class StorageWriterFactory implements WriterFactory {
         Preconditions.checkArgument(containerMetadata.getContainerId() == operationLog.getId(),
                 "Given containerMetadata and operationLog have different Container Ids.");
         WriterDataSource dataSource = new StorageWriterDataSource(containerMetadata, operationLog, readIndex, attributeIndex);
-        return new StorageWriter(this.config, dataSource, storage, createProcessors, this.executor);
+        return new StorageWriter(this.config, dataSource, storage, createProcessors, this.storageFlushBudget, this.executor);
     }
 
     //region StorageWriterDataSource
@@ -156,6 +163,12 @@ public class StorageWriterFactory implements WriterFactory {
             return this.containerMetadata.getStreamSegmentMetadata(streamSegmentId);
         }
 
+        @Override
+        public double getCacheUtilization() {
+            CacheUtilizationProvider cacheUtilizationProvider = this.readIndex.getCacheUtilizationProvider();
+            return cacheUtilizationProvider.getCacheUtilization() / cacheUtilizationProvider.getCacheTargetUtilization();
+        }
+
         @Override
         public InputStream getAppendData(long streamSegmentId, long startOffset, int length) {
             try {
@@ -35,6 +35,9 @@ public class WriterConfig {
     public static final Property<Long> ACK_TIMEOUT_MILLIS = Property.named("ackTimeoutMillis", 15 * 1000L);
     public static final Property<Long> SHUTDOWN_TIMEOUT_MILLIS = Property.named("shutdownTimeoutMillis", 10 * 1000L);
     public static final Property<Long> MAX_ROLLOVER_SIZE = Property.named("maxRolloverSizeBytes", SegmentRollingPolicy.NO_ROLLING.getMaxLength());
+    public static final Property<Boolean> ADAPTIVE_FLUSH_ENABLED = Property.named("adaptiveFlushEnabled", false);
+    public static final Property<Integer> MAX_CONCURRENT_FLUSHES = Property.named("maxConcurrentFlushes", 32);
+    public static final Property<Integer> MAX_CONCURRENT_STORAGE_FLUSHES = Property.named("maxConcurrentStorageFlushes", 200);
     private static final String COMPONENT_CODE = "writer";
 
     //endregion
@@ -114,6 +117,26 @@ public class WriterConfig {
     @Getter
     private final long maxRolloverSize;
 
+    /**
+     * Whether to adjust the flush thresholds for each Segment based on its ingestion rate, the Cache utilization and the
+     * Storage write latency. See {@link SegmentFlushPolicy}.
+     */
+    @Getter
+    private final boolean adaptiveFlushEnabled;
+
+    /**
+     * The maximum number of Segments that may be flushed at the same time by a single Segment Container.
+     */
+    @Getter
+    private final int maxConcurrentFlushes;
+
+    /**
+     * The maximum number of Segments that may be flushed at the same time by all the Segment Containers sharing the
+     * same Storage.
+     */
+    @Getter
+    private final int maxConcurrentStorageFlushes;
+
     //endregion
 
     //region Constructor
@@ -158,6 +181,16 @@ public class WriterConfig {
         this.ackTimeout = Duration.ofMillis(properties.getLong(ACK_TIMEOUT_MILLIS));
         this.shutdownTimeout = Duration.ofMillis(properties.getLong(SHUTDOWN_TIMEOUT_MILLIS));
         this.maxRolloverSize = Math.max(0, properties.getLong(MAX_ROLLOVER_SIZE));
+        this.adaptiveFlushEnabled = properties.getBoolean(ADAPTIVE_FLUSH_ENABLED);
+        this.maxConcurrentFlushes = properties.getInt(MAX_CONCURRENT_FLUSHES);
+        if (this.maxConcurrentFlushes <= 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a positive integer.", MAX_CONCURRENT_FLUSHES));
+        }
+
+        this.maxConcurrentStorageFlushes = properties.getInt(MAX_CONCURRENT_STORAGE_FLUSHES);
+        if (this.maxConcurrentStorageFlushes <= 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a positive integer.", MAX_CONCURRENT_STORAGE_FLUSHES));
+        }
     }
 
     /**
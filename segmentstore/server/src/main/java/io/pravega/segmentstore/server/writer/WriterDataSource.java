@@ -142,4 +142,13 @@ interface WriterDataSource {
      * @return The mapped StreamSegmentMetadata, or null if none is.
      */
     UpdateableSegmentMetadata getStreamSegmentMetadata(long streamSegmentId);
+
+    /**
+     * Gets a value representing the current Cache utilization, relative to the Cache's target utilization. A value of 1
+     * or more indicates that the Cache is at or above its target utilization and is actively evicting entries (which
+     * excludes any data that has not yet been flushed to Storage).
+     *
+     * @return The relative Cache utilization.
+     */
+    double getCacheUtilization();
 }
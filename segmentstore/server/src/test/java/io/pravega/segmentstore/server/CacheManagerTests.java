@@ -21,6 +21,7 @@ import io.pravega.test.common.AssertExtensions;
 import io.pravega.test.common.ThreadPooledTestSuite;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Random;
@@ -66,6 +67,13 @@ public class CacheManagerTests extends ThreadPooledTestSuite {
         Assert.assertFalse("Unexpected isEmpty() when provided non-empty iterator.", nonEmpty.isEmpty());
         Assert.assertEquals("Unexpected OG when provided non-empty iterator.", 1, nonEmpty.getOldestGeneration());
         Assert.assertEquals("Unexpected NG when provided non-empty iterator.", 100, nonEmpty.getNewestGeneration());
+        Assert.assertEquals("Unexpected OPG when not provided probationary generations.",
+                CacheManager.CacheStatus.EMPTY_VALUE, nonEmpty.getOldestProbationaryGeneration());
+
+        val probationary = CacheManager.CacheStatus.fromGenerations(Iterators.forArray(1, 2, 3, 100), Iterators.forArray(3, 2));
+        Assert.assertEquals("Unexpected OG when provided probationary generations.", 1, probationary.getOldestGeneration());
+        Assert.assertEquals("Unexpected NG when provided probationary generations.", 100, probationary.getNewestGeneration());
+        Assert.assertEquals("Unexpected OPG when provided probationary generations.", 2, probationary.getOldestProbationaryGeneration());
     }
 
     /**
@@ -80,13 +88,14 @@ public class CacheManagerTests extends ThreadPooledTestSuite {
 
         val nonEmpty = CacheManager.CacheStatus.combine(Iterators.forArray(
                 new CacheManager.CacheStatus(1, 10),
-                new CacheManager.CacheStatus(2, 11),
-                new CacheManager.CacheStatus(3, 9),
+                new CacheManager.CacheStatus(2, 11, 7),
+                new CacheManager.CacheStatus(3, 9, 4),
                 new CacheManager.CacheStatus(5, 5),
                 new CacheManager.CacheStatus(CacheManager.CacheStatus.EMPTY_VALUE, CacheManager.CacheStatus.EMPTY_VALUE)));
         Assert.assertFalse("Unexpected isEmpty() when provided non-empty iterator.", nonEmpty.isEmpty());
         Assert.assertEquals("Unexpected OG when provided non-empty iterator.", 1, nonEmpty.getOldestGeneration());
         Assert.assertEquals("Unexpected NG when provided non-empty iterator.", 11, nonEmpty.getNewestGeneration());
+        Assert.assertEquals("Unexpected OPG when provided non-empty iterator.", 4, nonEmpty.getOldestProbationaryGeneration());
 
         val nonEmptyOfEmpties = CacheManager.CacheStatus.combine(Iterators.forArray(
                 new CacheManager.CacheStatus(CacheManager.CacheStatus.EMPTY_VALUE, CacheManager.CacheStatus.EMPTY_VALUE),
@@ -302,6 +311,81 @@ public class CacheManagerTests extends ThreadPooledTestSuite {
         Assert.assertEquals("Not expecting multiple attempts at eviction.", 1, callCount.get());
     }
 
+    /**
+     * Tests the {@link CachePolicy.EvictionMode#SEGMENTED} eviction mode: the oldest probationary generation must be
+     * increased (without touching the oldest generation) as long as there are probationary entries to evict, and the
+     * oldest generation may only be increased after that.
+     */
+    @Test
+    public void testSegmentedEviction() {
+        final int maxSize = 2048;
+        final int maxGenerationCount = 100;
+        final int dryRunCount = 5;
+        final CachePolicy policy = new CachePolicy(maxSize, 0.5, 0.95, Duration.ofHours(maxGenerationCount), Duration.ofHours(1),
+                CachePolicy.EvictionMode.SEGMENTED);
+        @Cleanup
+        val cache = new TestCache(policy.getMaxSize());
+        cache.setStoredBytes(1); // The Cache Manager won't do anything if there's no stored data.
+        @Cleanup
+        TestCacheManager cm = new TestCacheManager(policy, cache, executorService());
+        TestClient client = new TestClient();
+        cm.register(client);
+
+        // First do a dry-run - we need this to make sure the current generation advances enough.
+        for (int cycleId = 0; cycleId < dryRunCount; cycleId++) {
+            client.setCacheStatus(0, cycleId);
+            cm.applyCachePolicy();
+        }
+
+        // Exceed the threshold while there are probationary entries. Only those should be evicted.
+        cache.setUsedBytes(policy.getEvictionThreshold() + 1);
+        client.setCacheStatus(0, dryRunCount - 1, 2);
+        val calls = new ArrayList<Integer>();
+        client.setUpdateGenerationsImpl((current, oldest) -> {
+            calls.add(oldest);
+            calls.add(client.getLastOldestProbationaryGeneration());
+            client.setCacheStatus(oldest, current); // All probationary entries have been evicted.
+            cache.setUsedBytes(policy.getEvictionThreshold() - 1);
+            return true;
+        });
+
+        cm.applyCachePolicy();
+        Assert.assertEquals("Unexpected generations when evicting probationary entries.", Arrays.asList(0, 3), calls);
+
+        // Exceed the threshold while there are no probationary entries. The oldest generation should now be increased.
+        calls.clear();
+        cache.setUsedBytes(policy.getEvictionThreshold() + 1);
+        cm.applyCachePolicy();
+        Assert.assertEquals("Unexpected generations when evicting protected entries.", Arrays.asList(1, 3), calls);
+
+        // Verify the regular (generational) mode does not distinguish between probationary and protected entries.
+        calls.clear();
+        val generationalPolicy = new CachePolicy(maxSize, 0.5, 0.95, Duration.ofHours(maxGenerationCount), Duration.ofHours(1));
+        @Cleanup
+        val generationalCache = new TestCache(generationalPolicy.getMaxSize());
+        generationalCache.setStoredBytes(1);
+        @Cleanup
+        TestCacheManager generationalCm = new TestCacheManager(generationalPolicy, generationalCache, executorService());
+        TestClient generationalClient = new TestClient();
+        generationalCm.register(generationalClient);
+        for (int cycleId = 0; cycleId < dryRunCount; cycleId++) {
+            generationalClient.setCacheStatus(0, cycleId);
+            generationalCm.applyCachePolicy();
+        }
+
+        generationalCache.setUsedBytes(generationalPolicy.getEvictionThreshold() + 1);
+        generationalClient.setCacheStatus(0, dryRunCount - 1, 2);
+        generationalClient.setUpdateGenerationsImpl((current, oldest) -> {
+            calls.add(oldest);
+            calls.add(generationalClient.getLastOldestProbationaryGeneration());
+            generationalCache.setUsedBytes(generationalPolicy.getEvictionThreshold() - 1);
+            return true;
+        });
+
+        generationalCm.applyCachePolicy();
+        Assert.assertEquals("Unexpected generations in generational mode.", Arrays.asList(1, 1), calls);
+    }
+
     /**
      * Tests the ability of the CacheManager to auto-unregister a client that was detected as having been closed.
      */
@@ -542,10 +626,17 @@ public class CacheManagerTests extends ThreadPooledTestSuite {
         private CacheManager.CacheStatus currentStatus;
         private BiFunction<Integer, Integer, Boolean> updateGenerationsImpl = (current, oldest) -> false;
 
+        @Getter
+        private int lastOldestProbationaryGeneration;
+
         void setCacheStatus(int oldestGeneration, int newestGeneration) {
             this.currentStatus = new CacheManager.CacheStatus(oldestGeneration, newestGeneration);
         }
 
+        void setCacheStatus(int oldestGeneration, int newestGeneration, int oldestProbationaryGeneration) {
+            this.currentStatus = new CacheManager.CacheStatus(oldestGeneration, newestGeneration, oldestProbationaryGeneration);
+        }
+
         void setUpdateGenerationsImpl(BiFunction<Integer, Integer, Boolean> function) {
             this.updateGenerationsImpl = function;
         }
@@ -559,6 +650,12 @@ public class CacheManagerTests extends ThreadPooledTestSuite {
         public boolean updateGenerations(int currentGeneration, int oldestGeneration) {
             return this.updateGenerationsImpl.apply(currentGeneration, oldestGeneration);
         }
+
+        @Override
+        public boolean updateGenerations(int currentGeneration, int oldestGeneration, int oldestProbationaryGeneration) {
+            this.lastOldestProbationaryGeneration = oldestProbationaryGeneration;
+            return updateGenerations(currentGeneration, oldestGeneration);
+        }
     }
 
     private static class EmptyCacheClient extends TestClient {
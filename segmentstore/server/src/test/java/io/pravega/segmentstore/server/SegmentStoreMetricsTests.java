@@ -57,6 +57,17 @@ public class SegmentStoreMetricsTests {
         assertEquals(500, (long) MetricRegistryUtils.getGauge(MetricsNames.CONTAINER_RECOVERY_TIME, containerTag(containerId)).value());
     }
 
+    /**
+     * Verify that the Segment Store recovery throughput is properly reported.
+     */
+    @Test
+    public void testContainerRecoveryThroughputMetric() {
+        int containerId = 1;
+        assertNull(MetricRegistryUtils.getGauge(MetricsNames.CONTAINER_RECOVERY_THROUGHPUT, containerTag(containerId)));
+        SegmentStoreMetrics.recoveryThroughput(1024 * 1024, containerId);
+        assertEquals(1024 * 1024, (long) MetricRegistryUtils.getGauge(MetricsNames.CONTAINER_RECOVERY_THROUGHPUT, containerTag(containerId)).value());
+    }
+
     @Test
     public void testContainerMetrics() {
         int containerId = new Random().nextInt(Integer.MAX_VALUE);
@@ -19,6 +19,7 @@ import io.pravega.segmentstore.contracts.StreamSegmentNotExistsException;
 import io.pravega.segmentstore.contracts.tables.BadKeyVersionException;
 import io.pravega.segmentstore.contracts.tables.IteratorItem;
 import io.pravega.segmentstore.contracts.tables.KeyNotExistsException;
+import io.pravega.segmentstore.contracts.tables.KeyRange;
 import io.pravega.segmentstore.contracts.tables.TableEntry;
 import io.pravega.segmentstore.contracts.tables.TableKey;
 import io.pravega.segmentstore.contracts.tables.TableStore;
@@ -69,6 +70,11 @@ public class TableStoreMock implements TableStore {
         }, this.executor);
     }
 
+    @Override
+    public CompletableFuture<Void> createSegment(String segmentName, boolean sorted, Duration timeout) {
+        return createSegment(segmentName, timeout);
+    }
+
     @Override
     public CompletableFuture<Void> deleteSegment(String segmentName, boolean mustBeEmpty, Duration timeout) {
         Exceptions.checkNotClosed(this.closed.get(), this);
@@ -119,6 +125,16 @@ public class TableStoreMock implements TableStore {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public CompletableFuture<AsyncIterator<IteratorItem<TableKey>>> keyIterator(String segmentName, KeyRange range, byte[] serializedState, Duration fetchTimeout) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public CompletableFuture<AsyncIterator<IteratorItem<TableEntry>>> entryIterator(String segmentName, KeyRange range, byte[] serializedState, Duration fetchTimeout) {
+        throw new UnsupportedOperationException();
+    }
+
     @SneakyThrows(StreamSegmentNotExistsException.class)
     private TableData getTableData(String segmentName) {
         synchronized (this.tables) {
@@ -518,6 +518,50 @@ public class AttributeIndexTests extends ThreadPooledTestSuite {
         Assert.assertFalse("Not expecting any Storage read.", intercepted.get());
     }
 
+    /**
+     * Tests that Index Pages are kept in memory (pinned) across operations, so that lookups only read Leaf Pages from
+     * Storage when the cache is cold, and that every page is read at most once per lookup.
+     */
+    @Test
+    public void testPinnedIndexPages() {
+        val pinnedReads = getColdReadCount(256 * 1024);
+        val unpinnedReads = getColdReadCount(0);
+        AssertExtensions.assertLessThan("Expected fewer Storage reads with pinned pages.", unpinnedReads, pinnedReads);
+    }
+
+    private int getColdReadCount(int maxPinnedIndexBytes) {
+        int attributeCount = 1000;
+        val config = AttributeIndexConfig
+                .builder()
+                .with(AttributeIndexConfig.MAX_INDEX_PAGE_SIZE, 1024)
+                .with(AttributeIndexConfig.MAX_PINNED_INDEX_BYTES, maxPinnedIndexBytes)
+                .build();
+
+        @Cleanup
+        val context = new TestContext(config);
+        populateSegments(context);
+        @Cleanup
+        val idx = (SegmentAttributeBTreeIndex) context.index.forSegment(SEGMENT_ID, TIMEOUT).join();
+        val expectedValues = new HashMap<UUID, Long>();
+        for (int i = 0; i < attributeCount; i++) {
+            expectedValues.put(new UUID(i, i), (long) i);
+        }
+        idx.update(expectedValues, TIMEOUT).join();
+
+        // Clear the cache so that we have to read everything we need from Storage.
+        idx.removeAllCacheEntries();
+        val readsByOffset = Collections.synchronizedMap(new HashMap<Long, Integer>());
+        context.storage.readInterceptor = (name, offset, storage) -> {
+            readsByOffset.merge(offset, 1, Integer::sum);
+            return CompletableFuture.completedFuture(null);
+        };
+
+        checkIndex(idx, expectedValues);
+        Assert.assertTrue("Expected at least one Storage read.", readsByOffset.size() > 0);
+        Assert.assertFalse("Not expecting any page to be read more than once.", readsByOffset.values().stream().anyMatch(c -> c > 1));
+        return readsByOffset.size();
+    }
+
     /**
      * Tests the ability to identify throw the correct exception when the Index gets corrupted.
      */
@@ -263,6 +263,52 @@ public class DataFrameBuilderTests extends ThreadPooledTestSuite {
         }
     }
 
+    /**
+     * Tests the ability to adjust the length of the Data Frames based on the latency of the DurableDataLog writes, as well
+     * as writing compressed Data Frames.
+     */
+    @Test
+    public void testAdaptiveFrameLength() throws Exception {
+        final int maxFrameLength = 1024 * 1024;
+        final int frameCount = Integer.numberOfTrailingZeros(maxFrameLength / DataFrameBuilder.MIN_ADAPTIVE_FRAME_LENGTH) + 1;
+
+        // Writes that complete well within the target latency should cause the frames to shrink to the minimum.
+        testAdaptiveFrameLength(maxFrameLength, 0, Duration.ofSeconds(10), frameCount, DataFrameBuilder.MIN_ADAPTIVE_FRAME_LENGTH);
+
+        // Writes that are slower than the target latency should keep the frames at the maximum length.
+        testAdaptiveFrameLength(maxFrameLength, 10, Duration.ofMillis(1), frameCount, maxFrameLength);
+    }
+
+    private void testAdaptiveFrameLength(int maxFrameLength, int delayMillis, Duration targetLatency, int frameCount, int expectedFrameLength) throws Exception {
+        try (TestDurableDataLog dataLog = TestDurableDataLog.create(CONTAINER_ID, maxFrameLength, delayMillis, executorService())) {
+            dataLog.initialize(TIMEOUT);
+
+            ArrayList<TestLogItem> records = DataFrameTestHelpers.generateLogItems(frameCount, SMALL_RECORD_MIN_SIZE, SMALL_RECORD_MAX_SIZE, 0);
+            AtomicInteger commitCount = new AtomicInteger();
+            BiConsumer<Throwable, DataFrameBuilder.CommitArgs> errorCallback = (ex, a) ->
+                    Assert.fail(String.format("Unexpected error occurred upon commit. %s", ex));
+            val args = new DataFrameBuilder.Args(Callbacks::doNothing, a -> commitCount.incrementAndGet(), errorCallback,
+                    executorService(), DataFrameCodec.DEFLATE, targetLatency);
+
+            @Cleanup
+            DataFrameBuilder<TestLogItem> b = new DataFrameBuilder<>(dataLog, SERIALIZER, args);
+            Assert.assertEquals("Unexpected initial frame length.", maxFrameLength, b.getFrameLength());
+            for (int i = 0; i < records.size(); i++) {
+                // Write one frame at a time.
+                b.append(records.get(i));
+                b.flush();
+                final int expectedCommitCount = i + 1;
+                TestUtils.await(() -> commitCount.get() >= expectedCommitCount, 5, TIMEOUT.toMillis());
+            }
+
+            Assert.assertEquals("Unexpected frame length.", expectedFrameLength, b.getFrameLength());
+
+            // Verify the (compressed) frames can be read back.
+            val frames = dataLog.getAllEntries(readItem -> DataFrame.read(readItem.getPayload(), readItem.getLength(), readItem.getAddress()));
+            DataFrameTestHelpers.checkReadRecords(frames, records, r -> new ByteArraySegment(r.getFullSerialization()));
+        }
+    }
+
     private void testAppendNoFailure(int delayMillis) throws Exception {
         // Happy case: append a bunch of data, and make sure the frames that get output contain it.
         ArrayList<TestLogItem> records = DataFrameTestHelpers.generateLogItems(RECORD_COUNT / 2, SMALL_RECORD_MIN_SIZE, SMALL_RECORD_MAX_SIZE, 0);
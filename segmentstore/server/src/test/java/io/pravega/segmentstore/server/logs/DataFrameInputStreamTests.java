@@ -16,6 +16,7 @@ import io.pravega.segmentstore.storage.DurableDataLog;
 import io.pravega.segmentstore.storage.DurableDataLogException;
 import io.pravega.segmentstore.storage.LogAddress;
 import io.pravega.test.common.AssertExtensions;
+import io.pravega.test.common.ThreadPooledTestSuite;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -31,8 +32,9 @@ import org.junit.Test;
 /**
  * Unit tests for the DataFrameInputStream class.
  */
-public class DataFrameInputStreamTests {
+public class DataFrameInputStreamTests extends ThreadPooledTestSuite {
     private static final int FRAME_SIZE = 512;
+    private static final int READ_AHEAD_COUNT = 8;
     private static final int RECORD_SIZE = (int) (FRAME_SIZE * 0.75);
     private static final int RECORD_COUNT = 100;
     private static final String TRACE_ID = "Trace";
@@ -49,6 +51,39 @@ public class DataFrameInputStreamTests {
         }
     }
 
+    @Override
+    protected int getThreadPoolSize() {
+        return 3;
+    }
+
+    /**
+     * Tests a general read case when the data is in ideal condition, with DataFrames being read and decoded ahead of time.
+     */
+    @Test
+    public void testReadsWithReadAhead() throws Exception {
+        val items = generateData();
+        try (val reader = toReader(toDataFrames(items));
+             val inputStream = new DataFrameInputStream(reader, READ_AHEAD_COUNT, executorService(), TRACE_ID)) {
+            check(items, inputStream, Collections.emptySet());
+        }
+    }
+
+    /**
+     * Tests the case when the DataFrameInputStream has a partial record in the middle (failed serialization), with
+     * DataFrames being read and decoded ahead of time.
+     */
+    @Test
+    public void testPartialRecordMiddleWithReadAhead() throws Exception {
+        val items = generateData();
+        val dataFrames = toDataFrames(items);
+        LogItem removedFrame = removeFrameEndingWithRecord(items, dataFrames);
+        try (val reader = toReader(dataFrames, 0, dataFrames.size() - 1);
+             val inputStream = new DataFrameInputStream(reader, READ_AHEAD_COUNT, executorService(), TRACE_ID)) {
+            val expectedMissing = getExpectedMissingItemIndices(items, removedFrame);
+            check(items, inputStream, expectedMissing);
+        }
+    }
+
     /**
      * Tests a general read case while reading records only partially (verifies that endRecord() skips over to the next one).
      */
@@ -98,20 +133,7 @@ public class DataFrameInputStreamTests {
         val items = generateData();
         val dataFrames = toDataFrames(items);
 
-        // We need to remove a DataFrame that ends with an entire record; otherwise if we have a partial record in the
-        // middle we'll end up interpreting that as a corruption.
-        LogItem removedFrame = null;
-        for (int i = 1; i < items.size(); i++) {
-            val item = items.get(i);
-            val prevItem = items.get(i - 1);
-            if (item.dataFrames.size() == 1 && item.address.getSequence() != prevItem.address.getSequence()) {
-                // We found it.
-                removedFrame = dataFrames.remove((int) prevItem.address.getSequence());
-                break;
-            }
-        }
-
-        Assert.assertNotNull("Unable to locate a frame worthy of removal.", removedFrame);
+        LogItem removedFrame = removeFrameEndingWithRecord(items, dataFrames);
         try (val reader = toReader(dataFrames, 0, dataFrames.size() - 1);
              val inputStream = new DataFrameInputStream(reader, TRACE_ID)) {
             // We expect the first two records to be dropped since they are either entirely (#0) or partially (#1) in the
@@ -204,7 +226,25 @@ public class DataFrameInputStreamTests {
         Assert.assertTrue("Expected InputStream to be closed.", inputStream.isClosed());
     }
 
-    private HashSet<Integer> getExpectedMissingItemIndices(ArrayList<TestItem> items, LogItem missingDataFrame) {
+    private LogItem removeFrameEndingWithRecord(ArrayList<TestItem> items, ArrayList<LogItem> dataFrames) {
+        // We need to remove a DataFrame that ends with an entire record; otherwise if we have a partial record in the
+        // middle we'll end up interpreting that as a corruption.
+        LogItem removedFrame = null;
+        for (int i = 1; i < items.size(); i++) {
+            val item = items.get(i);
+            val prevItem = items.get(i - 1);
+            if (item.dataFrames.size() == 1 && item.address.getSequence() != prevItem.address.getSequence()) {
+                // We found it.
+                removedFrame = dataFrames.remove((int) prevItem.address.getSequence());
+                break;
+            }
+        }
+
+        Assert.assertNotNull("Unable to locate a frame worthy of removal.", removedFrame);
+        return removedFrame;
+    }
+
+        private HashSet<Integer> getExpectedMissingItemIndices(ArrayList<TestItem> items, LogItem missingDataFrame) {
         val result = new HashSet<Integer>();
         for (int i = 0; i < items.size(); i++) {
             val ti = items.get(i);
@@ -9,9 +9,12 @@
  */
 package io.pravega.segmentstore.server.logs;
 
+import io.pravega.common.io.SerializationException;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.segmentstore.storage.LogAddress;
 import io.pravega.test.common.AssertExtensions;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import lombok.val;
 import org.junit.Assert;
@@ -24,6 +27,7 @@ import org.junit.rules.Timeout;
  */
 public class DataFrameTests {
     private static final int ENTRY_HEADER_SIZE = 5; // This is a copy of DataFrame.EntryHeader.HeaderSize, but that's not accessible from here.
+    private static final int FRAME_FLAGS_OFFSET = 5; // Version(byte) + ContentLength(int).
     @Rule
     public Timeout globalTimeout = Timeout.seconds(10);
 
@@ -53,6 +57,66 @@ public class DataFrameTests {
         DataFrameTestHelpers.checkReadRecords(contents, allRecords, b -> b);
     }
 
+    /**
+     * Tests the ability to compress a DataFrame upon sealing and to transparently decompress it upon reading, as well as
+     * the fact that DataFrames that do not compress well are stored uncompressed.
+     */
+    @Test
+    public void testCompression() throws Exception {
+        int maxFrameSize = 1024 * 1024;
+        val compressibleRecords = new ArrayList<ByteArraySegment>();
+        for (int i = 0; i < 1000; i++) {
+            compressibleRecords.add(new ByteArraySegment(String.format("{\"key\": \"key%d\", \"value\": \"value%d\"}", i, i).getBytes()));
+        }
+
+        val incompressibleRecords = DataFrameTestHelpers.generateRecords(100, 0, 1024, ByteArraySegment::new);
+        for (val records : Arrays.asList(compressibleRecords, incompressibleRecords)) {
+            DataFrame uncompressedFrame = DataFrame.ofSize(maxFrameSize);
+            appendRecords(records, uncompressedFrame);
+            uncompressedFrame.seal();
+
+            DataFrame compressedFrame = DataFrame.ofSize(maxFrameSize, DataFrameCodec.DEFLATE);
+            appendRecords(records, compressedFrame);
+            compressedFrame.seal();
+            if (records == compressibleRecords) {
+                AssertExtensions.assertLessThan("Expected the frame to be compressed.", uncompressedFrame.getLength() / 2, compressedFrame.getLength());
+            } else {
+                Assert.assertEquals("Not expecting an incompressible frame to be compressed.", uncompressedFrame.getLength(), compressedFrame.getLength());
+            }
+
+            val frameData = compressedFrame.getData();
+            Assert.assertEquals("Unexpected length from getData().", compressedFrame.getLength(), frameData.getLength());
+            val contents = DataFrame.read(frameData.getReader(), frameData.getLength(), compressedFrame.getAddress());
+            DataFrameTestHelpers.checkReadRecords(contents, records, b -> b);
+        }
+    }
+
+    /**
+     * Tests that the codec in the Frame Header is only honored for versions that support it, and that frames with an
+     * unknown version are rejected.
+     */
+    @Test
+    public void testVersion() throws Exception {
+        val records = DataFrameTestHelpers.generateRecords(100, 0, 1024, ByteArraySegment::new);
+        DataFrame writeFrame = DataFrame.ofSize(1024 * 1024);
+        appendRecords(records, writeFrame);
+        writeFrame.seal();
+        byte[] frameData = writeFrame.getData().getCopy();
+        Assert.assertEquals("Unexpected version.", 1, frameData[0]);
+
+        // Version 0 frames have no codec; the flags must be ignored.
+        frameData[0] = 0;
+        frameData[FRAME_FLAGS_OFFSET] = DataFrameCodec.DEFLATE.getId();
+        val contents = DataFrame.read(new ByteArraySegment(frameData).getReader(), frameData.length, writeFrame.getAddress());
+        DataFrameTestHelpers.checkReadRecords(contents, records, b -> b);
+
+        frameData[0] = 2;
+        AssertExtensions.assertThrows(
+                "read() accepted a frame with an unsupported version.",
+                () -> DataFrame.read(new ByteArraySegment(frameData).getReader(), frameData.length, writeFrame.getAddress()),
+                ex -> ex instanceof SerializationException);
+    }
+
     /**
      * Tests the ability to Start/End/Discard an entry.
      */
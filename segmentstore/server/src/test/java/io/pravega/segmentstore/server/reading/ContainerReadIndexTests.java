@@ -107,8 +107,26 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
      */
     @Test
     public void testAppendRead() throws Exception {
+        testAppendRead(DEFAULT_CONFIG);
+    }
+
+    /**
+     * Tests the basic append-read functionality of the ContainerReadIndex, with data fully in it (no tail reads), when
+     * using a {@link io.pravega.common.util.SortedArrayIndex} to index the entries.
+     */
+    @Test
+    public void testAppendReadSortedArrayIndex() throws Exception {
+        testAppendRead(ReadIndexConfig
+                .builder()
+                .with(ReadIndexConfig.MEMORY_READ_MIN_LENGTH, 0)
+                .with(ReadIndexConfig.STORAGE_READ_ALIGNMENT, 1024)
+                .with(ReadIndexConfig.INDEX_TYPE, ReadIndexConfig.IndexType.SORTED_ARRAY)
+                .build());
+    }
+
+    private void testAppendRead(ReadIndexConfig config) throws Exception {
         @Cleanup
-        TestContext context = new TestContext();
+        TestContext context = new TestContext(config, CachePolicy.INFINITE);
         ArrayList<Long> segmentIds = createSegments(context);
         HashMap<Long, ArrayList<Long>> transactionsBySegment = createTransactions(segmentIds, context);
         HashMap<Long, ByteArrayOutputStream> segmentContents = new HashMap<>();
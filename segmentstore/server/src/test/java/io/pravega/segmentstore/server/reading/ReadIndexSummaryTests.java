@@ -151,4 +151,44 @@ public class ReadIndexSummaryTests {
         currentStatus = s.toCacheStatus();
         Assert.assertTrue("Expected cache to be empty after removing all items.", currentStatus.isEmpty());
     }
+
+    /**
+     * Tests the functionality of probationary elements, including promotion via touchOne.
+     */
+    @Test
+    public void testProbationary() {
+        ReadIndexSummary s = new ReadIndexSummary();
+        s.addOne();
+        Assert.assertEquals(0, s.addOne(true));
+        Assert.assertEquals(0, s.addOne(true));
+        CacheManager.CacheStatus currentStatus = s.toCacheStatus();
+        Assert.assertEquals("Unexpected oldest generation.", 0, currentStatus.getOldestGeneration());
+        Assert.assertEquals("Unexpected oldest probationary generation.", 0, currentStatus.getOldestProbationaryGeneration());
+
+        // Touching in the same generation should not promote.
+        Assert.assertEquals(0, s.touchOne(0, true));
+        Assert.assertFalse(ReadIndexSummary.isPromoted(0, 0));
+        Assert.assertEquals("Not expecting a promotion.", 0, s.toCacheStatus().getOldestProbationaryGeneration());
+
+        // Touching in a later generation should promote.
+        s.setCurrentGeneration(1);
+        Assert.assertTrue(ReadIndexSummary.isPromoted(0, 1));
+        Assert.assertEquals(1, s.touchOne(0, true));
+        currentStatus = s.toCacheStatus();
+        Assert.assertEquals("Unexpected oldest generation after promotion.", 0, currentStatus.getOldestGeneration());
+        Assert.assertEquals("Unexpected newest generation after promotion.", 1, currentStatus.getNewestGeneration());
+        Assert.assertEquals("Unexpected oldest probationary generation after promotion.", 0, currentStatus.getOldestProbationaryGeneration());
+
+        // Remove the remaining probationary element.
+        s.removeOne(0, true);
+        currentStatus = s.toCacheStatus();
+        Assert.assertEquals("Unexpected oldest generation after removal.", 0, currentStatus.getOldestGeneration());
+        Assert.assertEquals("Not expecting any probationary elements.",
+                CacheManager.CacheStatus.EMPTY_VALUE, currentStatus.getOldestProbationaryGeneration());
+
+        // Remove the protected ones.
+        s.removeOne(0);
+        s.removeOne(1);
+        Assert.assertTrue("Expected an empty status.", s.toCacheStatus().isEmpty());
+    }
 }
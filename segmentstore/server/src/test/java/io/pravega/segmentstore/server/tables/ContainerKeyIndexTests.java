@@ -326,6 +326,70 @@ public class ContainerKeyIndexTests extends ThreadPooledTestSuite {
         checkKeyOffsets(hashes, keysWithOffsets, result2);
     }
 
+    /**
+     * Tests the ability of the {@link ContainerKeyIndex#getBucketOffsets} to use a {@link KeyHashFilter} to avoid looking
+     * up Key Hashes that do not exist.
+     */
+    @Test
+    public void testGetBucketOffsetsWithKeyHashFilter() throws Exception {
+        @Cleanup
+        val context = new TestContext();
+
+        // Setup the segment with initial attributes.
+        val iw = new IndexWriter(HASHER, executorService());
+        context.segment.updateAttributes(TableAttributes.DEFAULT_VALUES);
+
+        // Generate keys and index them by Hashes and assign offsets. Only half the keys exist; the others do not.
+        val keys = generateUnversionedKeys(BATCH_SIZE, context);
+        val offset = new AtomicLong();
+        val hashes = new ArrayList<UUID>();
+        val nonExistingHashes = new ArrayList<UUID>();
+        val keysWithOffsets = new HashMap<UUID, KeyWithOffset>();
+        for (val k : keys) {
+            val hash = HASHER.hash(k.getKey());
+            hashes.add(hash);
+            if (hashes.size() % 2 == 0) {
+                keysWithOffsets.put(hash, new KeyWithOffset(new HashedArray(k.getKey()), offset.getAndAdd(k.getKey().getLength())));
+            } else {
+                nonExistingHashes.add(hash);
+            }
+        }
+
+        val buckets = iw.locateBuckets(context.segment, keysWithOffsets.keySet(), context.timer).join();
+        Collection<BucketUpdate> bucketUpdates = buckets.entrySet().stream()
+                .map(e -> {
+                    val ko = keysWithOffsets.get(e.getKey());
+                    return BucketUpdate.forBucket(e.getValue())
+                                       .withKeyUpdate(new BucketUpdate.KeyUpdate(ko.key, ko.offset, ko.offset, false))
+                                       .build();
+                })
+                .collect(Collectors.toList());
+        iw.updateBuckets(context.segment, bucketUpdates, 0L, 1L, 0, TIMEOUT).join();
+
+        // The first lookup goes to the index and triggers the building of the filter.
+        checkKeyOffsets(hashes, keysWithOffsets, context.index.getBucketOffsets(context.segment, hashes, context.timer).join());
+
+        // Once the filter is built, (most of) the non-existing Key Hashes should not be looked up anymore.
+        AssertExtensions.assertEventuallyEquals("Expected the Key Hash filter to be used.", true,
+                () -> {
+                    int initialCount = context.segment.getAttributeLookupCount();
+                    val result = context.index.getBucketOffsets(context.segment, nonExistingHashes, context.timer).join();
+                    checkKeyOffsets(nonExistingHashes, keysWithOffsets, result);
+                    return context.segment.getAttributeLookupCount() - initialCount < nonExistingHashes.size() / 2;
+                }, 10, TIMEOUT.toMillis());
+
+        // Existing keys must still be found.
+        checkKeyOffsets(hashes, keysWithOffsets, context.index.getBucketOffsets(context.segment, hashes, context.timer).join());
+
+        // Evicting the segment should also discard its filter.
+        context.index.notifyIndexOffsetChanged(context.segment.getSegmentId(), -1L);
+        int initialCount = context.segment.getAttributeLookupCount();
+        val result = context.index.getBucketOffsets(context.segment, nonExistingHashes, context.timer).join();
+        checkKeyOffsets(nonExistingHashes, keysWithOffsets, result);
+        Assert.assertEquals("Expected all Key Hashes to be looked up after eviction.",
+                nonExistingHashes.size(), context.segment.getAttributeLookupCount() - initialCount);
+    }
+
     /**
      * Tests the {@link ContainerKeyIndex#getBucketOffsetDirect} method.
      */
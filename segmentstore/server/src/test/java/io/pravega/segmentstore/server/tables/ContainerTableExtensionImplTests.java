@@ -17,6 +17,7 @@ import io.pravega.common.util.AsyncIterator;
 import io.pravega.common.util.BufferView;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.common.util.HashedArray;
+import io.pravega.common.util.btree.ByteArrayComparator;
 import io.pravega.segmentstore.contracts.AttributeUpdate;
 import io.pravega.segmentstore.contracts.MergeStreamSegmentResult;
 import io.pravega.segmentstore.contracts.ReadResult;
@@ -24,6 +25,7 @@ import io.pravega.segmentstore.contracts.SegmentProperties;
 import io.pravega.segmentstore.contracts.StreamSegmentExistsException;
 import io.pravega.segmentstore.contracts.StreamSegmentNotExistsException;
 import io.pravega.segmentstore.contracts.tables.IteratorItem;
+import io.pravega.segmentstore.contracts.tables.KeyRange;
 import io.pravega.segmentstore.contracts.tables.TableAttributes;
 import io.pravega.segmentstore.contracts.tables.TableEntry;
 import io.pravega.segmentstore.contracts.tables.TableKey;
@@ -51,8 +53,11 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -285,6 +290,66 @@ public class ContainerTableExtensionImplTests extends ThreadPooledTestSuite {
                 (expectedEntries, removedKeys, ext) -> checkIterators(expectedEntries, ext));
     }
 
+    /**
+     * Tests the ability to iterate over ranges of keys or entries in sorted Table Segments.
+     */
+    @Test
+    public void testSortedIterators() throws Exception {
+        final byte[] alphabet = new byte[]{0, 1, 0x7F, (byte) 0x80, (byte) 0xFF}; // Exercise unsigned ordering and prefixes.
+        final int keyCount = 300;
+        @Cleanup
+        val context = new TestContext();
+        context.ext.createSegment(SEGMENT_NAME, true, TIMEOUT).join();
+
+        // Generate and insert the keys in multiple batches.
+        val expectedEntries = new TreeMap<ArrayView, HashedArray>(ByteArrayComparator::compareArbitraryLength);
+        for (int i = 0; i < keyCount; i++) {
+            byte[] key = new byte[1 + context.random.nextInt(4)];
+            for (int j = 0; j < key.length; j++) {
+                key[j] = alphabet[context.random.nextInt(alphabet.length)];
+            }
+
+            expectedEntries.put(new HashedArray(key), createRandomData(MAX_VALUE_LENGTH, context));
+        }
+
+        val toInsert = new ArrayList<TableEntry>();
+        expectedEntries.forEach((k, v) -> toInsert.add(TableEntry.unversioned(k, v)));
+        Collections.shuffle(toInsert, context.random);
+        context.ext.put(SEGMENT_NAME, toInsert.subList(0, toInsert.size() / 2), TIMEOUT).join();
+
+        // Iterate once, which loads the sorted index, then insert the remaining keys and remove some of them.
+        val firstHalf = new TreeMap<ArrayView, HashedArray>(expectedEntries.comparator());
+        toInsert.subList(0, toInsert.size() / 2).forEach(e -> firstHalf.put(e.getKey().getKey(), expectedEntries.get(e.getKey().getKey())));
+        checkSortedIterators(firstHalf, context.ext);
+        context.ext.put(SEGMENT_NAME, toInsert.subList(toInsert.size() / 2, toInsert.size()), TIMEOUT).join();
+        val toRemove = toInsert.stream()
+                               .filter(e -> context.random.nextDouble() < REMOVE_FRACTION)
+                               .map(e -> TableKey.unversioned(e.getKey().getKey()))
+                               .collect(Collectors.toList());
+        context.ext.remove(SEGMENT_NAME, toRemove, TIMEOUT).join();
+        toRemove.forEach(k -> expectedEntries.remove(k.getKey()));
+        checkSortedIterators(expectedEntries, context.ext);
+
+        // Resume an iteration from a serialized state.
+        val firstItem = context.ext.keyIterator(SEGMENT_NAME, KeyRange.ALL, null, TIMEOUT)
+                                   .thenCompose(AsyncIterator::getNext)
+                                   .get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        val firstKey = firstItem.getEntries().iterator().next().getKey();
+        Assert.assertEquals("Unexpected first key.", 0, ByteArrayComparator.compareArbitraryLength(expectedEntries.firstKey(), firstKey));
+        val resumedKeys = collectIteratorItems(context.ext.keyIterator(SEGMENT_NAME, KeyRange.ALL, firstItem.getState().getCopy(), TIMEOUT)
+                                                          .get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        checkSortedKeys("Resumed iterator", expectedEntries.tailMap(firstKey, false), resumedKeys);
+
+        // Range iterators are not supported on non-sorted Table Segments.
+        @Cleanup
+        val unsortedContext = new TestContext();
+        unsortedContext.ext.createSegment(SEGMENT_NAME, TIMEOUT).join();
+        AssertExtensions.assertSuppliedFutureThrows(
+                "keyIterator(KeyRange) worked on a non-sorted segment.",
+                () -> unsortedContext.ext.keyIterator(SEGMENT_NAME, KeyRange.ALL, null, TIMEOUT),
+                ex -> ex instanceof UnsupportedOperationException);
+    }
+
     /**
      * Tests the ability update and access entries when compaction occurs using a {@link KeyHasher} that is not prone
      * to collisions.
@@ -366,6 +431,7 @@ public class ContainerTableExtensionImplTests extends ThreadPooledTestSuite {
             Assert.assertTrue("Unexpected result from WriterTableProcessor.mustFlush().", processor.mustFlush());
             long initialLength = context.segment().getInfo().getLength();
             processor.flush(TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            context.awaitCompactions();
             if (context.segment().getInfo().getLength() > initialLength) {
                 // Need to add an operation so we account for compaction and get it indexed.
                 addToProcessor(initialLength, (int) (context.segment().getInfo().getLength() - initialLength), processor);
@@ -653,6 +719,42 @@ public class ContainerTableExtensionImplTests extends ThreadPooledTestSuite {
         AssertExtensions.assertListEquals("Unexpected Table Keys from keyIterator().", existingKeys, actualKeys, TableKey::equals);
     }
 
+    private void checkSortedIterators(NavigableMap<ArrayView, HashedArray> expectedEntries, ContainerTableExtension ext) throws Exception {
+        val ranges = new ArrayList<KeyRange>();
+        ranges.add(KeyRange.ALL);
+        ranges.add(KeyRange.prefix(new ByteArraySegment(new byte[]{1})));
+        ranges.add(KeyRange.prefix(new ByteArraySegment(new byte[]{(byte) 0xFF})));
+        ranges.add(KeyRange.prefix(new ByteArraySegment(new byte[]{0x7F, (byte) 0xFF})));
+        ranges.add(KeyRange.between(new ByteArraySegment(new byte[]{0, 1}), new ByteArraySegment(new byte[]{(byte) 0x80})));
+        ranges.add(KeyRange.between(null, new ByteArraySegment(new byte[]{1, 0})));
+        ranges.add(KeyRange.between(new ByteArraySegment(new byte[]{(byte) 0x80, 0}), null));
+        ranges.add(KeyRange.between(new ByteArraySegment(new byte[]{1}), new ByteArraySegment(new byte[]{1})));
+        for (val range : ranges) {
+            val expected = new TreeMap<ArrayView, HashedArray>(expectedEntries.comparator());
+            expectedEntries.forEach((k, v) -> {
+                if (range.contains(k)) {
+                    expected.put(k, v);
+                }
+            });
+
+            val actualKeys = collectIteratorItems(ext.keyIterator(SEGMENT_NAME, range, null, TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+            checkSortedKeys("keyIterator(" + range + ")", expected, actualKeys);
+
+            val actualEntries = collectIteratorItems(ext.entryIterator(SEGMENT_NAME, range, null, TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+            checkSortedKeys("entryIterator(" + range + ")", expected, actualEntries.stream().map(TableEntry::getKey).collect(Collectors.toList()));
+            for (val e : actualEntries) {
+                Assert.assertEquals("Unexpected value for entryIterator(" + range + ").",
+                        expected.get(e.getKey().getKey()), new HashedArray(e.getValue()));
+            }
+        }
+    }
+
+    private void checkSortedKeys(String message, SortedMap<ArrayView, HashedArray> expectedEntries, List<TableKey> actualKeys) {
+        AssertExtensions.assertListEquals("Unexpected keys or key order from " + message + ".",
+                new ArrayList<>(expectedEntries.keySet()), actualKeys.stream().map(TableKey::getKey).collect(Collectors.toList()),
+                (expected, actual) -> ByteArrayComparator.compareArbitraryLength(expected, actual) == 0);
+    }
+
     private <T> List<T> collectIteratorItems(AsyncIterator<IteratorItem<T>> iterator) throws Exception {
         val result = new ArrayList<T>();
         val hashes = new HashSet<HashedArray>();
@@ -808,10 +910,15 @@ public class ContainerTableExtensionImplTests extends ThreadPooledTestSuite {
         SegmentMock segment() {
             return this.container.segment.get();
         }
+
+        void awaitCompactions() throws Exception {
+            ((TestTableExtensionImpl) this.ext).awaitCompactions();
+        }
     }
 
     private static class TestTableExtensionImpl extends ContainerTableExtensionImpl {
         private final int maxCompactionSize;
+        private final List<CompletableFuture<Long>> compactions = Collections.synchronizedList(new ArrayList<>());
 
         TestTableExtensionImpl(SegmentContainer segmentContainer, CacheManager cacheManager,
                                KeyHasher hasher, ScheduledExecutorService executor, int maxCompactionSize) {
@@ -823,6 +930,18 @@ public class ContainerTableExtensionImplTests extends ThreadPooledTestSuite {
         protected int getMaxCompactionSize() {
             return this.maxCompactionSize == DEFAULT_COMPACTION_SIZE ? super.getMaxCompactionSize() : this.maxCompactionSize;
         }
+
+        @Override
+        protected void requestCompaction(TableCompactionScheduler.Candidate candidate) {
+            // Execute a single compaction step for every request (instead of scheduling it), so that tests may wait on it.
+            this.compactions.add(candidate.compact());
+        }
+
+        void awaitCompactions() throws Exception {
+            val toWait = new ArrayList<CompletableFuture<Long>>(this.compactions);
+            this.compactions.removeAll(toWait);
+            Futures.allOf(toWait).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        }
     }
 
     private class MockSegmentContainer implements SegmentContainer {
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.UUID;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link KeyHashFilter} class.
+ */
+public class KeyHashFilterTests {
+    private static final int COUNT = 10000;
+
+    /**
+     * Tests the {@link KeyHashFilter#add} and {@link KeyHashFilter#mightContain} methods.
+     */
+    @Test
+    public void testAddMightContain() {
+        val rnd = new Random(0);
+        val f = new KeyHashFilter(COUNT);
+        Assert.assertFalse("Not expecting a new filter to be ready.", f.isReady());
+        val added = new ArrayList<UUID>();
+        for (int i = 0; i < COUNT; i++) {
+            val keyHash = new UUID(rnd.nextLong(), rnd.nextLong());
+            f.add(keyHash);
+            added.add(keyHash);
+        }
+
+        // There must not be any false negatives.
+        for (val keyHash : added) {
+            Assert.assertTrue("Expected an added Key Hash to be reported.", f.mightContain(keyHash));
+        }
+
+        // Some false positives are expected, but not many.
+        int falsePositives = 0;
+        for (int i = 0; i < COUNT; i++) {
+            if (f.mightContain(new UUID(rnd.nextLong(), rnd.nextLong()))) {
+                falsePositives++;
+            }
+        }
+
+        Assert.assertTrue("Too many false positives: " + falsePositives, falsePositives < COUNT / 20);
+        Assert.assertFalse("Not expecting the filter to be saturated.", f.isSaturated());
+
+        f.markReady();
+        Assert.assertTrue("Expected the filter to be ready.", f.isReady());
+    }
+
+    /**
+     * Tests the {@link KeyHashFilter#isSaturated} method and capacity bounds.
+     */
+    @Test
+    public void testCapacity() {
+        Assert.assertEquals(KeyHashFilter.MIN_CAPACITY, new KeyHashFilter(0).getCapacity());
+        Assert.assertEquals(KeyHashFilter.MAX_CAPACITY, new KeyHashFilter(Long.MAX_VALUE).getCapacity());
+
+        val rnd = new Random(0);
+        val f = new KeyHashFilter(0);
+        for (int i = 0; i < KeyHashFilter.MIN_CAPACITY * 4; i++) {
+            f.add(new UUID(rnd.nextLong(), rnd.nextLong()));
+        }
+
+        Assert.assertTrue("Expected the filter to be saturated.", f.isSaturated());
+    }
+}
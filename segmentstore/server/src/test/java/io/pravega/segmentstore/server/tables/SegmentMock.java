@@ -36,6 +36,7 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 import javax.annotation.concurrent.GuardedBy;
@@ -58,6 +59,7 @@ class SegmentMock implements DirectSegmentAccess {
     @GuardedBy("this")
     private final EnhancedByteArrayOutputStream contents = new EnhancedByteArrayOutputStream();
     private final ScheduledExecutorService executor;
+    private final AtomicInteger attributeLookupCount = new AtomicInteger();
 
     SegmentMock(ScheduledExecutorService executor) {
         this(new StreamSegmentMetadata("Mock", 0, 0), executor);
@@ -81,6 +83,13 @@ class SegmentMock implements DirectSegmentAccess {
         }
     }
 
+    /**
+     * Gets the total number of attributes that have been requested via {@link #getAttributes}.
+     */
+    int getAttributeLookupCount() {
+        return this.attributeLookupCount.get();
+    }
+
     @Override
     public CompletableFuture<Long> append(BufferView data, Collection<AttributeUpdate> attributeUpdates, Duration timeout) {
         return CompletableFuture.supplyAsync(() -> {
@@ -130,6 +139,7 @@ class SegmentMock implements DirectSegmentAccess {
 
     @Override
     public CompletableFuture<Map<UUID, Long>> getAttributes(Collection<UUID> attributeIds, boolean cache, Duration timeout) {
+        this.attributeLookupCount.addAndGet(attributeIds.size());
         return CompletableFuture.supplyAsync(() -> {
             synchronized (this) {
                 return attributeIds.stream()
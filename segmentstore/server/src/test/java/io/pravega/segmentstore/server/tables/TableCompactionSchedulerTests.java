@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.segmentstore.server.ManualTimer;
+import io.pravega.test.common.AssertExtensions;
+import io.pravega.test.common.IntentionalException;
+import io.pravega.test.common.ThreadPooledTestSuite;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Cleanup;
+import lombok.Getter;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Unit tests for the {@link TableCompactionScheduler} class.
+ */
+public class TableCompactionSchedulerTests extends ThreadPooledTestSuite {
+    private static final int CONTAINER_ID = 0;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    @Rule
+    public Timeout globalTimeout = new Timeout(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+    @Override
+    protected int getThreadPoolSize() {
+        return 3;
+    }
+
+    /**
+     * Tests that candidates are compacted in decreasing order of their reclaimable bytes.
+     */
+    @Test
+    public void testPriority() throws Exception {
+        @Cleanup
+        val s = new TableCompactionScheduler(CONTAINER_ID, Long.MAX_VALUE / 2, 1, new ManualTimer(), executorService());
+        val order = Collections.synchronizedList(new ArrayList<Long>());
+
+        // Block the scheduler with a long-running compaction while we register the other candidates.
+        val blocker = new TestCandidate(0, 1000, 1000, order);
+        blocker.result = new CompletableFuture<>();
+        s.register(blocker);
+        AssertExtensions.assertEventuallyEquals(1, order::size, TIMEOUT.toMillis());
+
+        s.register(new TestCandidate(1, 100, 100, order));
+        s.register(new TestCandidate(2, 300, 300, order));
+        s.register(new TestCandidate(3, 200, 200, order));
+        s.register(new TestCandidate(4, 0, 0, order)); // Nothing to reclaim; should not be compacted.
+        Assert.assertEquals("Unexpected backlog while blocked.", 3, s.getBacklogCount());
+
+        blocker.result.complete(null);
+        AssertExtensions.assertEventuallyEquals(4L, s::getCompactionCount, TIMEOUT.toMillis());
+        Assert.assertEquals("Unexpected compaction order.", Arrays.asList(0L, 2L, 3L, 1L), new ArrayList<>(order));
+        Assert.assertEquals("Unexpected number of compacted bytes.", 1600, s.getCompactedBytes());
+        AssertExtensions.assertEventuallyEquals(0, s::getBacklogCount, TIMEOUT.toMillis());
+    }
+
+    /**
+     * Tests that compactions are throttled by the I/O budget and that candidates are compacted repeatedly until they
+     * have nothing left to reclaim.
+     */
+    @Test
+    public void testBudget() throws Exception {
+        final int bytesPerSecond = 100;
+        val timer = new ManualTimer();
+        @Cleanup
+        val s = new TableCompactionScheduler(CONTAINER_ID, bytesPerSecond, 10, timer, executorService());
+        val order = Collections.synchronizedList(new ArrayList<Long>());
+
+        // Each compaction overdraws the budget, so the next one must wait for it to be replenished.
+        val c = new TestCandidate(1, 300, 100, order);
+        c.maxCompactionSize = 2 * bytesPerSecond;
+        s.register(c);
+        AssertExtensions.assertEventuallyEquals(1L, s::getCompactionCount, TIMEOUT.toMillis());
+        AssertExtensions.assertEventuallyEquals(1, s::getBacklogCount, TIMEOUT.toMillis());
+        Assert.assertEquals("Not expecting a compaction without available budget.", 1L, s.getCompactionCount());
+
+        // Replenish the budget.
+        timer.setElapsedMillis(1500);
+        AssertExtensions.assertEventuallyEquals(2L, s::getCompactionCount, TIMEOUT.toMillis());
+        timer.setElapsedMillis(3500);
+        AssertExtensions.assertEventuallyEquals(3L, s::getCompactionCount, TIMEOUT.toMillis());
+
+        // Nothing else to reclaim.
+        AssertExtensions.assertEventuallyEquals(0, s::getBacklogCount, TIMEOUT.toMillis());
+        Assert.assertEquals("Unexpected compaction count.", 3, order.size());
+        Assert.assertEquals("Unexpected number of compacted bytes.", 300, s.getCompactedBytes());
+    }
+
+    /**
+     * Tests the {@link TableCompactionScheduler#unregister} method and failed compactions.
+     */
+    @Test
+    public void testUnregister() throws Exception {
+        @Cleanup
+        val s = new TableCompactionScheduler(CONTAINER_ID, Long.MAX_VALUE / 2, 1, new ManualTimer(), executorService());
+        val order = Collections.synchronizedList(new ArrayList<Long>());
+
+        // Unregister while running. This compaction has more to reclaim, but it should not be requeued.
+        val running = new TestCandidate(1, 1000, 100, order);
+        running.result = new CompletableFuture<>();
+        s.register(running);
+        AssertExtensions.assertEventuallyEquals(1, order::size, TIMEOUT.toMillis());
+
+        // Unregister while pending.
+        val pending = new TestCandidate(2, 500, 500, order);
+        s.register(pending);
+        s.unregister(running.getSegmentId());
+        s.unregister(pending.getSegmentId());
+        Assert.assertEquals("Unexpected backlog after unregistering.", 0, s.getBacklogCount());
+
+        // Failed compactions must not be accounted for.
+        running.result.completeExceptionally(new IntentionalException());
+        val next = new TestCandidate(3, 100, 100, order);
+        s.register(next);
+        AssertExtensions.assertEventuallyEquals(1L, s::getCompactionCount, TIMEOUT.toMillis());
+        Assert.assertEquals("Unexpected compaction order.", Arrays.asList(1L, 3L), new ArrayList<>(order));
+        Assert.assertEquals("Unexpected backlog.", 0, s.getBacklogCount());
+    }
+
+    private static class TestCandidate implements TableCompactionScheduler.Candidate {
+        @Getter
+        private final long segmentId;
+        private final AtomicLong reclaimableBytes;
+        private final long step;
+        private final List<Long> order;
+        @Getter
+        private volatile int maxCompactionSize = 1;
+        private volatile CompletableFuture<Void> result = null;
+
+        TestCandidate(long segmentId, long reclaimableBytes, long step, List<Long> order) {
+            this.segmentId = segmentId;
+            this.reclaimableBytes = new AtomicLong(reclaimableBytes);
+            this.step = step;
+            this.order = order;
+        }
+
+        @Override
+        public long getReclaimableBytes() {
+            return this.reclaimableBytes.get();
+        }
+
+        @Override
+        public CompletableFuture<Long> compact() {
+            this.order.add(this.segmentId);
+            val r = this.result == null ? CompletableFuture.<Void>completedFuture(null) : this.result;
+            return r.thenApply(v -> {
+                this.reclaimableBytes.addAndGet(-this.step);
+                return this.step;
+            });
+        }
+    }
+}
@@ -104,6 +104,30 @@ public class TableCompactorTests extends ThreadPooledTestSuite {
         Assert.assertTrue("Unexpected result when Utilization>MinUtilization.", c.compactor.isCompactionRequired(c.segmentMetadata));
     }
 
+    /**
+     * Tests the {@link TableCompactor#getReclaimableBytes} method.
+     */
+    @Test
+    public void testGetReclaimableBytes() {
+        final int compactionReadLength = 100;
+        @Cleanup
+        val c = new TestContext(compactionReadLength);
+        c.segmentMetadata.setLength(200);
+
+        // Compaction not required.
+        setSegmentState(0, 100, 49, 100, 50, c);
+        Assert.assertEquals("Unexpected result when compaction is not required.", 0, c.compactor.getReclaimableBytes(c.segmentMetadata));
+
+        // Compaction required: 51% of the uncompacted 151 bytes are obsolete.
+        setSegmentState(0, 151, 49, 100, 50, c);
+        Assert.assertEquals("Unexpected result when compaction is required.", 77, c.compactor.getReclaimableBytes(c.segmentMetadata));
+
+        // Only the portion after the Segment's Start Offset is taken into account.
+        c.segmentMetadata.setStartOffset(10);
+        setSegmentState(0, 161, 0, 100, 50, c);
+        Assert.assertEquals("Unexpected result when truncated.", 151, c.compactor.getReclaimableBytes(c.segmentMetadata));
+    }
+
     /**
      * Tests the {@link TableCompactor#calculateTruncationOffset} method.
      */
@@ -550,6 +574,11 @@ public class TableCompactorTests extends ThreadPooledTestSuite {
             return this.maxCompactLength;
         }
 
+        @Override
+        public void requestCompaction(TableCompactionScheduler.Candidate candidate) {
+            throw new UnsupportedOperationException("not needed");
+        }
+
         @Override
         public void close() {
             // Nothing to do.
@@ -12,6 +12,7 @@ package io.pravega.segmentstore.server.tables;
 import com.google.common.base.Preconditions;
 import io.pravega.common.ObjectClosedException;
 import io.pravega.common.TimeoutTimer;
+import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.common.util.HashedArray;
 import io.pravega.segmentstore.contracts.AttributeUpdate;
@@ -252,6 +253,7 @@ public class WriterTableProcessorTests extends ThreadPooledTestSuite {
             context.processor.flush(TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
             AssertExtensions.assertGreaterThan("No calls to notifyIndexOffsetChanged().",
                     initialNotifyCount, context.connector.notifyCount.get());
+            context.connector.awaitCompactions();
 
             // Post-flush validation.
             Assert.assertFalse("Unexpected value from mustFlush() after call to flush().", context.processor.mustFlush());
@@ -523,6 +525,7 @@ public class WriterTableProcessorTests extends ThreadPooledTestSuite {
         private class TableWriterConnectorImpl implements TableWriterConnector {
             private final AtomicInteger notifyCount = new AtomicInteger(0);
             private final AtomicBoolean closed = new AtomicBoolean();
+            private final List<CompletableFuture<Long>> compactions = Collections.synchronizedList(new ArrayList<>());
 
             @Override
             public SegmentMetadata getMetadata() {
@@ -556,6 +559,19 @@ public class WriterTableProcessorTests extends ThreadPooledTestSuite {
                 return MAX_COMPACT_LENGTH;
             }
 
+            @Override
+            public void requestCompaction(TableCompactionScheduler.Candidate candidate) {
+                // Execute a single compaction step for every request, so that the outcome is deterministic.
+                Assert.assertEquals("Unexpected Segment Id.", SEGMENT_ID, candidate.getSegmentId());
+                this.compactions.add(candidate.compact());
+            }
+
+            void awaitCompactions() throws Exception {
+                val toWait = new ArrayList<CompletableFuture<Long>>(this.compactions);
+                this.compactions.removeAll(toWait);
+                Futures.allOf(toWait).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            }
+
             @Override
             public void close() {
                 this.closed.set(true);
@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.writer;
+
+import io.pravega.common.concurrent.Futures;
+import io.pravega.test.common.AssertExtensions;
+import io.pravega.test.common.IntentionalException;
+import io.pravega.test.common.ThreadPooledTestSuite;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Unit tests for the {@link FlushBudget} class.
+ */
+public class FlushBudgetTests extends ThreadPooledTestSuite {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    @Rule
+    public Timeout globalTimeout = new Timeout(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+    @Override
+    protected int getThreadPoolSize() {
+        return 3;
+    }
+
+    /**
+     * Tests that no more than the allowed number of tasks run at the same time and that queued tasks are executed in
+     * the order in which they were submitted.
+     */
+    @Test
+    public void testLimit() throws Exception {
+        final int maxInFlight = 2;
+        final int count = 5;
+        val b = new FlushBudget(maxInFlight);
+        val started = Collections.synchronizedList(new ArrayList<Integer>());
+        val tasks = new ArrayList<CompletableFuture<Integer>>();
+        val results = new ArrayList<CompletableFuture<Integer>>();
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+            val task = new CompletableFuture<Integer>();
+            tasks.add(task);
+            results.add(b.run(() -> {
+                started.add(index);
+                return task;
+            }, executorService()));
+        }
+
+        AssertExtensions.assertEventuallyEquals(maxInFlight, started::size, TIMEOUT.toMillis());
+        Assert.assertEquals(maxInFlight, b.getInFlightCount());
+        Assert.assertEquals(count - maxInFlight, b.getQueueSize());
+
+        // Complete tasks out of order; queued tasks must be started in order.
+        tasks.get(1).complete(1);
+        AssertExtensions.assertEventuallyEquals(maxInFlight + 1, started::size, TIMEOUT.toMillis());
+        tasks.get(0).complete(0);
+        AssertExtensions.assertEventuallyEquals(maxInFlight + 2, started::size, TIMEOUT.toMillis());
+        Assert.assertEquals(Arrays.asList(0, 1, 2, 3), new ArrayList<>(started));
+        Assert.assertEquals(maxInFlight, b.getInFlightCount());
+        Assert.assertEquals(1, b.getQueueSize());
+
+        for (int i = 2; i < count; i++) {
+            AssertExtensions.assertEventuallyEquals(i + 1, started::size, TIMEOUT.toMillis());
+            tasks.get(i).complete(i);
+        }
+
+        List<Integer> r = Futures.allOfWithResults(results).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        Assert.assertEquals(Arrays.asList(0, 1, 2, 3, 4), r);
+        AssertExtensions.assertEventuallyEquals(0, b::getInFlightCount, TIMEOUT.toMillis());
+        Assert.assertEquals(0, b.getQueueSize());
+    }
+
+    /**
+     * Tests that failed tasks (whether synchronously or asynchronously) release their slot.
+     */
+    @Test
+    public void testFailures() throws Exception {
+        val b = new FlushBudget(1);
+        val syncFailure = b.<Integer>run(() -> {
+            throw new IntentionalException();
+        }, executorService());
+        val asyncFailure = b.<Integer>run(() -> Futures.failedFuture(new IntentionalException()), executorService());
+        val success = b.run(() -> CompletableFuture.completedFuture(1), executorService());
+
+        AssertExtensions.assertSuppliedFutureThrows("Expected synchronous failure to be propagated.",
+                () -> syncFailure, ex -> ex instanceof IntentionalException);
+        AssertExtensions.assertSuppliedFutureThrows("Expected asynchronous failure to be propagated.",
+                () -> asyncFailure, ex -> ex instanceof IntentionalException);
+        Assert.assertEquals(1, (int) success.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        AssertExtensions.assertEventuallyEquals(0, b::getInFlightCount, TIMEOUT.toMillis());
+    }
+
+    /**
+     * Tests nested budgets, where an outer budget is shared by multiple inner ones.
+     */
+    @Test
+    public void testNested() throws Exception {
+        val shared = new FlushBudget(2);
+        val budgets = Arrays.asList(new FlushBudget(2), new FlushBudget(2));
+        val tasks = new ArrayList<CompletableFuture<Void>>();
+        val results = new ArrayList<CompletableFuture<Void>>();
+        for (val inner : budgets) {
+            for (int i = 0; i < 2; i++) {
+                val task = new CompletableFuture<Void>();
+                tasks.add(task);
+                results.add(inner.run(() -> shared.run(() -> task, executorService()), executorService()));
+            }
+        }
+
+        AssertExtensions.assertEventuallyEquals(2, shared::getInFlightCount, TIMEOUT.toMillis());
+        AssertExtensions.assertEventuallyEquals(2, shared::getQueueSize, TIMEOUT.toMillis());
+        tasks.forEach(t -> t.complete(null));
+        Futures.allOf(results).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        AssertExtensions.assertEventuallyEquals(0, shared::getInFlightCount, TIMEOUT.toMillis());
+        for (val inner : budgets) {
+            AssertExtensions.assertEventuallyEquals(0, inner::getInFlightCount, TIMEOUT.toMillis());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.writer;
+
+import io.pravega.segmentstore.server.ManualTimer;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link SegmentFlushPolicy} class.
+ */
+public class SegmentFlushPolicyTests {
+    private static final String SEGMENT_NAME = "scope/stream/0";
+    private static final int FLUSH_THRESHOLD_BYTES = 1000;
+    private static final long FLUSH_THRESHOLD_MILLIS = 8000;
+    private static final int MAX_FLUSH_SIZE_BYTES = 10000;
+
+    /**
+     * Tests that the configured thresholds are used as-is if adaptive flushing is disabled.
+     */
+    @Test
+    public void testDisabled() {
+        val timer = new ManualTimer();
+        val cacheUtilization = new AtomicReference<Double>(2.0);
+        @Cleanup
+        val p = new SegmentFlushPolicy(SEGMENT_NAME, createConfig(false), timer, cacheUtilization::get);
+        for (int i = 1; i <= 10; i++) {
+            timer.setElapsedMillis(i * 1000);
+            p.recordIngest(MAX_FLUSH_SIZE_BYTES);
+        }
+
+        p.recordFlush(MAX_FLUSH_SIZE_BYTES, Duration.ofSeconds(10));
+        Assert.assertEquals(FLUSH_THRESHOLD_BYTES, p.getFlushThresholdBytes());
+        Assert.assertEquals(FLUSH_THRESHOLD_MILLIS, p.getFlushThresholdTime().toMillis());
+    }
+
+    /**
+     * Tests that the thresholds are scaled down as the Cache utilization increases.
+     */
+    @Test
+    public void testCacheUtilization() {
+        val cacheUtilization = new AtomicReference<Double>(0.0);
+        @Cleanup
+        val p = new SegmentFlushPolicy(SEGMENT_NAME, createConfig(true), new ManualTimer(), cacheUtilization::get);
+        Assert.assertEquals(FLUSH_THRESHOLD_BYTES, p.getFlushThresholdBytes());
+        Assert.assertEquals(FLUSH_THRESHOLD_MILLIS, p.getFlushThresholdTime().toMillis());
+
+        cacheUtilization.set(SegmentFlushPolicy.CACHE_UTILIZATION_LOW);
+        Assert.assertEquals(FLUSH_THRESHOLD_BYTES, p.getFlushThresholdBytes());
+        Assert.assertEquals(FLUSH_THRESHOLD_MILLIS, p.getFlushThresholdTime().toMillis());
+
+        // Halfway between the low mark and the target utilization.
+        cacheUtilization.set((SegmentFlushPolicy.CACHE_UTILIZATION_LOW + 1) / 2);
+        double expectedRatio = (1 + SegmentFlushPolicy.MIN_THRESHOLD_RATIO) / 2;
+        Assert.assertEquals((int) (FLUSH_THRESHOLD_BYTES * expectedRatio), p.getFlushThresholdBytes());
+        Assert.assertEquals((long) (FLUSH_THRESHOLD_MILLIS * expectedRatio), p.getFlushThresholdTime().toMillis());
+
+        cacheUtilization.set(1.5);
+        Assert.assertEquals((int) (FLUSH_THRESHOLD_BYTES * SegmentFlushPolicy.MIN_THRESHOLD_RATIO), p.getFlushThresholdBytes());
+        Assert.assertEquals((long) (FLUSH_THRESHOLD_MILLIS * SegmentFlushPolicy.MIN_THRESHOLD_RATIO), p.getFlushThresholdTime().toMillis());
+    }
+
+    /**
+     * Tests that the flush threshold size follows the ingestion rate and the Storage write latency.
+     */
+    @Test
+    public void testIngestRateAndWriteLatency() {
+        final int bytesPerSecond = 5000;
+        val timer = new ManualTimer();
+        @Cleanup
+        val p = new SegmentFlushPolicy(SEGMENT_NAME, createConfig(true), timer, () -> 0.0);
+
+        // Steady ingestion; we expect to flush about one second's worth of data.
+        int seconds = 30;
+        for (int i = 1; i <= seconds; i++) {
+            timer.setElapsedMillis(i * 1000);
+            p.recordIngest(bytesPerSecond);
+        }
+
+        Assert.assertEquals(bytesPerSecond, p.getIngestRate(), bytesPerSecond * 0.01);
+        Assert.assertEquals(bytesPerSecond, p.getFlushThresholdBytes(), bytesPerSecond * 0.01);
+        Assert.assertEquals(FLUSH_THRESHOLD_MILLIS, p.getFlushThresholdTime().toMillis());
+
+        // Slow Storage; we expect larger flushes, but not exceeding the maximum flush size.
+        p.recordFlush(bytesPerSecond, Duration.ofSeconds(2));
+        Assert.assertEquals(MAX_FLUSH_SIZE_BYTES, p.getFlushThresholdBytes());
+
+        // Idle segment; we expect the ingestion rate to decay and the configured threshold to be used.
+        timer.setElapsedMillis((seconds + 60) * 1000);
+        Assert.assertEquals(0, p.getIngestRate(), 1);
+        Assert.assertEquals(FLUSH_THRESHOLD_BYTES, p.getFlushThresholdBytes());
+    }
+
+    private WriterConfig createConfig(boolean adaptiveFlushEnabled) {
+        return WriterConfig
+                .builder()
+                .with(WriterConfig.FLUSH_THRESHOLD_BYTES, FLUSH_THRESHOLD_BYTES)
+                .with(WriterConfig.FLUSH_THRESHOLD_MILLIS, FLUSH_THRESHOLD_MILLIS)
+                .with(WriterConfig.MAX_FLUSH_SIZE_BYTES, MAX_FLUSH_SIZE_BYTES)
+                .with(WriterConfig.ADAPTIVE_FLUSH_ENABLED, adaptiveFlushEnabled)
+                .build();
+    }
+}
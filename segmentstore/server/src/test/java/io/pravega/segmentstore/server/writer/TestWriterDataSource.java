@@ -101,6 +101,7 @@ class TestWriterDataSource implements WriterDataSource, AutoCloseable {
     private BiFunction<Long, Long, CompletableFuture<Boolean>> notifyAttributesPersistedInterceptor;
     @GuardedBy("lock")
     private BiConsumer<Long, Long> completeMergeCallback;
+    private volatile double cacheUtilization;
     private final Object lock = new Object();
 
     //endregion
@@ -423,6 +424,11 @@ class TestWriterDataSource implements WriterDataSource, AutoCloseable {
         return this.metadata.getStreamSegmentMetadata(streamSegmentId);
     }
 
+    @Override
+    public double getCacheUtilization() {
+        return this.cacheUtilization;
+    }
+
     //endregion
 
     //region Other Properties
@@ -433,6 +439,10 @@ class TestWriterDataSource implements WriterDataSource, AutoCloseable {
         }
     }
 
+    void setCacheUtilization(double cacheUtilization) {
+        this.cacheUtilization = cacheUtilization;
+    }
+
     void setSegmentMetadataRequested(Consumer<Long> callback) {
         synchronized (this.lock) {
             this.segmentMetadataRequested = callback;
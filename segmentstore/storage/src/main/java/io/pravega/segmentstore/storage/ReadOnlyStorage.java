@@ -9,6 +9,8 @@
  */
 package io.pravega.segmentstore.storage;
 
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
 import io.pravega.segmentstore.contracts.SegmentProperties;
 
 import java.time.Duration;
@@ -59,6 +61,27 @@ public interface ReadOnlyStorage extends AutoCloseable {
      */
     CompletableFuture<Integer> read(SegmentHandle handle, long offset, byte[] buffer, int bufferOffset, int length, Duration timeout);
 
+    /**
+     * Reads a range of bytes from the StreamSegment into a {@link BufferView}. See {@link SyncStorage#read(SegmentHandle, long, int)}.
+     *
+     * The default implementation allocates a new array and invokes {@link #read(SegmentHandle, long, byte[], int, int, Duration)}.
+     *
+     * @param handle  A SegmentHandle (read-only or read-write) that points to a Segment to read from.
+     * @param offset  The offset in the StreamSegment to read data from.
+     * @param length  The number of bytes to read.
+     * @param timeout Timeout for the operation.
+     * @return A CompletableFuture that, when completed, will contain a {@link BufferView} with the data read. If the
+     * operation failed, it will contain the cause of the failure. Notable exceptions:
+     * <ul>
+     * <li> StreamSegmentNotExistsException: When the given Segment does not exist in Storage.
+     * </ul>
+     */
+    default CompletableFuture<BufferView> read(SegmentHandle handle, long offset, int length, Duration timeout) {
+        byte[] buffer = new byte[length];
+        return read(handle, offset, buffer, 0, length, timeout)
+                .thenApply(bytesRead -> new ByteArraySegment(buffer, 0, bytesRead));
+    }
+
     /**
      * Gets current information about a StreamSegment.
      *
@@ -9,6 +9,8 @@
  */
 package io.pravega.segmentstore.storage;
 
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
 import io.pravega.segmentstore.contracts.BadOffsetException;
 import io.pravega.segmentstore.contracts.SegmentProperties;
 import io.pravega.segmentstore.contracts.StreamSegmentException;
@@ -55,6 +57,25 @@ public interface SyncStorage extends AutoCloseable {
      */
     int read(SegmentHandle handle, long offset, byte[] buffer, int bufferOffset, int length) throws StreamSegmentException;
 
+    /**
+     * Reads a range of bytes from the StreamSegment into a {@link BufferView}.
+     *
+     * Implementations that can do so may return a {@link BufferView} that is not backed by a heap array (for example, a
+     * memory-mapped region of a file), which saves a copy of the data if the caller only needs to transfer it elsewhere.
+     * The default implementation allocates a new array and invokes {@link #read(SegmentHandle, long, byte[], int, int)}.
+     *
+     * @param handle A SegmentHandle (read-only or read-write) that points to a Segment to read from.
+     * @param offset The offset in the StreamSegment to read data from.
+     * @param length The number of bytes to read.
+     * @return A {@link BufferView} containing the data read. There is no guarantee that its length equals 'length'.
+     * @throws StreamSegmentNotExistsException If the Segment does not exist.
+     */
+    default BufferView read(SegmentHandle handle, long offset, int length) throws StreamSegmentException {
+        byte[] buffer = new byte[length];
+        int bytesRead = read(handle, offset, buffer, 0, length);
+        return new ByteArraySegment(buffer, 0, bytesRead);
+    }
+
     /**
      * Gets current information about a StreamSegment.
      *
@@ -34,4 +34,23 @@ final class CacheMetrics {
     static void delete(int size) {
         DYNAMIC_LOGGER.incCounterValue(MetricsNames.CACHE_DELETE_BYTES, size);
     }
+
+    /**
+     * Records a failed attempt at acquiring a Buffer (or updating the available Buffer list) due to contention with
+     * other threads.
+     */
+    static void allocationRetry() {
+        DYNAMIC_LOGGER.incCounterValue(MetricsNames.CACHE_ALLOCATION_RETRIES, 1);
+    }
+
+    /**
+     * Records a Buffer being taken from another stripe's available Buffer list.
+     */
+    static void bufferSteal() {
+        DYNAMIC_LOGGER.incCounterValue(MetricsNames.CACHE_BUFFER_STEALS, 1);
+    }
+
+    static void demote(long size) {
+        DYNAMIC_LOGGER.incCounterValue(MetricsNames.CACHE_DEMOTE_BYTES, size);
+    }
 }
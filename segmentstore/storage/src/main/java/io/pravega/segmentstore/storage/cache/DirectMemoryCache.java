@@ -19,14 +19,15 @@ import io.netty.buffer.UnpooledByteBufAllocator;
 import io.pravega.common.Exceptions;
 import io.pravega.common.util.BufferView;
 import io.pravega.shared.protocol.netty.ByteBufWrapper;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
-import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.NonNull;
 import lombok.val;
@@ -40,8 +41,13 @@ import lombok.val;
  * - The first Block in a Buffer is reserved for metadata, the remaining Blocks are used to store Entry data.
  * - Each Block metadata requires {@link CacheLayout#blockMetadataSize()} bytes and its format is defined by {@link CacheLayout};
  * there are several methods in {@link CacheLayout} that allow manipulating it.
- * - A Buffer is considered full when all its Blocks are used. Non-full Buffers are kept in a FIFO queue; they are addded
- * at the end when they become non-full and taken from the beginning when we need to insert new Entries.
+ * - A Buffer is considered full when all its Blocks are used.
+ * - Buffer allocation is lock-free and striped (see {@link #getNextAvailableBuffer}):
+ * -- Each inserting thread maps to a stripe. Each stripe remembers the last Buffer it used and keeps inserting into it
+ * until it becomes full, so concurrent inserts from different threads tend to use different Buffers.
+ * -- Buffers that become non-full (following a {@link #delete}) are pushed to the deleting thread's stripe; each stripe
+ * is a lock-free (Treiber) stack of Buffer ids. If its own stack is empty, a stripe will take (steal) Buffers from
+ * other stripes before allocating new Buffers.
  * - An Entry may be split across multiple Buffers. It is inserted in the first available Buffer and anything that doesn't
  * fit in it is inserted into the next available buffer(s).
  * - Entries
@@ -91,12 +97,39 @@ public class DirectMemoryCache implements CacheStorage {
      */
     @VisibleForTesting
     static final int MAX_CLEANUP_ATTEMPTS = 5;
+    /**
+     * Value used in {@link #stripeBufferIds} and {@link #nextAvailableBufferIds} to indicate no Buffer.
+     */
+    private static final int NO_BUFFER_ID = -1;
+    /**
+     * Stripe-specific entries in {@link #availableBufferHeads} and {@link #stripeBufferIds} are spaced apart by this
+     * many bytes so that they do not share CPU cache lines (and thus do not cause false sharing between stripes).
+     */
+    private static final int STRIPE_PADDING_BYTES = 128;
+    private static final int HEAD_STRIDE = STRIPE_PADDING_BYTES / Long.BYTES;
+    private static final int STRIPE_BUFFER_STRIDE = STRIPE_PADDING_BYTES / Integer.BYTES;
     private final CacheLayout layout;
     private final DirectMemoryBuffer[] buffers;
-    @GuardedBy("availableBufferIds")
-    private final ArrayDeque<Integer> availableBufferIds;
-    @GuardedBy("availableBufferIds")
-    private final ArrayDeque<Integer> unallocatedBufferIds;
+    private final int stripeMask;
+    /**
+     * The heads of the per-stripe available Buffer stacks. Each head encodes a version stamp (high 32 bits, incremented
+     * with every change to prevent the ABA problem) and the id of the Buffer at the top of the stack (low 32 bits).
+     */
+    private final AtomicLongArray availableBufferHeads;
+    /**
+     * For each Buffer that is in one of the available Buffer stacks, the id of the next Buffer in that stack.
+     */
+    private final AtomicIntegerArray nextAvailableBufferIds;
+    /**
+     * For each Buffer, 1 if it is in one of the available Buffer stacks, 0 otherwise. Prevents a Buffer from being added
+     * to the stacks more than once.
+     */
+    private final AtomicIntegerArray availableBufferFlags;
+    /**
+     * The id of the Buffer each stripe last inserted into.
+     */
+    private final AtomicIntegerArray stripeBufferIds;
+    private final AtomicInteger nextUnallocatedBufferId;
     private final AtomicBoolean closed;
     private final AtomicLong storedBytes;
     private final AtomicReference<Supplier<Boolean>> tryCleanup;
@@ -127,6 +160,21 @@ public class DirectMemoryCache implements CacheStorage {
      */
     @VisibleForTesting
     DirectMemoryCache(@NonNull CacheLayout layout, long maxSizeBytes) {
+        this(layout, maxSizeBytes, null);
+    }
+
+    /**
+     * Creates a new instance of the {@link DirectMemoryCache} class.
+     *
+     * @param layout       The {@link CacheLayout} to use.
+     * @param maxSizeBytes The maximum size (in bytes) of the cache. The actual capacity of the cache may be rounded up
+     *                     to the nearest buffer size alignment, which is a multiple of {@link CacheLayout#bufferSize()}
+     *                     when applied to layout.
+     * @param allocator    The {@link ByteBufAllocator} to allocate the Buffers with. If null, {@link #createAllocator()}
+     *                     will be used.
+     * @throws IllegalArgumentException If maxSizeBytes is less than or equal to 0 or greater than {@link CacheLayout#MAX_TOTAL_SIZE}.
+     */
+    DirectMemoryCache(@NonNull CacheLayout layout, long maxSizeBytes, ByteBufAllocator allocator) {
         Preconditions.checkArgument(maxSizeBytes > 0 && maxSizeBytes <= CacheLayout.MAX_TOTAL_SIZE,
                 "maxSizeBytes must be a positive number less than %s.", CacheLayout.MAX_TOTAL_SIZE);
         maxSizeBytes = adjustMaxSizeIfNeeded(maxSizeBytes, layout);
@@ -136,23 +184,40 @@ public class DirectMemoryCache implements CacheStorage {
         this.storedBytes = new AtomicLong(0);
         this.closed = new AtomicBoolean(false);
         this.buffers = new DirectMemoryBuffer[(int) (maxSizeBytes / this.layout.bufferSize())];
-        this.availableBufferIds = new ArrayDeque<>(this.buffers.length);
-        this.unallocatedBufferIds = new ArrayDeque<>(this.buffers.length);
-        createBuffers();
+        int stripeCount = getStripeCount(this.buffers.length);
+        this.stripeMask = stripeCount - 1;
+        this.availableBufferHeads = new AtomicLongArray(stripeCount * HEAD_STRIDE);
+        this.stripeBufferIds = new AtomicIntegerArray(stripeCount * STRIPE_BUFFER_STRIDE);
+        this.nextAvailableBufferIds = new AtomicIntegerArray(this.buffers.length);
+        this.availableBufferFlags = new AtomicIntegerArray(this.buffers.length);
+        this.nextUnallocatedBufferId = new AtomicInteger(0);
+        for (int i = 0; i < stripeCount; i++) {
+            this.availableBufferHeads.set(i * HEAD_STRIDE, NO_BUFFER_ID & 0xFFFF_FFFFL);
+            this.stripeBufferIds.set(i * STRIPE_BUFFER_STRIDE, NO_BUFFER_ID);
+        }
+
+        createBuffers(allocator == null ? createAllocator() : allocator);
     }
 
     /**
      * Creates all the {@link DirectMemoryBuffer} instances for this {@link DirectMemoryCache} instance.
      */
-    @GuardedBy("availableBufferIds")
-    private void createBuffers() {
-        ByteBufAllocator allocator = createAllocator();
+    private void createBuffers(ByteBufAllocator allocator) {
         for (int i = 0; i < this.buffers.length; i++) {
-            this.unallocatedBufferIds.addLast(i);
             this.buffers[i] = new DirectMemoryBuffer(i, allocator, this.layout);
         }
     }
 
+    /**
+     * Calculates the number of stripes to use: the smallest power of 2 that is at least the number of available processors,
+     * but no more than the number of Buffers (there is no point in having more stripes than Buffers).
+     */
+    private static int getStripeCount(int bufferCount) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int stripeCount = processors <= 1 ? 1 : Integer.highestOneBit(processors - 1) << 1;
+        return Math.max(1, Math.min(stripeCount, Integer.highestOneBit(bufferCount)));
+    }
+
     @VisibleForTesting
     protected ByteBufAllocator createAllocator() {
         return new UnpooledByteBufAllocator(true, true);
@@ -176,11 +241,6 @@ public class DirectMemoryCache implements CacheStorage {
     @Override
     public void close() {
         if (!this.closed.getAndSet(true)) {
-            synchronized (this.availableBufferIds) {
-                this.availableBufferIds.clear();
-                this.unallocatedBufferIds.clear();
-            }
-
             for (DirectMemoryBuffer b : this.buffers) {
                 b.close();
             }
@@ -220,7 +280,8 @@ public class DirectMemoryCache implements CacheStorage {
                 BufferView slice = data.slice(data.getLength() - remainingLength, remainingLength);
                 DirectMemoryBuffer.WriteResult writeResult = buffer.write(slice, lastBlockAddress);
                 if (writeResult == null) {
-                    // Someone else grabbed this buffer and wrote to it before we got a chance. Go back and find another one.
+                    // Someone else grabbed this buffer and filled it before we got a chance. Go back and find another one.
+                    CacheMetrics.allocationRetry();
                     continue;
                 }
 
@@ -300,13 +361,10 @@ public class DirectMemoryCache implements CacheStorage {
             address = result.getPredecessorAddress();
             deletedLength += result.getDeletedLength();
             if (wasFull && b.hasCapacity()) {
-                synchronized (this.availableBufferIds) {
-                    // This block was full before, but it no longer is now. Add it to the pool of available buffer ids
-                    // so we can reuse it if we need to. There is a slim chance that this buffer becomes full in the
-                    // time before we checked above and entering this block, but #getNextAvailableBuffer() can handle
-                    // that situation.
-                    this.availableBufferIds.addLast(b.getId());
-                }
+                // This block was full before, but it no longer is now. Make it available so we can reuse it if we need
+                // to. There is a slim chance that this buffer becomes full in the time before we checked above and
+                // getting here, but #getNextAvailableBuffer() can handle that situation.
+                pushAvailableBuffer(getStripe(), b.getId());
             }
         }
 
@@ -371,30 +429,45 @@ public class DirectMemoryCache implements CacheStorage {
 
     //region Helpers
 
+    /**
+     * Finds a {@link DirectMemoryBuffer} that has capacity for at least one more block. In order, this will try:
+     * 1. The Buffer that the current thread's stripe last used.
+     * 2. A Buffer from the current stripe's available Buffer stack.
+     * 3. A Buffer from any other stripe's available Buffer stack.
+     * 4. A Buffer that has not yet been allocated.
+     * 5. Any Buffer with capacity. Deletions may race with inserts filling up the same Buffer, in which case a non-full
+     * Buffer may not be in any of the stacks. This is a (slow) full scan, but it is only done when the cache is (nearly) full.
+     * If all of the above fail, the cache full callback is invoked and, if it reports that it freed up any space, the
+     * process is repeated (up to {@link #MAX_CLEANUP_ATTEMPTS} times).
+     *
+     * None of these steps acquire any locks. The returned {@link DirectMemoryBuffer} may become full by the time the caller
+     * uses it, which can be detected by {@link DirectMemoryBuffer#write} returning null.
+     *
+     * @return A {@link DirectMemoryBuffer}.
+     * @throws CacheFullException If no {@link DirectMemoryBuffer} with capacity could be found.
+     */
     private DirectMemoryBuffer getNextAvailableBuffer() {
+        final int stripe = getStripe();
         int attempts = 0;
         do {
-            synchronized (this.availableBufferIds) {
-                while (!this.availableBufferIds.isEmpty() || !this.unallocatedBufferIds.isEmpty()) {
-                    while (!this.availableBufferIds.isEmpty()) {
-                        // We found a Buffer that is available.
-                        DirectMemoryBuffer b = this.buffers[this.availableBufferIds.peekFirst()];
-                        if (b.hasCapacity()) {
-                            // Reusing a buffer.
-                            return b;
-                        } else {
-                            // Buffer is actually full. Clean up. We lazily remove buffers from this pool, since we want
-                            // to introduce as little synchronization overhead in the insert() method so we delay this
-                            // as much as we can.
-                            this.availableBufferIds.removeFirst();
-                        }
-                    }
+            int bufferId = this.stripeBufferIds.get(stripe * STRIPE_BUFFER_STRIDE);
+            if (bufferId != NO_BUFFER_ID && this.buffers[bufferId].hasCapacity()) {
+                // Reusing the same buffer as last time.
+                return this.buffers[bufferId];
+            }
 
-                    if (!this.unallocatedBufferIds.isEmpty()) {
-                        // We can't reuse any existing buffers, but there are unallocated ones. Fetch one and use it.
-                        this.availableBufferIds.addLast(this.unallocatedBufferIds.removeFirst());
-                    }
-                }
+            bufferId = pollAvailableBuffer(stripe);
+            if (bufferId == NO_BUFFER_ID) {
+                bufferId = nextUnallocatedBuffer();
+            }
+
+            if (bufferId == NO_BUFFER_ID) {
+                bufferId = findBufferWithCapacity();
+            }
+
+            if (bufferId != NO_BUFFER_ID) {
+                this.stripeBufferIds.set(stripe * STRIPE_BUFFER_STRIDE, bufferId);
+                return this.buffers[bufferId];
             }
 
             // If we get here, there are no available buffers and we have allocated all the buffers we could. Notify
@@ -405,6 +478,96 @@ public class DirectMemoryCache implements CacheStorage {
         throw new CacheFullException(String.format("%s full: %s.", DirectMemoryCache.class.getSimpleName(), getState()));
     }
 
+    /**
+     * Pops Buffers from the available Buffer stacks (beginning with the given stripe's) until one with capacity is found.
+     * Buffers without capacity are discarded (they will be pushed back when they are no longer full).
+     */
+    private int pollAvailableBuffer(int stripe) {
+        for (int i = 0; i <= this.stripeMask; i++) {
+            int s = (stripe + i) & this.stripeMask;
+            int bufferId;
+            while ((bufferId = popAvailableBuffer(s)) != NO_BUFFER_ID) {
+                if (this.buffers[bufferId].hasCapacity()) {
+                    if (s != stripe) {
+                        CacheMetrics.bufferSteal();
+                    }
+
+                    return bufferId;
+                }
+            }
+        }
+
+        return NO_BUFFER_ID;
+    }
+
+    private int nextUnallocatedBuffer() {
+        int bufferId = this.nextUnallocatedBufferId.getAndUpdate(id -> id < this.buffers.length ? id + 1 : id);
+        return bufferId < this.buffers.length ? bufferId : NO_BUFFER_ID;
+    }
+
+    private int findBufferWithCapacity() {
+        for (DirectMemoryBuffer b : this.buffers) {
+            if (b.isAllocated() && b.hasCapacity()) {
+                return b.getId();
+            }
+        }
+
+        return NO_BUFFER_ID;
+    }
+
+    /**
+     * Pushes the given Buffer id onto the given stripe's available Buffer stack, unless it is already in one of the stacks.
+     */
+    private void pushAvailableBuffer(int stripe, int bufferId) {
+        if (!this.availableBufferFlags.compareAndSet(bufferId, 0, 1)) {
+            // Already available.
+            return;
+        }
+
+        int headIndex = stripe * HEAD_STRIDE;
+        while (true) {
+            long head = this.availableBufferHeads.get(headIndex);
+            this.nextAvailableBufferIds.set(bufferId, (int) head);
+            if (this.availableBufferHeads.compareAndSet(headIndex, head, newHead(head, bufferId))) {
+                return;
+            }
+
+            CacheMetrics.allocationRetry();
+        }
+    }
+
+    /**
+     * Pops a Buffer id from the given stripe's available Buffer stack.
+     *
+     * @return The Buffer id, or {@link #NO_BUFFER_ID} if the stack is empty.
+     */
+    private int popAvailableBuffer(int stripe) {
+        int headIndex = stripe * HEAD_STRIDE;
+        while (true) {
+            long head = this.availableBufferHeads.get(headIndex);
+            int bufferId = (int) head;
+            if (bufferId == NO_BUFFER_ID) {
+                return NO_BUFFER_ID;
+            }
+
+            if (this.availableBufferHeads.compareAndSet(headIndex, head, newHead(head, this.nextAvailableBufferIds.get(bufferId)))) {
+                this.availableBufferFlags.set(bufferId, 0);
+                return bufferId;
+            }
+
+            CacheMetrics.allocationRetry();
+        }
+    }
+
+    private long newHead(long currentHead, int bufferId) {
+        long stamp = (currentHead >>> Integer.SIZE) + 1;
+        return (stamp << Integer.SIZE) | (bufferId & 0xFFFF_FFFFL);
+    }
+
+    private int getStripe() {
+        return (int) Thread.currentThread().getId() & this.stripeMask;
+    }
+
     private boolean tryCleanup() {
         val c = this.tryCleanup.get();
         return c != null && c.get();
@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.netty.buffer.AbstractByteBufAllocator;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.internal.PlatformDependent;
+import io.pravega.common.Exceptions;
+import io.pravega.segmentstore.storage.CacheException;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A {@link DirectMemoryCache} whose Buffers are memory-mapped regions of a local file instead of direct memory.
+ *
+ * This uses the same {@link CacheLayout} (and thus the same address format) as {@link DirectMemoryCache}; the only
+ * difference is where the memory for each {@link DirectMemoryBuffer} comes from. Every Buffer maps its own
+ * {@link CacheLayout#bufferSize()}-sized region of the file the first time it is used, so the (sparse) file only grows
+ * as Buffers get allocated. Which pages are actually resident in memory is decided by the OS page cache; any other
+ * page is read back from the local disk when accessed.
+ *
+ * The contents of this cache are not durable: the file is truncated when the first Buffer is allocated and it is deleted
+ * when the cache is closed. All the mapped regions are unmapped when the cache is closed, so no {@link io.pravega.common.util.BufferView}
+ * returned by {@link #get} may be accessed after that.
+ */
+@Slf4j
+@ThreadSafe
+public class MemoryMappedFileCache extends DirectMemoryCache {
+    private final MappedFileAllocator allocator;
+
+    /**
+     * Creates a new instance of the {@link MemoryMappedFileCache} class.
+     *
+     * @param filePath     The path to the file to map. If the file exists, it will be overwritten.
+     * @param maxSizeBytes The maximum size (in bytes) of the cache. The actual capacity of the cache may be rounded up
+     *                     to the nearest buffer size alignment, which is a multiple of {@link CacheLayout.DefaultLayout#bufferSize()}.
+     * @throws IllegalArgumentException If maxSizeBytes is less than or equal to 0 or greater than {@link CacheLayout#MAX_TOTAL_SIZE}.
+     */
+    public MemoryMappedFileCache(@NonNull Path filePath, long maxSizeBytes) {
+        this(new CacheLayout.DefaultLayout(), new MappedFileAllocator(filePath), maxSizeBytes);
+    }
+
+    @VisibleForTesting
+    MemoryMappedFileCache(@NonNull CacheLayout layout, @NonNull MappedFileAllocator allocator, long maxSizeBytes) {
+        super(layout, maxSizeBytes, allocator);
+        this.allocator = allocator;
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        this.allocator.close();
+    }
+
+    //region MappedFileAllocator
+
+    /**
+     * Allocates direct {@link ByteBuf}s by mapping consecutive regions of a file. Each allocated region is never reused
+     * (a {@link DirectMemoryBuffer} only allocates its buffer once and only releases it when it is closed), and they are
+     * all unmapped when this allocator is closed.
+     */
+    @VisibleForTesting
+    static class MappedFileAllocator extends AbstractByteBufAllocator implements AutoCloseable {
+        private final Path filePath;
+        @GuardedBy("this")
+        private FileChannel channel;
+        @GuardedBy("this")
+        private long mappedLength;
+        @GuardedBy("this")
+        private final List<MappedByteBuffer> regions = new ArrayList<>();
+        @GuardedBy("this")
+        private boolean closed;
+
+        MappedFileAllocator(@NonNull Path filePath) {
+            super(true);
+            this.filePath = filePath;
+        }
+
+        /**
+         * Gets a value indicating the number of bytes that have been mapped so far.
+         *
+         * @return The number of mapped bytes.
+         */
+        @VisibleForTesting
+        synchronized long getMappedLength() {
+            return this.mappedLength;
+        }
+
+        /**
+         * Gets a value indicating the number of regions that are currently mapped.
+         *
+         * @return The number of mapped regions.
+         */
+        @VisibleForTesting
+        synchronized int getMappedRegionCount() {
+            return this.regions.size();
+        }
+
+        @Override
+        public void close() {
+            FileChannel channel;
+            List<MappedByteBuffer> regions;
+            synchronized (this) {
+                if (this.closed) {
+                    return;
+                }
+
+                this.closed = true;
+                channel = this.channel;
+                this.channel = null;
+                regions = new ArrayList<>(this.regions);
+                this.regions.clear();
+            }
+
+            // Unmap the regions now, instead of waiting for their MappedByteBuffers to be garbage collected (which may
+            // never happen if there is little heap pressure). This is the same mechanism Netty uses to free direct memory.
+            regions.forEach(PlatformDependent::freeDirectBuffer);
+            try {
+                if (channel != null) {
+                    channel.close();
+                }
+
+                Files.deleteIfExists(this.filePath);
+            } catch (IOException ex) {
+                log.warn("Unable to clean up cache file '{}'.", this.filePath, ex);
+            }
+        }
+
+        @Override
+        public boolean isDirectBufferPooled() {
+            return false;
+        }
+
+        @Override
+        protected ByteBuf newHeapBuffer(int initialCapacity, int maxCapacity) {
+            throw new UnsupportedOperationException("Heap buffers are not supported.");
+        }
+
+        @Override
+        protected synchronized ByteBuf newDirectBuffer(int initialCapacity, int maxCapacity) {
+            Exceptions.checkNotClosed(this.closed, this);
+            try {
+                if (this.channel == null) {
+                    this.channel = FileChannel.open(this.filePath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                            StandardOpenOption.READ, StandardOpenOption.WRITE);
+                }
+
+                MappedByteBuffer region = this.channel.map(FileChannel.MapMode.READ_WRITE, this.mappedLength, maxCapacity);
+                this.mappedLength += maxCapacity;
+                this.regions.add(region);
+                return Unpooled.wrappedBuffer(region).clear();
+            } catch (IOException ex) {
+                throw new CacheException(String.format("Unable to map %d bytes at offset %d from '%s'.",
+                        maxCapacity, this.mappedLength, this.filePath), ex);
+            }
+        }
+    }
+
+    //endregion
+}
@@ -0,0 +1,433 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.common.Exceptions;
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * A {@link CacheStorage} made up of two tiers: a (fast, small) hot tier, such as {@link DirectMemoryCache}, and a (slower,
+ * larger) cold tier, such as {@link MemoryMappedFileCache}.
+ *
+ * All new entries ({@link #insert}, {@link #replace}) are written to the hot tier. When the hot tier becomes full, entries
+ * that have not been recently accessed are demoted (moved) to the cold tier, instead of being evicted. Only if the cold
+ * tier is full as well will the callback registered via {@link #setCacheFullCallback} be invoked (which, normally, will
+ * evict entries from both tiers).
+ *
+ * Since demoting an entry changes its address in the hot and cold tiers, the addresses returned by this class are
+ * logical ones, which are mapped to the physical address of each entry (in the tier where it currently resides). Logical
+ * addresses never change for the lifetime of an entry.
+ *
+ * Since the hot tier memory of an entry is freed (and may be reused) as soon as that entry is demoted, which can happen
+ * at any time, {@link #get} returns a copy of entries in the hot tier, instead of a view of that memory. Entries in the
+ * cold tier are never moved, so {@link #get} returns a view for those.
+ *
+ * Entries to demote are picked using the CLOCK algorithm: every access to an entry ({@link #get}, {@link #append}) marks
+ * it as recently used; a demotion sweep clears that mark on entries that have it and demotes those that do not. This is
+ * the same guarantee the generation-based eviction provides: only entries that have not been accessed recently are moved.
+ */
+@Slf4j
+@ThreadSafe
+public class TieredCacheStorage implements CacheStorage {
+    //region Members
+
+    /**
+     * The number of bytes to (attempt to) demote every time the hot tier reports it is full.
+     */
+    @VisibleForTesting
+    static final int DEMOTION_BATCH_SIZE = 8 * 1024 * 1024;
+    /**
+     * Flag set on the physical addresses of entries stored in the cold tier. {@link CacheLayout.DefaultLayout} only uses
+     * 26 of the 32 address bits, so this will never collide with an actual address.
+     */
+    private static final int COLD_TIER_FLAG = 0x4000_0000;
+    private static final int INITIAL_ENTRY_CAPACITY = 1024;
+    private final CacheStorage hotTier;
+    private final CacheStorage coldTier;
+    private final int demotionBatchSize;
+    /**
+     * Physical addresses, indexed by Logical Address - 1. A value of {@link #NO_ADDRESS} indicates an unused slot.
+     */
+    @GuardedBy("lock")
+    private int[] entries;
+    /**
+     * Modification counters, indexed by Logical Address - 1. Incremented every time an entry is created, replaced,
+     * appended to or deleted, so that a demotion can tell whether its entry changed while it was being copied.
+     */
+    @GuardedBy("lock")
+    private int[] versions;
+    @GuardedBy("lock")
+    private final BitSet recentlyUsed;
+    @GuardedBy("lock")
+    private int[] freeIds;
+    @GuardedBy("lock")
+    private int freeIdCount;
+    @GuardedBy("lock")
+    private int usedIdCount;
+    @GuardedBy("lock")
+    private int clockHand;
+    private final AtomicBoolean closed;
+    private final AtomicReference<Supplier<Boolean>> tryCleanup;
+    private final Object lock = new Object();
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the {@link TieredCacheStorage} class.
+     *
+     * @param hotTier  The {@link CacheStorage} to use as the hot tier.
+     * @param coldTier The {@link CacheStorage} to use as the cold tier. Must have the same block alignment as the hot tier.
+     */
+    public TieredCacheStorage(@NonNull CacheStorage hotTier, @NonNull CacheStorage coldTier) {
+        this(hotTier, coldTier, DEMOTION_BATCH_SIZE);
+    }
+
+    @VisibleForTesting
+    TieredCacheStorage(@NonNull CacheStorage hotTier, @NonNull CacheStorage coldTier, int demotionBatchSize) {
+        Preconditions.checkArgument(hotTier.getBlockAlignment() == coldTier.getBlockAlignment(),
+                "hotTier and coldTier must have the same block alignment.");
+        Preconditions.checkArgument(demotionBatchSize > 0, "demotionBatchSize must be a positive number.");
+        this.hotTier = hotTier;
+        this.coldTier = coldTier;
+        this.demotionBatchSize = demotionBatchSize;
+        this.entries = new int[INITIAL_ENTRY_CAPACITY];
+        this.versions = new int[INITIAL_ENTRY_CAPACITY];
+        this.recentlyUsed = new BitSet(INITIAL_ENTRY_CAPACITY);
+        this.freeIds = new int[INITIAL_ENTRY_CAPACITY];
+        this.closed = new AtomicBoolean(false);
+        this.tryCleanup = new AtomicReference<>(null);
+        this.hotTier.setCacheFullCallback(this::hotTierFullCallback);
+        this.coldTier.setCacheFullCallback(() -> false); // We never want to block on the cold tier (see demote()).
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        if (!this.closed.getAndSet(true)) {
+            this.hotTier.close();
+            this.coldTier.close();
+        }
+    }
+
+    //endregion
+
+    //region CacheStorage Implementation
+
+    @Override
+    public int getBlockAlignment() {
+        return this.hotTier.getBlockAlignment();
+    }
+
+    @Override
+    public int getMaxEntryLength() {
+        return Math.min(this.hotTier.getMaxEntryLength(), this.coldTier.getMaxEntryLength());
+    }
+
+    @Override
+    public int insert(BufferView data) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        int physicalAddress = insertHot(data);
+        synchronized (this.lock) {
+            return newEntry(physicalAddress);
+        }
+    }
+
+    @Override
+    public int replace(int address, BufferView data) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        int newPhysicalAddress = insertHot(data);
+        int oldPhysicalAddress;
+        synchronized (this.lock) {
+            oldPhysicalAddress = getPhysicalAddress(address);
+            if (oldPhysicalAddress == NO_ADDRESS) {
+                // No such entry; act like insert().
+                return newEntry(newPhysicalAddress);
+            }
+
+            this.entries[address - 1] = newPhysicalAddress;
+            this.versions[address - 1]++;
+            this.recentlyUsed.set(address - 1);
+        }
+
+        deletePhysical(oldPhysicalAddress);
+        return address;
+    }
+
+    @Override
+    public int getAppendableLength(int currentLength) {
+        // Both tiers have the same block alignment, so it does not matter which one we ask.
+        return this.hotTier.getAppendableLength(currentLength);
+    }
+
+    @Override
+    public int append(int address, int expectedLength, BufferView data) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        synchronized (this.lock) {
+            // This must be done while holding the lock, otherwise the entry may be demoted while we append to it.
+            int physicalAddress = getPhysicalAddress(address);
+            Preconditions.checkArgument(physicalAddress != NO_ADDRESS, "Invalid address.");
+            this.recentlyUsed.set(address - 1);
+            this.versions[address - 1]++;
+            return isCold(physicalAddress)
+                    ? this.coldTier.append(physicalAddress & ~COLD_TIER_FLAG, expectedLength, data)
+                    : this.hotTier.append(physicalAddress, expectedLength, data);
+        }
+    }
+
+    @Override
+    public void delete(int address) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        int physicalAddress;
+        synchronized (this.lock) {
+            physicalAddress = getPhysicalAddress(address);
+            if (physicalAddress == NO_ADDRESS) {
+                return;
+            }
+
+            releaseEntry(address);
+        }
+
+        deletePhysical(physicalAddress);
+    }
+
+    @Override
+    public BufferView get(int address) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        int physicalAddress;
+        synchronized (this.lock) {
+            physicalAddress = getPhysicalAddress(address);
+            if (physicalAddress == NO_ADDRESS) {
+                return null;
+            }
+
+            this.recentlyUsed.set(address - 1);
+            if (!isCold(physicalAddress)) {
+                // The entry may be demoted (and its memory reused) as soon as we release the lock, so we must copy it.
+                return copy(this.hotTier.get(physicalAddress));
+            }
+        }
+
+        return this.coldTier.get(physicalAddress & ~COLD_TIER_FLAG);
+    }
+
+    @Override
+    public CacheState getState() {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        CacheState hot = this.hotTier.getState();
+        CacheState cold = this.coldTier.getState();
+        return new CacheState(
+                hot.getStoredBytes() + cold.getStoredBytes(),
+                hot.getUsedBytes() + cold.getUsedBytes(),
+                hot.getReservedBytes() + cold.getReservedBytes(),
+                hot.getAllocatedBytes() + cold.getAllocatedBytes(),
+                hot.getMaxBytes() + cold.getMaxBytes());
+    }
+
+    @Override
+    public void setCacheFullCallback(Supplier<Boolean> cacheFullCallback) {
+        this.tryCleanup.set(cacheFullCallback);
+    }
+
+    //endregion
+
+    //region Demotion
+
+    /**
+     * Demotes up to {@link #DEMOTION_BATCH_SIZE} bytes worth of entries that have not been recently used from the hot tier
+     * to the cold tier.
+     *
+     * This is invoked from within the hot tier's {@link CacheStorage#insert} (in the inserting thread), so it must not
+     * call any external code while holding the lock; this is also why the cold tier has no cache-full callback. Each
+     * entry is copied while holding the lock, written to the cold tier without holding it, and only then remapped (if it
+     * has not changed in the meantime).
+     *
+     * @return True if anything was demoted, false otherwise.
+     */
+    @VisibleForTesting
+    boolean demote() {
+        long demotedBytes = 0;
+        int demotedCount = 0;
+        int scannedCount = 0;
+        while (demotedBytes < this.demotionBatchSize) {
+            int id;
+            int physicalAddress;
+            int version;
+            BufferView data;
+            synchronized (this.lock) {
+                if (this.usedIdCount == 0 || scannedCount > 2 * this.usedIdCount) {
+                    // A full sweep clears all recently used marks, so two full sweeps without finishing mean there is
+                    // nothing left to demote.
+                    break;
+                }
+
+                id = this.clockHand;
+                this.clockHand = (this.clockHand + 1) % this.usedIdCount;
+                scannedCount++;
+                physicalAddress = this.entries[id];
+                if (physicalAddress == NO_ADDRESS || isCold(physicalAddress)) {
+                    continue;
+                } else if (this.recentlyUsed.get(id)) {
+                    // Give it a second chance.
+                    this.recentlyUsed.clear(id);
+                    continue;
+                }
+
+                data = copy(this.hotTier.get(physicalAddress));
+                if (data == null) {
+                    continue;
+                }
+
+                version = this.versions[id];
+            }
+
+            int coldAddress;
+            try {
+                coldAddress = this.coldTier.insert(data);
+            } catch (CacheFullException ex) {
+                break;
+            }
+
+            Preconditions.checkState((coldAddress & COLD_TIER_FLAG) == 0, "Cold tier address overlaps with COLD_TIER_FLAG.");
+            boolean remapped;
+            synchronized (this.lock) {
+                remapped = this.entries[id] == physicalAddress && this.versions[id] == version;
+                if (remapped) {
+                    this.entries[id] = coldAddress | COLD_TIER_FLAG;
+                }
+            }
+
+            if (remapped) {
+                this.hotTier.delete(physicalAddress);
+                demotedBytes += data.getLength();
+                demotedCount++;
+            } else {
+                // The entry was modified or deleted while we were copying it. Its owner has already dealt with its hot
+                // tier memory, so all we need to do is discard our copy.
+                this.coldTier.delete(coldAddress);
+            }
+        }
+
+        if (demotedCount > 0) {
+            CacheMetrics.demote(demotedBytes);
+            log.debug("Demoted {} entries ({} bytes) to the cold tier.", demotedCount, demotedBytes);
+        }
+
+        return demotedCount > 0;
+    }
+
+    private boolean hotTierFullCallback() {
+        if (demote()) {
+            return true;
+        }
+
+        // Cold tier is full too (or nothing could be demoted). Ask upstream code to free up some space.
+        val c = this.tryCleanup.get();
+        return c != null && c.get();
+    }
+
+    //endregion
+
+    //region Helpers
+
+    private int insertHot(BufferView data) {
+        int physicalAddress = this.hotTier.insert(data);
+        Preconditions.checkState((physicalAddress & COLD_TIER_FLAG) == 0, "Hot tier address overlaps with COLD_TIER_FLAG.");
+        return physicalAddress;
+    }
+
+    private void deletePhysical(int physicalAddress) {
+        if (isCold(physicalAddress)) {
+            this.coldTier.delete(physicalAddress & ~COLD_TIER_FLAG);
+        } else {
+            this.hotTier.delete(physicalAddress);
+        }
+    }
+
+    private BufferView copy(BufferView data) {
+        return data == null ? null : new ByteArraySegment(data.getCopy());
+    }
+
+    private boolean isCold(int physicalAddress) {
+        return (physicalAddress & COLD_TIER_FLAG) == COLD_TIER_FLAG;
+    }
+
+    @GuardedBy("lock")
+    private int getPhysicalAddress(int address) {
+        return address <= 0 || address > this.usedIdCount ? NO_ADDRESS : this.entries[address - 1];
+    }
+
+    @GuardedBy("lock")
+    private int newEntry(int physicalAddress) {
+        int id;
+        if (this.freeIdCount > 0) {
+            id = this.freeIds[--this.freeIdCount];
+        } else {
+            Preconditions.checkState(this.usedIdCount < Integer.MAX_VALUE - 1, "No more addresses available.");
+            if (this.usedIdCount == this.entries.length) {
+                this.entries = Arrays.copyOf(this.entries, this.entries.length * 2);
+                this.versions = Arrays.copyOf(this.versions, this.versions.length * 2);
+            }
+
+            id = this.usedIdCount++;
+        }
+
+        this.entries[id] = physicalAddress;
+        this.versions[id]++;
+        this.recentlyUsed.set(id);
+        return id + 1;
+    }
+
+    @GuardedBy("lock")
+    private void releaseEntry(int address) {
+        int id = address - 1;
+        this.entries[id] = NO_ADDRESS;
+        this.versions[id]++;
+        this.recentlyUsed.clear(id);
+        if (this.freeIdCount == this.freeIds.length) {
+            this.freeIds = Arrays.copyOf(this.freeIds, this.freeIds.length * 2);
+        }
+
+        this.freeIds[this.freeIdCount++] = id;
+    }
+
+    /**
+     * Gets a value indicating whether the entry with the given address is currently stored in the cold tier.
+     *
+     * @param address The address to query.
+     * @return True if in the cold tier, false otherwise (including if there is no such entry).
+     */
+    @VisibleForTesting
+    boolean isInColdTier(int address) {
+        synchronized (this.lock) {
+            int physicalAddress = getPhysicalAddress(address);
+            return physicalAddress != NO_ADDRESS && isCold(physicalAddress);
+        }
+    }
+
+    //endregion
+}
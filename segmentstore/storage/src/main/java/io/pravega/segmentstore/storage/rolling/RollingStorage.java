@@ -13,6 +13,7 @@ import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
 import io.pravega.common.LoggerHelpers;
 import io.pravega.common.io.BoundedInputStream;
+import io.pravega.common.util.BufferView;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.common.util.CollectionHelpers;
 import io.pravega.segmentstore.contracts.BadOffsetException;
@@ -141,18 +142,7 @@ public class RollingStorage implements SyncStorage {
                     offset, bufferOffset, length, buffer.length));
         }
 
-        if (!h.isSealed() && offset + length > h.length()) {
-            // We have a non-sealed handle (read-only or read-write). It's possible that the SegmentChunks may have been
-            // modified since the last time we refreshed it, and we received a request for a read beyond our last known offset.
-            // This could happen if the Segment was modified using a different handle or a previous write did succeed but was
-            // reported as having failed. Reload the handle before attempting the read so that we have the most up-to-date info.
-            val newHandle = (RollingSegmentHandle) openRead(handle.getSegmentName());
-            h.refresh(newHandle);
-            log.debug("Handle refreshed: {}.", h);
-        }
-
-        Preconditions.checkArgument(offset + length <= h.length(), "Offset %s + length %s is beyond the last offset %s of the segment.",
-                offset, length, h.length());
+        refreshHandleForRead(h, offset, length);
 
         // Read in a loop, from each SegmentChunk, until we can't read anymore.
         // If at any point we encounter a StreamSegmentNotExistsException, fail immediately with StreamSegmentTruncatedException (+inner).
@@ -192,16 +182,47 @@ public class RollingStorage implements SyncStorage {
             LoggerHelpers.traceLeave(log, "read", traceId, handle, offset, bytesRead);
             return bytesRead;
         } catch (StreamSegmentTruncatedException ex) {
-            // It's possible that the Segment has been truncated or deleted altogether using another handle. We need to
-            // refresh the handle and throw the appropriate exception.
-            val newHandle = (RollingSegmentHandle) openRead(handle.getSegmentName());
-            h.refresh(newHandle);
-            if (h.isDeleted()) {
-                log.debug("Segment '{}' has been deleted. Cannot read anymore.", h);
-                throw new StreamSegmentNotExistsException(handle.getSegmentName(), ex);
-            } else {
-                throw ex;
+            throw handleTruncatedRead(h, ex);
+        }
+    }
+
+    @Override
+    public BufferView read(SegmentHandle handle, long offset, int length) throws StreamSegmentException {
+        val h = getHandle(handle);
+        long traceId = LoggerHelpers.traceEnter(log, "read", handle, offset, length);
+        ensureNotDeleted(h);
+        Exceptions.checkArgument(offset >= 0 && length >= 0, "offset",
+                "Offset (%s) and length (%s) must be non-negative.", offset, length);
+        if (length == 0) {
+            return new ByteArraySegment(new byte[0]);
+        }
+
+        refreshHandleForRead(h, offset, length);
+        val chunks = h.chunks();
+        int currentIndex = CollectionHelpers.binarySearch(chunks, s -> offset < s.getStartOffset() ? -1 : (offset >= s.getLastOffset() ? 1 : 0));
+        assert currentIndex >= 0 : "unable to locate first SegmentChunk index.";
+        SegmentChunk current = chunks.get(currentIndex);
+        long readOffset = offset - current.getStartOffset();
+        if (readOffset + length > current.getLength()) {
+            // This read spans multiple SegmentChunks. We need to assemble the result into a single buffer anyway.
+            return SyncStorage.super.read(handle, offset, length);
+        }
+
+        // The whole range is in a single SegmentChunk; let the base Storage decide what kind of buffer to return.
+        try {
+            checkTruncatedSegment(null, h, current);
+            try {
+                val sh = this.baseStorage.openRead(current.getName());
+                BufferView result = this.baseStorage.read(sh, readOffset, length);
+                LoggerHelpers.traceLeave(log, "read", traceId, handle, offset, result.getLength());
+                return result;
+            } catch (StreamSegmentNotExistsException ex) {
+                log.debug("SegmentChunk '{}' does not exist anymore ({}).", current, h);
+                checkTruncatedSegment(ex, h, current);
+                throw ex; // checkTruncatedSegment will always throw in this case.
             }
+        } catch (StreamSegmentTruncatedException ex) {
+            throw handleTruncatedRead(h, ex);
         }
     }
 
@@ -799,6 +820,34 @@ public class RollingStorage implements SyncStorage {
         }
     }
 
+    private void refreshHandleForRead(RollingSegmentHandle h, long offset, int length) throws StreamSegmentException {
+        if (!h.isSealed() && offset + length > h.length()) {
+            // We have a non-sealed handle (read-only or read-write). It's possible that the SegmentChunks may have been
+            // modified since the last time we refreshed it, and we received a request for a read beyond our last known offset.
+            // This could happen if the Segment was modified using a different handle or a previous write did succeed but was
+            // reported as having failed. Reload the handle before attempting the read so that we have the most up-to-date info.
+            val newHandle = (RollingSegmentHandle) openRead(h.getSegmentName());
+            h.refresh(newHandle);
+            log.debug("Handle refreshed: {}.", h);
+        }
+
+        Preconditions.checkArgument(offset + length <= h.length(), "Offset %s + length %s is beyond the last offset %s of the segment.",
+                offset, length, h.length());
+    }
+
+    private StreamSegmentException handleTruncatedRead(RollingSegmentHandle h, StreamSegmentTruncatedException ex) throws StreamSegmentException {
+        // It's possible that the Segment has been truncated or deleted altogether using another handle. We need to
+        // refresh the handle and return the appropriate exception.
+        val newHandle = (RollingSegmentHandle) openRead(h.getSegmentName());
+        h.refresh(newHandle);
+        if (h.isDeleted()) {
+            log.debug("Segment '{}' has been deleted. Cannot read anymore.", h);
+            return new StreamSegmentNotExistsException(h.getSegmentName(), ex);
+        } else {
+            return ex;
+        }
+    }
+
     private RollingSegmentHandle getHandle(SegmentHandle handle) {
         Preconditions.checkArgument(handle instanceof RollingSegmentHandle, "handle must be of type RollingSegmentHandle.");
         return (RollingSegmentHandle) handle;
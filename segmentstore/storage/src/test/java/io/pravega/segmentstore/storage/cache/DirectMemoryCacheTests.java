@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.Cleanup;
@@ -225,6 +226,81 @@ public class DirectMemoryCacheTests {
         checkData(c, contents, data);
     }
 
+    /**
+     * Tests concurrent inserts and deletes from multiple threads. Verifies that no data is lost or corrupted and that the
+     * (lock-free) buffer allocation allows the cache to be filled to capacity.
+     */
+    @Test
+    public void testConcurrentOperations() throws Exception {
+        final int threadCount = 8;
+        final int iterationsPerThread = 200;
+        final int maxEntryLength = 3 * LAYOUT.blockSize();
+        @Cleanup
+        val c = new TestCache();
+        val errors = new ConcurrentLinkedQueue<Throwable>();
+        val threads = new ArrayList<Thread>();
+        for (int t = 0; t < threadCount; t++) {
+            final Random threadRnd = new Random(t);
+            threads.add(new Thread(() -> {
+                try {
+                    val entries = new HashMap<Integer, byte[]>();
+                    for (int i = 0; i < iterationsPerThread; i++) {
+                        byte[] data = new byte[threadRnd.nextInt(maxEntryLength)];
+                        threadRnd.nextBytes(data);
+                        entries.put(c.insert(new ByteArraySegment(data)), data);
+                        if (threadRnd.nextBoolean()) {
+                            // Delete an arbitrary entry (but verify its contents first).
+                            int address = entries.keySet().iterator().next();
+                            Assert.assertArrayEquals("Unexpected contents.", entries.remove(address), c.get(address).getCopy());
+                            c.delete(address);
+                        }
+                    }
+
+                    for (val e : entries.entrySet()) {
+                        Assert.assertArrayEquals("Unexpected contents.", e.getValue(), c.get(e.getKey()).getCopy());
+                        c.delete(e.getKey());
+                    }
+                } catch (Throwable ex) {
+                    errors.add(ex);
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        for (Thread t : threads) {
+            t.join();
+        }
+
+        Assert.assertTrue("Unexpected errors: " + errors, errors.isEmpty());
+        checkSnapshot(c, 0L, null, null, null, ACTUAL_MAX_SIZE);
+
+        // Now fill up the cache from all threads, one block per entry. We should be able to use every single block.
+        val insertCount = new AtomicInteger();
+        threads.clear();
+        for (int t = 0; t < threadCount; t++) {
+            threads.add(new Thread(() -> {
+                try {
+                    while (true) {
+                        c.insert(new ByteArraySegment(new byte[1]));
+                        insertCount.incrementAndGet();
+                    }
+                } catch (CacheFullException ex) {
+                    // Expected.
+                } catch (Throwable ex) {
+                    errors.add(ex);
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        for (Thread t : threads) {
+            t.join();
+        }
+
+        Assert.assertTrue("Unexpected errors: " + errors, errors.isEmpty());
+        Assert.assertEquals("Unexpected number of entries inserted.", BUFFER_COUNT * (LAYOUT.blocksPerBuffer() - 1), insertCount.get());
+    }
+
     /**
      * Tests the ability to notify the caller that a cache is full and handle various situations.
      */
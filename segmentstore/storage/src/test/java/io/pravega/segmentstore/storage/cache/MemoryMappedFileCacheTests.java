@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.test.common.AssertExtensions;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Random;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link MemoryMappedFileCache} class.
+ */
+public class MemoryMappedFileCacheTests {
+    private static final CacheLayout LAYOUT = new CacheLayout.DefaultLayout();
+    private static final int BUFFER_COUNT = 4;
+    private static final long MAX_SIZE = (long) BUFFER_COUNT * LAYOUT.bufferSize();
+    private final Random rnd = new Random(0);
+    private File tempDir;
+
+    @Before
+    public void setUp() throws Exception {
+        this.tempDir = Files.createTempDirectory("mmapcache").toFile();
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = this.tempDir.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+
+        this.tempDir.delete();
+    }
+
+    /**
+     * Verifies that Buffers are mapped from the file only when they are first used and that the file is deleted when
+     * the cache is closed.
+     */
+    @Test
+    public void testAllocateClose() {
+        Path filePath = new File(this.tempDir, "cache").toPath();
+        val allocator = new MemoryMappedFileCache.MappedFileAllocator(filePath);
+        val c = new MemoryMappedFileCache(LAYOUT, allocator, MAX_SIZE);
+        Assert.assertEquals("Not expecting anything to be mapped yet.", 0, allocator.getMappedLength());
+        Assert.assertFalse("Not expecting the file to be created yet.", Files.exists(filePath));
+
+        // Fill up the cache, one block at a time.
+        int writeCount = BUFFER_COUNT * (LAYOUT.blocksPerBuffer() - 1);
+        for (int i = 0; i < writeCount; i++) {
+            c.insert(new ByteArraySegment(new byte[1]));
+            int expectedBufferCount = i / (LAYOUT.blocksPerBuffer() - 1) + 1;
+            Assert.assertEquals("Unexpected mapped length.", (long) expectedBufferCount * LAYOUT.bufferSize(), allocator.getMappedLength());
+        }
+
+        Assert.assertTrue("Expected the file to be created.", Files.exists(filePath));
+        Assert.assertEquals("Unexpected allocated bytes.", MAX_SIZE, c.getState().getAllocatedBytes());
+        AssertExtensions.assertThrows("Expecting cache to be full.",
+                () -> c.insert(new ByteArraySegment(new byte[1])),
+                ex -> ex instanceof CacheFullException);
+
+        Assert.assertEquals("Unexpected number of mapped regions.", BUFFER_COUNT, allocator.getMappedRegionCount());
+        c.close();
+        Assert.assertFalse("Expected the file to be deleted.", Files.exists(filePath));
+        Assert.assertEquals("Expected all regions to be unmapped.", 0, allocator.getMappedRegionCount());
+    }
+
+    /**
+     * Tests {@link MemoryMappedFileCache#insert}, {@link MemoryMappedFileCache#append}, {@link MemoryMappedFileCache#get}
+     * and {@link MemoryMappedFileCache#delete}.
+     */
+    @Test
+    public void testRegularOperations() {
+        final int entryCount = 50;
+        final byte[] data = new byte[LAYOUT.bufferSize() / 16];
+        rnd.nextBytes(data);
+        val entryData = new HashMap<Integer, Integer>(); // Key=Address, Value=Length (all entries begin at offset 0).
+
+        @Cleanup
+        val c = new MemoryMappedFileCache(new File(this.tempDir, "cache").toPath(), MAX_SIZE);
+        Assert.assertEquals(LAYOUT.blockSize(), c.getBlockAlignment());
+        for (int i = 0; i < entryCount; i++) {
+            int length = rnd.nextInt(data.length - LAYOUT.blockSize());
+            int address = c.insert(new ByteArraySegment(data, 0, length));
+            int appendableLength = c.getAppendableLength(length);
+            int appended = c.append(address, length, new ByteArraySegment(data, length, appendableLength));
+            Assert.assertEquals("Unexpected number of bytes appended.", appendableLength, appended);
+            entryData.put(address, length + appended);
+        }
+
+        // Read everything back, then delete it.
+        for (val e : entryData.entrySet()) {
+            val contents = c.get(e.getKey());
+            Assert.assertEquals("Unexpected length.", (int) e.getValue(), contents.getLength());
+            Assert.assertArrayEquals("Unexpected contents.", new ByteArraySegment(data, 0, e.getValue()).getCopy(), contents.getCopy());
+            c.delete(e.getKey());
+            Assert.assertNull("Not expecting entry to exist after deletion.", c.get(e.getKey()));
+        }
+
+        Assert.assertEquals("Not expecting any stored bytes.", 0, c.getState().getStoredBytes());
+    }
+}
@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.test.common.AssertExtensions;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link TieredCacheStorage} class.
+ */
+public class TieredCacheStorageTests {
+    private static final CacheLayout LAYOUT = new CacheLayout.DefaultLayout();
+    private static final int HOT_BUFFER_COUNT = 2;
+    private static final int COLD_BUFFER_COUNT = 8;
+    private static final int ENTRY_LENGTH = LAYOUT.blockSize() * 4;
+    private static final int DEMOTION_BATCH_SIZE = ENTRY_LENGTH * 8;
+    private final Random rnd = new Random(0);
+
+    /**
+     * Tests {@link TieredCacheStorage#insert}, {@link TieredCacheStorage#append}, {@link TieredCacheStorage#replace},
+     * {@link TieredCacheStorage#get} and {@link TieredCacheStorage#delete} while everything fits in the hot tier.
+     */
+    @Test
+    public void testRegularOperations() {
+        @Cleanup
+        val c = createCache();
+        int address = c.insert(new ByteArraySegment(new byte[0]));
+        Assert.assertNotEquals(CacheStorage.NO_ADDRESS, address);
+        Assert.assertEquals(0, c.get(address).getLength());
+
+        val data = newData(LAYOUT.blockSize() + 1);
+        address = c.replace(address, data.slice(0, 1));
+        int appended = c.append(address, 1, data.slice(1, c.getAppendableLength(1)));
+        Assert.assertEquals("Unexpected number of bytes appended.", LAYOUT.blockSize() - 1, appended);
+        assertEquals(data.slice(0, LAYOUT.blockSize()), c.get(address));
+        Assert.assertFalse(c.isInColdTier(address));
+
+        // Replace with a larger entry.
+        int newAddress = c.replace(address, data);
+        Assert.assertEquals("Expected replace() to preserve the address.", address, newAddress);
+        assertEquals(data, c.get(address));
+        Assert.assertEquals(data.getLength(), c.getState().getStoredBytes());
+
+        c.delete(address);
+        Assert.assertNull("Not expecting entry to exist after deletion.", c.get(address));
+        Assert.assertNull("Not expecting a non-existent entry to exist.", c.get(address + 1));
+        Assert.assertEquals(0, c.getState().getStoredBytes());
+        AssertExtensions.assertThrows("append() accepted a deleted address.",
+                () -> c.append(newAddress, 0, data.slice(0, 1)),
+                ex -> ex instanceof IllegalArgumentException);
+
+        // Deleted addresses should be reused.
+        Assert.assertEquals(address, c.insert(data));
+    }
+
+    /**
+     * Verifies that entries are demoted to the cold tier (instead of the cache becoming full) when the hot tier is full,
+     * and that the least recently used ones are demoted first.
+     */
+    @Test
+    public void testDemotion() {
+        @Cleanup
+        val c = createCache();
+        val cleanupCount = new AtomicInteger();
+        c.setCacheFullCallback(() -> {
+            cleanupCount.incrementAndGet();
+            return false;
+        });
+
+        // Fill up the hot tier, then write the same amount of data again.
+        val entries = new HashMap<Integer, BufferView>();
+        val addresses = new ArrayList<Integer>();
+        int hotCapacity = HOT_BUFFER_COUNT * (LAYOUT.blocksPerBuffer() - 1) * LAYOUT.blockSize() / ENTRY_LENGTH;
+        for (int i = 0; i < 2 * hotCapacity; i++) {
+            val data = newData(ENTRY_LENGTH);
+            int address = c.insert(data);
+            entries.put(address, data);
+            addresses.add(address);
+        }
+
+        Assert.assertEquals("Not expecting the upstream cache full callback to be invoked.", 0, cleanupCount.get());
+        Assert.assertTrue("Expected the least recently used entry to be demoted.", c.isInColdTier(addresses.get(0)));
+        Assert.assertFalse("Not expecting the most recent entry to be demoted.", c.isInColdTier(addresses.get(addresses.size() - 1)));
+        Assert.assertEquals((long) entries.size() * ENTRY_LENGTH, c.getState().getStoredBytes());
+
+        // Verify all the data is still accessible.
+        for (val e : entries.entrySet()) {
+            assertEquals(e.getValue(), c.get(e.getKey()));
+        }
+
+        // Verify we can append to demoted entries.
+        val partialData = newData(1);
+        int address = c.insert(partialData);
+        for (int i = 0; i < 2 * hotCapacity && !c.isInColdTier(address); i++) {
+            c.demote();
+        }
+
+        Assert.assertTrue("Expected the entry to be demoted.", c.isInColdTier(address));
+        val appendData = newData(c.getAppendableLength(1));
+        Assert.assertEquals(appendData.getLength(), c.append(address, 1, appendData));
+        val expected = new byte[1 + appendData.getLength()];
+        partialData.copyTo(ByteBuffer.wrap(expected, 0, 1));
+        appendData.copyTo(ByteBuffer.wrap(expected, 1, appendData.getLength()));
+        assertEquals(new ByteArraySegment(expected), c.get(address));
+    }
+
+    /**
+     * Verifies that data returned by {@link TieredCacheStorage#get} for a hot tier entry is not affected by that entry
+     * being demoted and its hot tier memory being reused.
+     */
+    @Test
+    public void testGetDuringDemotion() {
+        @Cleanup
+        val c = createCache();
+        val data = newData(ENTRY_LENGTH);
+        int address = c.insert(data);
+        val readData = c.get(address);
+        int hotCapacity = HOT_BUFFER_COUNT * (LAYOUT.blocksPerBuffer() - 1) * LAYOUT.blockSize() / ENTRY_LENGTH;
+        for (int i = 0; i < 2 * hotCapacity && !c.isInColdTier(address); i++) {
+            c.demote();
+        }
+
+        Assert.assertTrue("Expected the entry to be demoted.", c.isInColdTier(address));
+
+        // Overwrite all the hot tier memory, including the blocks that used to hold the demoted entry.
+        for (int i = 0; i < hotCapacity; i++) {
+            c.insert(newData(ENTRY_LENGTH));
+        }
+
+        assertEquals(data, readData);
+        assertEquals(data, c.get(address));
+    }
+
+    /**
+     * Verifies that the upstream cache full callback is invoked and that a {@link CacheFullException} is thrown only when
+     * both tiers are full.
+     */
+    @Test
+    public void testCacheFull() {
+        @Cleanup
+        val c = createCache();
+        val cleanupCount = new AtomicInteger();
+        val addresses = new ArrayList<Integer>();
+        c.setCacheFullCallback(() -> {
+            cleanupCount.incrementAndGet();
+            return false;
+        });
+
+        int totalCapacity = (HOT_BUFFER_COUNT + COLD_BUFFER_COUNT) * (LAYOUT.blocksPerBuffer() - 1) * LAYOUT.blockSize() / ENTRY_LENGTH;
+        for (int i = 0; i < totalCapacity; i++) {
+            addresses.add(c.insert(newData(ENTRY_LENGTH)));
+        }
+
+        Assert.assertEquals("Not expecting the upstream cache full callback to be invoked.", 0, cleanupCount.get());
+        AssertExtensions.assertThrows("Expecting cache to be full.",
+                () -> c.insert(newData(ENTRY_LENGTH)),
+                ex -> ex instanceof CacheFullException);
+        Assert.assertEquals("Expected the upstream cache full callback to be invoked.", 1, cleanupCount.get());
+
+        // Simulate an upstream cleanup, which deletes cold entries; we should be able to make progress afterwards.
+        c.setCacheFullCallback(() -> {
+            for (int a : addresses) {
+                if (c.isInColdTier(a)) {
+                    c.delete(a);
+                }
+            }
+
+            return true;
+        });
+
+        val data = newData(ENTRY_LENGTH);
+        int address = c.insert(data);
+        assertEquals(data, c.get(address));
+    }
+
+    private TieredCacheStorage createCache() {
+        return new TieredCacheStorage(
+                new DirectMemoryCache(LAYOUT, (long) HOT_BUFFER_COUNT * LAYOUT.bufferSize()),
+                new DirectMemoryCache(LAYOUT, (long) COLD_BUFFER_COUNT * LAYOUT.bufferSize()),
+                DEMOTION_BATCH_SIZE);
+    }
+
+    private ByteArraySegment newData(int length) {
+        byte[] data = new byte[length];
+        this.rnd.nextBytes(data);
+        return new ByteArraySegment(data);
+    }
+
+    private void assertEquals(BufferView expected, BufferView actual) {
+        Assert.assertNotNull("Expected entry to exist.", actual);
+        Assert.assertEquals("Unexpected length.", expected.getLength(), actual.getLength());
+        Assert.assertArrayEquals("Unexpected contents.", expected.getCopy(), actual.getCopy());
+    }
+}
@@ -95,6 +95,11 @@ public final class MetricsNames {
     public static final String TABLE_SEGMENT_ITERATE_KEYS = PREFIX + "segmentstore.tablesegment.iterate_keys";             // Counter and Per-segment Counter
     public static final String TABLE_SEGMENT_ITERATE_ENTRIES = PREFIX + "segmentstore.tablesegment.iterate_entries";       // Counter and Per-segment Counter
 
+    public static final String TABLE_COMPACTION_BACKLOG_COUNT = PREFIX + "segmentstore.tablesegment.compaction_backlog_count"; // Per-container Gauge
+    public static final String TABLE_COMPACTION_BACKLOG_BYTES = PREFIX + "segmentstore.tablesegment.compaction_backlog_bytes"; // Per-container Gauge
+    public static final String TABLE_COMPACTION_COUNT = PREFIX + "segmentstore.tablesegment.compaction_count";                 // Per-container Counter
+    public static final String TABLE_COMPACTION_BYTES = PREFIX + "segmentstore.tablesegment.compaction_bytes";                 // Per-container Counter
+
     // Storage stats
     public static final String STORAGE_READ_LATENCY = PREFIX + "segmentstore.storage.read_latency_ms";     // Histogram
     public static final String STORAGE_WRITE_LATENCY = PREFIX + "segmentstore.storage.write_latency_ms";   // Histogram
@@ -116,6 +121,9 @@ public final class MetricsNames {
     public static final String CACHE_APPEND_BYTES = PREFIX + "segmentstore.cache.append_bytes";             // Counter
     public static final String CACHE_READ_BYTES = PREFIX + "segmentstore.cache.read_bytes";                 // Counter
     public static final String CACHE_DELETE_BYTES = PREFIX + "segmentstore.cache.delete_bytes";             // Counter
+    public static final String CACHE_DEMOTE_BYTES = PREFIX + "segmentstore.cache.demote_bytes";             // Counter
+    public static final String CACHE_ALLOCATION_RETRIES = PREFIX + "segmentstore.cache.allocation_retries"; // Counter
+    public static final String CACHE_BUFFER_STEALS = PREFIX + "segmentstore.cache.buffer_steals";           // Counter
     public static final String CACHE_STORED_SIZE_BYTES = PREFIX + "segmentstore.cache.stored_size_bytes";   // Gauge
     public static final String CACHE_USED_SIZE_BYTES = PREFIX + "segmentstore.cache.used_size_bytes";       // Gauge
     public static final String CACHE_ALLOC_SIZE_BYTES = PREFIX + "segmentstore.cache.allocated_size_bytes"; // Gauge
@@ -136,6 +144,11 @@ public final class MetricsNames {
     public static final String STORAGE_WRITER_FLUSHED_BYTES = PREFIX + "segmentstore.storagewriter.flushed_bytes";            // Bytes written per iteration. Counter.
     public static final String STORAGE_WRITER_MERGED_BYTES = PREFIX + "segmentstore.storagewriter.merged_bytes";              // Bytes merged per iteration. Counter.
     public static final String STORAGE_WRITER_FLUSHED_ATTRIBUTES = PREFIX + "segmentstore.storagewriter.flushed_attributes";  // Attributes flushed per iteration. Counter.
+    public static final String STORAGE_WRITER_FLUSH_QUEUE_SIZE = PREFIX + "segmentstore.storagewriter.flush_queue_size";                       // Segments waiting to be flushed. Per-container Histogram.
+    public static final String STORAGE_WRITER_SEGMENT_FLUSH_LATENCY = PREFIX + "segmentstore.storagewriter.segment_flush_latency_ms";          // Time to flush a Segment. Per-container Histogram.
+    public static final String STORAGE_WRITER_SEGMENT_FLUSH_COUNT = PREFIX + "segmentstore.storagewriter.segment_flush_count";                 // Per-segment Counter
+    public static final String STORAGE_WRITER_SEGMENT_FLUSHED_BYTES = PREFIX + "segmentstore.storagewriter.segment_flushed_bytes";             // Per-segment Counter
+    public static final String STORAGE_WRITER_SEGMENT_FLUSH_THRESHOLD = PREFIX + "segmentstore.storagewriter.segment_flush_threshold_bytes";   // Per-segment Gauge
 
     // Segment container metrics
     public static final String CONTAINER_APPEND_COUNT = PREFIX + "segmentstore.container.append_count";                          // Per-container Event Counter
@@ -150,6 +163,7 @@ public final class MetricsNames {
     public static final String CONTAINER_SEAL_COUNT = PREFIX + "segmentstore.container.seal_count";                              // Per-container Event Counter
     public static final String CONTAINER_TRUNCATE_COUNT = PREFIX + "segmentstore.container.truncate_count";                      // Per-container Event Counter
     public static final String CONTAINER_RECOVERY_TIME = PREFIX + "segmentstore.container.recovery_time";                        // Per-container Gauge
+    public static final String CONTAINER_RECOVERY_THROUGHPUT = PREFIX + "segmentstore.container.recovery_throughput_bytes";      // Per-container Gauge
 
     // Operation processor metrics
     public static final String PROCESS_OPERATIONS_LATENCY = PREFIX + "segmentstore.container.process_operations.latency_ms";                 // Per-container Histogram
@@ -30,7 +30,19 @@ public enum ClientMetricKeys {
     /**
      * Metric to track the number of appends which have not been acknowledged by the segment store.
      */
-    CLIENT_OUTSTANDING_APPEND_COUNT("client.segment.outstanding_append_count");
+    CLIENT_OUTSTANDING_APPEND_COUNT("client.segment.outstanding_append_count"),
+    /**
+     * Metric to track the amount of memory held by the read buffers of segment readers.
+     */
+    CLIENT_READ_BUFFER_MEMORY("client.segment.read_buffer_memory"),
+    /**
+     * Metric to track the number of reads which were served from data that had already been read ahead.
+     */
+    CLIENT_READ_AHEAD_HIT_COUNT("client.segment.read_ahead_hit_count"),
+    /**
+     * Metric to track the number of reads which had to wait for data to be fetched from the segment store.
+     */
+    CLIENT_READ_AHEAD_MISS_COUNT("client.segment.read_ahead_miss_count");
 
     @VisibleForTesting
     @Getter
@@ -113,17 +113,24 @@ public class ByteBufWrapper implements BufferView {
     @Override
     public int copyTo(ByteBuffer byteBuffer) {
         Exceptions.checkNotClosed(this.buf.refCnt() == 0, this);
-        ByteBuf buf = this.buf.duplicate();
-        int length = byteBuffer.remaining();
-        if (length > getLength()) {
-            byteBuffer = byteBuffer.duplicate();
-            length = getLength();
-            byteBuffer.limit(length);
-        }
-        buf.readBytes(byteBuffer);
+        int length = Math.min(getLength(), byteBuffer.remaining());
+        ByteBuffer target = byteBuffer.duplicate();
+        target.limit(target.position() + length);
+        this.buf.getBytes(this.buf.readerIndex(), target);
+        byteBuffer.position(byteBuffer.position() + length);
         return length;
     }
 
+    /**
+     * Returns {@link ByteBuf#nioBuffer()} for the underlying buffer. This does not copy the data, unless the underlying
+     * buffer is made of multiple components.
+     */
+    @Override
+    public ByteBuffer asByteBuffer() {
+        Exceptions.checkNotClosed(this.buf.refCnt() == 0, this);
+        return this.buf.nioBuffer();
+    }
+
     @Override
     public String toString() {
         return this.buf.toString();
@@ -45,6 +45,26 @@ public abstract class DelegatingRequestProcessor implements RequestProcessor {
         getNextRequestProcessor().readSegment(readSegment);
     }
 
+    @Override
+    public void readSegments(WireCommands.ReadSegments readSegments) {
+        getNextRequestProcessor().readSegments(readSegments);
+    }
+
+    @Override
+    public void subscribeSegment(WireCommands.SubscribeSegment subscribeSegment) {
+        getNextRequestProcessor().subscribeSegment(subscribeSegment);
+    }
+
+    @Override
+    public void updateSegmentSubscription(WireCommands.UpdateSegmentSubscription updateSegmentSubscription) {
+        getNextRequestProcessor().updateSegmentSubscription(updateSegmentSubscription);
+    }
+
+    @Override
+    public void unsubscribeSegment(WireCommands.UnsubscribeSegment unsubscribeSegment) {
+        getNextRequestProcessor().unsubscribeSegment(unsubscribeSegment);
+    }
+
     @Override
     public void updateSegmentAttribute(UpdateSegmentAttribute updateSegmentAttribute) {
         getNextRequestProcessor().updateSegmentAttribute(updateSegmentAttribute);
@@ -140,4 +160,14 @@ public abstract class DelegatingRequestProcessor implements RequestProcessor {
         getNextRequestProcessor().readTableEntries(readTableEntries);
     }
 
+    @Override
+    public void readTableKeyRange(WireCommands.ReadTableKeyRange readTableKeyRange) {
+        getNextRequestProcessor().readTableKeyRange(readTableKeyRange);
+    }
+
+    @Override
+    public void readTableEntryRange(WireCommands.ReadTableEntryRange readTableEntryRange) {
+        getNextRequestProcessor().readTableEntryRange(readTableEntryRange);
+    }
+
 }
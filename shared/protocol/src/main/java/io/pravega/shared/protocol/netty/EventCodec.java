@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.shared.protocol.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import static io.pravega.shared.protocol.netty.WireCommands.TYPE_PLUS_LENGTH_SIZE;
+
+/**
+ * Codecs that may be used to compress Events.
+ *
+ * A compressed Event is framed as a {@link WireCommandType#COMPRESSED_EVENT} (instead of a {@link WireCommandType#EVENT})
+ * whose payload is made up of the codec id (1 byte), the length of the uncompressed data (4 bytes) and the compressed
+ * data. Compressed Events are appended to Segments as such, so they take up less space on the network as well as in
+ * Tier 1 and Tier 2, and are decompressed by readers. Events that do not benefit from compression are framed as regular
+ * Events, so a Segment may contain a mix of both.
+ *
+ * The codec used by a writer is negotiated using {@link WireCommands.SetupAppend} and {@link WireCommands.AppendSetup}.
+ */
+@RequiredArgsConstructor
+public enum EventCodec {
+    /**
+     * Events are not compressed.
+     */
+    NONE((byte) 0),
+    /**
+     * Events are compressed using DEFLATE (java.util.zip), tuned for speed.
+     */
+    DEFLATE((byte) 1);
+
+    private static final int HEADER_LENGTH = Byte.BYTES + Integer.BYTES;
+    /**
+     * Events shorter than this are not worth compressing.
+     */
+    private static final int MIN_COMPRESSIBLE_LENGTH = 64;
+
+    @Getter
+    private final byte id;
+
+    /**
+     * Gets the EventCodec with the given id.
+     *
+     * @param id The id.
+     * @return The EventCodec, or null if there is no EventCodec with the given id (it may have been introduced in a
+     * later version).
+     */
+    public static EventCodec fromId(byte id) {
+        for (EventCodec codec : values()) {
+            if (codec.id == id) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Compresses the given Events using this codec. Events that would not be made smaller by compression are left as-is.
+     *
+     * @param events A ByteBuf containing one or more Events, each framed as a {@link WireCommandType#EVENT}. This ByteBuf
+     *               is not modified.
+     * @return A ByteBuf containing the same Events, each framed as a {@link WireCommandType#EVENT} or a
+     * {@link WireCommandType#COMPRESSED_EVENT}. If this codec is {@link #NONE}, the given ByteBuf is returned.
+     * @throws InvalidMessageException If the given ByteBuf does not contain a sequence of Events.
+     */
+    public ByteBuf compressEvents(ByteBuf events) {
+        if (this == NONE) {
+            return events;
+        }
+
+        ByteBuf source = events.slice();
+        ByteBuf result = Unpooled.buffer(source.readableBytes());
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            while (source.isReadable()) {
+                if (source.readableBytes() < TYPE_PLUS_LENGTH_SIZE) {
+                    throw new InvalidMessageException("Partial Event header found while compressing.");
+                }
+                int type = source.readInt();
+                int length = source.readInt();
+                if (type != WireCommandType.EVENT.getCode() || length < 0 || length > source.readableBytes()) {
+                    throw new InvalidMessageException("Invalid Event found while compressing. Type: " + type + ", Length: " + length);
+                }
+
+                byte[] data = new byte[length];
+                source.readBytes(data);
+                byte[] compressed = length < MIN_COMPRESSIBLE_LENGTH ? null : compress(data, deflater);
+                if (compressed == null) {
+                    result.writeInt(WireCommandType.EVENT.getCode());
+                    result.writeInt(length);
+                    result.writeBytes(data);
+                } else {
+                    result.writeInt(WireCommandType.COMPRESSED_EVENT.getCode());
+                    result.writeInt(compressed.length);
+                    result.writeBytes(compressed);
+                }
+            }
+        } finally {
+            deflater.end();
+        }
+        return result;
+    }
+
+    /**
+     * Decompresses the payload of a {@link WireCommandType#COMPRESSED_EVENT}.
+     *
+     * @param payload The payload (excluding the type and length).
+     * @return A ByteBuffer containing the uncompressed Event data.
+     * @throws InvalidMessageException If the payload is corrupt or uses an unknown codec.
+     */
+    public static ByteBuffer decompressEvent(ByteBuffer payload) {
+        if (payload.remaining() < HEADER_LENGTH) {
+            throw new InvalidMessageException("Compressed Event is too short: " + payload.remaining());
+        }
+        ByteBuffer source = payload.duplicate();
+        byte id = source.get();
+        EventCodec codec = fromId(id);
+        if (codec != DEFLATE) {
+            throw new InvalidMessageException("Unsupported Event codec: " + id);
+        }
+        int uncompressedLength = source.getInt();
+        if (uncompressedLength < 0 || uncompressedLength > WireCommands.MAX_WIRECOMMAND_SIZE) {
+            throw new InvalidMessageException("Invalid uncompressed Event length: " + uncompressedLength);
+        }
+
+        byte[] result = new byte[uncompressedLength];
+        int resultLength = 0;
+        boolean finished;
+        Inflater inflater = new Inflater();
+        try {
+            if (source.hasArray()) {
+                inflater.setInput(source.array(), source.arrayOffset() + source.position(), source.remaining());
+            } else {
+                byte[] input = new byte[source.remaining()];
+                source.get(input);
+                inflater.setInput(input);
+            }
+            while (!inflater.finished()) {
+                int count = inflater.inflate(result, resultLength, result.length - resultLength);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary() || resultLength == result.length)) {
+                    // Either truncated or decompresses to more than expected; both are checked for below.
+                    break;
+                }
+                resultLength += count;
+            }
+            finished = inflater.finished();
+        } catch (DataFormatException ex) {
+            throw new InvalidMessageException(ex);
+        } finally {
+            inflater.end();
+        }
+
+        if (!finished || resultLength != uncompressedLength) {
+            throw new InvalidMessageException("Expected " + uncompressedLength + " decompressed bytes, found " + resultLength);
+        }
+        return ByteBuffer.wrap(result);
+    }
+
+    /**
+     * Compresses the given data, including the codec id and uncompressed length.
+     *
+     * @return The compressed data, or null if it would not be smaller than the original.
+     */
+    private byte[] compress(byte[] data, Deflater deflater) {
+        deflater.reset();
+        deflater.setInput(data);
+        deflater.finish();
+        byte[] buffer = new byte[data.length - 1];
+        ByteBuffer.wrap(buffer).put(this.id).putInt(data.length);
+        int length = HEADER_LENGTH;
+        while (!deflater.finished() && length < buffer.length) {
+            length += deflater.deflate(buffer, length, buffer.length - length);
+        }
+        if (!deflater.finished()) {
+            // Incompressible data.
+            return null;
+        }
+
+        byte[] result = new byte[length];
+        System.arraycopy(buffer, 0, result, 0, length);
+        return result;
+    }
+}
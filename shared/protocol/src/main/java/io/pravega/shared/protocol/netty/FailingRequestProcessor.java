@@ -48,6 +48,26 @@ public class FailingRequestProcessor implements RequestProcessor {
     public void readSegment(ReadSegment readSegment) {
         throw new IllegalStateException("Unexpected operation");
     }
+
+    @Override
+    public void readSegments(WireCommands.ReadSegments readSegments) {
+        throw new IllegalStateException("Unexpected operation");
+    }
+
+    @Override
+    public void subscribeSegment(WireCommands.SubscribeSegment subscribeSegment) {
+        throw new IllegalStateException("Unexpected operation");
+    }
+
+    @Override
+    public void updateSegmentSubscription(WireCommands.UpdateSegmentSubscription updateSegmentSubscription) {
+        throw new IllegalStateException("Unexpected operation");
+    }
+
+    @Override
+    public void unsubscribeSegment(WireCommands.UnsubscribeSegment unsubscribeSegment) {
+        throw new IllegalStateException("Unexpected operation");
+    }
     
     @Override
     public void updateSegmentAttribute(UpdateSegmentAttribute updateSegmentAttribute) {
@@ -109,6 +129,16 @@ public class FailingRequestProcessor implements RequestProcessor {
         throw new IllegalStateException("Unexpected operation");
     }
 
+    @Override
+    public void readTableKeyRange(WireCommands.ReadTableKeyRange readTableKeyRange) {
+        throw new IllegalStateException("Unexpected operation");
+    }
+
+    @Override
+    public void readTableEntryRange(WireCommands.ReadTableEntryRange readTableEntryRange) {
+        throw new IllegalStateException("Unexpected operation");
+    }
+
     @Override
     public void mergeSegments(WireCommands.MergeSegments mergeSegments) {
         throw new IllegalStateException("Unexpected operation");
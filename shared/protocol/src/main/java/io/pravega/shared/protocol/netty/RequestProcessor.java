@@ -40,6 +40,14 @@ public interface RequestProcessor {
     void append(Append append);
 
     void readSegment(ReadSegment readSegment);
+
+    void readSegments(WireCommands.ReadSegments readSegments);
+
+    void subscribeSegment(WireCommands.SubscribeSegment subscribeSegment);
+
+    void updateSegmentSubscription(WireCommands.UpdateSegmentSubscription updateSegmentSubscription);
+
+    void unsubscribeSegment(WireCommands.UnsubscribeSegment unsubscribeSegment);
     
     void updateSegmentAttribute(UpdateSegmentAttribute updateSegmentAttribute);
     
@@ -78,4 +86,8 @@ public interface RequestProcessor {
     void readTableKeys(WireCommands.ReadTableKeys readTableKeys);
 
     void readTableEntries(WireCommands.ReadTableEntries readTableEntries);
+
+    void readTableKeyRange(WireCommands.ReadTableKeyRange readTableKeyRange);
+
+    void readTableEntryRange(WireCommands.ReadTableEntryRange readTableEntryRange);
 }
@@ -28,6 +28,7 @@ public enum WireCommandType {
     PARTIAL_EVENT(-2, WireCommands.PartialEvent::readFrom),
 
     EVENT(0, null), // Is read manually.
+    COMPRESSED_EVENT(-3, null), // Is read manually. See EventCodec.
 
     SETUP_APPEND(1, WireCommands.SetupAppend::readFrom),
     APPEND_SETUP(2, WireCommands.AppendSetup::readFrom),
@@ -41,6 +42,11 @@ public enum WireCommandType {
 
     READ_SEGMENT(9, WireCommands.ReadSegment::readFrom),
     SEGMENT_READ(10, WireCommands.SegmentRead::readFrom),
+    READ_SEGMENTS(13, WireCommands.ReadSegments::readFrom), // Replied to with one SEGMENT_READ (or error) per segment.
+
+    SUBSCRIBE_SEGMENT(14, WireCommands.SubscribeSegment::readFrom), // Replied to with a SEGMENT_READ per pushed read.
+    UPDATE_SEGMENT_SUBSCRIPTION(15, WireCommands.UpdateSegmentSubscription::readFrom),
+    UNSUBSCRIBE_SEGMENT(16, WireCommands.UnsubscribeSegment::readFrom),
 
     GET_STREAM_SEGMENT_INFO(11, WireCommands.GetStreamSegmentInfo::readFrom),
     STREAM_SEGMENT_INFO(12, WireCommands.StreamSegmentInfo::readFrom),
@@ -103,6 +109,9 @@ public enum WireCommandType {
     READ_TABLE_ENTRIES(85, WireCommands.ReadTableEntries::readFrom),
     TABLE_ENTRIES_READ(86, WireCommands.TableEntriesRead::readFrom),
 
+    READ_TABLE_KEY_RANGE(87, WireCommands.ReadTableKeyRange::readFrom),
+    READ_TABLE_ENTRY_RANGE(88, WireCommands.ReadTableEntryRange::readFrom),
+
     KEEP_ALIVE(100, WireCommands.KeepAlive::readFrom);
 
     private final int code;
@@ -12,8 +12,10 @@ package io.pravega.shared.protocol.netty;
 import com.google.common.base.Preconditions;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.util.ReferenceCounted;
 import io.pravega.shared.segment.ScaleType;
 import java.io.DataInput;
 import java.io.DataOutput;
@@ -30,7 +32,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
 
@@ -52,7 +57,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * Incompatible changes should instead create a new WireCommand object.
  */
 public final class WireCommands {
-    public static final int WIRE_VERSION = 9;
+    public static final int WIRE_VERSION = 13;
     public static final int OLDEST_COMPATIBLE_VERSION = 5;
     public static final int TYPE_SIZE = 4;
     public static final int TYPE_PLUS_LENGTH_SIZE = 8;
@@ -74,6 +79,23 @@ public final class WireCommands {
         return MAPPING.get(value);
     }
 
+    private static void writeBuffer(ByteBuf buffer, DataOutput out) throws IOException {
+        out.writeInt(buffer.readableBytes());
+        if (buffer.readableBytes() != 0) {
+            buffer.getBytes(buffer.readerIndex(), (OutputStream) out, buffer.readableBytes());
+        }
+    }
+
+    private static ByteBuf readBuffer(ByteBufInputStream in, int length) throws IOException {
+        int dataLength = in.readInt();
+        if (dataLength < 0 || dataLength > length) {
+            throw new InvalidMessageException("Was expecting length: " + length + " but found: " + dataLength);
+        }
+        byte[] data = new byte[dataLength];
+        in.readFully(data);
+        return wrappedBuffer(data);
+    }
+
     @FunctionalInterface
     interface Constructor {
         WireCommand readFrom(ByteBufInputStream in, int length) throws IOException;
@@ -497,6 +519,19 @@ public final class WireCommands {
         final String segment;
         @ToString.Exclude
         final String delegationToken;
+        final EventCodec codec; // The codec the writer would like to compress its Events with.
+
+        public SetupAppend(long requestId, UUID writerId, String segment, String delegationToken) {
+            this(requestId, writerId, segment, delegationToken, EventCodec.NONE);
+        }
+
+        public SetupAppend(long requestId, UUID writerId, String segment, String delegationToken, EventCodec codec) {
+            this.requestId = requestId;
+            this.writerId = writerId;
+            this.segment = segment;
+            this.delegationToken = delegationToken;
+            this.codec = codec;
+        }
 
         @Override
         public void process(RequestProcessor cp) {
@@ -510,14 +545,16 @@ public final class WireCommands {
             out.writeLong(writerId.getLeastSignificantBits());
             out.writeUTF(segment);
             out.writeUTF(delegationToken == null ? "" : delegationToken);
+            out.writeByte(codec.getId());
         }
 
-        public static WireCommand readFrom(DataInput in, int length) throws IOException {
+        public static <T extends InputStream & DataInput> WireCommand readFrom(T in, int length) throws IOException {
             long requestId = in.readLong();
             UUID uuid = new UUID(in.readLong(), in.readLong());
             String segment = in.readUTF();
             String delegationToken = in.readUTF();
-            return new SetupAppend(requestId, uuid, segment, delegationToken);
+            EventCodec codec = in.available() > 0 ? EventCodec.fromId(in.readByte()) : EventCodec.NONE;
+            return new SetupAppend(requestId, uuid, segment, delegationToken, codec == null ? EventCodec.NONE : codec);
         }
     }
 
@@ -657,6 +694,19 @@ public final class WireCommands {
         final String segment;
         final UUID writerId;
         final long lastEventNumber;
+        final EventCodec codec; // The codec the writer may compress its Events with (NONE if the server is older).
+
+        public AppendSetup(long requestId, String segment, UUID writerId, long lastEventNumber) {
+            this(requestId, segment, writerId, lastEventNumber, EventCodec.NONE);
+        }
+
+        public AppendSetup(long requestId, String segment, UUID writerId, long lastEventNumber, EventCodec codec) {
+            this.requestId = requestId;
+            this.segment = segment;
+            this.writerId = writerId;
+            this.lastEventNumber = lastEventNumber;
+            this.codec = codec;
+        }
 
         @Override
         public void process(ReplyProcessor cp) {
@@ -670,14 +720,16 @@ public final class WireCommands {
             out.writeLong(writerId.getMostSignificantBits());
             out.writeLong(writerId.getLeastSignificantBits());
             out.writeLong(lastEventNumber);
+            out.writeByte(codec.getId());
         }
 
-        public static WireCommand readFrom(DataInput in, int length) throws IOException {
+        public static <T extends InputStream & DataInput> WireCommand readFrom(T in, int length) throws IOException {
             long requestId = in.readLong();
             String segment = in.readUTF();
             UUID writerId = new UUID(in.readLong(), in.readLong());
             long lastEventNumber = in.readLong();
-            return new AppendSetup(requestId, segment, writerId, lastEventNumber);
+            EventCodec codec = in.available() > 0 ? EventCodec.fromId(in.readByte()) : EventCodec.NONE;
+            return new AppendSetup(requestId, segment, writerId, lastEventNumber, codec == null ? EventCodec.NONE : codec);
         }
     }
 
@@ -792,8 +844,176 @@ public final class WireCommands {
         }
     }
 
+    /**
+     * Requests data from multiple Segments (which must all be owned by the same Segment Store) in a single message.
+     *
+     * Each of the contained {@link ReadSegment}s carries its own offset, suggested length, delegation token and request
+     * id, and is replied to individually, exactly as if it had been sent on its own (i.e., with a {@link SegmentRead} or
+     * an error reply bearing that {@link ReadSegment}'s request id). This command's own request id is only used for
+     * failures that cannot be attributed to any particular {@link ReadSegment}.
+     *
+     * Only sent to servers whose wire version is at least {@link #MIN_VERSION}.
+     */
+    @Data
+    public static final class ReadSegments implements Request, WireCommand {
+        public static final int MIN_VERSION = 10;
+
+        final WireCommandType type = WireCommandType.READ_SEGMENTS;
+        final long requestId;
+        final List<ReadSegment> reads;
+
+        @Override
+        public void process(RequestProcessor cp) {
+            cp.readSegments(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeInt(reads.size());
+            for (ReadSegment read : reads) {
+                out.writeUTF(read.segment);
+                out.writeLong(read.offset);
+                out.writeInt(read.suggestedLength);
+                out.writeUTF(read.delegationToken == null ? "" : read.delegationToken);
+                out.writeLong(read.requestId);
+            }
+        }
+
+        public static WireCommand readFrom(ByteBufInputStream in, int length) throws IOException {
+            long requestId = in.readLong();
+            int numberOfReads = in.readInt();
+            if (numberOfReads < 0 || numberOfReads > length) {
+                throw new InvalidMessageException("Invalid number of reads: " + numberOfReads);
+            }
+            List<ReadSegment> reads = new ArrayList<>(numberOfReads);
+            for (int i = 0; i < numberOfReads; i++) {
+                String segment = in.readUTF();
+                long offset = in.readLong();
+                int suggestedLength = in.readInt();
+                String delegationToken = in.readUTF();
+                long readRequestId = in.readLong();
+                reads.add(new ReadSegment(segment, offset, suggestedLength, delegationToken, readRequestId));
+            }
+            return new ReadSegments(requestId, reads);
+        }
+    }
+
+    /**
+     * Subscribes to a Segment, starting at the given offset. The server replies with a sequence of {@link SegmentRead}s
+     * (all bearing this request's id) which cover the Segment contiguously from that offset onwards; data appended to the
+     * Segment is pushed as soon as it becomes available, without the client having to request it.
+     *
+     * At most windowSize bytes beyond the last offset acknowledged via {@link UpdateSegmentSubscription} (initially, the
+     * subscription's offset) are pushed. The subscription ends when the client sends an {@link UnsubscribeSegment}, when
+     * the connection is closed, or when the server sends an error reply, an empty {@link SegmentRead} or a
+     * {@link SegmentRead} that reaches the end of the Segment.
+     *
+     * Only sent to servers whose wire version is at least {@link #MIN_VERSION}.
+     */
+    @Data
+    public static final class SubscribeSegment implements Request, WireCommand {
+        public static final int MIN_VERSION = 11;
+
+        final WireCommandType type = WireCommandType.SUBSCRIBE_SEGMENT;
+        final long requestId;
+        final String segment;
+        final long offset;
+        final int windowSize;
+        @ToString.Exclude
+        final String delegationToken;
+
+        @Override
+        public void process(RequestProcessor cp) {
+            cp.subscribeSegment(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeUTF(segment);
+            out.writeLong(offset);
+            out.writeInt(windowSize);
+            out.writeUTF(delegationToken == null ? "" : delegationToken);
+        }
+
+        public static WireCommand readFrom(ByteBufInputStream in, int length) throws IOException {
+            long requestId = in.readLong();
+            String segment = in.readUTF();
+            long offset = in.readLong();
+            int windowSize = in.readInt();
+            String delegationToken = in.readUTF();
+            return new SubscribeSegment(requestId, segment, offset, windowSize, delegationToken);
+        }
+    }
+
+    /**
+     * Acknowledges that all the data pushed for a {@link SubscribeSegment} up to the given offset has been consumed,
+     * which allows the server to push more.
+     */
     @Data
-    public static final class SegmentRead implements Reply, WireCommand {
+    public static final class UpdateSegmentSubscription implements Request, WireCommand {
+        final WireCommandType type = WireCommandType.UPDATE_SEGMENT_SUBSCRIPTION;
+        final long requestId;
+        final String segment;
+        final long acknowledgedOffset;
+
+        @Override
+        public void process(RequestProcessor cp) {
+            cp.updateSegmentSubscription(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeUTF(segment);
+            out.writeLong(acknowledgedOffset);
+        }
+
+        public static WireCommand readFrom(ByteBufInputStream in, int length) throws IOException {
+            long requestId = in.readLong();
+            String segment = in.readUTF();
+            long acknowledgedOffset = in.readLong();
+            return new UpdateSegmentSubscription(requestId, segment, acknowledgedOffset);
+        }
+    }
+
+    /**
+     * Ends a {@link SubscribeSegment}. Data that has already been pushed may still arrive after this has been sent.
+     */
+    @Data
+    public static final class UnsubscribeSegment implements Request, WireCommand {
+        final WireCommandType type = WireCommandType.UNSUBSCRIBE_SEGMENT;
+        final long requestId;
+        final String segment;
+
+        @Override
+        public void process(RequestProcessor cp) {
+            cp.unsubscribeSegment(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeUTF(segment);
+        }
+
+        public static WireCommand readFrom(ByteBufInputStream in, int length) throws IOException {
+            long requestId = in.readLong();
+            String segment = in.readUTF();
+            return new UnsubscribeSegment(requestId, segment);
+        }
+    }
+
+    /**
+     * Reply to a {@link ReadSegment} request.
+     *
+     * This command may optionally be backed by a reference-counted {@link ByteBuf} (which holds its {@link #getData()}).
+     * Netty releases such commands once they have been encoded (or if they could not be written out), at which point
+     * the backing {@link ByteBuf} is released as well.
+     */
+    @Data
+    public static final class SegmentRead implements Reply, WireCommand, ReferenceCounted {
         final WireCommandType type = WireCommandType.SEGMENT_READ;
         final String segment;
         final long offset;
@@ -801,6 +1021,39 @@ public final class WireCommands {
         final boolean endOfSegment;
         final ByteBuffer data;
         final long requestId;
+        @Getter(AccessLevel.NONE)
+        @EqualsAndHashCode.Exclude
+        @ToString.Exclude
+        final ByteBuf buffer;
+
+        public SegmentRead(String segment, long offset, boolean atTail, boolean endOfSegment, ByteBuffer data, long requestId) {
+            this(segment, offset, atTail, endOfSegment, data, requestId, null);
+        }
+
+        /**
+         * Creates a new SegmentRead whose data is held in the given {@link ByteBuf}. This instance takes ownership of
+         * the {@link ByteBuf} and will release it when it is itself released.
+         *
+         * @param segment      The name of the Segment that was read.
+         * @param offset       The offset at which the data begins.
+         * @param atTail       Whether the read reached the tail of the Segment.
+         * @param endOfSegment Whether the read reached the end of a sealed Segment.
+         * @param buffer       A {@link ByteBuf} containing the data that was read.
+         * @param requestId    The request id.
+         */
+        public SegmentRead(String segment, long offset, boolean atTail, boolean endOfSegment, ByteBuf buffer, long requestId) {
+            this(segment, offset, atTail, endOfSegment, buffer.nioBuffer(), requestId, buffer);
+        }
+
+        private SegmentRead(String segment, long offset, boolean atTail, boolean endOfSegment, ByteBuffer data, long requestId, ByteBuf buffer) {
+            this.segment = segment;
+            this.offset = offset;
+            this.atTail = atTail;
+            this.endOfSegment = endOfSegment;
+            this.data = data;
+            this.requestId = requestId;
+            this.buffer = buffer;
+        }
 
         @Override
         public void process(ReplyProcessor cp) {
@@ -815,7 +1068,14 @@ public final class WireCommands {
             out.writeBoolean(endOfSegment);
             int dataLength = data.remaining();
             out.writeInt(dataLength);
-            out.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+            if (data.hasArray()) {
+                out.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+            } else if (out instanceof ByteBufOutputStream) {
+                // Direct (or memory-mapped) data can be copied straight into the target buffer, bypassing the heap.
+                ((ByteBufOutputStream) out).buffer().writeBytes(data.duplicate());
+            } else {
+                wrappedBuffer(data).getBytes(0, (OutputStream) out, dataLength);
+            }
             out.writeLong(requestId);
         }
 
@@ -838,6 +1098,53 @@ public final class WireCommands {
         public long getRequestId() {
             return requestId;
         }
+
+        @Override
+        public int refCnt() {
+            return buffer == null ? 1 : buffer.refCnt();
+        }
+
+        @Override
+        public SegmentRead retain() {
+            if (buffer != null) {
+                buffer.retain();
+            }
+            return this;
+        }
+
+        @Override
+        public SegmentRead retain(int increment) {
+            if (buffer != null) {
+                buffer.retain(increment);
+            }
+            return this;
+        }
+
+        @Override
+        public SegmentRead touch() {
+            if (buffer != null) {
+                buffer.touch();
+            }
+            return this;
+        }
+
+        @Override
+        public SegmentRead touch(Object hint) {
+            if (buffer != null) {
+                buffer.touch(hint);
+            }
+            return this;
+        }
+
+        @Override
+        public boolean release() {
+            return buffer != null && buffer.release();
+        }
+
+        @Override
+        public boolean release(int decrement) {
+            return buffer != null && buffer.release(decrement);
+        }
     }
 
     @Data
@@ -1078,6 +1385,7 @@ public final class WireCommands {
         final WireCommandType type = WireCommandType.CREATE_TABLE_SEGMENT;
         final long requestId;
         final String segment;
+        final boolean sorted; // if set, the table segment supports ReadTableKeyRange and ReadTableEntryRange.
         @ToString.Exclude
         final String delegationToken;
 
@@ -1091,14 +1399,16 @@ public final class WireCommands {
             out.writeLong(requestId);
             out.writeUTF(segment);
             out.writeUTF(delegationToken == null ? "" : delegationToken);
+            out.writeBoolean(sorted);
         }
 
-        public static WireCommand readFrom(DataInput in, int length) throws IOException {
+        public static <T extends InputStream & DataInput> WireCommand readFrom(T in, int length) throws IOException {
             long requestId = in.readLong();
             String segment = in.readUTF();
             String delegationToken = in.readUTF();
+            boolean sorted = in.available() > 0 && in.readBoolean();
 
-            return new CreateTableSegment(requestId, segment, delegationToken);
+            return new CreateTableSegment(requestId, segment, sorted, delegationToken);
         }
     }
 
@@ -1935,6 +2245,106 @@ public final class WireCommands {
         }
     }
 
+    /**
+     * Requests the keys of a sorted table segment (see {@link CreateTableSegment#sorted}) that are greater than or equal
+     * to fromKey and smaller than toKey, in ascending order (comparing keys bytewise, as unsigned values). An empty
+     * toKey means the range is not bounded above. The reply is a {@link TableKeysRead}, whose continuation token can be
+     * passed in a subsequent request (with the same range) to resume from where it left off.
+     *
+     * Only sent to servers whose wire version is at least {@link #MIN_VERSION}.
+     */
+    @Data
+    public static final class ReadTableKeyRange implements Request, WireCommand {
+        public static final int MIN_VERSION = 12;
+
+        final WireCommandType type = WireCommandType.READ_TABLE_KEY_RANGE;
+        final long requestId;
+        final String segment;
+        @ToString.Exclude
+        final String delegationToken;
+        final int suggestedKeyCount;
+        final ByteBuf fromKey;
+        final ByteBuf toKey;
+        final ByteBuf continuationToken; // this is used to indicate the point from which the next keys should be fetched.
+
+        @Override
+        public void process(RequestProcessor cp) {
+            cp.readTableKeyRange(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeUTF(segment);
+            out.writeUTF(delegationToken == null ? "" : delegationToken);
+            out.writeInt(suggestedKeyCount);
+            writeBuffer(fromKey, out);
+            writeBuffer(toKey, out);
+            writeBuffer(continuationToken, out);
+        }
+
+        public static WireCommand readFrom(ByteBufInputStream in, int length) throws IOException {
+            long requestId = in.readLong();
+            String segment = in.readUTF();
+            String delegationToken = in.readUTF();
+            int suggestedKeyCount = in.readInt();
+            ByteBuf fromKey = readBuffer(in, length);
+            ByteBuf toKey = readBuffer(in, length);
+            ByteBuf continuationToken = readBuffer(in, length);
+
+            return new ReadTableKeyRange(requestId, segment, delegationToken, suggestedKeyCount, fromKey, toKey, continuationToken);
+        }
+    }
+
+    /**
+     * Requests the entries of a sorted table segment whose keys are in the given range. See {@link ReadTableKeyRange}
+     * for how ranges are defined. The reply is a {@link TableEntriesRead}.
+     *
+     * Only sent to servers whose wire version is at least {@link #MIN_VERSION}.
+     */
+    @Data
+    public static final class ReadTableEntryRange implements Request, WireCommand {
+        public static final int MIN_VERSION = 12;
+
+        final WireCommandType type = WireCommandType.READ_TABLE_ENTRY_RANGE;
+        final long requestId;
+        final String segment;
+        @ToString.Exclude
+        final String delegationToken;
+        final int suggestedEntryCount;
+        final ByteBuf fromKey;
+        final ByteBuf toKey;
+        final ByteBuf continuationToken; // this is used to indicate the point from which the next entry should be fetched.
+
+        @Override
+        public void process(RequestProcessor cp) {
+            cp.readTableEntryRange(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeUTF(segment);
+            out.writeUTF(delegationToken == null ? "" : delegationToken);
+            out.writeInt(suggestedEntryCount);
+            writeBuffer(fromKey, out);
+            writeBuffer(toKey, out);
+            writeBuffer(continuationToken, out);
+        }
+
+        public static WireCommand readFrom(ByteBufInputStream in, int length) throws IOException {
+            long requestId = in.readLong();
+            String segment = in.readUTF();
+            String delegationToken = in.readUTF();
+            int suggestedEntryCount = in.readInt();
+            ByteBuf fromKey = readBuffer(in, length);
+            ByteBuf toKey = readBuffer(in, length);
+            ByteBuf continuationToken = readBuffer(in, length);
+
+            return new ReadTableEntryRange(requestId, segment, delegationToken, suggestedEntryCount, fromKey, toKey, continuationToken);
+        }
+    }
+
     @Data
     public static final class TableEntriesRead implements Reply, WireCommand {
         public static final Function<Integer, Integer> GET_HEADER_BYTES =
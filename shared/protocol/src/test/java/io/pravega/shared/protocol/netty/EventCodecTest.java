@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.shared.protocol.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.pravega.shared.protocol.netty.WireCommands.Event;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+import static io.pravega.test.common.AssertExtensions.assertThrows;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class EventCodecTest {
+
+    @Test
+    public void testFromId() {
+        for (EventCodec codec : EventCodec.values()) {
+            assertSame(codec, EventCodec.fromId(codec.getId()));
+        }
+        assertNull(EventCodec.fromId(Byte.MAX_VALUE));
+    }
+
+    @Test
+    public void testNone() {
+        ByteBuf events = new Event(Unpooled.wrappedBuffer(new byte[100])).getAsByteBuf();
+        assertSame(events, EventCodec.NONE.compressEvents(events));
+    }
+
+    @Test
+    public void testCompressEvents() {
+        byte[] small = "small".getBytes(StandardCharsets.UTF_8);
+        StringBuilder json = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            json.append("{\"sensor\":\"temperature\",\"value\":").append(i).append('}');
+        }
+        byte[] compressible = json.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] incompressible = new byte[1000];
+        new Random(0).nextBytes(incompressible);
+        List<byte[]> payloads = Arrays.asList(small, compressible, incompressible);
+
+        ByteBuf events = Unpooled.wrappedBuffer(payloads.stream()
+                                                        .map(p -> new Event(Unpooled.wrappedBuffer(p)).getAsByteBuf())
+                                                        .toArray(ByteBuf[]::new));
+        int originalLength = events.readableBytes();
+        ByteBuf compressed = EventCodec.DEFLATE.compressEvents(events);
+        assertEquals("Source was modified.", originalLength, events.readableBytes());
+        assertTrue("Events were not compressed.", compressed.readableBytes() < originalLength);
+
+        List<Integer> types = new ArrayList<>();
+        List<byte[]> decoded = new ArrayList<>();
+        while (compressed.isReadable()) {
+            int type = compressed.readInt();
+            byte[] data = new byte[compressed.readInt()];
+            compressed.readBytes(data);
+            types.add(type);
+            ByteBuffer payload = ByteBuffer.wrap(data);
+            if (type == WireCommandType.COMPRESSED_EVENT.getCode()) {
+                payload = EventCodec.decompressEvent(payload);
+            }
+            byte[] result = new byte[payload.remaining()];
+            payload.get(result);
+            decoded.add(result);
+        }
+
+        // Only the compressible event is expected to have been compressed.
+        assertEquals(Arrays.asList(WireCommandType.EVENT.getCode(), WireCommandType.COMPRESSED_EVENT.getCode(),
+                WireCommandType.EVENT.getCode()), types);
+        assertEquals(payloads.size(), decoded.size());
+        for (int i = 0; i < payloads.size(); i++) {
+            assertArrayEquals(payloads.get(i), decoded.get(i));
+        }
+    }
+
+    @Test
+    public void testInvalidInput() {
+        ByteBuf notAnEvent = Unpooled.buffer();
+        notAnEvent.writeInt(WireCommandType.PADDING.getCode());
+        notAnEvent.writeInt(0);
+        assertThrows(InvalidMessageException.class, () -> EventCodec.DEFLATE.compressEvents(notAnEvent));
+
+        byte[] data = new byte[1000];
+        ByteBuf compressed = EventCodec.DEFLATE.compressEvents(new Event(Unpooled.wrappedBuffer(data)).getAsByteBuf());
+        assertEquals(WireCommandType.COMPRESSED_EVENT.getCode(), compressed.readInt());
+        byte[] payload = new byte[compressed.readInt()];
+        compressed.readBytes(payload);
+
+        // Truncated data.
+        assertThrows(InvalidMessageException.class,
+                () -> EventCodec.decompressEvent(ByteBuffer.wrap(payload, 0, payload.length - 1)));
+
+        // Unknown codec.
+        byte[] unknownCodec = payload.clone();
+        unknownCodec[0] = Byte.MAX_VALUE;
+        assertThrows(InvalidMessageException.class, () -> EventCodec.decompressEvent(ByteBuffer.wrap(unknownCodec)));
+
+        // Wrong uncompressed length.
+        ByteBuffer wrongLength = ByteBuffer.wrap(payload.clone());
+        wrongLength.putInt(Byte.BYTES, data.length - 1);
+        assertThrows(InvalidMessageException.class, () -> EventCodec.decompressEvent(wrongLength));
+        assertArrayEquals(data, EventCodec.decompressEvent(ByteBuffer.wrap(payload)).array());
+    }
+}
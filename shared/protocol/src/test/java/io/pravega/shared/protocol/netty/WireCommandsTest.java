@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -58,11 +59,25 @@ public class WireCommandsTest {
     @Test
     public void testSetupAppend() throws IOException {
         testCommand(new WireCommands.SetupAppend(l, uuid, testString1, ""));
+        testCommand(new WireCommands.SetupAppend(l, uuid, testString1, "", EventCodec.DEFLATE));
+
+        // Test that we are able to decode a message with a previous version (without a codec).
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        new WireCommands.SetupAppend(l, uuid, testString1, "", EventCodec.DEFLATE).writeFields(new DataOutputStream(bout));
+        testCommandFromByteArray(Arrays.copyOf(bout.toByteArray(), bout.size() - 1),
+                new WireCommands.SetupAppend(l, uuid, testString1, ""));
     }
 
     @Test
     public void testAppendSetup() throws IOException {
         testCommand(new WireCommands.AppendSetup(l, testString1, uuid, l));
+        testCommand(new WireCommands.AppendSetup(l, testString1, uuid, l, EventCodec.DEFLATE));
+
+        // Test that we are able to decode a message with a previous version (without a codec).
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        new WireCommands.AppendSetup(l, testString1, uuid, l, EventCodec.DEFLATE).writeFields(new DataOutputStream(bout));
+        testCommandFromByteArray(Arrays.copyOf(bout.toByteArray(), bout.size() - 1),
+                new WireCommands.AppendSetup(l, testString1, uuid, l));
     }
 
     @Test
@@ -513,6 +528,21 @@ public class WireCommandsTest {
         testCommand(new WireCommands.ReadSegment(testString1, l, i, "", l));
     }
 
+    @Test
+    public void testReadSegments() throws IOException {
+        testCommand(new WireCommands.ReadSegments(l, Arrays.asList(
+                new WireCommands.ReadSegment(testString1, l, i, "", l),
+                new WireCommands.ReadSegment(testString2, l + 1, i + 1, "token", l + 1))));
+        testCommand(new WireCommands.ReadSegments(l, Collections.emptyList()));
+    }
+
+    @Test
+    public void testSegmentSubscription() throws IOException {
+        testCommand(new WireCommands.SubscribeSegment(l, testString1, l, i, "token"));
+        testCommand(new WireCommands.UpdateSegmentSubscription(l, testString1, l));
+        testCommand(new WireCommands.UnsubscribeSegment(l, testString1));
+    }
+
     @Test
     public void testSegmentRead() throws IOException {
         testCommand(new WireCommands.SegmentRead(testString1, l, true, false, buffer, l));
@@ -556,7 +586,16 @@ public class WireCommandsTest {
 
     @Test
     public void testCreateTableSegment() throws IOException {
-        testCommand(new WireCommands.CreateTableSegment(l, testString1, ""));
+        testCommand(new WireCommands.CreateTableSegment(l, testString1, false, ""));
+        testCommand(new WireCommands.CreateTableSegment(l, testString1, true, ""));
+
+        // Older versions do not serialize the sorted flag; it must default to false.
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bout);
+        out.writeLong(l);
+        out.writeUTF(testString1);
+        out.writeUTF("");
+        testCommandFromByteArray(bout.toByteArray(), new WireCommands.CreateTableSegment(l, testString1, false, ""));
     }
 
     @Test
@@ -744,6 +783,22 @@ public class WireCommandsTest {
         testCommand(cmd);
     }
 
+    @Test
+    public void testReadTableKeyRange() throws IOException {
+        testCommand(new WireCommands.ReadTableKeyRange(l, testString1, "", 100, wrappedBuffer(new byte[]{1, 2}),
+                wrappedBuffer(new byte[]{3}), buf));
+        testCommand(new WireCommands.ReadTableKeyRange(l, testString1, "", 100, wrappedBuffer(new byte[0]),
+                wrappedBuffer(new byte[0]), wrappedBuffer(new byte[0])));
+    }
+
+    @Test
+    public void testReadTableEntryRange() throws IOException {
+        testCommand(new WireCommands.ReadTableEntryRange(l, testString1, "", 10, wrappedBuffer(new byte[]{1, 2}),
+                wrappedBuffer(new byte[]{3}), buf));
+        testCommand(new WireCommands.ReadTableEntryRange(l, testString1, "", 10, wrappedBuffer(new byte[0]),
+                wrappedBuffer(new byte[0]), wrappedBuffer(new byte[0])));
+    }
+
     @Test
     public void testTableKeysIteratorItem() throws IOException {
         List<WireCommands.TableKey> keys = Arrays.asList(new WireCommands.TableKey(buf, 1L), new WireCommands.TableKey(buf, 2L));
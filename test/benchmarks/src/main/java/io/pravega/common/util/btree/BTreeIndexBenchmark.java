@@ -0,0 +1,220 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.common.util.btree;
+
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.ByteArraySegment;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.GuardedBy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmarks for {@link BTreeIndex}. The index is backed by an in-memory data source which only retains the live
+ * pages (obsolete and truncated pages are discarded as they are reported by the {@link BTreeIndex}), so the memory
+ * footprint does not grow with the number of updates.
+ *
+ * The index is pre-populated with {@link #KEY_COUNT} keys; all the benchmarks operate on (random) keys out of this set.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BTreeIndexBenchmark {
+    private static final int KEY_LENGTH = 16; // Same as Attribute Ids.
+    private static final int VALUE_LENGTH = 8; // Same as Attribute Values.
+    private static final int KEY_COUNT = 100 * 1000;
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    //region Benchmarks
+
+    /**
+     * Measures {@link BTreeIndex#update} with a batch of {@link IndexState#batchSize} updates to existing keys.
+     */
+    @Benchmark
+    public long update(IndexState state) throws Exception {
+        return state.index.update(state.nextUpdateBatch(), TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Measures {@link BTreeIndex#get(List, Duration)} for a batch of {@link IndexState#batchSize} existing keys.
+     */
+    @Benchmark
+    public List<ByteArraySegment> get(IndexState state) throws Exception {
+        return state.index.get(state.nextGetBatch(), TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    //endregion
+
+    //region IndexState
+
+    /**
+     * A pre-populated {@link BTreeIndex}.
+     */
+    @State(Scope.Thread)
+    public static class IndexState {
+        @Param({"1", "100"})
+        public int batchSize;
+        @Param({"4096", "32767"})
+        public int maxPageSize;
+        BTreeIndex index;
+        private ScheduledExecutorService executor;
+        private ByteArraySegment[] keys;
+        private Random random;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            this.executor = ExecutorServiceHelpers.newScheduledThreadPool(2, "benchmark");
+            this.random = new Random(0);
+            InMemoryDataSource ds = new InMemoryDataSource();
+            this.index = BTreeIndex.builder()
+                                   .maxPageSize(this.maxPageSize)
+                                   .keyLength(KEY_LENGTH)
+                                   .valueLength(VALUE_LENGTH)
+                                   .readPage(ds::read)
+                                   .writePages(ds::write)
+                                   .getLength(ds::getLength)
+                                   .executor(this.executor)
+                                   .traceObjectId("Benchmark")
+                                   .build();
+            this.index.initialize(TIMEOUT).join();
+
+            // Generate the keys and load them into the index.
+            this.keys = new ByteArraySegment[KEY_COUNT];
+            List<PageEntry> batch = new ArrayList<>();
+            for (int i = 0; i < this.keys.length; i++) {
+                byte[] key = new byte[KEY_LENGTH];
+                this.random.nextBytes(key);
+                this.keys[i] = new ByteArraySegment(key);
+                batch.add(new PageEntry(this.keys[i], newValue()));
+                if (batch.size() >= LOAD_BATCH_SIZE) {
+                    this.index.update(batch, TIMEOUT).join();
+                    batch = new ArrayList<>();
+                }
+            }
+
+            this.index.update(batch, TIMEOUT).join();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            ExecutorServiceHelpers.shutdown(this.executor);
+        }
+
+        Collection<PageEntry> nextUpdateBatch() {
+            List<PageEntry> result = new ArrayList<>(this.batchSize);
+            for (int i = 0; i < this.batchSize; i++) {
+                result.add(new PageEntry(nextKey(), newValue()));
+            }
+
+            return result;
+        }
+
+        List<ByteArraySegment> nextGetBatch() {
+            List<ByteArraySegment> result = new ArrayList<>(this.batchSize);
+            for (int i = 0; i < this.batchSize; i++) {
+                result.add(nextKey());
+            }
+
+            return result;
+        }
+
+        private ByteArraySegment nextKey() {
+            return this.keys[this.random.nextInt(this.keys.length)];
+        }
+
+        private ByteArraySegment newValue() {
+            byte[] value = new byte[VALUE_LENGTH];
+            this.random.nextBytes(value);
+            return new ByteArraySegment(value);
+        }
+    }
+
+    //endregion
+
+    //region InMemoryDataSource
+
+    /**
+     * In-memory data source for a {@link BTreeIndex}. Stores a copy of each written page, indexed by its offset.
+     */
+    private static class InMemoryDataSource {
+        @GuardedBy("pages")
+        private final TreeMap<Long, ByteArraySegment> pages = new TreeMap<>();
+        @GuardedBy("pages")
+        private long length = 0;
+        @GuardedBy("pages")
+        private long rootPointer = BTreeIndex.IndexInfo.EMPTY.getRootPointer();
+
+        CompletableFuture<BTreeIndex.IndexInfo> getLength(Duration timeout) {
+            synchronized (this.pages) {
+                return CompletableFuture.completedFuture(new BTreeIndex.IndexInfo(this.length, this.rootPointer));
+            }
+        }
+
+        CompletableFuture<ByteArraySegment> read(long offset, int length, Duration timeout) {
+            synchronized (this.pages) {
+                ByteArraySegment page = this.pages.get(offset);
+                if (page == null || page.getLength() != length) {
+                    return Futures.failedFuture(new IllegalArgumentException(String.format("No page at offset %d with length %d.", offset, length)));
+                }
+
+                return CompletableFuture.completedFuture(new ByteArraySegment(page.getCopy()));
+            }
+        }
+
+        CompletableFuture<Long> write(List<Map.Entry<Long, ByteArraySegment>> toWrite, Collection<Long> obsoleteOffsets,
+                                      long truncateOffset, Duration timeout) {
+            synchronized (this.pages) {
+                for (Map.Entry<Long, ByteArraySegment> e : toWrite) {
+                    if (e.getKey() != this.length) {
+                        return Futures.failedFuture(new IllegalArgumentException(String.format("Bad offset. Expected %d, given %d.", this.length, e.getKey())));
+                    }
+
+                    this.pages.put(e.getKey(), new ByteArraySegment(e.getValue().getCopy()));
+                    this.length += e.getValue().getLength();
+                }
+
+                obsoleteOffsets.forEach(this.pages::remove);
+                this.pages.headMap(truncateOffset).clear();
+                if (!toWrite.isEmpty()) {
+                    // The last page to be written is always the footer, which contains the root pointer.
+                    this.rootPointer = toWrite.get(toWrite.size() - 1).getKey();
+                }
+
+                return CompletableFuture.completedFuture(this.length);
+            }
+        }
+    }
+
+    //endregion
+}
@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.logs;
+
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.server.logs.operations.Operation;
+import io.pravega.segmentstore.server.logs.operations.OperationSerializer;
+import io.pravega.segmentstore.server.logs.operations.StreamSegmentAppendOperation;
+import io.pravega.segmentstore.storage.DurableDataLog;
+import io.pravega.segmentstore.storage.mocks.InMemoryDurableDataLogFactory;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmarks for the serialization of {@link Operation}s into {@link DataFrame}s using {@link DataFrameBuilder}, and
+ * for reading them back using {@link DataFrameReader}. Both are executed against an in-memory {@link DurableDataLog}
+ * (created via {@link InMemoryDurableDataLogFactory}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataFrameBuilderBenchmark {
+    private static final int CONTAINER_ID = 0;
+    private static final long SEGMENT_ID = 1;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final int READ_TOTAL_LENGTH = 128 * 1024 * 1024;
+
+    //region Benchmarks
+
+    /**
+     * Measures {@link DataFrameBuilder#append} for a single {@link StreamSegmentAppendOperation}. This includes the
+     * serialization of the operation and, whenever a {@link DataFrame} fills up, sealing it and handing it off to the
+     * {@link DurableDataLog}.
+     */
+    @Benchmark
+    public long append(WriteState state) throws Exception {
+        Operation op = new StreamSegmentAppendOperation(SEGMENT_ID, state.payload, Collections.emptyList());
+        op.setSequenceNumber(++state.sequenceNumber);
+        state.builder.append(op);
+        return op.getSequenceNumber();
+    }
+
+    /**
+     * Measures reading (and deserializing) about {@link #READ_TOTAL_LENGTH} bytes worth of {@link StreamSegmentAppendOperation}s
+     * using a {@link DataFrameReader}. This is a proxy for the read part of the Recovery process.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int readAll(ReadState state) throws Exception {
+        int count = 0;
+        try (DataFrameReader<Operation> reader = new DataFrameReader<>(state.log, OperationSerializer.DEFAULT, CONTAINER_ID)) {
+            while (reader.getNext() != null) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    //endregion
+
+    //region States
+
+    /**
+     * State for {@link #append}. Committed {@link DataFrame}s are truncated out of the {@link DurableDataLog} as soon
+     * as they are acknowledged, so the memory footprint of the log remains bounded.
+     */
+    @State(Scope.Thread)
+    public static class WriteState {
+        @Param({"100", "1024", "102400"})
+        public int payloadSize;
+        ByteArraySegment payload;
+        DataFrameBuilder<Operation> builder;
+        long sequenceNumber;
+        private ScheduledExecutorService executor;
+        private InMemoryDurableDataLogFactory logFactory;
+        private DurableDataLog log;
+
+        @Setup(Level.Iteration)
+        public void setup() throws Exception {
+            this.payload = new ByteArraySegment(new byte[this.payloadSize]);
+            new Random(0).nextBytes(this.payload.array());
+            this.executor = ExecutorServiceHelpers.newScheduledThreadPool(2, "benchmark");
+            this.logFactory = new InMemoryDurableDataLogFactory(this.executor);
+            this.log = this.logFactory.createDurableDataLog(CONTAINER_ID);
+            this.log.initialize(TIMEOUT);
+            val args = new DataFrameBuilder.Args(
+                    ca -> { },
+                    ca -> this.log.truncate(ca.getLogAddress(), TIMEOUT),
+                    (ex, ca) -> { },
+                    this.executor);
+            this.builder = new DataFrameBuilder<>(this.log, OperationSerializer.DEFAULT, args);
+            this.sequenceNumber = 0;
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            this.builder.flush();
+            this.builder.close();
+            this.log.close();
+            this.logFactory.close();
+            ExecutorServiceHelpers.shutdown(this.executor);
+        }
+    }
+
+    /**
+     * State for {@link #readAll}. Pre-populates a {@link DurableDataLog} with about {@link #READ_TOTAL_LENGTH} bytes
+     * worth of operations.
+     */
+    @State(Scope.Thread)
+    public static class ReadState {
+        @Param({"100", "1024", "102400"})
+        public int payloadSize;
+        DurableDataLog log;
+        private ScheduledExecutorService executor;
+        private InMemoryDurableDataLogFactory logFactory;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            ByteArraySegment payload = new ByteArraySegment(new byte[this.payloadSize]);
+            new Random(0).nextBytes(payload.array());
+            this.executor = ExecutorServiceHelpers.newScheduledThreadPool(2, "benchmark");
+            this.logFactory = new InMemoryDurableDataLogFactory(this.executor);
+            this.log = this.logFactory.createDurableDataLog(CONTAINER_ID);
+            this.log.initialize(TIMEOUT);
+
+            int operationCount = READ_TOTAL_LENGTH / this.payloadSize;
+            val committed = new AtomicLong();
+            val args = new DataFrameBuilder.Args(ca -> { },
+                    ca -> committed.accumulateAndGet(ca.getLastFullySerializedSequenceNumber(), Math::max),
+                    (ex, ca) -> { }, this.executor);
+            try (DataFrameBuilder<Operation> builder = new DataFrameBuilder<>(this.log, OperationSerializer.DEFAULT, args)) {
+                for (int i = 1; i <= operationCount; i++) {
+                    Operation op = new StreamSegmentAppendOperation(SEGMENT_ID, payload, Collections.emptyList());
+                    op.setSequenceNumber(i);
+                    builder.append(op);
+                }
+
+                builder.flush();
+            }
+
+            // Wait for all the DataFrames to be committed before beginning the measurements.
+            while (committed.get() < operationCount) {
+                Thread.sleep(10);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            this.log.close();
+            this.logFactory.close();
+            ExecutorServiceHelpers.shutdown(this.executor);
+        }
+    }
+
+    //endregion
+}
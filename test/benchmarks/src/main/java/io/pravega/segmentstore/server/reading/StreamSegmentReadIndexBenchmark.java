@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.reading;
+
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.io.StreamHelpers;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.ReadResult;
+import io.pravega.segmentstore.contracts.ReadResultEntry;
+import io.pravega.segmentstore.contracts.ReadResultEntryContents;
+import io.pravega.segmentstore.contracts.ReadResultEntryType;
+import io.pravega.segmentstore.server.containers.StreamSegmentMetadata;
+import io.pravega.segmentstore.storage.AsyncStorageWrapper;
+import io.pravega.segmentstore.storage.SegmentHandle;
+import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
+import io.pravega.segmentstore.storage.mocks.InMemoryStorage;
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmarks for {@link StreamSegmentReadIndex#read}. Two scenarios are covered:
+ * - Tail reads: all the data is in the cache (it was added via {@link StreamSegmentReadIndex#append}).
+ * - Historical reads: all the data is in Storage ({@link InMemoryStorage}) and nothing is cached. Cache entries are
+ * evicted after every read so that every invocation has to fetch its data from Storage.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamSegmentReadIndexBenchmark {
+    private static final int CONTAINER_ID = 0;
+    private static final long SEGMENT_ID = 1;
+    private static final String SEGMENT_NAME = "Segment";
+    private static final int SEGMENT_LENGTH = 64 * 1024 * 1024;
+    private static final long MAX_CACHE_SIZE = 1024 * 1024 * 1024L;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    //region Benchmarks
+
+    /**
+     * Measures a read from a Segment whose data is entirely cached.
+     */
+    @Benchmark
+    public int readCached(CachedState state) throws Exception {
+        return readFully(state.readIndex, state.nextOffset(), state.readBuffer);
+    }
+
+    /**
+     * Measures a read from a Segment whose data is entirely in Storage.
+     */
+    @Benchmark
+    public int readFromStorage(StorageState state) throws Exception {
+        int result = readFully(state.readIndex, state.nextOffset(), state.readBuffer);
+        state.evictAll();
+        return result;
+    }
+
+    private int readFully(StreamSegmentReadIndex readIndex, long offset, byte[] target) throws Exception {
+        int bytesRead = 0;
+        try (ReadResult readResult = readIndex.read(offset, target.length, TIMEOUT)) {
+            while (readResult.hasNext() && bytesRead < target.length) {
+                ReadResultEntry entry = readResult.next();
+                if (entry.getType() == ReadResultEntryType.EndOfStreamSegment || entry.getType() == ReadResultEntryType.Future) {
+                    break;
+                } else if (!entry.getContent().isDone()) {
+                    entry.requestContent(TIMEOUT);
+                }
+
+                ReadResultEntryContents contents = entry.getContent().get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                bytesRead += StreamHelpers.readAll(contents.getData(), target, bytesRead, Math.min(contents.getLength(), target.length - bytesRead));
+            }
+        }
+
+        return bytesRead;
+    }
+
+    //endregion
+
+    //region States
+
+    /**
+     * Base state for all the benchmarks in this class.
+     */
+    public static abstract class ReadIndexState {
+        @Param({"1024", "65536", "1048576"})
+        public int readLength;
+        StreamSegmentMetadata metadata;
+        StreamSegmentReadIndex readIndex;
+        byte[] readBuffer;
+        private ScheduledExecutorService executor;
+        private DirectMemoryCache cache;
+        private InMemoryStorage storage;
+        private Random random;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            this.executor = ExecutorServiceHelpers.newScheduledThreadPool(4, "benchmark");
+            this.cache = new DirectMemoryCache(MAX_CACHE_SIZE);
+            this.storage = new InMemoryStorage();
+            this.storage.initialize(1);
+            this.metadata = new StreamSegmentMetadata(SEGMENT_NAME, SEGMENT_ID, CONTAINER_ID);
+            this.metadata.setLength(SEGMENT_LENGTH);
+            this.readBuffer = new byte[this.readLength];
+            this.random = new Random(0);
+            this.readIndex = new StreamSegmentReadIndex(ReadIndexConfig.builder().build(), this.metadata, this.cache,
+                    new AsyncStorageWrapper(this.storage, this.executor), this.executor, false);
+            populate(this.storage);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            this.readIndex.close();
+            this.cache.close();
+            this.storage.close();
+            ExecutorServiceHelpers.shutdown(this.executor);
+        }
+
+        long nextOffset() {
+            return this.random.nextInt(SEGMENT_LENGTH - this.readLength);
+        }
+
+        /**
+         * Adds the Segment's data to the {@link StreamSegmentReadIndex} or to the given {@link InMemoryStorage}.
+         *
+         * @param storage The {@link InMemoryStorage} to use.
+         * @throws Exception If an exception occurred.
+         */
+        protected abstract void populate(InMemoryStorage storage) throws Exception;
+    }
+
+    /**
+     * State for {@link #readCached}. All data is appended to the {@link StreamSegmentReadIndex} (thus cached) in chunks
+     * of {@link #appendLength} bytes.
+     */
+    @State(Scope.Thread)
+    public static class CachedState extends ReadIndexState {
+        @Param({"100", "10240"})
+        public int appendLength;
+
+        @Override
+        protected void populate(InMemoryStorage storage) {
+            ByteArraySegment data = new ByteArraySegment(new byte[this.appendLength]);
+            new Random(0).nextBytes(data.array());
+            long offset = 0;
+            while (offset < SEGMENT_LENGTH) {
+                int length = (int) Math.min(data.getLength(), SEGMENT_LENGTH - offset);
+                this.readIndex.append(offset, data.slice(0, length));
+                offset += length;
+            }
+        }
+    }
+
+    /**
+     * State for {@link #readFromStorage}. All data is written to {@link InMemoryStorage} and nothing is cached.
+     */
+    @State(Scope.Thread)
+    public static class StorageState extends ReadIndexState {
+        private int generation;
+
+        @Override
+        protected void populate(InMemoryStorage storage) throws Exception {
+            byte[] data = new byte[SEGMENT_LENGTH];
+            new Random(0).nextBytes(data);
+            SegmentHandle handle = storage.create(SEGMENT_NAME);
+            storage.write(handle, 0, new ByteArrayInputStream(data), data.length);
+            this.metadata.setStorageLength(SEGMENT_LENGTH);
+        }
+
+        void evictAll() {
+            this.generation++;
+            this.readIndex.updateGenerations(this.generation, this.generation);
+        }
+    }
+
+    //endregion
+}
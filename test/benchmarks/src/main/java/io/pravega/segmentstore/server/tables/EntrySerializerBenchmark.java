@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.common.util.ArrayView;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.tables.TableEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmarks for the Table Segment serialization hot paths: {@link EntrySerializer} (used for every update and for
+ * every index read) and {@link KeyHasher} (used for every key that is updated or looked up).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntrySerializerBenchmark {
+    private static final int BATCH_SIZE = 100;
+
+    //region Benchmarks
+
+    /**
+     * Measures {@link EntrySerializer#serializeUpdate} for a batch of {@link #BATCH_SIZE} entries (including the
+     * calculation of the serialization length).
+     */
+    @Benchmark
+    public byte[] serializeUpdate(TableState state) {
+        int length = 0;
+        for (TableEntry e : state.entries) {
+            length += state.serializer.getUpdateLength(e);
+        }
+
+        byte[] result = new byte[length];
+        state.serializer.serializeUpdate(state.entries, result);
+        return result;
+    }
+
+    /**
+     * Measures parsing the headers (and locating the keys) out of a serialized batch of {@link #BATCH_SIZE} entries.
+     * This is what the indexing and compaction processes do for every entry they read back.
+     */
+    @Benchmark
+    public int readHeaders(TableState state) throws Exception {
+        int offset = 0;
+        int keyLengthSum = 0;
+        while (offset < state.serialization.getLength()) {
+            EntrySerializer.Header h = state.serializer.readHeader(state.serialization.slice(offset, EntrySerializer.HEADER_LENGTH));
+            keyLengthSum += h.getKeyLength();
+            offset += h.getTotalLength();
+        }
+
+        return keyLengthSum;
+    }
+
+    /**
+     * Measures {@link KeyHasher#hash} using the default (SHA-256) hasher.
+     */
+    @Benchmark
+    public UUID hashKey(TableState state) {
+        return state.hasher.hash(state.nextKey());
+    }
+
+    //endregion
+
+    //region TableState
+
+    /**
+     * Pre-generated Table Entries and their serialization.
+     */
+    @State(Scope.Thread)
+    public static class TableState {
+        @Param({"16", "512"})
+        public int keyLength;
+        @Param({"16", "4096"})
+        public int valueLength;
+        final EntrySerializer serializer = new EntrySerializer();
+        final KeyHasher hasher = KeyHasher.sha256();
+        List<TableEntry> entries;
+        ByteArraySegment serialization;
+        private int nextKeyIndex;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            Random random = new Random(0);
+            this.entries = new ArrayList<>(BATCH_SIZE);
+            int length = 0;
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                byte[] key = new byte[this.keyLength];
+                byte[] value = new byte[this.valueLength];
+                random.nextBytes(key);
+                random.nextBytes(value);
+                TableEntry e = TableEntry.unversioned(new ByteArraySegment(key), new ByteArraySegment(value));
+                this.entries.add(e);
+                length += this.serializer.getUpdateLength(e);
+            }
+
+            byte[] s = new byte[length];
+            this.serializer.serializeUpdate(this.entries, s);
+            this.serialization = new ByteArraySegment(s);
+        }
+
+        ArrayView nextKey() {
+            this.nextKeyIndex = (this.nextKeyIndex + 1) % this.entries.size();
+            return this.entries.get(this.nextKeyIndex).getKey().getKey();
+        }
+    }
+
+    //endregion
+}
@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmarks for {@link DirectMemoryCache}. These measure the cost of the individual {@link CacheStorage} operations
+ * invoked by the Read Index on the append (tail) and read paths.
+ *
+ * All the benchmarks that add data to the cache also remove it (either immediately or after a fixed number of
+ * operations), so the cache utilization remains constant throughout a measurement iteration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DirectMemoryCacheBenchmark {
+    private static final long MAX_CACHE_SIZE = 1024 * 1024 * 1024L;
+    private static final int READ_ENTRY_COUNT = 1024;
+    private static final int APPEND_ENTRY_COUNT = 1024;
+
+    //region Benchmarks
+
+    /**
+     * Measures {@link DirectMemoryCache#insert} (immediately followed by a {@link DirectMemoryCache#delete} to keep the
+     * cache utilization constant).
+     */
+    @Benchmark
+    public int insert(CacheState cache, EntryState entry) {
+        int address = cache.cache.insert(entry.data);
+        cache.cache.delete(address);
+        return address;
+    }
+
+    /**
+     * Measures the pattern used by the Read Index for appends: {@link DirectMemoryCache#append} to the last entry as long
+     * as its last block has room, and {@link DirectMemoryCache#insert} a new entry once it fills up.
+     */
+    @Benchmark
+    public int appendOrInsert(CacheState cache, AppendState append) {
+        return append.appendOrInsert(cache.cache);
+    }
+
+    /**
+     * Measures {@link DirectMemoryCache#get}, including copying the result into a heap buffer.
+     */
+    @Benchmark
+    public int get(ReadState read) {
+        BufferView result = read.cache.get(read.nextAddress());
+        return result.copyTo(ByteBuffer.wrap(read.readBuffer));
+    }
+
+    //endregion
+
+    //region States
+
+    /**
+     * A {@link DirectMemoryCache} shared by all benchmark threads.
+     */
+    @State(Scope.Benchmark)
+    public static class CacheState {
+        DirectMemoryCache cache;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            this.cache = new DirectMemoryCache(MAX_CACHE_SIZE);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            this.cache.close();
+        }
+    }
+
+    /**
+     * Per-thread entry contents.
+     */
+    @State(Scope.Thread)
+    public static class EntryState {
+        @Param({"100", "4096", "102400"})
+        public int entrySize;
+        ByteArraySegment data;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            this.data = new ByteArraySegment(new byte[this.entrySize]);
+            new Random(0).nextBytes(this.data.array());
+        }
+    }
+
+    /**
+     * Per-thread state for {@link #appendOrInsert}. Keeps a circular buffer of the last {@link #APPEND_ENTRY_COUNT}
+     * inserted entries and deletes the oldest one whenever a new one is needed.
+     */
+    @State(Scope.Thread)
+    public static class AppendState {
+        @Param({"100", "1024"})
+        public int appendSize;
+        ByteArraySegment data;
+        int[] addresses;
+        int currentIndex;
+        int currentLength;
+        private DirectMemoryCache cache;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            this.data = new ByteArraySegment(new byte[this.appendSize]);
+            new Random(0).nextBytes(this.data.array());
+            this.addresses = new int[APPEND_ENTRY_COUNT];
+            this.currentIndex = -1;
+            this.currentLength = 0;
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            if (this.cache != null) {
+                for (int i = 0; i < this.addresses.length; i++) {
+                    if (this.addresses[i] != CacheLayout.NO_ADDRESS) {
+                        this.cache.delete(this.addresses[i]);
+                    }
+                }
+            }
+        }
+
+        int appendOrInsert(DirectMemoryCache cache) {
+            this.cache = cache;
+            int appendable = this.currentIndex < 0 ? 0 : cache.getAppendableLength(this.currentLength);
+            if (appendable >= this.data.getLength()) {
+                int appended = cache.append(this.addresses[this.currentIndex], this.currentLength, this.data);
+                this.currentLength += appended;
+                return appended;
+            }
+
+            // Current entry is full (or there is none). Evict the oldest one and begin a new one.
+            this.currentIndex = (this.currentIndex + 1) % this.addresses.length;
+            if (this.addresses[this.currentIndex] != CacheLayout.NO_ADDRESS) {
+                cache.delete(this.addresses[this.currentIndex]);
+            }
+
+            this.addresses[this.currentIndex] = cache.insert(this.data);
+            this.currentLength = this.data.getLength();
+            return this.currentLength;
+        }
+    }
+
+    /**
+     * State for {@link #get}. Pre-populates a dedicated {@link DirectMemoryCache} with {@link #READ_ENTRY_COUNT} entries.
+     */
+    @State(Scope.Thread)
+    public static class ReadState {
+        @Param({"100", "4096", "102400"})
+        public int entrySize;
+        DirectMemoryCache cache;
+        int[] addresses;
+        byte[] readBuffer;
+        int nextIndex;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            this.cache = new DirectMemoryCache(MAX_CACHE_SIZE);
+            ByteArraySegment data = new ByteArraySegment(new byte[this.entrySize]);
+            new Random(0).nextBytes(data.array());
+            this.addresses = new int[READ_ENTRY_COUNT];
+            for (int i = 0; i < this.addresses.length; i++) {
+                this.addresses[i] = this.cache.insert(data);
+            }
+
+            this.readBuffer = new byte[this.entrySize];
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            this.cache.close();
+        }
+
+        int nextAddress() {
+            this.nextIndex = (this.nextIndex + 1) % this.addresses.length;
+            return this.addresses[this.nextIndex];
+        }
+    }
+
+    //endregion
+}
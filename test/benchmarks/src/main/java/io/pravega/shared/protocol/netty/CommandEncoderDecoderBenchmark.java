@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.shared.protocol.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.pravega.shared.protocol.netty.WireCommands.Event;
+import io.pravega.shared.protocol.netty.WireCommands.SegmentRead;
+import io.pravega.shared.protocol.netty.WireCommands.SetupAppend;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static io.pravega.shared.protocol.netty.WireCommands.MAX_WIRECOMMAND_SIZE;
+
+/**
+ * JMH Benchmarks for the wire protocol framing: {@link CommandEncoder} (client and server side) and the
+ * {@link LengthFieldBasedFrameDecoder}, {@link CommandDecoder}, {@link AppendDecoder} pipeline (as used by the Segment Store).
+ * All handlers are executed inside {@link EmbeddedChannel}s, so no actual network I/O is involved.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandEncoderDecoderBenchmark {
+    private static final String SEGMENT = "Scope/Stream/0.#epoch.0";
+    private static final UUID WRITER_ID = new UUID(1, 2);
+    private static final long REQUEST_ID = 1;
+    private static final int DECODE_APPEND_COUNT = 1000;
+
+    //region Benchmarks
+
+    /**
+     * Measures encoding a single {@link Append} (Client to Segment Store).
+     */
+    @Benchmark
+    public int encodeAppend(ProtocolState state) {
+        state.encoder.writeOutbound(new Append(SEGMENT, WRITER_ID, ++state.eventNumber,
+                new Event(Unpooled.wrappedBuffer(state.payload)), REQUEST_ID));
+        return drainOutbound(state.encoder);
+    }
+
+    /**
+     * Measures encoding a single {@link SegmentRead} (Segment Store to Client).
+     */
+    @Benchmark
+    public int encodeSegmentRead(ProtocolState state) {
+        state.encoder.writeOutbound(new SegmentRead(SEGMENT, 0, true, false, ByteBuffer.wrap(state.payload), REQUEST_ID));
+        return drainOutbound(state.encoder);
+    }
+
+    /**
+     * Measures decoding a single {@link SegmentRead} (by the Client).
+     */
+    @Benchmark
+    public SegmentRead decodeSegmentRead(ProtocolState state) {
+        state.decoder.writeInbound(state.encodedSegmentRead.retainedDuplicate());
+        return state.decoder.readInbound();
+    }
+
+    /**
+     * Measures decoding (and de-batching) {@link Append}s (by the Segment Store). Results are reported per {@link Append}.
+     */
+    @Benchmark
+    @OperationsPerInvocation(DECODE_APPEND_COUNT)
+    public int decodeAppends(ProtocolState state) {
+        EmbeddedChannel decoder = new EmbeddedChannel(new LengthFieldBasedFrameDecoder(MAX_WIRECOMMAND_SIZE, 4, 4),
+                new CommandDecoder(), new AppendDecoder());
+        decoder.writeInbound(state.encodedAppends.retainedDuplicate());
+        int count = 0;
+        Object o;
+        while ((o = decoder.readInbound()) != null) {
+            if (o instanceof Append) {
+                ((Append) o).getData().release();
+                count++;
+            }
+        }
+
+        decoder.finishAndReleaseAll();
+        return count;
+    }
+
+    private static int drainOutbound(EmbeddedChannel channel) {
+        int length = 0;
+        ByteBuf b;
+        while ((b = channel.readOutbound()) != null) {
+            length += b.readableBytes();
+            b.release();
+        }
+
+        return length;
+    }
+
+    //endregion
+
+    //region ProtocolState
+
+    /**
+     * Encoder/Decoder channels and pre-encoded commands.
+     */
+    @State(Scope.Thread)
+    public static class ProtocolState {
+        @Param({"100", "1024", "65536"})
+        public int payloadSize;
+        byte[] payload;
+        EmbeddedChannel encoder;
+        EmbeddedChannel decoder;
+        ByteBuf encodedSegmentRead;
+        ByteBuf encodedAppends;
+        long eventNumber;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            this.payload = new byte[this.payloadSize];
+            new Random(0).nextBytes(this.payload);
+
+            // Encoder for appends and reads.
+            this.encoder = new EmbeddedChannel(new CommandEncoder(null));
+            this.encoder.writeOutbound(new SetupAppend(REQUEST_ID, WRITER_ID, SEGMENT, ""));
+            drainOutbound(this.encoder);
+            this.eventNumber = 0;
+
+            // Decoder for reads.
+            this.decoder = new EmbeddedChannel(new LengthFieldBasedFrameDecoder(MAX_WIRECOMMAND_SIZE, 4, 4), new CommandDecoder());
+
+            // Pre-encoded commands for the decoding benchmarks.
+            this.encodedSegmentRead = encode(new SegmentRead(SEGMENT, 0, true, false, ByteBuffer.wrap(this.payload), REQUEST_ID));
+            EmbeddedChannel appendEncoder = new EmbeddedChannel(new CommandEncoder(null));
+            appendEncoder.writeOutbound(new SetupAppend(REQUEST_ID, WRITER_ID, SEGMENT, ""));
+            for (int i = 1; i <= DECODE_APPEND_COUNT; i++) {
+                appendEncoder.writeOutbound(new Append(SEGMENT, WRITER_ID, i, new Event(Unpooled.wrappedBuffer(this.payload)), REQUEST_ID));
+            }
+
+            this.encodedAppends = readAllOutbound(appendEncoder);
+            appendEncoder.finishAndReleaseAll();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            this.encoder.finishAndReleaseAll();
+            this.decoder.finishAndReleaseAll();
+            this.encodedSegmentRead.release();
+            this.encodedAppends.release();
+        }
+
+        private ByteBuf encode(WireCommand command) {
+            EmbeddedChannel channel = new EmbeddedChannel(new CommandEncoder(null));
+            channel.writeOutbound(command);
+            ByteBuf result = readAllOutbound(channel);
+            channel.finishAndReleaseAll();
+            return result;
+        }
+
+        private ByteBuf readAllOutbound(EmbeddedChannel channel) {
+            ByteBuf result = Unpooled.buffer();
+            ByteBuf b;
+            while ((b = channel.readOutbound()) != null) {
+                result.writeBytes(b);
+                b.release();
+            }
+
+            return result;
+        }
+    }
+
+    //endregion
+}
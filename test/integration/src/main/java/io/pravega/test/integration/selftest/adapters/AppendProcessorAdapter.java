@@ -319,6 +319,11 @@ public class AppendProcessorAdapter extends StoreAdapter {
             // Not used.
         }
 
+        @Override
+        public boolean isClosed() {
+            return false;
+        }
+
         @Override
         public void setRequestProcessor(RequestProcessor cp) {
             // Not used.
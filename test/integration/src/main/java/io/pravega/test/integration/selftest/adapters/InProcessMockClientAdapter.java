@@ -26,6 +26,7 @@ import io.pravega.segmentstore.contracts.StreamSegmentInformation;
 import io.pravega.segmentstore.contracts.StreamSegmentNotExistsException;
 import io.pravega.segmentstore.contracts.StreamSegmentStore;
 import io.pravega.segmentstore.contracts.tables.IteratorItem;
+import io.pravega.segmentstore.contracts.tables.KeyRange;
 import io.pravega.segmentstore.contracts.tables.TableEntry;
 import io.pravega.segmentstore.contracts.tables.TableKey;
 import io.pravega.segmentstore.contracts.tables.TableStore;
@@ -231,6 +232,11 @@ class InProcessMockClientAdapter extends ClientAdapterBase {
             throw new UnsupportedOperationException("createTableSegment");
         }
 
+        @Override
+        public CompletableFuture<Void> createSegment(String segmentName, boolean sorted, Duration timeout) {
+            throw new UnsupportedOperationException("createTableSegment");
+        }
+
         @Override
         public CompletableFuture<Void> deleteSegment(String segmentName, boolean mustBeEmpty, Duration timeout) {
             throw new UnsupportedOperationException("deleteTableSegment");
@@ -270,5 +276,17 @@ class InProcessMockClientAdapter extends ClientAdapterBase {
         public CompletableFuture<AsyncIterator<IteratorItem<TableEntry>>> entryIterator(String segmentName, byte[] serializedState, Duration fetchTimeout) {
             throw new UnsupportedOperationException("entryIterator");
         }
+
+        @Override
+        public CompletableFuture<AsyncIterator<IteratorItem<TableKey>>> keyIterator(String segmentName, KeyRange range, byte[] serializedState,
+                                                                                   Duration fetchTimeout) {
+            throw new UnsupportedOperationException("keyIterator");
+        }
+
+        @Override
+        public CompletableFuture<AsyncIterator<IteratorItem<TableEntry>>> entryIterator(String segmentName, KeyRange range, byte[] serializedState,
+                                                                                       Duration fetchTimeout) {
+            throw new UnsupportedOperationException("entryIterator");
+        }
     }
 }